@@ -48,6 +48,8 @@ CREATE TABLE `ALGO_PROBLEMS` (
     -- LANGUAGE 컬럼 제거됨 (LANGUAGE_CONSTANTS 테이블로 대체)
     `TIMELIMIT` INT DEFAULT 1000 COMMENT '기본 시간 제한(ms)',
     `MEMORYLIMIT` INT DEFAULT 256 COMMENT '기본 메모리 제한(MB)',
+    `OUTPUT_COMPARE_MODE` ENUM('EXACT', 'TOKEN', 'FLOAT') DEFAULT 'EXACT' NOT NULL COMMENT '출력 비교 방식',
+    `FLOAT_TOLERANCE` DOUBLE NULL COMMENT '실수 비교 허용 오차 (FLOAT 모드, NULL이면 1e-6)',
     `ALGO_CREATER` BIGINT NULL COMMENT '문제 생성자 ID',
     `ALGO_CREATED_AT` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
     `ALGO_UPDATED_AT` TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시',
@@ -60,10 +62,26 @@ CREATE TABLE `ALGO_PROBLEMS` (
     -- 인덱스
     INDEX `idx_difficulty_source` (`ALGO_PROBLEM_DIFFICULTY`, `ALGO_PROBLEM_SOURCE`),
     INDEX `idx_created_at` (`ALGO_CREATED_AT` DESC),
+    INDEX `idx_updated_at` (`ALGO_UPDATED_AT`),
     INDEX `idx_problem_status` (`ALGO_PROBLEM_STATUS`),
     INDEX `idx_problem_type` (`PROBLEM_TYPE`)
 ) ENGINE = InnoDB AUTO_INCREMENT = 1 DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '알고리즘 문제';
 -- =============================================
+-- 1-1. 문제 MinHash 시그니처 테이블 (유사도 검사용)
+-- =============================================
+-- 생성된 문제의 중복 검사 시 기존 문제 전체와 Jaccard를 계산하지 않도록
+-- 문제 저장 시 제목/설명 MinHash 시그니처를 저장하고 기동 시 메모리 LSH 색인으로 적재
+-- 시그니처가 없거나 문제 수정 이후 갱신되지 않은 문제는 애플리케이션이 다시 계산
+CREATE TABLE `ALGO_PROBLEM_SIGNATURES` (
+    `ALGO_PROBLEM_ID` BIGINT PRIMARY KEY COMMENT '문제 고유 식별자',
+    `SIGNATURE_VERSION` INT NOT NULL COMMENT '시그니처 계산 방식 버전 (다르면 다시 계산)',
+    `TITLE_SIGNATURE` VARBINARY(512) NULL COMMENT '제목 MinHash 시그니처 (토큰이 없으면 NULL)',
+    `DESCRIPTION_SIGNATURE` VARBINARY(1024) NULL COMMENT '설명 MinHash 시그니처 (토큰이 없으면 NULL)',
+    `UPDATED_AT` TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '갱신 일시',
+    INDEX `idx_signature_updated_at` (`UPDATED_AT`),
+    FOREIGN KEY (`ALGO_PROBLEM_ID`) REFERENCES `ALGO_PROBLEMS`(`ALGO_PROBLEM_ID`) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '문제 유사도 검사용 MinHash 시그니처';
+-- =============================================
 -- 2. 언어 테이블 (Judge0 ID를 PK로 사용)
 -- =============================================
 -- 변경 사유:
@@ -153,6 +171,23 @@ CREATE TABLE `ALGO_SUBMISSIONS` (
 CREATE INDEX idx_user_problem_ac
 ON ALGO_SUBMISSIONS(USER_ID, ALGO_PROBLEM_ID, JUDGE_RESULT);
 
+-- =============================================
+-- 4-1. 문제별 제출 통계 테이블 (집계값 저장)
+-- =============================================
+-- 문제 상세 조회 시마다 ALGO_SUBMISSIONS를 COUNT 하지 않도록 채점 완료 시 증분 갱신
+-- 매일 새벽 ALGO_SUBMISSIONS 기준으로 재계산하여 보정
+CREATE TABLE `ALGO_PROBLEM_STATS` (
+    `ALGO_PROBLEM_ID` BIGINT PRIMARY KEY COMMENT '문제 고유 식별자',
+    `SUBMISSION_COUNT` INT NOT NULL DEFAULT 0 COMMENT '채점 완료 제출 수',
+    `ACCEPTED_COUNT` INT NOT NULL DEFAULT 0 COMMENT 'AC 제출 수',
+    `SOLVER_COUNT` INT NOT NULL DEFAULT 0 COMMENT 'AC를 받은 사용자 수 (중복 제외)',
+    `MEASURED_COUNT` INT NOT NULL DEFAULT 0 COMMENT '실행 시간/메모리가 기록된 제출 수',
+    `TOTAL_EXECUTION_TIME` BIGINT NOT NULL DEFAULT 0 COMMENT '실행 시간 합계(ms)',
+    `TOTAL_MEMORY_USAGE` BIGINT NOT NULL DEFAULT 0 COMMENT '메모리 사용량 합계',
+    `UPDATED_AT` TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '갱신 일시',
+    FOREIGN KEY (`ALGO_PROBLEM_ID`) REFERENCES `ALGO_PROBLEMS`(`ALGO_PROBLEM_ID`) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '문제별 제출 통계';
+
 -- =============================================
 -- 5. 모니터링 세션 테이블 (집중 모드 전용)
 -- =============================================
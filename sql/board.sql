@@ -5,12 +5,18 @@ CREATE TABLE FREEBOARD (
     FREEBOARD_CONTENT LONGTEXT DEFAULT NULL,
     FREEBOARD_PLAIN_TEXT LONGTEXT DEFAULT NULL,
     FREEBOARD_CLICK BIGINT DEFAULT 0,
+    FREEBOARD_LIKE_COUNT INT NOT NULL DEFAULT 0,
+    FREEBOARD_COMMENT_COUNT INT NOT NULL DEFAULT 0,
     FREEBOARD_IMAGE VARCHAR(255) DEFAULT NULL,
     FREEBOARD_REPRESENT_IMAGE VARCHAR(255) DEFAULT NULL,
     FREEBOARD_CREATED_AT DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     FREEBOARD_DELETED_YN CHAR(1) NOT NULL DEFAULT 'N',
     INDEX IDX_FREEBOARD_USER (USER_ID),
     INDEX IDX_FREEBOARD_CREATED (FREEBOARD_CREATED_AT DESC),
+    INDEX IDX_FREEBOARD_SORT_LIKE (FREEBOARD_DELETED_YN, FREEBOARD_LIKE_COUNT, FREEBOARD_ID),
+    INDEX IDX_FREEBOARD_SORT_COMMENT (FREEBOARD_DELETED_YN, FREEBOARD_COMMENT_COUNT, FREEBOARD_ID),
+    INDEX IDX_FREEBOARD_SORT_CLICK (FREEBOARD_DELETED_YN, FREEBOARD_CLICK, FREEBOARD_ID),
+    INDEX IDX_FREEBOARD_SORT_CREATED (FREEBOARD_DELETED_YN, FREEBOARD_CREATED_AT, FREEBOARD_ID),
     CONSTRAINT FK_FREEBOARD_USER
         FOREIGN KEY (USER_ID) REFERENCES USERS(USER_ID) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -24,6 +30,8 @@ CREATE TABLE CODEBOARD (
     CODEBOARD_BLOCKS TEXT NOT NULL,
     CODEBOARD_PLAIN_TEXT TEXT,
     CODEBOARD_CLICK BIGINT DEFAULT 0,
+    CODEBOARD_LIKE_COUNT INT NOT NULL DEFAULT 0,
+    CODEBOARD_COMMENT_COUNT INT NOT NULL DEFAULT 0,
     CODEBOARD_CREATED_AT DATETIME DEFAULT CURRENT_TIMESTAMP,
     CODEBOARD_DELETED_YN VARCHAR(1) DEFAULT 'N',
 
@@ -31,7 +39,11 @@ CREATE TABLE CODEBOARD (
     INDEX IDX_ANALYSIS_ID (ANALYSIS_ID),
     INDEX IDX_USER_ID (USER_ID),
     INDEX IDX_CREATED_AT (CODEBOARD_CREATED_AT),
-    INDEX IDX_DELETED_YN (CODEBOARD_DELETED_YN)
+    INDEX IDX_DELETED_YN (CODEBOARD_DELETED_YN),
+    INDEX IDX_CODEBOARD_SORT_LIKE (CODEBOARD_DELETED_YN, CODEBOARD_LIKE_COUNT, CODEBOARD_ID),
+    INDEX IDX_CODEBOARD_SORT_COMMENT (CODEBOARD_DELETED_YN, CODEBOARD_COMMENT_COUNT, CODEBOARD_ID),
+    INDEX IDX_CODEBOARD_SORT_CLICK (CODEBOARD_DELETED_YN, CODEBOARD_CLICK, CODEBOARD_ID),
+    INDEX IDX_CODEBOARD_SORT_CREATED (CODEBOARD_DELETED_YN, CODEBOARD_CREATED_AT, CODEBOARD_ID)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 
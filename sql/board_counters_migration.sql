@@ -0,0 +1,46 @@
+-- =============================================
+-- 게시판 좋아요/댓글 수 비정규화 컬럼 추가 (기존 DB 마이그레이션용)
+-- 목록 조회 시 행마다 COUNT(*) 서브쿼리를 실행하지 않고
+-- 정렬 컬럼을 인덱스로 바로 읽기 위함
+-- =============================================
+
+ALTER TABLE FREEBOARD
+    ADD COLUMN FREEBOARD_LIKE_COUNT INT NOT NULL DEFAULT 0 AFTER FREEBOARD_CLICK,
+    ADD COLUMN FREEBOARD_COMMENT_COUNT INT NOT NULL DEFAULT 0 AFTER FREEBOARD_LIKE_COUNT,
+    ADD INDEX IDX_FREEBOARD_SORT_LIKE (FREEBOARD_DELETED_YN, FREEBOARD_LIKE_COUNT, FREEBOARD_ID),
+    ADD INDEX IDX_FREEBOARD_SORT_COMMENT (FREEBOARD_DELETED_YN, FREEBOARD_COMMENT_COUNT, FREEBOARD_ID),
+    ADD INDEX IDX_FREEBOARD_SORT_CLICK (FREEBOARD_DELETED_YN, FREEBOARD_CLICK, FREEBOARD_ID),
+    ADD INDEX IDX_FREEBOARD_SORT_CREATED (FREEBOARD_DELETED_YN, FREEBOARD_CREATED_AT, FREEBOARD_ID);
+
+ALTER TABLE CODEBOARD
+    ADD COLUMN CODEBOARD_LIKE_COUNT INT NOT NULL DEFAULT 0 AFTER CODEBOARD_CLICK,
+    ADD COLUMN CODEBOARD_COMMENT_COUNT INT NOT NULL DEFAULT 0 AFTER CODEBOARD_LIKE_COUNT,
+    ADD INDEX IDX_CODEBOARD_SORT_LIKE (CODEBOARD_DELETED_YN, CODEBOARD_LIKE_COUNT, CODEBOARD_ID),
+    ADD INDEX IDX_CODEBOARD_SORT_COMMENT (CODEBOARD_DELETED_YN, CODEBOARD_COMMENT_COUNT, CODEBOARD_ID),
+    ADD INDEX IDX_CODEBOARD_SORT_CLICK (CODEBOARD_DELETED_YN, CODEBOARD_CLICK, CODEBOARD_ID),
+    ADD INDEX IDX_CODEBOARD_SORT_CREATED (CODEBOARD_DELETED_YN, CODEBOARD_CREATED_AT, CODEBOARD_ID);
+
+-- 기존 데이터 백필 (BoardCounterReconcileScheduler의 보정 쿼리와 동일)
+UPDATE FREEBOARD f
+    LEFT JOIN (SELECT REFERENCE_ID, COUNT(*) AS CNT
+               FROM `LIKE`
+               WHERE REFERENCE_TYPE = 'POST_FREEBOARD'
+               GROUP BY REFERENCE_ID) l ON l.REFERENCE_ID = f.FREEBOARD_ID
+    LEFT JOIN (SELECT BOARD_ID, COUNT(*) AS CNT
+               FROM `COMMENT`
+               WHERE BOARD_TYPE = 'FREEBOARD' AND IS_DELETED = FALSE
+               GROUP BY BOARD_ID) c ON c.BOARD_ID = f.FREEBOARD_ID
+SET f.FREEBOARD_LIKE_COUNT = COALESCE(l.CNT, 0),
+    f.FREEBOARD_COMMENT_COUNT = COALESCE(c.CNT, 0);
+
+UPDATE CODEBOARD cb
+    LEFT JOIN (SELECT REFERENCE_ID, COUNT(*) AS CNT
+               FROM `LIKE`
+               WHERE REFERENCE_TYPE = 'POST_CODEBOARD'
+               GROUP BY REFERENCE_ID) l ON l.REFERENCE_ID = cb.CODEBOARD_ID
+    LEFT JOIN (SELECT BOARD_ID, COUNT(*) AS CNT
+               FROM `COMMENT`
+               WHERE BOARD_TYPE = 'CODEBOARD' AND IS_DELETED = FALSE
+               GROUP BY BOARD_ID) c ON c.BOARD_ID = cb.CODEBOARD_ID
+SET cb.CODEBOARD_LIKE_COUNT = COALESCE(l.CNT, 0),
+    cb.CODEBOARD_COMMENT_COUNT = COALESCE(c.CNT, 0);
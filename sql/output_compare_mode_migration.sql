@@ -0,0 +1,10 @@
+-- =============================================
+-- 문제별 출력 비교 방식 컬럼 추가 (기존 DB 마이그레이션용)
+-- EXACT: 앞뒤 공백 제거 + 줄바꿈 통일 후 완전 일치 (기존 동작)
+-- TOKEN: 공백/개행 구분 토큰 단위 일치
+-- FLOAT: 토큰 단위 + 실수 허용 오차 비교
+-- =============================================
+
+ALTER TABLE `ALGO_PROBLEMS`
+    ADD COLUMN `OUTPUT_COMPARE_MODE` ENUM('EXACT', 'TOKEN', 'FLOAT') DEFAULT 'EXACT' NOT NULL COMMENT '출력 비교 방식' AFTER `MEMORYLIMIT`,
+    ADD COLUMN `FLOAT_TOLERANCE` DOUBLE NULL COMMENT '실수 비교 허용 오차 (FLOAT 모드, NULL이면 1e-6)' AFTER `OUTPUT_COMPARE_MODE`;
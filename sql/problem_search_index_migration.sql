@@ -0,0 +1,6 @@
+-- =============================================
+-- 문제 검색 색인 변경분 동기화용 인덱스 추가 (기존 DB 마이그레이션용)
+-- 애플리케이션 검색 색인이 주기적으로 ALGO_UPDATED_AT 이후 수정된 문제만 다시 읽기 위함
+-- =============================================
+
+CREATE INDEX `idx_updated_at` ON `ALGO_PROBLEMS` (`ALGO_UPDATED_AT`);
@@ -0,0 +1,15 @@
+-- =============================================
+-- 문제 MinHash 시그니처 테이블 추가 (기존 DB 마이그레이션용)
+-- 생성 문제 유사도 검사 시 기존 문제 전체 스캔 대신 LSH 후보만 비교하기 위함
+-- 기존 문제의 시그니처는 애플리케이션 기동 시 자동으로 계산되어 채워짐
+-- =============================================
+
+CREATE TABLE `ALGO_PROBLEM_SIGNATURES` (
+    `ALGO_PROBLEM_ID` BIGINT PRIMARY KEY COMMENT '문제 고유 식별자',
+    `SIGNATURE_VERSION` INT NOT NULL COMMENT '시그니처 계산 방식 버전 (다르면 다시 계산)',
+    `TITLE_SIGNATURE` VARBINARY(512) NULL COMMENT '제목 MinHash 시그니처 (토큰이 없으면 NULL)',
+    `DESCRIPTION_SIGNATURE` VARBINARY(1024) NULL COMMENT '설명 MinHash 시그니처 (토큰이 없으면 NULL)',
+    `UPDATED_AT` TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '갱신 일시',
+    INDEX `idx_signature_updated_at` (`UPDATED_AT`),
+    FOREIGN KEY (`ALGO_PROBLEM_ID`) REFERENCES `ALGO_PROBLEMS`(`ALGO_PROBLEM_ID`) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '문제 유사도 검사용 MinHash 시그니처';
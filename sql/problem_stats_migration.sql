@@ -0,0 +1,33 @@
+-- =============================================
+-- 문제별 제출 통계 테이블 추가 (기존 DB 마이그레이션용)
+-- 문제 상세 조회 시 ALGO_SUBMISSIONS 전체 COUNT 대신 집계값을 읽기 위함
+-- =============================================
+
+CREATE TABLE `ALGO_PROBLEM_STATS` (
+    `ALGO_PROBLEM_ID` BIGINT PRIMARY KEY COMMENT '문제 고유 식별자',
+    `SUBMISSION_COUNT` INT NOT NULL DEFAULT 0 COMMENT '채점 완료 제출 수',
+    `ACCEPTED_COUNT` INT NOT NULL DEFAULT 0 COMMENT 'AC 제출 수',
+    `SOLVER_COUNT` INT NOT NULL DEFAULT 0 COMMENT 'AC를 받은 사용자 수 (중복 제외)',
+    `MEASURED_COUNT` INT NOT NULL DEFAULT 0 COMMENT '실행 시간/메모리가 기록된 제출 수',
+    `TOTAL_EXECUTION_TIME` BIGINT NOT NULL DEFAULT 0 COMMENT '실행 시간 합계(ms)',
+    `TOTAL_MEMORY_USAGE` BIGINT NOT NULL DEFAULT 0 COMMENT '메모리 사용량 합계',
+    `UPDATED_AT` TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '갱신 일시',
+    FOREIGN KEY (`ALGO_PROBLEM_ID`) REFERENCES `ALGO_PROBLEMS`(`ALGO_PROBLEM_ID`) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '문제별 제출 통계';
+
+-- 기존 제출 기록으로 초기값 채우기
+INSERT INTO ALGO_PROBLEM_STATS (
+    ALGO_PROBLEM_ID, SUBMISSION_COUNT, ACCEPTED_COUNT, SOLVER_COUNT,
+    MEASURED_COUNT, TOTAL_EXECUTION_TIME, TOTAL_MEMORY_USAGE
+)
+SELECT
+    ALGO_PROBLEM_ID,
+    COUNT(*),
+    SUM(JUDGE_RESULT = 'AC'),
+    COUNT(DISTINCT CASE WHEN JUDGE_RESULT = 'AC' THEN USER_ID END),
+    SUM(EXECUTION_TIME IS NOT NULL AND MEMORY_USAGE IS NOT NULL),
+    COALESCE(SUM(CASE WHEN EXECUTION_TIME IS NOT NULL AND MEMORY_USAGE IS NOT NULL THEN EXECUTION_TIME END), 0),
+    COALESCE(SUM(CASE WHEN EXECUTION_TIME IS NOT NULL AND MEMORY_USAGE IS NOT NULL THEN MEMORY_USAGE END), 0)
+FROM ALGO_SUBMISSIONS
+WHERE JUDGE_RESULT <> 'PENDING'
+GROUP BY ALGO_PROBLEM_ID;
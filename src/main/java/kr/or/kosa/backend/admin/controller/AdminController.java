@@ -5,6 +5,7 @@ import kr.or.kosa.backend.admin.dto.response.AdminUserDetailResponseDto;
 import kr.or.kosa.backend.admin.dto.response.PageResponseDto;
 import kr.or.kosa.backend.admin.dto.response.UserFindResponseDto;
 import kr.or.kosa.backend.admin.service.AdminUserService;
+import kr.or.kosa.backend.algorithm.service.LanguageService;
 import kr.or.kosa.backend.commons.response.ApiResponse;
 import kr.or.kosa.backend.users.domain.Users;
 import kr.or.kosa.backend.users.dto.UserResponseDto;
@@ -17,8 +18,10 @@ import java.time.LocalDateTime;
 @RequestMapping("/admin")
 public class AdminController {
     private final AdminUserService adminService;
-    public AdminController(AdminUserService adminService) {
+    private final LanguageService languageService;
+    public AdminController(AdminUserService adminService, LanguageService languageService) {
         this.adminService = adminService;
+        this.languageService = languageService;
     }
 
     @GetMapping("/users")
@@ -53,4 +56,9 @@ public class AdminController {
     ){
         return ResponseEntity.ok(ApiResponse.success(adminService.banUser(userId).getUserDeletedat()));
     }
+
+    @PostMapping("/languages/reload")
+    public ResponseEntity<ApiResponse<Integer>> reloadLanguages() {
+        return ResponseEntity.ok(ApiResponse.success(languageService.reload()));
+    }
 }
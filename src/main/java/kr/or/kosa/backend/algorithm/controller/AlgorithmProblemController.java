@@ -344,15 +344,28 @@ public class AlgorithmProblemController {
 
             int offset = (page - 1) * size;
 
-            List<Map<String, Object>> problems = algorithmProblemService.getProblemsWithUserStatus(
+            Map<String, Object> responseData = new HashMap<>();
+            List<Map<String, Object>> problems;
+            int totalCount;
+
+            // 검색어/태그 조건은 검색 색인으로 조회 (색인 준비 전이면 기존 SQL 조회)
+            AlgorithmProblemService.ProblemSearchPage searchPage = algorithmProblemService.searchProblemsWithUserStatus(
                     userId, offset, size, difficulty, source, keyword, topic, problemType, solved);
 
-            int totalCount = algorithmProblemService.getTotalProblemsCountWithFilter(
-                    difficulty, source, keyword, topic, problemType, userId, solved);  // userId, solved 추가
+            if (searchPage != null) {
+                problems = searchPage.problems();
+                totalCount = searchPage.totalCount();
+                responseData.put("tagFacets", searchPage.tagFacets());
+            } else {
+                problems = algorithmProblemService.getProblemsWithUserStatus(
+                        userId, offset, size, difficulty, source, keyword, topic, problemType, solved);
+
+                totalCount = algorithmProblemService.getTotalProblemsCountWithFilter(
+                        difficulty, source, keyword, topic, problemType, userId, solved);  // userId, solved 추가
+            }
 
             int totalPages = (int) Math.ceil((double) totalCount / size);
 
-            Map<String, Object> responseData = new HashMap<>();
             responseData.put("problems", problems);
             responseData.put("currentPage", page);
             responseData.put("pageSize", size);
@@ -24,6 +24,7 @@ import java.util.Map;
 /**
  * Rate Limiting 인터셉터
  * 무료 사용자는 일일 3회 제한, 구독자는 무제한
+ * 모든 사용자에게 초당 버스트 제한 적용 (rate-limit.burst.*)
  */
 @Component
 @Slf4j
@@ -53,7 +54,7 @@ public class RateLimitInterceptor implements HandlerInterceptor {
         // 인증된 사용자 확인
         Long userId = getCurrentUserId();
         if (userId == null) {
-            sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+            sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.", false);
             return false;
         }
 
@@ -64,10 +65,16 @@ public class RateLimitInterceptor implements HandlerInterceptor {
         RateLimitService.UsageCheckResult result = rateLimitService.checkAndIncrementUsage(
                 userId, usageType, isSubscriber);
 
+        if (result.throttled()) {
+            log.info("Burst limit 초과 - userId: {}, type: {}", userId, usageType);
+            sendErrorResponse(response, HttpStatus.TOO_MANY_REQUESTS, result.message(), false);
+            return false;
+        }
+
         if (!result.allowed()) {
             log.info("Rate limit 초과 - userId: {}, type: {}, usage: {}/{}",
                     userId, usageType, result.currentUsage(), result.dailyLimit());
-            sendErrorResponse(response, HttpStatus.TOO_MANY_REQUESTS, result.message());
+            sendErrorResponse(response, HttpStatus.TOO_MANY_REQUESTS, result.message(), true);
             return false;
         }
 
@@ -104,8 +111,11 @@ public class RateLimitInterceptor implements HandlerInterceptor {
 
     /**
      * 에러 응답 전송
+     *
+     * @param suggestUpgrade 일일 한도 초과 시 구독 안내 URL 포함 여부
      */
-    private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+    private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message,
+                                   boolean suggestUpgrade) throws IOException {
         response.setStatus(status.value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setCharacterEncoding("UTF-8");
@@ -115,7 +125,7 @@ public class RateLimitInterceptor implements HandlerInterceptor {
         errorResponse.put("error", status.name());
         errorResponse.put("message", message);
 
-        if (status == HttpStatus.TOO_MANY_REQUESTS) {
+        if (suggestUpgrade) {
             errorResponse.put("upgradeUrl", "/subscription");
         }
 
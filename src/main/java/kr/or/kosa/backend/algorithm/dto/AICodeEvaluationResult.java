@@ -27,4 +27,6 @@ public class AICodeEvaluationResult {
     private String efficiency;
     private String readability;
     private List<String> improvementTips;
+
+    private boolean fallback;          // 오류로 생성된 기본 결과 여부 (캐시 대상 제외)
 }
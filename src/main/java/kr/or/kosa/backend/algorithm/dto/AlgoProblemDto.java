@@ -1,5 +1,6 @@
 package kr.or.kosa.backend.algorithm.dto;
 
+import kr.or.kosa.backend.algorithm.dto.enums.OutputCompareMode;
 import kr.or.kosa.backend.algorithm.dto.enums.ProblemDifficulty;
 import kr.or.kosa.backend.algorithm.dto.enums.ProblemSource;
 import kr.or.kosa.backend.algorithm.dto.enums.ProblemType;
@@ -20,7 +21,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class AlgoProblemDto {
 
     /**
@@ -68,6 +69,16 @@ public class AlgoProblemDto {
      */
     private Integer memorylimit;
 
+    /**
+     * 출력 비교 방식 (EXACT, TOKEN, FLOAT)
+     */
+    private OutputCompareMode outputCompareMode;
+
+    /**
+     * 실수 비교 허용 오차 (FLOAT 모드, 절대/상대 오차)
+     */
+    private Double floatTolerance;
+
     /**
      * 문제 생성자 ID
      */
@@ -128,4 +139,7 @@ public class AlgoProblemDto {
     private Integer totalAttempts;
     private Integer successCount;
     private Double averageScore;
+    private Double acceptanceRate;          // 정답률 (%)
+    private Double averageExecutionTime;    // 평균 실행 시간 (ms)
+    private Double averageMemoryUsage;      // 평균 메모리 사용량
 }
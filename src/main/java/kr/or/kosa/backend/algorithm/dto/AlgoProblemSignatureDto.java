@@ -0,0 +1,44 @@
+package kr.or.kosa.backend.algorithm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 문제 MinHash 시그니처 DTO
+ * 데이터베이스 테이블: ALGO_PROBLEM_SIGNATURES
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlgoProblemSignatureDto {
+
+    /**
+     * 문제 ID
+     */
+    private Long algoProblemId;
+
+    /**
+     * 시그니처 계산 방식 버전
+     */
+    private int signatureVersion;
+
+    /**
+     * 제목 시그니처 (int 배열을 big-endian 바이트로 저장, 토큰이 없으면 null)
+     */
+    private byte[] titleSignature;
+
+    /**
+     * 설명 시그니처 (int 배열을 big-endian 바이트로 저장, 토큰이 없으면 null)
+     */
+    private byte[] descriptionSignature;
+
+    /**
+     * 문제 활성화 상태 (변경분 동기화 조회 시에만 채워짐)
+     */
+    private Boolean algoProblemStatus;
+}
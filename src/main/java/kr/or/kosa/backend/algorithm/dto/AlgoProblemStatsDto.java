@@ -0,0 +1,82 @@
+package kr.or.kosa.backend.algorithm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문제별 제출 통계 DTO
+ * 데이터베이스 테이블: ALGO_PROBLEM_STATS
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlgoProblemStatsDto {
+
+    /**
+     * 문제 ID
+     */
+    private Long algoProblemId;
+
+    /**
+     * 채점 완료 제출 수
+     */
+    private int submissionCount;
+
+    /**
+     * AC 제출 수
+     */
+    private int acceptedCount;
+
+    /**
+     * AC를 받은 사용자 수 (중복 제외)
+     */
+    private int solverCount;
+
+    /**
+     * 실행 시간/메모리가 기록된 제출 수 (평균 계산용)
+     */
+    private int measuredCount;
+
+    /**
+     * 실행 시간 합계 (ms)
+     */
+    private long totalExecutionTime;
+
+    /**
+     * 메모리 사용량 합계
+     */
+    private long totalMemoryUsage;
+
+    /**
+     * 갱신 일시
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 정답률 (%)
+     */
+    public double getAcceptanceRate() {
+        return submissionCount == 0 ? 0.0 : acceptedCount * 100.0 / submissionCount;
+    }
+
+    /**
+     * 평균 실행 시간 (ms)
+     */
+    public Double getAverageExecutionTime() {
+        return measuredCount == 0 ? null : (double) totalExecutionTime / measuredCount;
+    }
+
+    /**
+     * 평균 메모리 사용량
+     */
+    public Double getAverageMemoryUsage() {
+        return measuredCount == 0 ? null : (double) totalMemoryUsage / measuredCount;
+    }
+}
@@ -1,5 +1,7 @@
 package kr.or.kosa.backend.algorithm.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import kr.or.kosa.backend.algorithm.dto.enums.OutputCompareMode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,7 +16,7 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class AlgoTestcaseDto {
 
     /**
@@ -68,4 +70,22 @@ public class AlgoTestcaseDto {
      * 에러 메시지 (채점 실패 시 임시 저장)
      */
     private transient String errorMessage;
+
+    /**
+     * 정규화된 예상 출력 (UTF-8, 테스트케이스 묶음 캐시에서 미리 계산)
+     */
+    @JsonIgnore
+    private transient byte[] normalizedExpectedOutput;
+
+    /**
+     * 출력 비교 방식 (문제 설정, 테스트케이스 묶음 캐시에서 지정)
+     */
+    @JsonIgnore
+    private transient OutputCompareMode outputCompareMode;
+
+    /**
+     * 실수 비교 허용 오차 (FLOAT 모드)
+     */
+    @JsonIgnore
+    private transient Double floatTolerance;
 }
@@ -0,0 +1,29 @@
+package kr.or.kosa.backend.algorithm.dto.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 출력 비교 방식 Enum
+ * ALGO_PROBLEMS 테이블의 OUTPUT_COMPARE_MODE 컬럼과 매핑
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutputCompareMode {
+    /**
+     * 앞뒤 공백 제거 + CRLF → LF 이후 완전 일치 (기본값)
+     */
+    EXACT("완전 일치"),
+
+    /**
+     * 공백/개행으로 나눈 토큰 단위 일치 (공백 개수, 줄 구성 차이 무시)
+     */
+    TOKEN("토큰 일치"),
+
+    /**
+     * 토큰 단위 비교 + 실수 토큰은 허용 오차(FLOAT_TOLERANCE) 이내면 일치
+     */
+    FLOAT("실수 오차 허용");
+
+    private final String description;
+}
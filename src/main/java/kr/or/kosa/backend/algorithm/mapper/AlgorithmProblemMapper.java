@@ -1,10 +1,13 @@
 package kr.or.kosa.backend.algorithm.mapper;
 
 import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemSignatureDto;
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemStatsDto;
 import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -97,6 +100,15 @@ public interface AlgorithmProblemMapper {
      */
     int insertTestcase(AlgoTestcaseDto testcase);
 
+    /**
+     * 테스트케이스 다건 저장 (multi-row INSERT)
+     * 한 문장 크기가 max_allowed_packet을 넘지 않도록 호출 측에서 나누어 전달
+     *
+     * @param testcases 테스트케이스 목록 (algoProblemId 설정 필요)
+     * @return 저장된 행 수
+     */
+    int insertTestcases(@Param("testcases") List<AlgoTestcaseDto> testcases);
+
     /**
      * 문제 ID로 테스트케이스 목록 조회
      *
@@ -116,11 +128,49 @@ public interface AlgorithmProblemMapper {
     List<AlgoTestcaseDto> selectTestCasesByProblemId(@Param("problemId") Long problemId);
 
     /**
-     * 문제별 통계 조회 (제출 수, 맞힌 사람 수)
+     * 문제별 제출 통계 조회 (ALGO_PROBLEM_STATS 집계값)
      * @param problemId 문제 ID
-     * @return 통계 정보 (totalAttempts, successCount)
+     * @return 통계 정보 (제출 기록이 없으면 null)
+     */
+    AlgoProblemStatsDto selectProblemStats(@Param("problemId") Long problemId);
+
+    /**
+     * 채점 완료된 제출 1건을 문제 통계에 반영 (행이 없으면 생성)
+     *
+     * @param problemId     문제 ID
+     * @param accepted      AC 여부
+     * @param newSolver     해당 사용자의 첫 AC 여부
+     * @param executionTime 실행 시간 (ms, null이면 평균 계산에서 제외)
+     * @param memoryUsage   메모리 사용량 (null이면 평균 계산에서 제외)
+     */
+    int upsertProblemStats(@Param("problemId") Long problemId,
+                           @Param("accepted") boolean accepted,
+                           @Param("newSolver") boolean newSolver,
+                           @Param("executionTime") Integer executionTime,
+                           @Param("memoryUsage") Integer memoryUsage);
+
+    /**
+     * 같은 사용자가 해당 문제에서 다른 제출로 AC를 받은 적이 있는지 확인
+     */
+    boolean existsOtherAcceptedSubmission(@Param("userId") Long userId,
+                                          @Param("problemId") Long problemId,
+                                          @Param("submissionId") Long submissionId);
+
+    /**
+     * 제출 기록 기준으로 전체 문제 통계 재계산 (증분 갱신 누락/중복 보정)
+     * @return 영향받은 행 수
      */
-    Map<String, Object> selectProblemStatistics(@Param("problemId") Long problemId);
+    int reconcileProblemStats();
+
+    /**
+     * 전체 문제 통계 요약 (총 제출 수, 문제별 정답률 평균)
+     */
+    Map<String, Object> selectOverallProblemStats();
+
+    /**
+     * 사용자가 맞힌 문제 수
+     */
+    int countSolvedProblemsByUser(@Param("userId") Long userId);
 
     /**
      * 사용자 풀이 상태 포함 문제 목록 조회
@@ -133,4 +183,64 @@ public interface AlgorithmProblemMapper {
             @Param("size") int size,
             @Param("solved") String solved
     );
-}
\ No newline at end of file
+
+    /**
+     * 검색 색인 적재용 활성 문제 조회 (PK 키셋 페이징)
+     *
+     * @param afterId 마지막으로 읽은 문제 ID (처음은 0)
+     * @param limit   조회 개수
+     */
+    List<AlgoProblemDto> selectProblemsForSearchIndex(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 검색 색인 변경분 조회 (afterId 이후 추가된 문제 + since 이후 수정된 문제, 비활성 포함)
+     */
+    List<AlgoProblemDto> selectProblemsChangedForSearchIndex(@Param("afterId") long afterId,
+                                                             @Param("since") LocalDateTime since);
+
+    /**
+     * 사용자가 맞힌 문제 ID 목록
+     */
+    List<Long> selectSolvedProblemIds(@Param("userId") Long userId);
+
+    /**
+     * 사용자 풀이 상태 포함 문제 목록 조회 (ID 목록, 순서는 호출 측에서 맞춤)
+     */
+    List<Map<String, Object>> selectProblemsWithUserStatusByIds(
+            @Param("userId") Long userId,
+            @Param("ids") List<Long> ids
+    );
+
+    /**
+     * 유사도 색인 적재용 시그니처 조회 (활성 문제, 현재 버전, PK 키셋 페이징)
+     *
+     * @param version 시그니처 계산 방식 버전
+     * @param afterId 마지막으로 읽은 문제 ID (처음은 0)
+     * @param limit   조회 개수
+     */
+    List<AlgoProblemSignatureDto> selectProblemSignatures(@Param("version") int version,
+                                                          @Param("afterId") long afterId,
+                                                          @Param("limit") int limit);
+
+    /**
+     * 시그니처 변경분 조회 (since 이후 시그니처가 갱신되었거나 문제가 수정된 것, 비활성 포함)
+     */
+    List<AlgoProblemSignatureDto> selectProblemSignaturesChanged(@Param("version") int version,
+                                                                 @Param("since") LocalDateTime since);
+
+    /**
+     * 시그니처가 없거나 오래된 활성 문제 조회 (제목/설명만)
+     */
+    List<AlgoProblemDto> selectProblemsWithoutSignature(@Param("version") int version,
+                                                        @Param("limit") int limit);
+
+    /**
+     * 시그니처 일괄 저장 (있으면 갱신)
+     */
+    int upsertProblemSignatures(@Param("signatures") List<AlgoProblemSignatureDto> signatures);
+
+    /**
+     * 유사도 비교용 문제 제목/설명 조회 (활성 문제, ID 목록)
+     */
+    List<AlgoProblemDto> selectProblemTextsByIds(@Param("ids") List<Long> ids);
+}
@@ -46,6 +46,19 @@ public interface DailyMissionMapper {
      */
     List<Long> findAllActiveUserIds();
 
+    /**
+     * 활성 사용자 ID 키셋 조회 (일괄 미션 생성용)
+     *
+     * @param afterId 마지막으로 읽은 사용자 ID (처음은 0)
+     * @param limit   조회 개수
+     */
+    List<Long> findActiveUserIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 데일리 미션 일괄 생성 (multi-row INSERT, 이미 있는 미션은 무시)
+     */
+    int insertMissions(@Param("missions") List<DailyMissionDto> missions);
+
     /**
      * 난이도별 랜덤 문제 ID 조회
      */
@@ -63,6 +76,16 @@ public interface DailyMissionMapper {
      */
     UserAlgoLevelDto findUserLevel(@Param("userId") Long userId);
 
+    /**
+     * 여러 사용자 레벨 조회 (userId, algoLevel만 채움)
+     */
+    List<UserAlgoLevelDto> findUserLevelsByUserIds(@Param("userIds") List<Long> userIds);
+
+    /**
+     * 기본 레벨(EMERALD) 일괄 생성 (이미 있으면 무시)
+     */
+    int insertDefaultUserLevels(@Param("userIds") List<Long> userIds);
+
     /**
      * 사용자 레벨 생성
      */
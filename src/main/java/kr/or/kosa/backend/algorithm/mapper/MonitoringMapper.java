@@ -26,12 +26,9 @@ public interface MonitoringMapper {
     void updateSession(MonitoringSessionDto session);
 
     /**
-     * 특정 위반 카운트 증가
+     * 위반 카운트 일괄 증가 (count 필드 값을 증가분으로 사용)
      */
-    void incrementViolationCount(
-            @Param("sessionId") String sessionId,
-            @Param("violationType") String violationType
-    );
+    void addViolationCounts(MonitoringSessionDto delta);
 
     /**
      * 경고 표시 횟수 증가
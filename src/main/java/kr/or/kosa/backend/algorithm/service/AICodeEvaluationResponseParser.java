@@ -0,0 +1,193 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI 코드 평가 응답 파서
+ * LLM이 출력한 평가 JSON을 필드 단위로 추출
+ *
+ * 1차: ObjectMapper로 정상 JSON 파싱
+ * 2차: 실패 시 관대한(lenient) 스트리밍 파서로 읽을 수 있는 필드까지만 수집
+ *      (따옴표 누락, 작은따옴표, 후행 쉼표, 응답 잘림 등 LLM 출력 오류 대응)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AICodeEvaluationResponseParser {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private static final JsonFactory LENIENT_FACTORY = JsonFactory.builder()
+            .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+            .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+            .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+            .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+            .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+            .enable(JsonReadFeature.ALLOW_LEADING_PLUS_SIGN_FOR_NUMBERS)
+            .enable(JsonReadFeature.ALLOW_LEADING_DECIMAL_POINT_FOR_NUMBERS)
+            .build();
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 파싱된 평가 필드 (누락된 필드는 기본값으로 채움)
+     */
+    public record ParsedEvaluation(
+            double aiScore,
+            String feedback,
+            String codeQuality,
+            String readability,
+            String efficiency,
+            String approachVerdict,
+            String detectedApproach,
+            String detectedTimeComplexity,
+            String detectedSpaceComplexity,
+            String complexityExplanation,
+            String nextStepSuggestion,
+            List<String> strongPoints,
+            List<String> improvementTips,
+            boolean lenient
+    ) {}
+
+    public ParsedEvaluation parse(String response) {
+        String json = extractJsonObject(response);
+
+        Map<String, Object> fields;
+        boolean lenient = false;
+        try {
+            fields = objectMapper.readValue(json, MAP_TYPE);
+        } catch (Exception e) {
+            log.warn("AI 평가 응답 JSON 파싱 실패 - 관대한 파싱으로 전환: {}", e.getMessage());
+            fields = parseLeniently(json);
+            lenient = true;
+        }
+
+        return new ParsedEvaluation(
+                number(fields, "aiScore", 70),
+                text(fields, "feedback", "피드백을 생성하지 못했습니다."),
+                text(fields, "codeQuality", "FAIR"),
+                text(fields, "readability", "FAIR"),
+                text(fields, "efficiency", "FAIR"),
+                text(fields, "approachVerdict", "UNKNOWN"),
+                text(fields, "detectedApproach", ""),
+                text(fields, "detectedTimeComplexity", ""),
+                text(fields, "detectedSpaceComplexity", ""),
+                text(fields, "complexityExplanation", ""),
+                text(fields, "nextStepSuggestion", ""),
+                list(fields, "strongPoints"),
+                list(fields, "improvementTips"),
+                lenient
+        );
+    }
+
+    /**
+     * Markdown 코드블록/앞뒤 설명문을 제외한 JSON 객체 부분만 추출
+     * 닫는 중괄호가 없으면(응답 잘림) 끝까지 사용
+     */
+    private String extractJsonObject(String response) {
+        if (response == null) {
+            return "";
+        }
+        int start = response.indexOf('{');
+        if (start < 0) {
+            return response.trim();
+        }
+        int end = response.lastIndexOf('}');
+        return end > start ? response.substring(start, end + 1) : response.substring(start);
+    }
+
+    /**
+     * 스트리밍 파싱으로 최상위 필드를 가능한 만큼 수집
+     * 중간에 오류가 나면 그 전까지 읽은 필드(배열은 읽은 항목까지)를 반환
+     */
+    private Map<String, Object> parseLeniently(String json) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        try (JsonParser parser = LENIENT_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return fields;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (token == null) {
+                    break;
+                }
+                switch (token) {
+                    case START_ARRAY -> {
+                        List<String> items = new ArrayList<>();
+                        fields.put(name, items);
+                        while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                            if (token.isStructStart()) {
+                                parser.skipChildren();
+                            } else if (token.isScalarValue()) {
+                                items.add(parser.getText());
+                            }
+                        }
+                    }
+                    case START_OBJECT -> parser.skipChildren();
+                    case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> fields.put(name, parser.getDoubleValue());
+                    default -> fields.put(name, parser.getText());
+                }
+            }
+        } catch (IOException e) {
+            log.debug("관대한 파싱 중단 - 수집된 필드 {}개: {}", fields.size(), e.getMessage());
+        }
+        return fields;
+    }
+
+    private static String text(Map<String, Object> fields, String key, String defaultValue) {
+        Object value = fields.get(key);
+        if (value instanceof String s && !s.isBlank()) {
+            return s;
+        }
+        if (value instanceof Number n) {
+            return n.toString();
+        }
+        return defaultValue;
+    }
+
+    private static double number(Map<String, Object> fields, String key, double defaultValue) {
+        Object value = fields.get(key);
+        if (value instanceof Number n) {
+            return n.doubleValue();
+        }
+        if (value instanceof String s) {
+            try {
+                return Double.parseDouble(s.trim());
+            } catch (NumberFormatException ignored) {
+                // 기본값 사용
+            }
+        }
+        return defaultValue;
+    }
+
+    private static List<String> list(Map<String, Object> fields, String key) {
+        if (!(fields.get(key) instanceof List<?> values)) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value != null && !(value instanceof Map) && !(value instanceof List)) {
+                String item = value.toString();
+                if (!item.isBlank()) {
+                    result.add(item);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,211 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.or.kosa.backend.algorithm.dto.AICodeEvaluationResult;
+import kr.or.kosa.backend.commons.util.HashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * AI 코드 평가 결과 캐시
+ *
+ * 같은 문제/언어/채점 결과에 대해 공백만 다른 동일 코드가 제출되면 LLM을 다시 호출하지 않고 기존 평가를 재사용합니다.
+ * - 키: (problemId, languageId, 정규화 코드 해시, 채점 결과/통과 수, 프롬프트 버전)
+ * - L1: 노드 로컬 LRU (만료 시간 포함)
+ * - L2: Redis (노드 간 공유, TTL)
+ * - 동시에 같은 키로 들어온 평가는 진행 중인 하나의 LLM 호출 결과를 함께 사용 (single-flight)
+ * - 오류로 만들어진 기본 결과(fallback)는 캐시하지 않음
+ */
+@Slf4j
+@Service
+public class AIEvaluationCacheService {
+
+    private static final String KEY_PREFIX = "ai:eval:";
+
+    // 평가 프롬프트/파싱 규칙이 바뀌면 올려서 기존 캐시를 무효화
+    private static final String PROMPT_VERSION = "v1";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    private final Map<String, LocalEntry> localCache;
+    private final Map<String, CompletableFuture<AICodeEvaluationResult>> inFlight = new ConcurrentHashMap<>();
+
+    public AIEvaluationCacheService(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${ai.evaluation.cache.ttl-hours:168}") long ttlHours,
+            @Value("${ai.evaluation.cache.local-size:500}") int localSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > localSize;
+            }
+        });
+    }
+
+    /**
+     * 캐시 키 생성
+     */
+    public String keyOf(Long problemId, Long languageId, String sourceCode,
+                        String judgeResult, int passedCount, int totalCount) {
+        String hash = HashUtil.sha256Hex(
+                PROMPT_VERSION,
+                normalize(sourceCode),
+                judgeResult,
+                passedCount + "/" + totalCount
+        );
+        return KEY_PREFIX + problemId + ":" + languageId + ":" + hash;
+    }
+
+    /**
+     * 캐시된 평가를 반환하거나, 없으면 evaluator로 평가 후 저장
+     * 같은 키의 평가가 진행 중이면 새로 호출하지 않고 그 결과를 기다림
+     */
+    public CompletableFuture<AICodeEvaluationResult> getOrEvaluate(
+            String key,
+            Supplier<CompletableFuture<AICodeEvaluationResult>> evaluator
+    ) {
+        AICodeEvaluationResult local = getLocal(key);
+        if (local != null) {
+            log.debug("AI 평가 캐시 적중 (L1) - key: {}", key);
+            return CompletableFuture.completedFuture(local);
+        }
+
+        CompletableFuture<AICodeEvaluationResult> mine = new CompletableFuture<>();
+        CompletableFuture<AICodeEvaluationResult> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            log.debug("진행 중인 AI 평가에 합류 - key: {}", key);
+            return running;
+        }
+
+        try {
+            AICodeEvaluationResult remote = getRemote(key);
+            if (remote != null) {
+                log.debug("AI 평가 캐시 적중 (Redis) - key: {}", key);
+                putLocal(key, remote);
+                inFlight.remove(key, mine);
+                mine.complete(remote);
+                return mine;
+            }
+
+            evaluator.get().whenComplete((result, error) -> {
+                if (error == null && result != null && !result.isFallback()) {
+                    putLocal(key, result);
+                    putRemote(key, result);
+                }
+                // 캐시 저장 후 제거해야 뒤늦게 들어온 요청이 L1에서 결과를 찾음
+                inFlight.remove(key, mine);
+                if (error != null) {
+                    mine.completeExceptionally(error);
+                } else {
+                    mine.complete(result);
+                }
+            });
+        } catch (Exception e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+        }
+        return mine;
+    }
+
+    /**
+     * 공백 차이만 있는 코드를 같은 코드로 취급하기 위한 정규화
+     * 줄바꿈 통일, 줄 끝 공백/빈 줄 제거 (들여쓰기는 의미가 있으므로 유지)
+     */
+    private static String normalize(String sourceCode) {
+        if (sourceCode == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(sourceCode.length());
+        for (String line : sourceCode.split("\\R")) {
+            String stripped = line.stripTrailing();
+            if (!stripped.isEmpty()) {
+                sb.append(stripped).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private AICodeEvaluationResult getLocal(String key) {
+        LocalEntry entry = localCache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            localCache.remove(key);
+            return null;
+        }
+        return entry.result();
+    }
+
+    private void putLocal(String key, AICodeEvaluationResult result) {
+        localCache.put(key, new LocalEntry(result, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    private AICodeEvaluationResult getRemote(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json != null ? objectMapper.readValue(json, CachedEvaluation.class).toResult() : null;
+        } catch (Exception e) {
+            log.warn("AI 평가 캐시 조회 실패 - key: {}, {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String key, AICodeEvaluationResult result) {
+        try {
+            String json = objectMapper.writeValueAsString(CachedEvaluation.from(result));
+            redisTemplate.opsForValue().set(key, json, ttl);
+        } catch (Exception e) {
+            log.warn("AI 평가 캐시 저장 실패 - key: {}, {}", key, e.getMessage());
+        }
+    }
+
+    private record LocalEntry(AICodeEvaluationResult result, long expiresAt) {
+    }
+
+    /**
+     * Redis 저장 형식 (AICodeEvaluationResult는 빌더 전용이므로 별도 레코드로 직렬화)
+     */
+    record CachedEvaluation(
+            Double aiScore,
+            String feedback,
+            String codeQuality,
+            String efficiency,
+            String readability,
+            List<String> improvementTips
+    ) {
+        static CachedEvaluation from(AICodeEvaluationResult r) {
+            return new CachedEvaluation(r.getAiScore(), r.getFeedback(), r.getCodeQuality(),
+                    r.getEfficiency(), r.getReadability(), r.getImprovementTips());
+        }
+
+        AICodeEvaluationResult toResult() {
+            return AICodeEvaluationResult.builder()
+                    .aiScore(aiScore)
+                    .feedback(feedback)
+                    .codeQuality(codeQuality)
+                    .efficiency(efficiency)
+                    .readability(readability)
+                    .improvementTips(improvementTips)
+                    .build();
+        }
+    }
+}
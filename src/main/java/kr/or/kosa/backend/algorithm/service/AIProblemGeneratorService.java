@@ -11,6 +11,7 @@ import kr.or.kosa.backend.algorithm.dto.ProblemValidationLogDto;
 import kr.or.kosa.backend.algorithm.dto.enums.ProblemDifficulty;
 import kr.or.kosa.backend.algorithm.mapper.AlgorithmProblemMapper;
 import kr.or.kosa.backend.algorithm.mapper.ProblemValidationLogMapper;
+import kr.or.kosa.backend.algorithm.service.validation.ProblemMinHashIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.document.Document;
@@ -41,6 +42,9 @@ public class AIProblemGeneratorService {
     private final ObjectMapper objectMapper;
     private final AlgorithmProblemMapper algorithmProblemMapper;
     private final ProblemValidationLogMapper validationLogMapper;
+    private final TestCaseBatchService testCaseBatchService;
+    private final ProblemSearchIndex problemSearchIndex;
+    private final ProblemMinHashIndex problemMinHashIndex;
 
     @Value("${algorithm.generation.rag-enabled:true}")
     private boolean ragEnabled;
@@ -210,11 +214,12 @@ public class AIProblemGeneratorService {
                     algorithmProblemMapper.insertProblem(problem);
                     Long problemId = problem.getAlgoProblemId();
 
-                    // 테스트케이스 저장
-                    for (AlgoTestcaseDto tc : testCases) {
-                        tc.setAlgoProblemId(problemId);
-                        algorithmProblemMapper.insertTestcase(tc);
-                    }
+                    // 테스트케이스 저장 (multi-row INSERT)
+                    testCaseBatchService.saveAll(problemId, testCases);
+
+                    // 검색/유사도 색인 반영
+                    problemSearchIndex.indexProblem(problem);
+                    problemMinHashIndex.indexProblem(problem);
 
                     // 7단계: 검증 로그 저장 (검증 코드가 있는 경우)
                     log.info("검증 로그 저장 조건 확인 - optimalCode: {}, naiveCode: {}",
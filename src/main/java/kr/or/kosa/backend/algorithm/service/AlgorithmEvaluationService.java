@@ -27,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 public class AlgorithmEvaluationService {
 
     private final CodeEvaluationService codeEvaluationService;
+    private final AIEvaluationCacheService evaluationCacheService;
     private final ScoreCalculator scoreCalculator;
     private final AlgorithmSubmissionMapper submissionMapper;
     private final LanguageService languageService;  // 언어 정보 조회 (languageId → languageName)
@@ -88,17 +89,29 @@ public class AlgorithmEvaluationService {
             }
         }
 
+        // 같은 문제/언어/채점 결과의 동일 코드는 캐시된 평가 재사용 (동시 요청은 LLM 호출 1회로 합침)
+        String cacheKey = evaluationCacheService.keyOf(
+                problem.getAlgoProblemId(),
+                submission.getLanguageId(),
+                submission.getSourceCode(),
+                judgeResult.getOverallResult(),
+                judgeResult.getPassedCount(),
+                judgeResult.getTotalCount()
+        );
+        final String evaluationLanguage = languageName;
+
         CompletableFuture<AICodeEvaluationResult> aiFuture =
-                codeEvaluationService.evaluateCode(
-                        submission.getSourceCode(),
-                        problem.getAlgoProblemDescription(),
-                        languageName,  // languageId → languageName 변환
-                        judgeResult.getOverallResult(),
-                        problemTopic,
-                        problem.getExpectedTimeComplexity(),
-                        judgeResult.getPassedCount(),
-                        judgeResult.getTotalCount()
-                );
+                evaluationCacheService.getOrEvaluate(cacheKey, () ->
+                        codeEvaluationService.evaluateCode(
+                                submission.getSourceCode(),
+                                problem.getAlgoProblemDescription(),
+                                evaluationLanguage,  // languageId → languageName 변환
+                                judgeResult.getOverallResult(),
+                                problemTopic,
+                                problem.getExpectedTimeComplexity(),
+                                judgeResult.getPassedCount(),
+                                judgeResult.getTotalCount()
+                        ));
 
         // 3. 평가 완료 대기
         AICodeEvaluationResult aiResult = aiFuture.get();
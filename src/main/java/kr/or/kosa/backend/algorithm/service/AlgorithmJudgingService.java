@@ -2,26 +2,32 @@ package kr.or.kosa.backend.algorithm.service;
 
 import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
 import kr.or.kosa.backend.algorithm.dto.AlgoSubmissionDto;
-import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
 import kr.or.kosa.backend.algorithm.dto.request.SubmissionRequestDto;
 import kr.or.kosa.backend.algorithm.dto.response.TestRunResponseDto;
 import kr.or.kosa.backend.algorithm.dto.enums.AiFeedbackStatus;
 import kr.or.kosa.backend.algorithm.dto.enums.JudgeResult;
-import kr.or.kosa.backend.algorithm.mapper.AlgorithmProblemMapper;
 import kr.or.kosa.backend.algorithm.mapper.AlgorithmSubmissionMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * 알고리즘 채점 서비스
@@ -29,83 +35,229 @@ import java.util.concurrent.CompletableFuture;
  * 변경사항 (2025-12-13):
  * - LanguageConstantService → LanguageService 교체
  * - language (String) → languageId (INT) 사용
+ *
+ * 채점 파이프라인:
+ * 테스트케이스 조회 → 채점 → 결과 저장 → 데일리 퀴즈 보너스 → AI 평가 위임 을 CompletableFuture로 연결합니다.
+ * - DB 작업 단계만 judgeExecutor에서 실행하고, 채점 단계는 실행기(Judge0/Piston/로컬)의 future에 위임하므로
+ *   채점 결과를 기다리며 점유되는 스레드가 없음
+ * - 동시에 진행되는 파이프라인 수를 제한하고, 초과분은 대기열에 두었다가 앞선 채점이 끝나면 시작 (배압)
+ * - 시작 실패, 실행기 거부를 포함한 모든 실패에서 제출을 실패 처리하고 완료 future와 허용량을 반환
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AlgorithmJudgingService {
 
     private final AlgorithmSubmissionMapper submissionMapper;
-    private final AlgorithmProblemMapper problemMapper;
     private final CodeExecutorService codeExecutorService;
     private final AlgorithmEvaluationService evaluationService;
     private final LanguageService languageService;  // 언어 정보 조회 (DB 기반)
     private final DailyQuizBonusService dailyQuizBonusService;
+    private final TestCaseBundleCache testCaseBundleCache;
+    private final JudgeResultCacheService judgeResultCacheService;
+    private final ProblemStatsService problemStatsService;
+    private final Executor judgeExecutor;
+
+    // 동시 진행 파이프라인 제한 + 대기열
+    private final Semaphore pipelinePermits;
+    private final Queue<PendingPipeline> pendingPipelines = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final int maxPending;
+
+    public AlgorithmJudgingService(
+            AlgorithmSubmissionMapper submissionMapper,
+            CodeExecutorService codeExecutorService,
+            AlgorithmEvaluationService evaluationService,
+            LanguageService languageService,
+            DailyQuizBonusService dailyQuizBonusService,
+            TestCaseBundleCache testCaseBundleCache,
+            JudgeResultCacheService judgeResultCacheService,
+            ProblemStatsService problemStatsService,
+            @Qualifier("judgeExecutor") Executor judgeExecutor,
+            @Value("${judge.pipeline.max-in-flight:64}") int maxInFlight,
+            @Value("${judge.pipeline.max-pending:1000}") int maxPending
+    ) {
+        this.submissionMapper = submissionMapper;
+        this.codeExecutorService = codeExecutorService;
+        this.evaluationService = evaluationService;
+        this.languageService = languageService;
+        this.dailyQuizBonusService = dailyQuizBonusService;
+        this.testCaseBundleCache = testCaseBundleCache;
+        this.judgeResultCacheService = judgeResultCacheService;
+        this.problemStatsService = problemStatsService;
+        this.judgeExecutor = judgeExecutor;
+        this.pipelinePermits = new Semaphore(maxInFlight);
+        this.maxPending = maxPending;
+    }
 
     /**
      * 통합 채점 및 평가 프로세스 (비동기)
      * - Judge0 채점 후 즉시 AI 평가 시작
+     * - 호출 측 트랜잭션이 있으면 커밋 이후에 시작 (제출 INSERT가 보이지 않는 상태로 조회하지 않도록)
      *
      * 변경사항 (2025-12-13): language (String) → languageId (INT)
+     *
+     * @return 파이프라인 전체 완료 시점 (실패 시에도 정상 완료되며 제출은 실패 상태로 저장됨)
      */
-    @Async("judgeExecutor")
-    public void processCompleteJudgingFlow(Long submissionId, SubmissionRequestDto request, AlgoProblemDto problem) {
-        log.info("🔄 [스레드: {}] 통합 채점 프로세스 시작 - submissionId: {}",
-                Thread.currentThread().getName(), submissionId);
+    public CompletableFuture<Void> processCompleteJudgingFlow(Long submissionId, SubmissionRequestDto request, AlgoProblemDto problem) {
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        Runnable enqueue = () -> enqueue(new PendingPipeline(
+                submissionId, () -> runPipeline(submissionId, request, problem), completion));
 
-        try {
-            // 1. 모든 테스트케이스 조회
-            List<AlgoTestcaseDto> testCases = problemMapper.selectTestCasesByProblemId(request.getProblemId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue.run();
+                }
+            });
+        } else {
+            enqueue.run();
+        }
+        return completion;
+    }
 
-            // 2. 언어별 제한 시간/메모리 계산 (languageId 사용)
-            Integer languageId = request.getLanguageId();
+    /**
+     * 파이프라인 단계 구성
+     */
+    private CompletableFuture<Void> runPipeline(Long submissionId, SubmissionRequestDto request, AlgoProblemDto problem) {
+        log.info("🔄 통합 채점 프로세스 시작 - submissionId: {}", submissionId);
+        Integer languageId = request.getLanguageId();
 
-            int realTimeLimit = languageService.calculateRealTimeLimit(
-                    languageId, problem.getTimelimit());
-            int realMemoryLimit = languageService.calculateRealMemoryLimit(
-                    languageId, problem.getMemorylimit());
+        // 1. 테스트케이스 묶음 조회 (캐시) + 언어별 제한 시간/메모리 계산
+        return supplyOnJudgeExecutor(() -> {
+                    TestCaseBundle bundle = testCaseBundleCache.get(problem);
 
-            log.info("언어별 제한 적용 - languageId: {}, 시간: {}ms, 메모리: {}MB",
-                    languageId, realTimeLimit, realMemoryLimit);
+                    int realTimeLimit = languageService.calculateRealTimeLimit(
+                            languageId, problem.getTimelimit());
+                    int realMemoryLimit = languageService.calculateRealMemoryLimit(
+                            languageId, problem.getMemorylimit());
 
-            // 3. 코드 채점 실행 (Judge0 또는 Piston 사용)
-            CompletableFuture<TestRunResponseDto> judgeFuture = codeExecutorService.judgeCode(
-                    request.getSourceCode(), languageId, testCases, realTimeLimit, realMemoryLimit);
+                    log.info("언어별 제한 적용 - languageId: {}, 시간: {}ms, 메모리: {}MB",
+                            languageId, realTimeLimit, realMemoryLimit);
+                    return new JudgeInput(bundle, realTimeLimit, realMemoryLimit);
+                })
+                // 2. 코드 채점 실행 (Judge0 또는 Piston 사용) - 실행기 future에 위임, 스레드 점유 없음
+                //    같은 코드의 재제출은 캐시된 결과 사용, 동시에 들어온 같은 제출은 한 번만 실행
+                .thenCompose(input -> judgeResultCacheService.getOrJudge(
+                        judgeResultCacheService.keyOf(input.bundle(), languageId, request.getSourceCode(),
+                                input.timeLimit(), input.memoryLimit()),
+                        input.bundle(),
+                        () -> codeExecutorService.judgeCode(
+                                request.getSourceCode(), languageId, input.bundle().getTestCases(),
+                                input.timeLimit(), input.memoryLimit())))
+                // 3. Judge 결과만으로 기본 제출 정보 업데이트 (DB)
+                .thenCompose(judgeResult -> supplyOnJudgeExecutor(() -> {
+                    log.info("Judge0 채점 완료 - submissionId: {}, result: {}",
+                            submissionId, judgeResult.getOverallResult());
+                    AlgoSubmissionDto updated = updateSubmissionWithJudgeResult(submissionId, judgeResult, request);
+                    return new JudgeOutcome(judgeResult, updated);
+                }))
+                // 4. Daily Quiz 보너스 처리 + 5. AI 평가 비동기 위임
+                .thenCompose(outcome -> supplyOnJudgeExecutor(() -> {
+                    AlgoSubmissionDto updatedSubmission = outcome.submission();
+                    if (updatedSubmission != null && updatedSubmission.getJudgeResult() == JudgeResult.AC) {
+                        dailyQuizBonusService.handleDailyQuizSolved(
+                                updatedSubmission.getUserId(),
+                                updatedSubmission.getAlgoProblemId(),
+                                LocalDate.now()
+                        );
+                    }
 
-            TestRunResponseDto judgeResult = judgeFuture.get();
+                    log.info("🤖 AI 평가 서비스 호출 시작 - submissionId: {}", submissionId);
+                    evaluationService.processEvaluationAsync(submissionId, problem, outcome.judgeResult());
+                    return (Void) null;
+                }))
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    log.error("통합 채점 프로세스 중 오류 발생 - submissionId: {}", submissionId, cause);
+                    markSubmissionFailed(submissionId, cause.getMessage());
+                    return null;
+                });
+    }
 
-            // 4. Judge 결과만으로 기본 제출 정보 업데이트
-            AlgoSubmissionDto updatedSubmission = updateSubmissionWithJudgeResult(submissionId, judgeResult, request);
+    /**
+     * judgeExecutor에서 단계 실행
+     * thenApplyAsync 등은 실행기가 거부하면 다음 단계가 완료되지 않으므로, 거부를 실패한 future로 바꿔 체인이 끝나게 함
+     */
+    private <T> CompletableFuture<T> supplyOnJudgeExecutor(Supplier<T> stage) {
+        try {
+            return CompletableFuture.supplyAsync(stage, judgeExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-            log.info("Judge0 채점 완료 - submissionId: {}, result: {}",
-                    submissionId, judgeResult.getOverallResult());
+    /**
+     * 파이프라인 시작 요청을 대기열에 넣고 여유가 있으면 바로 시작
+     * 대기열까지 가득 차면 제출을 실패 처리
+     */
+    private void enqueue(PendingPipeline pipeline) {
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            log.warn("채점 대기열 초과 - submissionId: {}, 대기: {}", pipeline.submissionId(), maxPending);
+            markSubmissionFailed(pipeline.submissionId(), "채점 대기열이 가득 찼습니다");
+            pipeline.completion().completeExceptionally(new RejectedExecutionException("채점 대기열 초과"));
+            return;
+        }
+        pendingPipelines.add(pipeline);
+        drainPending();
+    }
 
-            // 5. Daily Quiz 보너스 처리
-            if (updatedSubmission != null && updatedSubmission.getJudgeResult() == JudgeResult.AC) {
-                dailyQuizBonusService.handleDailyQuizSolved(
-                        updatedSubmission.getUserId(),
-                        updatedSubmission.getAlgoProblemId(),
-                        LocalDate.now()
-                );
+    /**
+     * 허용량이 남아 있는 만큼 대기 중인 파이프라인 시작
+     * 대기열 추가/허용량 반환 직후 항상 호출되므로 시작되지 못하고 남는 항목이 없음
+     */
+    private void drainPending() {
+        while (!pendingPipelines.isEmpty() && pipelinePermits.tryAcquire()) {
+            PendingPipeline next = pendingPipelines.poll();
+            if (next == null) {
+                pipelinePermits.release();
+                return;
             }
+            pendingCount.decrementAndGet();
 
-            // 6. AI 평가 및 점수 계산 비동기 시작 (분리된 서비스)
-            log.info("🤖 AI 평가 서비스 호출 시작 - submissionId: {}, 현재 스레드: {}",
-                    submissionId, Thread.currentThread().getName());
+            CompletableFuture<Void> running;
             try {
-                evaluationService.processEvaluationAsync(submissionId, problem, judgeResult);
-                log.info("✅ AI 평가 서비스 호출 완료 - submissionId: {}", submissionId);
-            } catch (Exception aiEx) {
-                log.error("❌ AI 평가 서비스 호출 실패 - submissionId: {}", submissionId, aiEx);
-                throw aiEx;
+                running = next.start().get();
+            } catch (Exception e) {
+                // 시작 자체가 실패한 경우에도 제출을 실패 처리하고 아래에서 허용량 반환/완료
+                log.error("채점 파이프라인 시작 실패 - submissionId: {}", next.submissionId(), e);
+                markSubmissionFailed(next.submissionId(), e.getMessage());
+                running = CompletableFuture.completedFuture(null);
             }
-
-        } catch (Exception e) {
-            log.error("통합 채점 프로세스 중 오류 발생 - submissionId: {}", submissionId, e);
-            markSubmissionFailed(submissionId, e.getMessage());
+            running.whenComplete((ignored, error) -> {
+                pipelinePermits.release();
+                drainPending();
+                next.completion().complete(null);
+            });
         }
     }
 
+    /**
+     * 남은 허용량 (모니터링/테스트용)
+     */
+    int availablePermits() {
+        return pipelinePermits.availablePermits();
+    }
+
+    /**
+     * 대기 중인 파이프라인 수 (모니터링/테스트용)
+     */
+    int pendingCount() {
+        return pendingCount.get();
+    }
+
+    private record PendingPipeline(Long submissionId, Supplier<CompletableFuture<Void>> start,
+                                   CompletableFuture<Void> completion) {
+    }
+
+    private record JudgeInput(TestCaseBundle bundle, int timeLimit, int memoryLimit) {
+    }
+
+    private record JudgeOutcome(TestRunResponseDto judgeResult, AlgoSubmissionDto submission) {
+    }
+
     /**
      * Judge 결과로만 제출 업데이트 (기본 점수)
      */
@@ -136,6 +288,9 @@ public class AlgorithmJudgingService {
         submission.setFinalScore(basicScore);
         // DB 업데이트
         submissionMapper.updateSubmission(submission);
+
+        // 문제별 제출 통계 증분 반영
+        problemStatsService.recordJudged(submission);
         return submission;
     }
 
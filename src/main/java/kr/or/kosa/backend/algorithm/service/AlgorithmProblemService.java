@@ -1,6 +1,7 @@
 package kr.or.kosa.backend.algorithm.service;
 
 import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemStatsDto;
 import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
 import kr.or.kosa.backend.algorithm.dto.ProblemValidationLogDto;
 import kr.or.kosa.backend.algorithm.dto.ValidationResultDto;
@@ -9,6 +10,7 @@ import kr.or.kosa.backend.algorithm.dto.response.ProblemGenerationResponseDto;
 import kr.or.kosa.backend.algorithm.dto.response.ProblemStatisticsResponseDto;
 import kr.or.kosa.backend.algorithm.mapper.AlgorithmProblemMapper;
 import kr.or.kosa.backend.algorithm.mapper.ProblemValidationLogMapper;
+import kr.or.kosa.backend.algorithm.service.validation.ProblemMinHashIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,8 +18,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,6 +34,11 @@ public class AlgorithmProblemService {
     private final AlgorithmProblemMapper algorithmProblemMapper;
     private final ProblemValidationLogMapper validationLogMapper;
     private final ProblemVectorStoreService vectorStoreService;
+    private final TestCaseBatchService testCaseBatchService;
+    private final ProblemStatsService problemStatsService;
+    private final ProblemSearchIndex problemSearchIndex;
+    private final ProblemMinHashIndex problemMinHashIndex;
+    private final ProblemDetailCache problemDetailCache;
 
     /**
      * 전체 문제 수 조회
@@ -158,6 +168,80 @@ public class AlgorithmProblemService {
         }
     }
 
+    /**
+     * 검색어/태그 조건 문제 목록 조회 (검색 색인 사용)
+     *
+     * 검색어가 있으면 관련도순, 태그 조건만 있으면 ID 순으로 정렬합니다.
+     * 검색어/태그 조건이 없거나 색인이 아직 준비되지 않았으면 null을 반환하므로 기존 SQL 조회를 사용합니다.
+     *
+     * @return 현재 페이지 문제 목록, 전체 개수, 태그별 개수 (색인 미사용 시 null)
+     */
+    public ProblemSearchPage searchProblemsWithUserStatus(
+            Long userId, int offset, int limit, String difficulty,
+            String source, String keyword, String topic, String problemType, String solved) {
+
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        boolean hasTopic = topic != null && !topic.isBlank();
+        if (!hasKeyword && !hasTopic) {
+            return null;
+        }
+
+        ProblemSearchIndex.SearchResult result = problemSearchIndex.search(
+                keyword, difficulty, source, problemType, topic);
+        if (result == null) {
+            return null;
+        }
+
+        try {
+            List<Long> ids = filterBySolved(result.problemIds(), userId, solved);
+            int totalCount = ids.size();
+            List<Long> pageIds = ids.subList(Math.min(offset, totalCount), Math.min(offset + limit, totalCount));
+
+            List<Map<String, Object>> problems = List.of();
+            if (!pageIds.isEmpty()) {
+                // IN 조회 결과를 검색 순위대로 다시 정렬
+                Map<Long, Map<String, Object>> rows = new HashMap<>();
+                for (Map<String, Object> row : algorithmProblemMapper.selectProblemsWithUserStatusByIds(userId, pageIds)) {
+                    rows.put(((Number) row.get("algoProblemId")).longValue(), row);
+                }
+                problems = pageIds.stream()
+                        .map(rows::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+            }
+
+            log.debug("문제 검색 완료 - keyword: {}, topic: {}, totalCount: {}", keyword, topic, totalCount);
+
+            return new ProblemSearchPage(problems, totalCount, result.tagFacets());
+
+        } catch (Exception e) {
+            log.error("문제 검색 실패", e);
+            throw new RuntimeException("문제 검색 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 검색 색인 기반 문제 목록 조회 결과
+     *
+     * @param problems   현재 페이지 문제 목록 (풀이 상태 포함)
+     * @param totalCount 조건에 맞는 전체 문제 수
+     * @param tagFacets  조건에 맞는 문제의 태그별 개수
+     */
+    public record ProblemSearchPage(List<Map<String, Object>> problems, int totalCount,
+                                    Map<String, Integer> tagFacets) {
+    }
+
+    private List<Long> filterBySolved(List<Long> ids, Long userId, String solved) {
+        boolean solvedOnly = "solved".equals(solved);
+        if (userId == null || (!solvedOnly && !"unsolved".equals(solved))) {
+            return ids;
+        }
+        Set<Long> solvedIds = new HashSet<>(algorithmProblemMapper.selectSolvedProblemIds(userId));
+        return ids.stream()
+                .filter(id -> solvedIds.contains(id) == solvedOnly)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 전체 문제 수 조회 (필터 포함)
      */
@@ -195,13 +279,18 @@ public class AlgorithmProblemService {
             // 전체 문제 수 조회
             int totalProblems = getTotalProblemsCount();
 
-            // TODO: Mapper에 selectProblemStatistics 메서드 구현 필요
-            // 현재는 기본값 반환 (merge 충돌 해결을 위한 임시 구현)
+            // 문제 통계 집계 테이블 기준 요약
+            Map<String, Object> overall = algorithmProblemMapper.selectOverallProblemStats();
+            Object totalAttempts = overall != null ? overall.get("totalAttempts") : null;
+            Object averageAccuracy = overall != null ? overall.get("averageAccuracy") : null;
+
+            int solvedProblems = userId != null ? algorithmProblemMapper.countSolvedProblemsByUser(userId) : 0;
+
             return ProblemStatisticsResponseDto.builder()
                     .totalProblems(totalProblems)
-                    .solvedProblems(0)
-                    .averageAccuracy(0.0)
-                    .totalAttempts(0)
+                    .solvedProblems(solvedProblems)
+                    .averageAccuracy(averageAccuracy != null ? ((Number) averageAccuracy).doubleValue() : 0.0)
+                    .totalAttempts(totalAttempts != null ? ((Number) totalAttempts).intValue() : 0)
                     .build();
 
         } catch (Exception e) {
@@ -223,6 +312,11 @@ public class AlgorithmProblemService {
             throw new IllegalArgumentException("유효하지 않은 문제 ID입니다.");
         }
 
+        AlgoProblemDto cached = problemDetailCache.get(problemId);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
             AlgoProblemDto problem = algorithmProblemMapper.selectProblemById(problemId);
 
@@ -234,14 +328,15 @@ public class AlgorithmProblemService {
             List<AlgoTestcaseDto> testcases = algorithmProblemMapper.selectTestCasesByProblemId(problemId);
             problem.setTestcases(testcases);
 
-            // 문제별 통계 조회 및 설정
-            Map<String, Object> statistics = algorithmProblemMapper.selectProblemStatistics(problemId);
-            if (statistics != null) {
-                Object totalAttempts = statistics.get("totalAttempts");
-                Object successCount = statistics.get("successCount");
-                problem.setTotalAttempts(totalAttempts != null ? ((Number) totalAttempts).intValue() : 0);
-                problem.setSuccessCount(successCount != null ? ((Number) successCount).intValue() : 0);
-            }
+            // 문제별 통계 조회 및 설정 (집계 테이블)
+            AlgoProblemStatsDto stats = problemStatsService.getStats(problemId);
+            problem.setTotalAttempts(stats.getSubmissionCount());
+            problem.setSuccessCount(stats.getSolverCount());
+            problem.setAcceptanceRate(stats.getAcceptanceRate());
+            problem.setAverageExecutionTime(stats.getAverageExecutionTime());
+            problem.setAverageMemoryUsage(stats.getAverageMemoryUsage());
+
+            problemDetailCache.put(problem);
 
             log.debug("문제 상세 조회 완료 - problemId: {}, title: {}, testcases: {}, totalAttempts: {}, successCount: {}",
                     problemId, problem.getAlgoProblemTitle(), testcases != null ? testcases.size() : 0,
@@ -352,6 +447,10 @@ public class AlgorithmProblemService {
             log.info("문제 저장 완료 - ID: {}, 제목: {}",
                     problem.getAlgoProblemId(), problem.getAlgoProblemTitle());
 
+            // 검색/유사도 색인 반영 (커밋 이후)
+            problemSearchIndex.indexProblem(problem);
+            problemMinHashIndex.indexProblem(problem);
+
             // 3. 테스트케이스 저장
             if (responseDto.getTestCases() != null && !responseDto.getTestCases().isEmpty()) {
                 saveTestcases(problem.getAlgoProblemId(), responseDto.getTestCases());
@@ -397,30 +496,14 @@ public class AlgorithmProblemService {
     }
 
     /**
-     * 테스트케이스 일괄 저장
+     * 테스트케이스 일괄 저장 (multi-row INSERT, 호출 측 트랜잭션에 참여)
      */
-    @Transactional
     private void saveTestcases(Long problemId, List<AlgoTestcaseDto> testcases) {
         try {
-            int savedCount = 0;
-
-            for (AlgoTestcaseDto testcase : testcases) {
-                testcase.setAlgoProblemId(problemId);
-
-                int result = algorithmProblemMapper.insertTestcase(testcase);
-
-                if (result == 0) {
-                    throw new RuntimeException("테스트케이스 저장 실패 - 문제 ID: " + problemId);
-                }
-
-                savedCount++;
-            }
-
-            log.info("테스트케이스 저장 완료 - 문제 ID: {}, 저장 개수: {}", problemId, savedCount);
-
+            testCaseBatchService.saveAll(problemId, testcases);
         } catch (Exception e) {
-            log.error("전체 테스트케이스 조회 실패 - problemId: {}", problemId, e);
-            throw new RuntimeException("전체 테스트케이스 조회 중 오류가 발생했습니다.", e);
+            log.error("테스트케이스 저장 실패 - problemId: {}", problemId, e);
+            throw new RuntimeException("테스트케이스 저장 중 오류가 발생했습니다.", e);
         }
     }
 
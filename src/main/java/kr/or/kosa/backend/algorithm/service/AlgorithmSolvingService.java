@@ -174,6 +174,12 @@ public class AlgorithmSolvingService {
 
         log.info("샘플 테스트케이스 {} 개 조회됨", sampleTestcases.size());
 
+        // 문제별 출력 비교 방식 적용 (제출 채점과 같은 기준)
+        for (AlgoTestcaseDto testcase : sampleTestcases) {
+            testcase.setOutputCompareMode(problem.getOutputCompareMode());
+            testcase.setFloatTolerance(problem.getFloatTolerance());
+        }
+
         // 3. 언어 정보 조회 (languageId로 LANGUAGES 테이블 조회)
         Integer languageId = request.getLanguageId();
         LanguageDto language = languageService.getById(languageId);
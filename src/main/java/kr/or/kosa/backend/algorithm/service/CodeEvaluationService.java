@@ -1,17 +1,19 @@
 package kr.or.kosa.backend.algorithm.service;
 
-import lombok.RequiredArgsConstructor;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import kr.or.kosa.backend.algorithm.dto.AICodeEvaluationResult;
+import kr.or.kosa.backend.algorithm.service.AICodeEvaluationResponseParser.ParsedEvaluation;
 
 /**
  * AI 코드 평가 서비스
@@ -27,11 +29,109 @@ import kr.or.kosa.backend.algorithm.dto.AICodeEvaluationResult;
  * - Robert C. Martin "Clean Code"
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CodeEvaluationService {
 
-    private final OpenAiChatModel chatModel;
+    private static final String SYSTEM_PROMPT_TEMPLATE = """
+            당신은 알고리즘 교육 전문가이자 시니어 코드 리뷰어입니다.
+            모든 피드백은 반드시 한국어로 작성합니다.
+
+            ## 문제 컨텍스트
+            - 프로그래밍 언어: {{{language}}}
+            - 출제 의도 (토픽): {{{topic}}}
+            - 기대 최적 시간복잡도: {{{complexity}}}
+            - Judge0 채점 결과: {{{judgeResult}}}
+            - 테스트 통과율: {{passedCount}}/{{totalCount}}
+
+            ## 평가 기준 (가중치)
+
+            ### 1. 접근법 적합성 (35%)
+            사용자가 어떤 알고리즘/자료구조를 사용했는지 분석하고, 출제 의도(토픽)와 비교합니다.
+
+            판정 기준:
+            - MATCHED (100점): 출제 의도와 일치하는 접근법 사용
+            - CREATIVE_BETTER (105점): 출제 의도와 다르지만 더 효율적인 창의적 풀이 ★
+            - ALTERNATIVE_EQUAL (70점): 출제 의도와 다르고 효율성 동등
+            - SUBOPTIMAL (50점): 출제 의도와 다르고 덜 효율적
+            - BRUTEFORCE (30점): 최적화 없는 단순 완전탐색
+
+            ### 2. 효율성 (35%)
+            코드의 시간/공간 복잡도를 분석하고, 기대 복잡도와 비교합니다.
+
+            점수 계산 (기대 복잡도 대비 상대 평가):
+            - 기대보다 효율적: 105점 ★
+            - 기대와 동일: 100점
+            - 1단계 비효율: 80점
+            - 2단계 비효율: 60점
+            - 3단계 이상 비효율: 40점 이하
+
+            복잡도 순서: O(1) < O(log n) < O(n) < O(n log n) < O(n²) < O(n³) < O(2ⁿ)
+
+            ### 3. 코드 품질 (30%)
+            가독성, 명명 규칙, 코드 구조를 평가합니다.
+
+            평가 항목:
+            - 가독성 (40%): 들여쓰기, 빈 줄, 코드 블록 구분
+            - 명명 규칙 (30%): 변수/함수명의 명확성
+            - 구조화 (30%): 함수 분리, 중복 코드 제거
+
+            ## 출력 형식 (반드시 JSON만 출력)
+            ```json
+            {
+              "aiScore": 85,
+              "feedback": "종합 피드백 (2-3문장, 한국어)",
+              "codeQuality": "GOOD",
+              "efficiency": "OPTIMAL",
+              "readability": "GOOD",
+              "approachVerdict": "MATCHED",
+              "detectedApproach": "다이나믹 프로그래밍 (메모이제이션)",
+              "detectedTimeComplexity": "O(n)",
+              "detectedSpaceComplexity": "O(n)",
+              "complexityExplanation": "복잡도 분석 설명 (한국어)",
+              "strongPoints": ["잘한 점 1", "잘한 점 2"],
+              "improvementTips": ["개선점 1", "개선점 2"],
+              "nextStepSuggestion": "다음 학습 제안 (한국어)"
+            }
+            ```
+
+            ## 주의사항
+            - 모든 텍스트는 한국어로 작성
+            - JSON 외의 텍스트는 출력하지 마세요
+            - 코드 용어(Big-O, 알고리즘명 등)는 영어 유지 가능
+            - 칭찬과 개선점을 균형있게 제시
+            - 구체적이고 실행 가능한 조언 제공
+            """;
+
+    private static final String USER_PROMPT_TEMPLATE = """
+            ## 문제 설명
+            {{{problemDescription}}}
+
+            ## 사용자 제출 코드
+            ```
+            {{{sourceCode}}}
+            ```
+
+            위 코드를 평가 기준에 따라 분석하고 JSON 형식으로 결과를 출력해주세요.
+            """;
+
+    // ChatClient는 불변/스레드 안전하므로 평가마다 만들지 않고 하나를 재사용
+    private final ChatClient chatClient;
+    private final AICodeEvaluationResponseParser responseParser;
+
+    // 프롬프트 템플릿은 기동 시 한 번만 컴파일 (코드/문제 설명은 HTML 이스케이프 없이 {{{ }}}로 삽입)
+    private final Template systemPromptTemplate;
+    private final Template userPromptTemplate;
+
+    public CodeEvaluationService(
+            OpenAiChatModel chatModel,
+            Mustache.Compiler mustacheCompiler,
+            AICodeEvaluationResponseParser responseParser
+    ) {
+        this.chatClient = ChatClient.create(chatModel);
+        this.responseParser = responseParser;
+        this.systemPromptTemplate = mustacheCompiler.compile(SYSTEM_PROMPT_TEMPLATE);
+        this.userPromptTemplate = mustacheCompiler.compile(USER_PROMPT_TEMPLATE);
+    }
 
     /**
      * AI 코드 평가 실행 (고도화된 프롬프트 버전)
@@ -69,8 +169,6 @@ public class CodeEvaluationService {
             String userPrompt = createEnhancedUserPrompt(sourceCode, problemDescription);
 
             // 3) Spring AI ChatClient 호출
-            ChatClient chatClient = ChatClient.create(chatModel);
-
             String response = chatClient.prompt()
                     .system(systemPrompt)
                     .user(userPrompt)
@@ -126,92 +224,24 @@ public class CodeEvaluationService {
                 ? expectedTimeComplexity
                 : "LLM이 문제 분석 후 추론";
 
-        return String.format("""
-            당신은 알고리즘 교육 전문가이자 시니어 코드 리뷰어입니다.
-            모든 피드백은 반드시 한국어로 작성합니다.
-
-            ## 문제 컨텍스트
-            - 프로그래밍 언어: %s
-            - 출제 의도 (토픽): %s
-            - 기대 최적 시간복잡도: %s
-            - Judge0 채점 결과: %s
-            - 테스트 통과율: %d/%d
-
-            ## 평가 기준 (가중치)
-
-            ### 1. 접근법 적합성 (35%%)
-            사용자가 어떤 알고리즘/자료구조를 사용했는지 분석하고, 출제 의도(토픽)와 비교합니다.
-
-            판정 기준:
-            - MATCHED (100점): 출제 의도와 일치하는 접근법 사용
-            - CREATIVE_BETTER (105점): 출제 의도와 다르지만 더 효율적인 창의적 풀이 ★
-            - ALTERNATIVE_EQUAL (70점): 출제 의도와 다르고 효율성 동등
-            - SUBOPTIMAL (50점): 출제 의도와 다르고 덜 효율적
-            - BRUTEFORCE (30점): 최적화 없는 단순 완전탐색
-
-            ### 2. 효율성 (35%%)
-            코드의 시간/공간 복잡도를 분석하고, 기대 복잡도와 비교합니다.
-
-            점수 계산 (기대 복잡도 대비 상대 평가):
-            - 기대보다 효율적: 105점 ★
-            - 기대와 동일: 100점
-            - 1단계 비효율: 80점
-            - 2단계 비효율: 60점
-            - 3단계 이상 비효율: 40점 이하
-
-            복잡도 순서: O(1) < O(log n) < O(n) < O(n log n) < O(n²) < O(n³) < O(2ⁿ)
-
-            ### 3. 코드 품질 (30%%)
-            가독성, 명명 규칙, 코드 구조를 평가합니다.
-
-            평가 항목:
-            - 가독성 (40%%): 들여쓰기, 빈 줄, 코드 블록 구분
-            - 명명 규칙 (30%%): 변수/함수명의 명확성
-            - 구조화 (30%%): 함수 분리, 중복 코드 제거
-
-            ## 출력 형식 (반드시 JSON만 출력)
-            ```json
-            {
-              "aiScore": 85,
-              "feedback": "종합 피드백 (2-3문장, 한국어)",
-              "codeQuality": "GOOD",
-              "efficiency": "OPTIMAL",
-              "readability": "GOOD",
-              "approachVerdict": "MATCHED",
-              "detectedApproach": "다이나믹 프로그래밍 (메모이제이션)",
-              "detectedTimeComplexity": "O(n)",
-              "detectedSpaceComplexity": "O(n)",
-              "complexityExplanation": "복잡도 분석 설명 (한국어)",
-              "strongPoints": ["잘한 점 1", "잘한 점 2"],
-              "improvementTips": ["개선점 1", "개선점 2"],
-              "nextStepSuggestion": "다음 학습 제안 (한국어)"
-            }
-            ```
-
-            ## 주의사항
-            - 모든 텍스트는 한국어로 작성
-            - JSON 외의 텍스트는 출력하지 마세요
-            - 코드 용어(Big-O, 알고리즘명 등)는 영어 유지 가능
-            - 칭찬과 개선점을 균형있게 제시
-            - 구체적이고 실행 가능한 조언 제공
-            """, language, topicKorean, complexityInfo, judgeResult, passedCount, totalCount);
+        return systemPromptTemplate.execute(Map.of(
+                "language", String.valueOf(language),
+                "topic", topicKorean,
+                "complexity", complexityInfo,
+                "judgeResult", String.valueOf(judgeResult),
+                "passedCount", passedCount,
+                "totalCount", totalCount
+        ));
     }
 
     /**
      * 고도화된 사용자 프롬프트 생성
      */
     private String createEnhancedUserPrompt(String sourceCode, String problemDescription) {
-        return String.format("""
-            ## 문제 설명
-            %s
-
-            ## 사용자 제출 코드
-            ```
-            %s
-            ```
-
-            위 코드를 평가 기준에 따라 분석하고 JSON 형식으로 결과를 출력해주세요.
-            """, problemDescription, sourceCode);
+        return userPromptTemplate.execute(Map.of(
+                "problemDescription", String.valueOf(problemDescription),
+                "sourceCode", String.valueOf(sourceCode)
+        ));
     }
 
     /**
@@ -251,42 +281,27 @@ public class CodeEvaluationService {
     /**
      * 고도화된 AI 응답 파싱
      */
-    private AICodeEvaluationResult parseEnhancedAIResponse(String json) {
-        // Markdown 코드블록 제거
-        json = json.replaceAll("```json\\s*", "").replaceAll("```\\s*", "").trim();
-
-        // 기본 필드 추출
-        double aiScore = extractJsonDouble(json, "aiScore", 70);
-        String feedback = extractJsonString(json, "feedback", "피드백을 생성하지 못했습니다.");
-        String codeQuality = extractJsonString(json, "codeQuality", "FAIR");
-        String readability = extractJsonString(json, "readability", "FAIR");
-
-        // 새 필드 추출
-        String efficiency = extractJsonString(json, "efficiency", "FAIR");
-        String approachVerdict = extractJsonString(json, "approachVerdict", "UNKNOWN");
-        String detectedApproach = extractJsonString(json, "detectedApproach", "");
-        String detectedTimeComplexity = extractJsonString(json, "detectedTimeComplexity", "");
-        String detectedSpaceComplexity = extractJsonString(json, "detectedSpaceComplexity", "");
-        String complexityExplanation = extractJsonString(json, "complexityExplanation", "");
-        String nextStepSuggestion = extractJsonString(json, "nextStepSuggestion", "");
-
-        // 배열 필드 추출
-        List<String> strongPoints = extractJsonArray(json, "strongPoints");
-        List<String> improvementTips = extractJsonArray(json, "improvementTips");
+    private AICodeEvaluationResult parseEnhancedAIResponse(String response) {
+        ParsedEvaluation parsed = responseParser.parse(response);
+        if (parsed.lenient()) {
+            log.info("AI 평가 응답을 관대한 파싱으로 복구 - 점수: {}", parsed.aiScore());
+        }
 
         // 확장된 feedback 구성 (접근법 + 복잡도 + 기존 피드백)
         String enhancedFeedback = buildEnhancedFeedback(
-                feedback, approachVerdict, detectedApproach,
-                detectedTimeComplexity, detectedSpaceComplexity,
-                complexityExplanation, strongPoints, improvementTips, nextStepSuggestion
+                parsed.feedback(), parsed.approachVerdict(), parsed.detectedApproach(),
+                parsed.detectedTimeComplexity(), parsed.detectedSpaceComplexity(),
+                parsed.complexityExplanation(), parsed.strongPoints(), parsed.improvementTips(),
+                parsed.nextStepSuggestion()
         );
 
+        List<String> improvementTips = parsed.improvementTips();
         return AICodeEvaluationResult.builder()
-                .aiScore(aiScore)
+                .aiScore(parsed.aiScore())
                 .feedback(enhancedFeedback)
-                .codeQuality(codeQuality)
-                .efficiency(efficiency)
-                .readability(readability)
+                .codeQuality(parsed.codeQuality())
+                .efficiency(parsed.efficiency())
+                .readability(parsed.readability())
                 .improvementTips(improvementTips.isEmpty() ? List.of("추가 개선점 없음") : improvementTips)
                 .build();
     }
@@ -374,32 +389,6 @@ public class CodeEvaluationService {
         };
     }
 
-    /**
-     * JSON 배열 추출
-     */
-    private List<String> extractJsonArray(String json, String key) {
-        List<String> result = new ArrayList<>();
-        try {
-            // "key": ["item1", "item2", ...] 패턴 매칭
-            var pattern = java.util.regex.Pattern.compile(
-                    "\"" + key + "\"\\s*:\\s*\\[([^\\]]*)]"
-            );
-            var matcher = pattern.matcher(json);
-            if (matcher.find()) {
-                String arrayContent = matcher.group(1);
-                // 각 문자열 아이템 추출
-                var itemPattern = java.util.regex.Pattern.compile("\"([^\"]+)\"");
-                var itemMatcher = itemPattern.matcher(arrayContent);
-                while (itemMatcher.find()) {
-                    result.add(itemMatcher.group(1));
-                }
-            }
-        } catch (Exception e) {
-            log.warn("JSON 배열 파싱 실패: key={}", key);
-        }
-        return result;
-    }
-
     /**
      * 실패 시 기본 결과 생성
      */
@@ -411,28 +400,7 @@ public class CodeEvaluationService {
                 .efficiency("UNKNOWN")
                 .readability("UNKNOWN")
                 .improvementTips(List.of("코드를 더 명확하게 작성해보세요."))
+                .fallback(true)
                 .build();
     }
-
-    // === JSON 파싱 유틸리티 메서드 ===
-
-    private double extractJsonDouble(String json, String key, double defaultValue) {
-        try {
-            var matcher = java.util.regex.Pattern
-                    .compile("\"" + key + "\"\\s*:\\s*([0-9.]+)")
-                    .matcher(json);
-            if (matcher.find()) return Double.parseDouble(matcher.group(1));
-        } catch (Exception ignored) {}
-        return defaultValue;
-    }
-
-    private String extractJsonString(String json, String key, String defaultValue) {
-        try {
-            var matcher = java.util.regex.Pattern
-                    .compile("\"" + key + "\"\\s*:\\s*\"([^\"]+)\"")
-                    .matcher(json);
-            if (matcher.find()) return matcher.group(1);
-        } catch (Exception ignored) {}
-        return defaultValue;
-    }
 }
@@ -12,10 +12,11 @@ import java.util.concurrent.CompletableFuture;
 
 /**
  * 코드 실행 서비스 추상화 레이어
- * 환경에 따라 Judge0 또는 Piston API를 선택하여 사용
+ * 환경에 따라 Judge0, Piston API 또는 로컬 실행기를 선택하여 사용
  *
  * - 로컬 개발 (ARM64 Mac): Piston API 사용
  * - 배포 서버 (x86_64 Linux): Judge0 셀프호스팅 사용
+ * - local: 같은 머신에서 Java/Python/JavaScript 직접 실행 (네트워크 왕복 없음)
  *
  * 변경사항 (2025-12-13):
  * - languageId (Integer)를 받아서 LanguageService로 조회
@@ -28,14 +29,17 @@ public class CodeExecutorService {
 
     private final Judge0Service judge0Service;
     private final PistonService pistonService;
+    private final LocalExecutorService localExecutorService;
     private final LanguageService languageService;
 
-    @Value("${code-executor.provider:piston}") // judge0, piston
+    @Value("${code-executor.provider:piston}") // judge0, piston, local
     private String provider;
 
-    public CodeExecutorService(Judge0Service judge0Service, PistonService pistonService, LanguageService languageService) {
+    public CodeExecutorService(Judge0Service judge0Service, PistonService pistonService,
+                               LocalExecutorService localExecutorService, LanguageService languageService) {
         this.judge0Service = judge0Service;
         this.pistonService = pistonService;
+        this.localExecutorService = localExecutorService;
         this.languageService = languageService;
     }
 
@@ -56,6 +60,21 @@ public class CodeExecutorService {
             List<AlgoTestcaseDto> testCases,
             Integer timeLimit,
             Integer memoryLimit) {
+        return judgeCode(sourceCode, languageId, testCases, timeLimit, memoryLimit, false);
+    }
+
+    /**
+     * 코드 채점 실행 (fail-fast 선택)
+     *
+     * @param failFast true이면 첫 번째 비-AC 결과 이후의 테스트케이스는 SKIPPED 처리
+     */
+    public CompletableFuture<TestRunResponseDto> judgeCode(
+            String sourceCode,
+            Integer languageId,
+            List<AlgoTestcaseDto> testCases,
+            Integer timeLimit,
+            Integer memoryLimit,
+            boolean failFast) {
 
         // 언어 정보 조회
         LanguageDto language = languageService.getById(languageId);
@@ -69,7 +88,14 @@ public class CodeExecutorService {
         if ("judge0".equalsIgnoreCase(provider)) {
             log.debug("Judge0 서비스 사용 - languageId: {}", languageId);
             // Judge0는 languageId를 직접 사용 (LANGUAGES.LANGUAGE_ID = Judge0 API ID)
-            return judge0Service.judgeCode(sourceCode, languageId, testCases, timeLimit, memoryLimit);
+            return judge0Service.judgeCode(sourceCode, languageId, testCases, timeLimit, memoryLimit, failFast);
+        } else if ("local".equalsIgnoreCase(provider)) {
+            // 로컬 실행기는 Piston 언어명(java, python, javascript)을 언어 키로 사용
+            String languageKey = language.getPistonLanguage() != null && !language.getPistonLanguage().isBlank()
+                    ? language.getPistonLanguage()
+                    : language.getLanguageName();
+            log.debug("로컬 실행기 사용 - languageKey: {}", languageKey);
+            return localExecutorService.judgeCode(sourceCode, languageKey, testCases, timeLimit, memoryLimit, failFast);
         } else {
             log.debug("Piston 서비스 사용 - pistonLanguage: {}", language.getPistonLanguage());
             // Piston은 pistonLanguage 사용 (LANGUAGES.PISTON_LANGUAGE)
@@ -79,7 +105,7 @@ public class CodeExecutorService {
                         "Piston API에서 지원하지 않는 언어입니다: " + language.getLanguageName() +
                         " (PISTON_LANGUAGE가 설정되지 않음)");
             }
-            return pistonService.judgeCode(sourceCode, pistonLanguage, testCases, timeLimit, memoryLimit);
+            return pistonService.judgeCode(sourceCode, pistonLanguage, testCases, timeLimit, memoryLimit, failFast);
         }
     }
 
@@ -103,4 +129,11 @@ public class CodeExecutorService {
     public boolean isUsingPiston() {
         return "piston".equalsIgnoreCase(provider);
     }
+
+    /**
+     * 로컬 실행기 사용 여부
+     */
+    public boolean isUsingLocal() {
+        return "local".equalsIgnoreCase(provider);
+    }
 }
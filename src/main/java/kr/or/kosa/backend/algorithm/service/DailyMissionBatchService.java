@@ -0,0 +1,301 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.DailyMissionDto;
+import kr.or.kosa.backend.algorithm.dto.UserAlgoLevelDto;
+import kr.or.kosa.backend.algorithm.dto.enums.AlgoLevel;
+import kr.or.kosa.backend.algorithm.dto.enums.MissionType;
+import kr.or.kosa.backend.algorithm.mapper.DailyMissionMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 전체 사용자 데일리 미션 일괄 생성
+ *
+ * 사용자마다 조회/INSERT를 반복하지 않고 사용자 묶음 단위로 처리합니다.
+ * - 활성 사용자 ID를 PK 키셋으로 나누어 읽음
+ * - 레벨별 오늘의 문제는 실행당 한 번만 선택 (같은 레벨 사용자는 같은 문제)
+ * - 묶음마다 레벨 조회 1회 + 기본 레벨 생성 1회 + 미션 multi-row INSERT 1회를 각각의 트랜잭션으로 실행
+ * - 여러 묶음을 batchExecutor에서 병렬 처리, 실패한 묶음은 재시도
+ * - 체크포인트(Redis)에 처리 완료한 마지막 사용자 ID를 남겨 중단 후 다시 실행하면 이어서 처리
+ * - 미션 INSERT는 (USER_ID, MISSION_DATE, MISSION_TYPE) 중복 시 무시하므로 다시 처리해도 안전
+ */
+@Slf4j
+@Service
+public class DailyMissionBatchService {
+
+    private static final String CHECKPOINT_KEY_PREFIX = "daily-mission:batch:checkpoint:";
+    private static final String LOCK_KEY_PREFIX = "daily-mission:batch:lock:";
+    private static final String DONE = "DONE";
+    private static final Duration CHECKPOINT_TTL = Duration.ofDays(2);
+
+    // 잠금 값은 실행마다 발급한 토큰, 연장/해제는 토큰이 일치할 때만 (만료 후 다른 노드가 잡은 잠금을 건드리지 않음)
+    private static final RedisScript<Long> LOCK_REFRESH_SCRIPT = loadScript("scripts/lock_refresh.lua");
+    private static final RedisScript<Long> LOCK_RELEASE_SCRIPT = loadScript("scripts/lock_release.lua");
+
+    private final DailyMissionMapper missionMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor batchExecutor;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final Duration lockTtl;
+
+    public DailyMissionBatchService(
+            DailyMissionMapper missionMapper,
+            StringRedisTemplate redisTemplate,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("batchExecutor") Executor batchExecutor,
+            @Value("${algorithm.daily-mission.batch.chunk-size:1000}") int chunkSize,
+            @Value("${algorithm.daily-mission.batch.parallelism:4}") int parallelism,
+            @Value("${algorithm.daily-mission.batch.max-attempts:3}") int maxAttempts,
+            @Value("${algorithm.daily-mission.batch.lock-ttl-minutes:15}") long lockTtlMinutes
+    ) {
+        this.missionMapper = missionMapper;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchExecutor = batchExecutor;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.maxAttempts = maxAttempts;
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+    }
+
+    /**
+     * 해당 날짜의 데일리 미션을 모든 활성 사용자에게 생성
+     * 이미 완료된 날짜이거나 다른 노드가 실행 중이면 바로 종료
+     *
+     * @param date 미션 날짜
+     * @return 이번 실행에서 처리한 사용자 수
+     */
+    public int createForAllUsers(LocalDate date) {
+        String checkpointKey = CHECKPOINT_KEY_PREFIX + date;
+        String lockKey = LOCK_KEY_PREFIX + date;
+        String lockToken = UUID.randomUUID().toString();
+
+        String checkpoint = readCheckpoint(checkpointKey);
+        if (DONE.equals(checkpoint)) {
+            log.debug("데일리 미션 일괄 생성 이미 완료 - date: {}", date);
+            return 0;
+        }
+        if (!acquireLock(lockKey, lockToken)) {
+            log.info("다른 노드에서 데일리 미션 일괄 생성 중 - date: {}", date);
+            return 0;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            Map<AlgoLevel, Long> problemIds = selectTodayProblems(date);
+            long afterId = checkpoint != null ? Long.parseLong(checkpoint) : 0L;
+            if (afterId > 0) {
+                log.info("데일리 미션 일괄 생성 이어서 진행 - date: {}, 마지막 사용자 ID: {}", date, afterId);
+            }
+
+            int processed = 0;
+            int failedChunks = 0;
+            boolean lastWave = false;
+
+            while (!lastWave) {
+                // 병렬 처리할 묶음들을 키셋으로 읽음
+                List<List<Long>> wave = new ArrayList<>(parallelism);
+                while (wave.size() < parallelism) {
+                    List<Long> userIds = missionMapper.findActiveUserIdsAfter(afterId, chunkSize);
+                    if (!userIds.isEmpty()) {
+                        wave.add(userIds);
+                        afterId = userIds.get(userIds.size() - 1);
+                    }
+                    if (userIds.size() < chunkSize) {
+                        lastWave = true;
+                        break;
+                    }
+                }
+                if (wave.isEmpty()) {
+                    break;
+                }
+
+                List<CompletableFuture<Boolean>> results = new ArrayList<>(wave.size());
+                for (List<Long> userIds : wave) {
+                    results.add(CompletableFuture.supplyAsync(
+                            () -> writeChunkWithRetry(date, userIds, problemIds), batchExecutor));
+                }
+                for (int i = 0; i < results.size(); i++) {
+                    if (results.get(i).join()) {
+                        processed += wave.get(i).size();
+                    } else {
+                        failedChunks++;
+                    }
+                }
+
+                // 실패한 묶음이 있으면 체크포인트를 더 이상 올리지 않음 (다음 실행에서 그 지점부터 다시 처리)
+                if (failedChunks == 0) {
+                    writeCheckpoint(checkpointKey, String.valueOf(afterId));
+                }
+                refreshLock(lockKey, lockToken);
+            }
+
+            if (failedChunks == 0) {
+                writeCheckpoint(checkpointKey, DONE);
+            }
+            log.info("데일리 미션 일괄 생성 종료 - date: {}, 처리 사용자: {}, 실패 묶음: {}, {}ms",
+                    date, processed, failedChunks, System.currentTimeMillis() - start);
+            return processed;
+        } finally {
+            releaseLock(lockKey, lockToken);
+        }
+    }
+
+    /**
+     * 레벨별 오늘의 문제 선택 (이미 배정된 문제가 있으면 그대로 사용)
+     */
+    private Map<AlgoLevel, Long> selectTodayProblems(LocalDate date) {
+        Map<AlgoLevel, Long> problemIds = new EnumMap<>(AlgoLevel.class);
+        for (AlgoLevel level : AlgoLevel.values()) {
+            String difficulty = level.getMatchingDifficulty().name();
+            Long problemId = missionMapper.findTodayProblemIdByDifficulty(date, difficulty);
+            if (problemId == null) {
+                problemId = missionMapper.findRandomProblemIdByDifficulty(difficulty);
+            }
+            if (problemId != null) {
+                problemIds.put(level, problemId);
+            }
+        }
+        return problemIds;
+    }
+
+    private boolean writeChunkWithRetry(LocalDate date, List<Long> userIds, Map<AlgoLevel, Long> problemIds) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeChunk(date, userIds, problemIds));
+                return true;
+            } catch (Exception e) {
+                log.warn("데일리 미션 묶음 저장 실패 ({}/{}) - 사용자 ID {}~{}: {}", attempt, maxAttempts,
+                        userIds.get(0), userIds.get(userIds.size() - 1), e.getMessage());
+                if (attempt < maxAttempts && !sleep(200L * attempt)) {
+                    return false;
+                }
+            }
+        }
+        log.error("데일리 미션 묶음 저장 최종 실패 - 사용자 ID {}~{} (미션 조회 시 개별 생성됨)",
+                userIds.get(0), userIds.get(userIds.size() - 1));
+        return false;
+    }
+
+    private void writeChunk(LocalDate date, List<Long> userIds, Map<AlgoLevel, Long> problemIds) {
+        Map<Long, AlgoLevel> levels = new HashMap<>();
+        for (UserAlgoLevelDto level : missionMapper.findUserLevelsByUserIds(userIds)) {
+            levels.put(level.getUserId(), level.getAlgoLevel());
+        }
+
+        List<Long> withoutLevel = userIds.stream().filter(id -> !levels.containsKey(id)).toList();
+        if (!withoutLevel.isEmpty()) {
+            missionMapper.insertDefaultUserLevels(withoutLevel);
+        }
+
+        List<DailyMissionDto> missions = new ArrayList<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            AlgoLevel level = levels.getOrDefault(userId, AlgoLevel.EMERALD);
+            missions.add(mission(userId, date, MissionType.PROBLEM_GENERATE, null, level.getRewardPoints()));
+            missions.add(mission(userId, date, MissionType.PROBLEM_SOLVE, problemIds.get(level), level.getRewardPoints()));
+        }
+        missionMapper.insertMissions(missions);
+    }
+
+    private static DailyMissionDto mission(Long userId, LocalDate date, MissionType type,
+                                           Long problemId, int rewardPoints) {
+        DailyMissionDto mission = new DailyMissionDto();
+        mission.setUserId(userId);
+        mission.setMissionDate(date);
+        mission.setMissionType(type);
+        mission.setProblemId(problemId);
+        mission.setRewardPoints(rewardPoints);
+        return mission;
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ===== Redis 체크포인트/실행 잠금 (Redis 장애 시에는 체크포인트 없이 처음부터 실행) =====
+
+    private String readCheckpoint(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("데일리 미션 체크포인트 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCheckpoint(String key, String value) {
+        try {
+            redisTemplate.opsForValue().set(key, value, CHECKPOINT_TTL);
+        } catch (Exception e) {
+            log.warn("데일리 미션 체크포인트 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean acquireLock(String key, String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, lockTtl));
+        } catch (Exception e) {
+            log.warn("데일리 미션 실행 잠금 실패 - 잠금 없이 진행: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void refreshLock(String key, String token) {
+        try {
+            Long refreshed = redisTemplate.execute(LOCK_REFRESH_SCRIPT, List.of(key), token,
+                    String.valueOf(lockTtl.toMillis()));
+            if (refreshed == null || refreshed == 0L) {
+                log.warn("데일리 미션 실행 잠금이 이미 만료됨 - 다른 노드가 같은 날짜를 처리 중일 수 있습니다");
+            }
+        } catch (Exception e) {
+            log.debug("데일리 미션 실행 잠금 연장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void releaseLock(String key, String token) {
+        try {
+            redisTemplate.execute(LOCK_RELEASE_SCRIPT, List.of(key), token);
+        } catch (Exception e) {
+            log.debug("데일리 미션 실행 잠금 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Lua 스크립트 로드 (SHA1은 DefaultRedisScript가 계산하여 EVALSHA에 사용)
+     */
+    private static RedisScript<Long> loadScript(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
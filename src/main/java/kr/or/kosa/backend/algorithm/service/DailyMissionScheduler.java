@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 /**
  * 데일리 미션 스케줄러
  * 매일 자정에 모든 활성 사용자에게 데일리 미션 생성
+ * 새벽 동안 주기적으로 다시 실행하여 중단된 일괄 생성을 체크포인트부터 이어서 처리 (완료된 날은 바로 종료)
  */
 @Slf4j
 @Component
@@ -17,9 +18,9 @@ public class DailyMissionScheduler {
     private final DailyMissionService dailyMissionService;
 
     /**
-     * 매일 자정에 실행
+     * 매일 자정에 실행 (이후 04시 전까지 20분마다 미완료분 재개)
      */
-    @Scheduled(cron = "0 0 0 * * *")
+    @Scheduled(cron = "${algorithm.daily-mission.cron:0 0/20 0-3 * * *}")
     public void createDailyMissions() {
         log.info("데일리 미션 생성 스케줄러 시작");
 
@@ -5,9 +5,8 @@ import kr.or.kosa.backend.algorithm.dto.UserAlgoLevelDto;
 import kr.or.kosa.backend.algorithm.dto.enums.AlgoLevel;
 import kr.or.kosa.backend.algorithm.dto.enums.MissionType;
 import kr.or.kosa.backend.algorithm.mapper.DailyMissionMapper;
-import kr.or.kosa.backend.pay.entity.Subscription;
-import kr.or.kosa.backend.pay.repository.SubscriptionMapper;
 import kr.or.kosa.backend.pay.service.PointService;
+import kr.or.kosa.backend.pay.service.SubscriptionStatusCache;
 import kr.or.kosa.backend.users.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +29,8 @@ public class DailyMissionService {
     private final UserMapper userMapper;
     private final PointService pointService;
     private final RateLimitService rateLimitService;
-    private final SubscriptionMapper subscriptionMapper;
+    private final SubscriptionStatusCache subscriptionStatusCache;
+    private final DailyMissionBatchService dailyMissionBatchService;
 
     /**
      * 오늘의 미션 조회 (없으면 생성)
@@ -233,19 +233,16 @@ public class DailyMissionService {
 
     /**
      * 사용자의 구독 여부 확인
-     * subscriptions 테이블에서 활성 구독(ACTIVE, 만료되지 않음) 여부 조회
+     * 활성 구독(ACTIVE, 만료되지 않음) 여부 - SubscriptionStatusCache에서 조회 (구독 종료 시각에 자동 만료)
      */
-    @Transactional(readOnly = true)
     public boolean isSubscriber(Long userId) {
-        List<Subscription> activeSubscriptions = subscriptionMapper.findActiveSubscriptionsByUserId(userId);
-        boolean isSubscriber = activeSubscriptions != null && !activeSubscriptions.isEmpty();
+        SubscriptionStatusCache.Snapshot status = subscriptionStatusCache.get(userId);
 
-        if (isSubscriber) {
-            log.debug("사용자 {} 활성 구독 확인: {}", userId,
-                    activeSubscriptions.get(0).getSubscriptionType());
+        if (status.isSubscriber()) {
+            log.debug("사용자 {} 활성 구독 확인: {}", userId, status.planCodes());
         }
 
-        return isSubscriber;
+        return status.isSubscriber();
     }
 
     /**
@@ -267,23 +264,10 @@ public class DailyMissionService {
 
     /**
      * 모든 활성 사용자에 대해 데일리 미션 생성 (스케줄러용)
+     * 사용자 묶음 단위 일괄 처리 - DailyMissionBatchService 참고
      */
-    @Transactional
     public int createDailyMissionsForAllUsers() {
-        List<Long> activeUserIds = missionMapper.findAllActiveUserIds();
-        int created = 0;
-
-        for (Long userId : activeUserIds) {
-            try {
-                createDailyMissionsForUser(userId);
-                created++;
-            } catch (Exception e) {
-                log.error("사용자 {} 미션 생성 실패: {}", userId, e.getMessage());
-            }
-        }
-
-        log.info("데일리 미션 생성 완료: {}명", created);
-        return created;
+        return dailyMissionBatchService.createForAllUsers(LocalDate.now());
     }
 
     /**
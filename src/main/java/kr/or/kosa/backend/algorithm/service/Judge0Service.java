@@ -2,20 +2,32 @@ package kr.or.kosa.backend.algorithm.service;
 
 import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
 import kr.or.kosa.backend.algorithm.dto.enums.JudgeResult;
+import kr.or.kosa.backend.algorithm.dto.enums.OutputCompareMode;
+import kr.or.kosa.backend.algorithm.dto.request.Judge0BatchRequestDto;
 import kr.or.kosa.backend.algorithm.dto.request.Judge0RequestDto;
+import kr.or.kosa.backend.algorithm.dto.response.Judge0BatchResponseDto;
 import kr.or.kosa.backend.algorithm.dto.response.Judge0ResponseDto;
 import kr.or.kosa.backend.algorithm.dto.response.TestRunResponseDto;
+import kr.or.kosa.backend.config.Judge0Config;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Judge0 API 연동 서비스 (ALG-07 관련)
@@ -24,20 +36,18 @@ import java.util.concurrent.CompletableFuture;
  * 변경사항 (2025-12-13):
  * - LANGUAGES.LANGUAGE_ID가 Judge0 API ID이므로 매핑 로직 제거
  * - languageId (Integer)를 직접 사용
+ *
+ * 변경사항: 순차 실행(케이스당 wait=true + 1초 대기) → 배치 제출 + 토큰 폴링 병렬 채점
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class Judge0Service {
 
-    private final WebClient judge0WebClient;
-
-    // application.yml에서 직접 값 주입
-    @Value("${judge0.api.base-url}")
-    private String baseUrl;
+    private static final String POLL_FIELDS = "token,stdout,stderr,compile_output,message,time,memory,status";
 
-    @Value("${judge0.api.rapidapi-key}")
-    private String apiKey;
+    private final WebClient judge0WebClient;
+    private final Judge0Config.Judge0Properties judge0Properties;
 
     @Value("${judge0.api.limits.cpu-time:2.0}")
     private Double cpuTimeLimit;
@@ -46,7 +56,7 @@ public class Judge0Service {
     private Integer memoryLimit;
 
     /**
-     * AlgoTestcaseDto 목록으로 채점 실행
+     * AlgoTestcaseDto 목록으로 채점 실행 (전체 테스트케이스 채점)
      *
      * @param sourceCode  제출할 소스 코드
      * @param languageId  언어 ID (LANGUAGES.LANGUAGE_ID = Judge0 API language_id)
@@ -61,144 +71,417 @@ public class Judge0Service {
             List<AlgoTestcaseDto> testCases,
             Integer timeLimit,
             Integer memoryLimit) {
+        return judgeCode(sourceCode, languageId, testCases, timeLimit, memoryLimit, false);
+    }
 
-        return CompletableFuture.supplyAsync(() -> {
-            log.info("Judge0 채점 시작 - languageId: {}, testCases: {}, timeLimit: {}ms, memoryLimit: {}MB",
-                    languageId, testCases.size(), timeLimit, memoryLimit);
-
-            if (languageId == null) {
-                throw new IllegalArgumentException("언어 ID가 null입니다");
-            }
-
-            List<TestRunResponseDto.TestCaseResultDto> results = new ArrayList<>();
-            int passedCount = 0;
-            int maxExecutionTime = 0;
-            int maxMemoryUsage = 0;
-
-            for (int i = 0; i < testCases.size(); i++) {
-                AlgoTestcaseDto testCase = testCases.get(i);
-
-                try {
-                    log.debug("테스트케이스 {} 실행 중...", i + 1);
-
-                    TestRunResponseDto.TestCaseResultDto result = executeSingleTestCase(
-                            sourceCode, languageId, testCase, i + 1, timeLimit, memoryLimit);
-
-                    results.add(result);
-
-                    if ("AC".equals(result.getResult()) || "PASS".equals(result.getResult())) {
-                        passedCount++;
-                    }
-
-                    // 최대 실행 시간 및 메모리 사용량 계산
-                    if (result.getExecutionTime() != null) {
-                        maxExecutionTime = Math.max(maxExecutionTime, result.getExecutionTime());
-                    }
-                    if (result.getMemoryUsage() != null) {
-                        maxMemoryUsage = Math.max(maxMemoryUsage, result.getMemoryUsage());
-                    }
-
-                    // Rate Limit 방지: 테스트케이스 간 딜레이 (RapidAPI 무료 요금제 제한)
-                    if (i < testCases.size() - 1) {
-                        Thread.sleep(1000); // 1초 대기
-                    }
-
-                } catch (Exception e) {
-                    log.error("테스트케이스 {} 실행 중 오류", i + 1, e);
-
-                    results.add(TestRunResponseDto.TestCaseResultDto.builder()
-                            .testCaseNumber(i + 1)
-                            .input(testCase.getInputData())
-                            .expectedOutput(testCase.getExpectedOutput())
-                            .result("ERROR")
-                            .errorMessage("채점 서버 오류: " + e.getMessage())
-                            .build());
-                }
-            }
+    /**
+     * AlgoTestcaseDto 목록으로 채점 실행
+     *
+     * 모든 테스트케이스를 /submissions/batch로 한 번에 제출한 뒤 토큰을 적응형 백오프로 폴링한다.
+     * 배치 제출 자체가 거부(404/405/422)된 경우에만 동시 실행 수를 제한한 단건 제출(wait=true)로 대체한다.
+     * 토큰을 받은 뒤의 폴링 실패는 재제출하지 않고 재시도하며, 끝내 결과를 받지 못한 케이스는 ERROR 처리한다.
+     * 전체 흐름이 judge0WebClient 위에서 논블로킹으로 동작하므로 채점 시간은 가장 느린 케이스에 수렴한다.
+     *
+     * @param failFast true이면 첫 번째 비-AC 결과에서 대기를 중단하고 나머지 케이스는 SKIPPED 처리
+     */
+    public CompletableFuture<TestRunResponseDto> judgeCode(
+            String sourceCode,
+            Integer languageId,
+            List<AlgoTestcaseDto> testCases,
+            Integer timeLimit,
+            Integer memoryLimit,
+            boolean failFast) {
 
-            // 전체 결과 판정
-            String overallResult = determineOverallResult(results, passedCount, testCases.size());
+        log.info("Judge0 채점 시작 - languageId: {}, testCases: {}, timeLimit: {}ms, memoryLimit: {}MB, failFast: {}",
+                languageId, testCases.size(), timeLimit, memoryLimit, failFast);
 
-            log.info("Judge0 채점 완료 - 총 {} 케이스, 통과 {} 케이스, 결과: {}",
-                    results.size(), passedCount, overallResult);
+        if (languageId == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("언어 ID가 null입니다"));
+        }
 
-            return TestRunResponseDto.builder()
-                    .overallResult(overallResult)
-                    .passedCount(passedCount)
-                    .totalCount(testCases.size())
-                    .testPassRate((double) passedCount / testCases.size() * 100.0)
-                    .maxExecutionTime(maxExecutionTime)
-                    .maxMemoryUsage(maxMemoryUsage)
-                    .testCaseResults(results)
-                    .build();
-        });
+        List<Judge0RequestDto> requests = new ArrayList<>(testCases.size());
+        for (AlgoTestcaseDto testCase : testCases) {
+            requests.add(buildRequest(sourceCode, languageId, testCase, timeLimit, memoryLimit));
+        }
+        log.debug("[Judge0 Source Code]\n{}", truncateForLog(sourceCode, 500));
+
+        Judge0Config.Judge0Properties.Batch batch = judge0Properties.getBatch();
+        Mono<Map<Integer, Judge0ResponseDto>> responses = batch.isEnabled()
+                ? judgeByBatch(requests, failFast)
+                        .onErrorResume(BatchUnsupportedException.class, e -> {
+                            log.warn("Judge0 배치 API 사용 불가, 단건 동시 제출로 전환 - {}", e.getMessage());
+                            return judgeBySingleSubmissions(requests, failFast);
+                        })
+                : judgeBySingleSubmissions(requests, failFast);
+
+        return responses
+                .map(responseMap -> buildResponse(testCases, responseMap, failFast))
+                .toFuture();
     }
 
     /**
-     * 단일 테스트케이스 실행
+     * 테스트케이스별 Judge0 요청 DTO 생성
      */
-    @Retryable(retryFor = { Exception.class }, maxAttempts = 3, backoff = @Backoff(delay = 1000))
-    private TestRunResponseDto.TestCaseResultDto executeSingleTestCase(
+    private Judge0RequestDto buildRequest(
             String sourceCode,
             Integer languageId,
             AlgoTestcaseDto testCase,
-            Integer testCaseNumber,
             Integer timeLimit,
             Integer memoryLimit) {
 
-        // 1. Judge0 요청 DTO
         // timeLimit (ms) -> cpu_time_limit (seconds) 변환 필요
         // Judge0는 초 단위 (float) 지원
         float cpuTimeLimitSec = timeLimit != null ? timeLimit / 1000.0f : this.cpuTimeLimit.floatValue();
         int memoryLimitKb = memoryLimit != null ? memoryLimit * 1000 : this.memoryLimit; // MB -> KB
 
-        Judge0RequestDto request = Judge0RequestDto.builder()
+        return Judge0RequestDto.builder()
                 .source_code(sourceCode)
                 .language_id(languageId)
                 .stdin(testCase.getInputData())
-                .expected_output(testCase.getExpectedOutput())
+                .expected_output(comparesOnServer(testCase) ? testCase.getExpectedOutput() : null)
                 .cpu_time_limit(cpuTimeLimitSec)
                 .memory_limit(memoryLimitKb)
                 .enable_per_process_and_thread_time_limit(true)
                 .enable_per_process_and_thread_memory_limit(true)
                 .build();
+    }
+
+    // ===== 배치 제출 + 토큰 폴링 =====
+
+    /**
+     * 배치 제출 API 자체가 없거나 거부된 경우 (아직 어떤 케이스도 제출되지 않았을 때만 단건 제출로 대체)
+     */
+    private static class BatchUnsupportedException extends RuntimeException {
+        BatchUnsupportedException(Throwable cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * /submissions/batch 로 모든 케이스를 제출하고 완료될 때까지 폴링
+     * - 첫 묶음 제출이 404/405/422로 거부되면 BatchUnsupportedException (단건 제출로 대체)
+     * - 그 밖의 제출 실패는 해당 묶음 케이스만 ERROR (서버가 이미 받았을 수 있으므로 재제출하지 않음)
+     *
+     * @return 테스트케이스 인덱스 → Judge0 응답 (스킵된 케이스는 포함되지 않음)
+     */
+    private Mono<Map<Integer, Judge0ResponseDto>> judgeByBatch(List<Judge0RequestDto> requests, boolean failFast) {
+        int maxSize = Math.max(1, judge0Properties.getBatch().getMaxSize());
+        AtomicBoolean accepted = new AtomicBoolean(false);
+
+        return Flux.fromIterable(partition(requests, maxSize))
+                .concatMap(chunk -> submitBatch(chunk)
+                        .collectList()
+                        .doOnNext(submitted -> accepted.set(true))
+                        .onErrorResume(e -> {
+                            if (!accepted.get() && isBatchRejected(e)) {
+                                return Mono.error(new BatchUnsupportedException(e));
+                            }
+                            log.error("Judge0 배치 제출 실패 - 케이스 {}개 ERROR 처리", chunk.size(), e);
+                            List<Judge0ResponseDto> failed = new ArrayList<>(chunk.size());
+                            for (int i = 0; i < chunk.size(); i++) {
+                                failed.add(errorResponse("배치 제출 실패: " + e.getMessage()));
+                            }
+                            return Mono.just(failed);
+                        })
+                        .flatMapMany(Flux::fromIterable))
+                .collectList()
+                .flatMap(tokens -> {
+                    Map<String, Integer> indexByToken = new HashMap<>();
+                    Map<Integer, Judge0ResponseDto> finished = new ConcurrentHashMap<>();
+
+                    for (int i = 0; i < tokens.size(); i++) {
+                        Judge0ResponseDto submitted = tokens.get(i);
+                        if (submitted.getToken() == null) {
+                            // 배치 내 개별 제출이 거부되었거나 묶음 제출에 실패한 경우
+                            finished.put(i, submitted);
+                        } else {
+                            indexByToken.put(submitted.getToken(), i);
+                        }
+                    }
+
+                    if (indexByToken.isEmpty()) {
+                        return Mono.just(finished);
+                    }
+
+                    long deadline = System.currentTimeMillis() + judge0Properties.getBatch().getPollTimeoutMs();
+                    return pollRound(new ArrayList<>(indexByToken.keySet()), indexByToken, finished,
+                            judge0Properties.getBatch().getPollInitialDelayMs(), deadline, failFast);
+                });
+    }
+
+    /**
+     * 배치 제출 (최대 maxSize 건) → 제출 순서대로 토큰 반환
+     */
+    private Flux<Judge0ResponseDto> submitBatch(List<Judge0RequestDto> chunk) {
+        return judge0WebClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/submissions/batch")
+                        .queryParam("base64_encoded", false)
+                        .build())
+                .bodyValue(Judge0BatchRequestDto.builder().submissions(chunk).build())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<Judge0ResponseDto>>() {})
+                .retryWhen(Retry.backoff(2, Duration.ofMillis(300)).filter(this::isRetryable))
+                .flatMapMany(submitted -> {
+                    if (submitted == null || submitted.size() != chunk.size()) {
+                        return Flux.error(new IllegalStateException("Judge0 배치 제출 응답 크기가 요청과 다릅니다"));
+                    }
+                    return Flux.fromIterable(submitted);
+                });
+    }
+
+    /**
+     * 미완료 토큰 폴링 1회전
+     * - 새로 완료된 결과가 있으면 초기 간격으로, 없으면 간격을 2배씩 늘림 (최대 pollMaxDelayMs)
+     * - 조회 실패한 토큰은 미완료로 남겨 다음 회전에 다시 조회
+     * - 모든 토큰 완료, fail-fast 조건 충족, 또는 제한 시간 경과 시 종료 (제한 시간 경과 시 남은 케이스는 ERROR)
+     */
+    private Mono<Map<Integer, Judge0ResponseDto>> pollRound(
+            List<String> pending,
+            Map<String, Integer> indexByToken,
+            Map<Integer, Judge0ResponseDto> finished,
+            long delayMs,
+            long deadline,
+            boolean failFast) {
+
+        Judge0Config.Judge0Properties.Batch batch = judge0Properties.getBatch();
+
+        return Mono.delay(Duration.ofMillis(delayMs))
+                .thenMany(Flux.fromIterable(partition(pending, Math.max(1, batch.getMaxSize())))
+                        .flatMap(this::fetchBatch))
+                .collectList()
+                .flatMap(polled -> {
+                    boolean progressed = false;
+
+                    for (Judge0ResponseDto response : polled) {
+                        Integer index = indexByToken.get(response.getToken());
+                        if (index != null && !isInFlight(response)) {
+                            finished.put(index, response);
+                            progressed = true;
+                        }
+                    }
+
+                    List<String> stillPending = new ArrayList<>();
+                    for (String token : pending) {
+                        if (!finished.containsKey(indexByToken.get(token))) {
+                            stillPending.add(token);
+                        }
+                    }
+
+                    if (stillPending.isEmpty()) {
+                        return Mono.just(finished);
+                    }
+                    if (failFast && finished.values().stream().anyMatch(r -> r.toJudgeResult() != JudgeResult.AC)) {
+                        log.info("Judge0 fail-fast - 비-AC 결과 발견, 남은 {}개 케이스 대기 중단", stillPending.size());
+                        return Mono.just(finished);
+                    }
+                    if (System.currentTimeMillis() >= deadline) {
+                        log.warn("Judge0 폴링 제한 시간 초과 - 미완료 {}개", stillPending.size());
+                        for (String token : stillPending) {
+                            finished.put(indexByToken.get(token), errorResponse("결과 조회 제한 시간 초과"));
+                        }
+                        return Mono.just(finished);
+                    }
+
+                    long nextDelay = progressed
+                            ? batch.getPollInitialDelayMs()
+                            : Math.min(delayMs * 2, batch.getPollMaxDelayMs());
+                    return pollRound(stillPending, indexByToken, finished, nextDelay, deadline, failFast);
+                });
+    }
+
+    /**
+     * 토큰 목록 일괄 조회 (재시도 후에도 실패하면 빈 결과 → 다음 폴링 회전에서 다시 조회)
+     */
+    private Flux<Judge0ResponseDto> fetchBatch(List<String> tokens) {
+        return judge0WebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/submissions/batch")
+                        .queryParam("tokens", String.join(",", tokens))
+                        .queryParam("base64_encoded", false)
+                        .queryParam("fields", POLL_FIELDS)
+                        .build())
+                .retrieve()
+                .bodyToMono(Judge0BatchResponseDto.class)
+                .retryWhen(Retry.backoff(2, Duration.ofMillis(300)).filter(this::isRetryable))
+                .flatMapMany(response -> response.getSubmissions() != null
+                        ? Flux.fromIterable(response.getSubmissions())
+                        : Flux.<Judge0ResponseDto>empty())
+                .onErrorResume(e -> {
+                    log.warn("Judge0 결과 조회 실패 - 토큰 {}개, 다음 회전에 재시도: {}", tokens.size(), e.getMessage());
+                    return Flux.empty();
+                });
+    }
+
+    /**
+     * In Queue(1) / Processing(2) 상태 여부
+     */
+    private boolean isInFlight(Judge0ResponseDto response) {
+        return response.getStatus() == null
+                || response.getStatus().getId() == null
+                || response.getStatus().getId() <= 2;
+    }
+
+    // ===== 단건 동시 제출 (배치 API 대체 경로) =====
 
-        log.info("[Judge0 Request Check] languageId={}, stdin='{}', expected_output='{}'",
+    /**
+     * 배치 API를 사용할 수 없을 때 단건 제출(wait=true)을 제한된 동시성으로 실행
+     */
+    private Mono<Map<Integer, Judge0ResponseDto>> judgeBySingleSubmissions(List<Judge0RequestDto> requests,
+                                                                            boolean failFast) {
+        int concurrency = Math.max(1, judge0Properties.getBatch().getFallbackConcurrency());
+        Map<Integer, Judge0ResponseDto> finished = new ConcurrentHashMap<>();
+
+        Flux<Integer> completed = Flux.range(0, requests.size())
+                .flatMap(i -> submitSingle(requests.get(i))
+                        .doOnNext(response -> finished.put(i, response))
+                        .map(response -> i)
+                        .onErrorResume(e -> {
+                            log.error("테스트케이스 {} 실행 중 오류", i + 1, e);
+                            finished.put(i, errorResponse(e.getMessage()));
+                            return Mono.just(i);
+                        }), concurrency);
+
+        if (failFast) {
+            completed = completed.takeUntil(i -> finished.get(i).toJudgeResult() != JudgeResult.AC);
+        }
+
+        return completed.then(Mono.fromSupplier(() -> finished));
+    }
+
+    /**
+     * 단일 테스트케이스 제출 (wait=true)
+     */
+    private Mono<Judge0ResponseDto> submitSingle(Judge0RequestDto request) {
+        log.debug("[Judge0 Request Check] languageId={}, stdin='{}', expected_output='{}'",
                 request.getLanguage_id(),
                 truncateForLog(request.getStdin()),
                 truncateForLog(request.getExpected_output()));
-        log.debug("[Judge0 Source Code]\n{}", truncateForLog(request.getSource_code(), 500));
-
-        try {
-            // 2. WebClient로 Judge0에 제출
-            Judge0ResponseDto response = judge0WebClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/submissions")
-                            .queryParam("base64_encoded", false)
-                            .queryParam("wait", true)
-                            .build())
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(Judge0ResponseDto.class)
-                    .block(); // 동기 호출
-
-            if (response == null) {
-                throw new RuntimeException("Judge0 응답이 비어있습니다");
+
+        return judge0WebClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/submissions")
+                        .queryParam("base64_encoded", false)
+                        .queryParam("wait", true)
+                        .build())
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(Judge0ResponseDto.class)
+                .retryWhen(Retry.backoff(2, Duration.ofMillis(1000)).filter(this::isRetryable))
+                .switchIfEmpty(Mono.error(new RuntimeException("Judge0 응답이 비어있습니다")));
+    }
+
+    /**
+     * 배치 제출 엔드포인트가 없거나(404/405) 요청 형식을 받지 않는(422) 경우
+     */
+    private boolean isBatchRejected(Throwable e) {
+        if (!(e instanceof WebClientResponseException responseException)) {
+            return false;
+        }
+        int status = responseException.getStatusCode().value();
+        return status == 404 || status == 405 || status == 422;
+    }
+
+    /**
+     * 4xx 응답은 재시도해도 결과가 같으므로 네트워크/5xx 오류만 재시도
+     */
+    private boolean isRetryable(Throwable e) {
+        return !(e instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is4xxClientError());
+    }
+
+    /**
+     * 제출 실패를 표현하는 응답 (status 없음 → ERROR로 해석)
+     */
+    private Judge0ResponseDto errorResponse(String message) {
+        Judge0ResponseDto response = new Judge0ResponseDto();
+        response.setMessage(message);
+        return response;
+    }
+
+    // ===== 결과 조립 =====
+
+    /**
+     * 인덱스별 Judge0 응답을 테스트케이스 순서대로 TestRunResponseDto로 조립
+     */
+    private TestRunResponseDto buildResponse(
+            List<AlgoTestcaseDto> testCases,
+            Map<Integer, Judge0ResponseDto> responseMap,
+            boolean failFast) {
+
+        List<TestRunResponseDto.TestCaseResultDto> results = new ArrayList<>(testCases.size());
+        int passedCount = 0;
+        int maxExecutionTime = 0;
+        int maxMemoryUsage = 0;
+
+        for (int i = 0; i < testCases.size(); i++) {
+            AlgoTestcaseDto testCase = testCases.get(i);
+            Judge0ResponseDto response = responseMap.get(i);
+
+            TestRunResponseDto.TestCaseResultDto result;
+            if (response != null && response.getStatus() == null) {
+                result = TestRunResponseDto.TestCaseResultDto.builder()
+                        .testCaseNumber(i + 1)
+                        .input(testCase.getInputData())
+                        .expectedOutput(testCase.getExpectedOutput())
+                        .result("ERROR")
+                        .errorMessage("채점 서버 오류: " + response.getMessage())
+                        .build();
+            } else if (response == null) {
+                result = TestRunResponseDto.TestCaseResultDto.builder()
+                        .testCaseNumber(i + 1)
+                        .input(testCase.getInputData())
+                        .expectedOutput(testCase.getExpectedOutput())
+                        .result(failFast ? "SKIPPED" : "ERROR")
+                        .errorMessage(failFast ? "이전 테스트케이스 실패로 채점을 생략했습니다" : "채점 서버 오류: 결과를 받지 못했습니다")
+                        .build();
+            } else {
+                log.debug("[Judge0 Raw Response] case={}, status={}, stderr={}, compile_output={}",
+                        i + 1, response.getStatus() != null ? response.getStatus().getDescription() : null,
+                        truncateForLog(response.getStderr()), truncateForLog(response.getCompile_output()));
+                result = interpretResult(response, testCase, i + 1);
             }
+            results.add(result);
 
-            log.info("[Judge0 Raw Response] stdout={}, stderr={}, compile_output={}, status={}",
-                    response.getStdout(),
-                    response.getStderr(),
-                    response.getCompile_output(),
-                    response.getStatus());
+            if ("AC".equals(result.getResult()) || "PASS".equals(result.getResult())) {
+                passedCount++;
+            }
 
-            // 3. 결과 해석
-            return interpretResult(response, testCase, testCaseNumber);
+            // 최대 실행 시간 및 메모리 사용량 계산
+            if (result.getExecutionTime() != null) {
+                maxExecutionTime = Math.max(maxExecutionTime, result.getExecutionTime());
+            }
+            if (result.getMemoryUsage() != null) {
+                maxMemoryUsage = Math.max(maxMemoryUsage, result.getMemoryUsage());
+            }
+        }
+
+        // 전체 결과 판정
+        String overallResult = determineOverallResult(results, passedCount, testCases.size());
+
+        log.info("Judge0 채점 완료 - 총 {} 케이스, 통과 {} 케이스, 결과: {}",
+                results.size(), passedCount, overallResult);
+
+        return TestRunResponseDto.builder()
+                .overallResult(overallResult)
+                .passedCount(passedCount)
+                .totalCount(testCases.size())
+                .testPassRate(testCases.isEmpty() ? 0.0 : (double) passedCount / testCases.size() * 100.0)
+                .maxExecutionTime(maxExecutionTime)
+                .maxMemoryUsage(maxMemoryUsage)
+                .testCaseResults(results)
+                .build();
+    }
 
-        } catch (Exception e) {
-            log.error("Judge0 API 호출 실패", e);
-            throw new RuntimeException("Judge0 채점 실패: " + e.getMessage(), e);
+    /**
+     * 리스트를 size 단위로 분할
+     */
+    private static <T> List<List<T>> partition(List<T> source, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < source.size(); from += size) {
+            chunks.add(source.subList(from, Math.min(from + size, source.size())));
         }
+        return chunks;
     }
 
     /**
@@ -239,6 +522,13 @@ public class Judge0Service {
 
         switch (judgeResult) {
             case AC:
+                // TOKEN/FLOAT 비교는 예상 출력 없이 실행만 맡기고 여기서 비교
+                if (!comparesOnServer(testCase) && !TestCaseBundle.isSameOutput(testCase, response.getStdout())) {
+                    return builder
+                            .result("WA")
+                            .errorMessage("출력이 예상 결과와 다릅니다")
+                            .build();
+                }
                 return builder.result("AC").build();
             case WA:
                 return builder
@@ -274,6 +564,13 @@ public class Judge0Service {
         }
     }
 
+    /**
+     * Judge0 서버 비교(앞뒤 공백 무시 완전 일치)를 사용할 수 있는지 여부
+     */
+    private static boolean comparesOnServer(AlgoTestcaseDto testCase) {
+        return testCase.getOutputCompareMode() == null || testCase.getOutputCompareMode() == OutputCompareMode.EXACT;
+    }
+
     /**
      * 전체 결과 판정
      */
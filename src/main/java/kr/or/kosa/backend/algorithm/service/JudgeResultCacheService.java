@@ -0,0 +1,353 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
+import kr.or.kosa.backend.algorithm.dto.response.TestRunResponseDto;
+import kr.or.kosa.backend.commons.util.HashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 채점 결과(verdict) 캐시
+ *
+ * 같은 코드를 다시 제출하는 경우(더블 클릭, 응답 지연 후 재시도) 테스트케이스를 다시 실행하지 않고 저장된 결과를 돌려줍니다.
+ * - 키: (problemId, languageId, 테스트케이스 묶음 버전/체크섬, 비교 방식, 시간/메모리 제한, 소스코드 해시)
+ * - L1: 노드 로컬 LRU (만료 시간 포함, 항목 수와 실제 출력 크기 합계로 제한), L2: Redis (노드 간 공유, 짧은 TTL)
+ * - 출력이 max-remote-bytes를 넘는 결과는 L1/Redis 모두 저장하지 않음
+ * - 동시에 들어온 같은 제출은 진행 중인 하나의 채점 결과를 함께 사용 (single-flight)
+ * - 실행 환경에 따라 달라질 수 있는 결과(TLE, 채점 서버 오류)는 캐시하지 않음
+ * - Redis에는 입력/예상 출력을 빼고 저장하고, 꺼낼 때 테스트케이스 묶음에서 채움
+ * - 적중률 지표는 주기적으로 로그에 기록
+ */
+@Slf4j
+@Service
+public class JudgeResultCacheService {
+
+    private static final String KEY_PREFIX = "judge:verdict:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final int maxRemoteBytes;
+    private final int localSize;
+    private final long localMaxBytes;
+
+    // access-order LRU, localBytes와 함께 localCache 잠금 안에서만 변경
+    private final LinkedHashMap<String, LocalEntry> localCache = new LinkedHashMap<>(64, 0.75f, true);
+    private long localBytes;
+    private final Map<String, CompletableFuture<TestRunResponseDto>> inFlight = new ConcurrentHashMap<>();
+
+    // 적중률 지표
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JudgeResultCacheService(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${judge.verdict-cache.ttl-minutes:30}") long ttlMinutes,
+            @Value("${judge.verdict-cache.local-size:1000}") int localSize,
+            @Value("${judge.verdict-cache.max-remote-bytes:1048576}") int maxRemoteBytes,
+            @Value("${judge.verdict-cache.local-max-bytes:67108864}") long localMaxBytes
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.maxRemoteBytes = maxRemoteBytes;
+        this.localSize = localSize;
+        this.localMaxBytes = localMaxBytes;
+    }
+
+    /**
+     * 캐시 키 생성 (Redis 장애로 버전을 모르는 묶음이면 null - 캐시 사용 안 함)
+     */
+    public String keyOf(TestCaseBundle bundle, Integer languageId, String sourceCode,
+                        int timeLimit, int memoryLimit) {
+        if (bundle.getVersion() < 0) {
+            return null;
+        }
+        String hash = HashUtil.sha256Hex(
+                String.valueOf(bundle.getVersion()),
+                bundle.getChecksum(),
+                bundle.getCompareMode().name(),
+                String.valueOf(bundle.getFloatTolerance()),
+                timeLimit + "/" + memoryLimit,
+                sourceCode
+        );
+        return KEY_PREFIX + bundle.getProblemId() + ":" + languageId + ":" + hash;
+    }
+
+    /**
+     * 캐시된 채점 결과를 반환하거나, 없으면 judge로 채점 후 저장
+     * 같은 키의 채점이 진행 중이면 새로 실행하지 않고 그 결과를 기다림
+     */
+    public CompletableFuture<TestRunResponseDto> getOrJudge(
+            String key,
+            TestCaseBundle bundle,
+            Supplier<CompletableFuture<TestRunResponseDto>> judge
+    ) {
+        if (key == null) {
+            misses.increment();
+            return judge.get();
+        }
+
+        TestRunResponseDto local = getLocal(key);
+        if (local != null) {
+            localHits.increment();
+            log.debug("채점 결과 캐시 적중 (L1) - key: {}", key);
+            return CompletableFuture.completedFuture(local);
+        }
+
+        CompletableFuture<TestRunResponseDto> mine = new CompletableFuture<>();
+        CompletableFuture<TestRunResponseDto> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            log.debug("진행 중인 채점에 합류 - key: {}", key);
+            return running;
+        }
+
+        try {
+            TestRunResponseDto remote = getRemote(key, bundle);
+            if (remote != null) {
+                remoteHits.increment();
+                log.debug("채점 결과 캐시 적중 (Redis) - key: {}", key);
+                putLocal(key, remote);
+                inFlight.remove(key, mine);
+                mine.complete(remote);
+                return mine;
+            }
+
+            misses.increment();
+            judge.get().whenComplete((result, error) -> {
+                if (error == null && isCacheable(result)) {
+                    putLocal(key, result);
+                    putRemote(key, result);
+                }
+                // 캐시 저장 후 제거해야 뒤늦게 들어온 요청이 L1에서 결과를 찾음
+                inFlight.remove(key, mine);
+                if (error != null) {
+                    mine.completeExceptionally(error);
+                } else {
+                    mine.complete(result);
+                }
+            });
+        } catch (Exception e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+        }
+        return mine;
+    }
+
+    /**
+     * 적중률 지표 조회
+     */
+    public Stats getStats() {
+        int entries;
+        long bytes;
+        synchronized (localCache) {
+            entries = localCache.size();
+            bytes = localBytes;
+        }
+        return new Stats(localHits.sum(), remoteHits.sum(), coalesced.sum(), misses.sum(), entries, bytes);
+    }
+
+    /**
+     * 적중률 지표 주기 로그
+     */
+    @Scheduled(fixedDelayString = "${judge.verdict-cache.stats-log-interval-ms:600000}")
+    public void logStats() {
+        Stats stats = getStats();
+        if (stats.localHits() + stats.remoteHits() + stats.coalesced() + stats.misses() == 0) {
+            return;
+        }
+        log.info("채점 결과 캐시 - 적중률: {}%, L1 적중: {}, Redis 적중: {}, 합류: {}, 미적중: {}, L1 항목: {}, L1 출력 {}바이트",
+                String.format("%.1f", stats.hitRatio() * 100), stats.localHits(), stats.remoteHits(),
+                stats.coalesced(), stats.misses(), stats.localEntries(), stats.localBytes());
+    }
+
+    /**
+     * 채점 결과 캐시 지표
+     *
+     * @param localHits    L1 적중 수
+     * @param remoteHits   Redis 적중 수
+     * @param coalesced    진행 중인 채점에 합류한 수
+     * @param misses       실제 채점 실행 수
+     * @param localEntries L1 항목 수
+     * @param localBytes   L1 항목 출력 크기 합계
+     */
+    public record Stats(long localHits, long remoteHits, long coalesced, long misses,
+                        int localEntries, long localBytes) {
+
+        public double hitRatio() {
+            long total = localHits + remoteHits + coalesced + misses;
+            return total == 0 ? 0.0 : (double) (localHits + remoteHits + coalesced) / total;
+        }
+    }
+
+    /**
+     * 실행 시점 부하에 따라 달라질 수 있는 결과는 캐시하지 않음
+     */
+    private static boolean isCacheable(TestRunResponseDto result) {
+        if (result == null || result.getTestCaseResults() == null) {
+            return false;
+        }
+        for (TestRunResponseDto.TestCaseResultDto caseResult : result.getTestCaseResults()) {
+            String verdict = caseResult.getResult();
+            if ("TLE".equals(verdict) || "ERROR".equals(verdict) || "SKIPPED".equals(verdict)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private TestRunResponseDto getLocal(String key) {
+        synchronized (localCache) {
+            LocalEntry entry = localCache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                localCache.remove(key);
+                localBytes -= entry.bytes();
+                return null;
+            }
+            return entry.result();
+        }
+    }
+
+    /**
+     * L1 저장 - 출력이 Redis 저장 상한을 넘으면 생략, 항목 수/크기 합계를 넘으면 오래된 항목부터 제거
+     */
+    private void putLocal(String key, TestRunResponseDto result) {
+        long bytes = outputLength(result);
+        if (bytes > maxRemoteBytes) {
+            log.debug("채점 결과가 커서 L1 저장 생략 - key: {}, length: {}", key, bytes);
+            return;
+        }
+        synchronized (localCache) {
+            LocalEntry previous = localCache.put(key,
+                    new LocalEntry(result, System.currentTimeMillis() + ttl.toMillis(), bytes));
+            localBytes += bytes - (previous != null ? previous.bytes() : 0);
+
+            Iterator<LocalEntry> eldest = localCache.values().iterator();
+            while ((localCache.size() > localSize || localBytes > localMaxBytes) && eldest.hasNext()) {
+                localBytes -= eldest.next().bytes();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * 결과에 담긴 실제 출력/에러 메시지 길이 합계 (Redis 저장 상한과 같은 문자 수 기준)
+     */
+    private static long outputLength(TestRunResponseDto result) {
+        long length = 0;
+        for (TestRunResponseDto.TestCaseResultDto c : result.getTestCaseResults()) {
+            length += c.getActualOutput() != null ? c.getActualOutput().length() : 0;
+            length += c.getErrorMessage() != null ? c.getErrorMessage().length() : 0;
+        }
+        return length;
+    }
+
+    private TestRunResponseDto getRemote(String key, TestCaseBundle bundle) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json != null ? objectMapper.readValue(json, CachedVerdict.class).toResult(bundle) : null;
+        } catch (Exception e) {
+            log.warn("채점 결과 캐시 조회 실패 - key: {}, {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String key, TestRunResponseDto result) {
+        try {
+            String json = objectMapper.writeValueAsString(CachedVerdict.from(result));
+            if (json.length() > maxRemoteBytes) {
+                log.debug("채점 결과가 커서 Redis 저장 생략 - key: {}, length: {}", key, json.length());
+                return;
+            }
+            redisTemplate.opsForValue().set(key, json, ttl);
+        } catch (Exception e) {
+            log.warn("채점 결과 캐시 저장 실패 - key: {}, {}", key, e.getMessage());
+        }
+    }
+
+    private record LocalEntry(TestRunResponseDto result, long expiresAt, long bytes) {
+    }
+
+    /**
+     * Redis 저장 형식 (TestRunResponseDto는 빌더 전용이므로 별도 레코드로 직렬화)
+     */
+    record CachedVerdict(
+            String overallResult,
+            int passedCount,
+            int totalCount,
+            Double testPassRate,
+            Integer maxExecutionTime,
+            Integer maxMemoryUsage,
+            List<CachedCase> cases
+    ) {
+        static CachedVerdict from(TestRunResponseDto r) {
+            List<CachedCase> cases = new ArrayList<>(r.getTestCaseResults().size());
+            for (TestRunResponseDto.TestCaseResultDto c : r.getTestCaseResults()) {
+                cases.add(new CachedCase(c.getTestCaseNumber(), c.getActualOutput(), c.getResult(),
+                        c.getExecutionTime(), c.getMemoryUsage(), c.getErrorMessage()));
+            }
+            return new CachedVerdict(r.getOverallResult(), r.getPassedCount(), r.getTotalCount(),
+                    r.getTestPassRate(), r.getMaxExecutionTime(), r.getMaxMemoryUsage(), cases);
+        }
+
+        TestRunResponseDto toResult(TestCaseBundle bundle) {
+            List<AlgoTestcaseDto> testCases = bundle.getTestCases();
+            List<TestRunResponseDto.TestCaseResultDto> results = new ArrayList<>(cases.size());
+            for (CachedCase c : cases) {
+                AlgoTestcaseDto testCase = c.testCaseNumber() != null && c.testCaseNumber() >= 1
+                        && c.testCaseNumber() <= testCases.size() ? testCases.get(c.testCaseNumber() - 1) : null;
+                results.add(TestRunResponseDto.TestCaseResultDto.builder()
+                        .testCaseNumber(c.testCaseNumber())
+                        .input(testCase != null ? testCase.getInputData() : null)
+                        .expectedOutput(testCase != null ? testCase.getExpectedOutput() : null)
+                        .actualOutput(c.actualOutput())
+                        .result(c.result())
+                        .executionTime(c.executionTime())
+                        .memoryUsage(c.memoryUsage())
+                        .errorMessage(c.errorMessage())
+                        .build());
+            }
+            return TestRunResponseDto.builder()
+                    .overallResult(overallResult)
+                    .passedCount(passedCount)
+                    .totalCount(totalCount)
+                    .testPassRate(testPassRate)
+                    .maxExecutionTime(maxExecutionTime)
+                    .maxMemoryUsage(maxMemoryUsage)
+                    .testCaseResults(results)
+                    .build();
+        }
+    }
+
+    record CachedCase(
+            Integer testCaseNumber,
+            String actualOutput,
+            String result,
+            Integer executionTime,
+            Integer memoryUsage,
+            String errorMessage
+    ) {
+    }
+}
@@ -1,30 +1,121 @@
 package kr.or.kosa.backend.algorithm.service;
 
+import jakarta.annotation.PostConstruct;
 import kr.or.kosa.backend.algorithm.dto.LanguageDto;
 import kr.or.kosa.backend.algorithm.dto.enums.LanguageType;
 import kr.or.kosa.backend.algorithm.mapper.LanguageMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * 언어 서비스
- * DB 직접 조회 방식 (단순화)
+ * LANGUAGES 테이블을 시작 시 메모리 레지스트리로 적재하여 조회 (채점 경로에서 DB 왕복 제거)
  *
  * 변경사항 (2025-12-13):
  * - LanguageConstantService → LanguageService 리팩토링
  * - languageId (INT, Judge0 API ID)를 기준으로 조회
  * - pistonLanguage 필드 지원
+ *
+ * 레지스트리 갱신 시점:
+ * - 애플리케이션 시작 시 (@PostConstruct)
+ * - 주기적 TTL 갱신 (language.registry.refresh-ms, 기본 10분)
+ * - 관리자 기능(추가/수정/삭제) 또는 reload() 호출 시 → Redis 채널로 다른 노드에도 전파
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LanguageService {
 
+    private static final String INVALIDATE_CHANNEL = "language:registry:invalidate";
+
     private final LanguageMapper languageMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 조회 시에는 volatile 읽기 한 번으로 전체 스냅샷을 얻음 (교체는 통째로)
+    private volatile LanguageRegistry registry = LanguageRegistry.EMPTY;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            String publisher = new String(message.getBody(), StandardCharsets.UTF_8);
+            if (!nodeId.equals(publisher)) {
+                log.info("언어 레지스트리 무효화 메시지 수신 - publisher: {}", publisher);
+                loadRegistry();
+            }
+        }, new ChannelTopic(INVALIDATE_CHANNEL));
+
+        try {
+            loadRegistry();
+        } catch (Exception e) {
+            // DB가 준비되지 않았더라도 기동은 계속하고, 첫 조회 시 다시 적재
+            log.error("언어 레지스트리 초기 적재 실패 - 첫 조회 시 재시도합니다", e);
+        }
+    }
+
+    /**
+     * TTL 기반 주기 갱신
+     */
+    @Scheduled(fixedDelayString = "${language.registry.refresh-ms:600000}",
+            initialDelayString = "${language.registry.refresh-ms:600000}")
+    public void refreshPeriodically() {
+        try {
+            loadRegistry();
+        } catch (Exception e) {
+            log.warn("언어 레지스트리 주기 갱신 실패 - 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 레지스트리 재적재 + 다른 노드에 무효화 전파 (관리자 기능)
+     *
+     * @return 적재된 언어 수
+     */
+    public int reload() {
+        loadRegistry();
+        publishInvalidation();
+        return registry.all().size();
+    }
+
+    /**
+     * DB에서 전체 언어를 읽어 새 스냅샷으로 교체
+     */
+    private synchronized void loadRegistry() {
+        List<LanguageDto> languages = languageMapper.selectAll();
+        registry = LanguageRegistry.of(languages);
+        log.info("언어 레지스트리 적재 완료 - {}개 언어", languages.size());
+    }
+
+    private LanguageRegistry registry() {
+        LanguageRegistry current = registry;
+        if (!current.loaded()) {
+            loadRegistry();
+            current = registry;
+        }
+        return current;
+    }
 
     /**
      * 언어 ID로 조회 (Judge0 API ID)
@@ -34,7 +125,7 @@ public class LanguageService {
      * @return 언어 정보, 없으면 null
      */
     public LanguageDto getById(Integer languageId) {
-        LanguageDto language = languageMapper.selectById(languageId);
+        LanguageDto language = registry().byId(languageId);
 
         if (language == null) {
             log.warn("언어 ID '{}'를 찾을 수 없습니다. 지원하지 않는 언어일 수 있습니다.", languageId);
@@ -50,7 +141,8 @@ public class LanguageService {
      * @return 언어 정보, 없으면 null
      */
     public LanguageDto getByName(String languageName) {
-        LanguageDto language = languageMapper.selectByName(languageName);
+        LanguageRegistry current = registry();
+        LanguageDto language = current.byKey(current.idByName(), languageName);
 
         if (language == null) {
             log.warn("언어 '{}'를 찾을 수 없습니다.", languageName);
@@ -66,26 +158,27 @@ public class LanguageService {
      * @return 언어 정보, 없으면 null
      */
     public LanguageDto getByPistonLanguage(String pistonLanguage) {
-        return languageMapper.selectByPistonLanguage(pistonLanguage);
+        LanguageRegistry current = registry();
+        return current.byKey(current.idByPistonLanguage(), pistonLanguage);
     }
 
     /**
      * 모든 언어 조회
      *
-     * @return 전체 언어 리스트
+     * @return 전체 언어 리스트 (언어명 순, 읽기 전용)
      */
     public List<LanguageDto> getAllLanguages() {
-        return languageMapper.selectAll();
+        return registry().all();
     }
 
     /**
      * 언어 유형별 조회 (문제 타입에 따른 언어 목록 제공)
      *
      * @param languageType 언어 유형 (GENERAL 또는 DB)
-     * @return 해당 유형의 언어 리스트
+     * @return 해당 유형의 언어 리스트 (언어명 순, 읽기 전용)
      */
     public List<LanguageDto> getLanguagesByType(LanguageType languageType) {
-        return languageMapper.selectByType(languageType.name());
+        return registry().byType().getOrDefault(languageType, List.of());
     }
 
     /**
@@ -140,6 +233,7 @@ public class LanguageService {
                     "언어 ID '" + language.getLanguageId() + "'를 찾을 수 없습니다.");
         }
 
+        reloadAfterCommit();
         log.info("언어 업데이트 완료: ID={}", language.getLanguageId());
     }
 
@@ -154,6 +248,7 @@ public class LanguageService {
 
         languageMapper.insert(language);
 
+        reloadAfterCommit();
         log.info("새 언어 추가 완료: ID={}", language.getLanguageId());
     }
 
@@ -173,6 +268,99 @@ public class LanguageService {
             throw new IllegalArgumentException("언어 ID '" + languageId + "'를 찾을 수 없습니다.");
         }
 
+        reloadAfterCommit();
         log.info("언어 삭제 완료: ID={}", languageId);
     }
+
+    /**
+     * 트랜잭션 커밋 이후 레지스트리 재적재 (커밋 전 데이터가 다른 노드에 보이지 않도록)
+     */
+    private void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    private void publishInvalidation() {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, nodeId);
+        } catch (Exception e) {
+            log.warn("언어 레지스트리 무효화 메시지 발행 실패 - 다른 노드는 TTL 갱신을 기다립니다: {}", e.getMessage());
+        }
+    }
+
+    private static String normalizeKey(String key) {
+        return key == null ? null : key.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 불변 언어 레지스트리 스냅샷
+     * - byIdTable: languageId를 인덱스로 하는 배열 (Judge0 ID는 작은 정수이므로 배열 조회)
+     * - idByName / idByPistonLanguage: 소문자 키 → languageId (DB 콜레이션과 동일하게 대소문자 무시)
+     */
+    private record LanguageRegistry(
+            boolean loaded,
+            LanguageDto[] byIdTable,
+            Map<String, Integer> idByName,
+            Map<String, Integer> idByPistonLanguage,
+            List<LanguageDto> all,
+            Map<LanguageType, List<LanguageDto>> byType) {
+
+        static final LanguageRegistry EMPTY =
+                new LanguageRegistry(false, new LanguageDto[0], Map.of(), Map.of(), List.of(), Map.of());
+
+        static LanguageRegistry of(List<LanguageDto> languages) {
+            int maxId = languages.stream()
+                    .map(LanguageDto::getLanguageId)
+                    .filter(id -> id != null && id >= 0)
+                    .max(Integer::compare)
+                    .orElse(-1);
+
+            LanguageDto[] table = new LanguageDto[maxId + 1];
+            Map<String, Integer> idByName = new HashMap<>();
+            Map<String, Integer> idByPiston = new HashMap<>();
+            Map<LanguageType, List<LanguageDto>> byType = new EnumMap<>(LanguageType.class);
+
+            List<LanguageDto> sorted = languages.stream()
+                    .filter(language -> language.getLanguageId() != null && language.getLanguageId() >= 0)
+                    .sorted(Comparator.comparing(LanguageDto::getLanguageName,
+                            Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                    .toList();
+
+            for (LanguageDto language : sorted) {
+                table[language.getLanguageId()] = language;
+                if (language.getLanguageName() != null) {
+                    idByName.put(normalizeKey(language.getLanguageName()), language.getLanguageId());
+                }
+                if (language.getPistonLanguage() != null) {
+                    idByPiston.putIfAbsent(normalizeKey(language.getPistonLanguage()), language.getLanguageId());
+                }
+                if (language.getLanguageType() != null) {
+                    byType.computeIfAbsent(language.getLanguageType(), type -> new ArrayList<>()).add(language);
+                }
+            }
+            byType.replaceAll((type, list) -> Collections.unmodifiableList(list));
+
+            return new LanguageRegistry(true, table, Map.copyOf(idByName), Map.copyOf(idByPiston),
+                    sorted, Collections.unmodifiableMap(byType));
+        }
+
+        LanguageDto byId(Integer languageId) {
+            if (languageId == null || languageId < 0 || languageId >= byIdTable.length) {
+                return null;
+            }
+            return byIdTable[languageId];
+        }
+
+        LanguageDto byKey(Map<String, Integer> index, String key) {
+            return key == null ? null : byId(index.get(normalizeKey(key)));
+        }
+    }
 }
@@ -0,0 +1,780 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
+import kr.or.kosa.backend.algorithm.dto.response.TestRunResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 코드 실행 서비스 (code-executor.provider=local)
+ * 원격 Judge0/Piston 대신 같은 머신에서 ProcessBuilder로 직접 실행
+ *
+ * - Java: 상주 JVM의 javax.tools 컴파일러로 제출당 1회 컴파일 (javac 프로세스 기동 비용 제거)
+ *   - 상주 컴파일러 스레드는 중단할 수 없으므로 수를 제한하고, 모두 사용 중이면 강제 종료 가능한 javac 프로세스(nsjail 안)로 컴파일
+ * - Python / JavaScript: 인터프리터 직접 실행
+ * - 테스트케이스마다 별도 프로세스를 띄우고 localExecutorPool(코어 수)로 동시 실행
+ * - 작업 디렉토리는 tmpfs(/dev/shm)를 우선 사용하고 채점 후 삭제
+ * - 시간 초과 판정은 샌드박스 안에서 사용한 CPU 시간 기준 (벽시계 시간은 강제 종료 기한으로만 사용)
+ * - 메모리 사용량은 측정하지 않음 (응답의 maxMemoryUsage는 null)
+ * - 테스트케이스 실행은 nsjail 샌드박스 안에서 수행 (local-executor.sandbox=nsjail, 기본값)
+ *   - 별도 UID(nobody), 네트워크/PID/마운트 네임스페이스 분리, 환경 변수 제거
+ *   - 루트는 빈 tmpfs, 시스템 디렉토리와 작업 디렉토리만 읽기 전용으로 마운트 (애플리케이션 설정/.env 접근 불가)
+ *   - cgroup v2로 메모리/PID 수/CPU 제한, rlimit으로 CPU 시간/출력 파일 크기 제한
+ * - local-executor.sandbox=none은 개발용 (ulimit만 적용, 백엔드와 같은 OS 사용자로 실행)
+ * - Java 컴파일은 어노테이션 프로세서 없이 수행하고 시간 제한을 둠
+ */
+@Service
+@Slf4j
+public class LocalExecutorService {
+
+    private static final Pattern JAVA_PUBLIC_CLASS = Pattern.compile("public\\s+(?:final\\s+)?class\\s+(\\w+)");
+    private static final Pattern TIMES_ENTRY = Pattern.compile("(\\d+)m(\\d+(?:\\.\\d+)?)s");
+    private static final int SIGXCPU_EXIT_CODE = 128 + 24;
+    private static final int SIGKILL_EXIT_CODE = 128 + 9;
+    private static final String SANDBOX_NSJAIL = "nsjail";
+    private static final String SANDBOX_NONE = "none";
+
+    private final Executor localExecutorPool;
+    private final JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+
+    // 상주 컴파일러는 중단할 수 없으므로 채점 스레드가 아닌 별도 데몬 스레드에서 실행하고 시간 제한만 둠
+    // 시간 초과한 컴파일 스레드는 끝날 때까지 남으므로 스레드 수를 제한 (가득 차면 거부 → javac 프로세스로 컴파일)
+    private final AtomicInteger compileThreadCount = new AtomicInteger();
+    private final ThreadPoolExecutor compileExecutor;
+
+    @Value("${local-executor.work-dir:}")
+    private String workDir;
+
+    @Value("${local-executor.java-command:java}")
+    private String javaCommand;
+
+    @Value("${local-executor.python-command:python3}")
+    private String pythonCommand;
+
+    @Value("${local-executor.node-command:node}")
+    private String nodeCommand;
+
+    @Value("${local-executor.use-ulimit:true}")
+    private boolean useUlimit;
+
+    @Value("${local-executor.output-limit-kb:8192}")
+    private int outputLimitKb;
+
+    @Value("${local-executor.wall-time-grace-ms:1000}")
+    private int wallTimeGraceMs;
+
+    @Value("${local-executor.compile-timeout-ms:10000}")
+    private long compileTimeoutMs;
+
+    @Value("${local-executor.javac-command:javac}")
+    private String javacCommand;
+
+    @Value("${local-executor.compile-memory-mb:512}")
+    private int compileMemoryMb;
+
+    @Value("${local-executor.sandbox:nsjail}")
+    private String sandbox;
+
+    @Value("${local-executor.nsjail-command:nsjail}")
+    private String nsjailCommand;
+
+    @Value("${local-executor.sandbox-uid:65534}")
+    private int sandboxUid;
+
+    @Value("${local-executor.sandbox-gid:65534}")
+    private int sandboxGid;
+
+    @Value("${local-executor.readonly-mounts:/usr,/lib,/lib64,/bin,/etc/alternatives,/etc/ld.so.cache,/opt/java}")
+    private String[] readonlyMounts;
+
+    @Value("${local-executor.use-cgroup-v2:true}")
+    private boolean useCgroupV2;
+
+    @Value("${local-executor.max-processes:64}")
+    private int maxProcesses;
+
+    @Value("${local-executor.java-memory-overhead-mb:128}")
+    private int javaMemoryOverheadMb;
+
+    public LocalExecutorService(
+            @Qualifier("localExecutorPool") Executor localExecutorPool,
+            @Value("${local-executor.compile-threads:2}") int compileThreads) {
+        this.localExecutorPool = localExecutorPool;
+        this.compileExecutor = new ThreadPoolExecutor(
+                0, compileThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "Local-Compiler-" + compileThreadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PostConstruct
+    void checkSandbox() {
+        if (SANDBOX_NONE.equalsIgnoreCase(sandbox)) {
+            log.warn("로컬 실행기 샌드박스 비활성화 (local-executor.sandbox=none) - 제출 코드가 백엔드와 같은 OS 사용자로 실행됩니다. 개발 환경에서만 사용하세요.");
+        } else if (resolveExecutable(nsjailCommand) == null) {
+            log.error("nsjail을 찾을 수 없습니다 ({}) - 로컬 실행기 채점 요청은 실패 처리됩니다", nsjailCommand);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        compileExecutor.shutdownNow();
+    }
+
+    /**
+     * AlgoTestcaseDto 목록으로 채점 실행
+     *
+     * @param sourceCode  제출할 소스 코드
+     * @param languageKey 언어 키 (LANGUAGES.PISTON_LANGUAGE: java, python, javascript)
+     * @param testCases   AlgoTestcaseDto 목록
+     * @param timeLimit   시간 제한 (ms)
+     * @param memoryLimit 메모리 제한 (MB)
+     * @param failFast    true이면 첫 번째 비-AC 결과 이후의 테스트케이스는 SKIPPED 처리
+     * @return 채점 결과 (TestRunResponseDto)
+     */
+    public CompletableFuture<TestRunResponseDto> judgeCode(
+            String sourceCode,
+            String languageKey,
+            List<AlgoTestcaseDto> testCases,
+            Integer timeLimit,
+            Integer memoryLimit,
+            boolean failFast) {
+
+        log.info("로컬 채점 시작 - language: {}, testCases: {}, timeLimit: {}ms, memoryLimit: {}MB",
+                languageKey, testCases.size(), timeLimit, memoryLimit);
+
+        LocalLanguage language = LocalLanguage.from(languageKey);
+        if (language == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("로컬 실행기에서 지원하지 않는 언어입니다: " + languageKey));
+        }
+
+        if (!SANDBOX_NONE.equalsIgnoreCase(sandbox) && resolveExecutable(nsjailCommand) == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("로컬 실행기 샌드박스(nsjail)를 사용할 수 없습니다: " + nsjailCommand));
+        }
+
+        int effectiveTimeLimit = timeLimit != null ? timeLimit : 2000;
+        int effectiveMemoryLimit = memoryLimit != null ? memoryLimit : 256;
+
+        return CompletableFuture
+                .supplyAsync(() -> prepare(sourceCode, language), localExecutorPool)
+                .thenCompose(prepared -> {
+                    if (prepared.compileError() != null) {
+                        return CompletableFuture.completedFuture(
+                                compileErrorResponse(testCases, prepared.compileError()));
+                    }
+                    CompletableFuture<TestRunResponseDto> run;
+                    try {
+                        run = runAll(prepared, testCases, effectiveTimeLimit, effectiveMemoryLimit, failFast);
+                    } catch (RuntimeException e) {
+                        deleteQuietly(prepared.dir());
+                        throw e;
+                    }
+                    return run.whenComplete((result, error) -> deleteQuietly(prepared.dir()));
+                });
+    }
+
+    // ===== 준비 (작업 디렉토리 + 컴파일) =====
+
+    private record Prepared(Path dir, List<String> command, String compileError) {
+    }
+
+    private Prepared prepare(String sourceCode, LocalLanguage language) {
+        Path dir;
+        try {
+            dir = Files.createTempDirectory(resolveBaseDir(), "judge-");
+            // 샌드박스 사용자(nobody)가 읽을 수 있도록 (쓰기는 불가)
+            Files.setPosixFilePermissions(dir, PosixFilePermissions.fromString("rwxr-xr-x"));
+        } catch (IOException e) {
+            throw new IllegalStateException("로컬 실행 작업 디렉토리 생성 실패: " + e.getMessage(), e);
+        }
+
+        try {
+            switch (language) {
+                case JAVA -> {
+                    String className = detectJavaClassName(sourceCode);
+                    Path source = dir.resolve(className + ".java");
+                    Files.writeString(source, sourceCode, StandardCharsets.UTF_8);
+
+                    String compileError = compileJava(source, dir);
+                    if (compileError != null) {
+                        deleteQuietly(dir);
+                        return new Prepared(dir, List.of(), compileError);
+                    }
+                    return new Prepared(dir, List.of(javaCommand, "-cp", dir.toString(), className), null);
+                }
+                case PYTHON -> {
+                    Path source = dir.resolve("main.py");
+                    Files.writeString(source, sourceCode, StandardCharsets.UTF_8);
+                    return new Prepared(dir, List.of(pythonCommand, source.toString()), null);
+                }
+                default -> {
+                    Path source = dir.resolve("main.js");
+                    Files.writeString(source, sourceCode, StandardCharsets.UTF_8);
+                    return new Prepared(dir, List.of(nodeCommand, source.toString()), null);
+                }
+            }
+        } catch (IOException e) {
+            deleteQuietly(dir);
+            throw new IllegalStateException("소스 파일 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Java 컴파일 (상주 컴파일러 우선, 없거나 컴파일 스레드가 모두 사용 중이면 javac 프로세스)
+     *
+     * @return 컴파일 에러 메시지, 성공 시 null
+     */
+    private String compileJava(Path source, Path outputDir) {
+        // -proc:none: 클래스패스의 어노테이션 프로세서가 컴파일 중에 실행되지 않도록 함
+        String[] options = {"-proc:none", "-encoding", "UTF-8", "-d", outputDir.toString(), source.toString()};
+
+        if (javaCompiler == null) {
+            return compileWithProcess(options, outputDir);
+        }
+
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        Future<Integer> compilation;
+        try {
+            compilation = compileExecutor.submit(() -> javaCompiler.run(null, null, errors, options));
+        } catch (RejectedExecutionException e) {
+            log.warn("상주 컴파일러 스레드 모두 사용 중 ({}개) - javac 프로세스로 컴파일", compileExecutor.getMaximumPoolSize());
+            return compileWithProcess(options, outputDir);
+        }
+        try {
+            int exitCode = compilation.get(compileTimeoutMs, TimeUnit.MILLISECONDS);
+            return exitCode == 0 ? null : errors.toString(StandardCharsets.UTF_8);
+        } catch (TimeoutException e) {
+            // 상주 컴파일러는 인터럽트에 반응하지 않으므로 스레드는 컴파일이 끝날 때까지 점유됨
+            compilation.cancel(true);
+            log.warn("Java 컴파일 시간 초과 ({}ms) - {}", compileTimeoutMs, source);
+            return "컴파일 시간 초과";
+        } catch (ExecutionException e) {
+            return "컴파일러 실행 실패: " + e.getCause().getMessage();
+        } catch (InterruptedException e) {
+            compilation.cancel(true);
+            Thread.currentThread().interrupt();
+            return "컴파일이 중단되었습니다";
+        }
+    }
+
+    /**
+     * javac 프로세스로 컴파일 (시간 초과 시 강제 종료)
+     * - 샌드박스 사용 시 nsjail 안에서 실행 (작업 디렉토리만 쓰기 가능, 작업 디렉토리 소유자 권한)
+     */
+    private String compileWithProcess(String[] options, Path outputDir) {
+        Path output = outputDir.resolve("compile.txt");
+        List<String> command = new ArrayList<>();
+        command.add(javacCommand);
+        command.add("-J-Xmx" + compileMemoryMb + "m");
+        command.addAll(List.of(options));
+        try {
+            if (isSandboxed()) {
+                command = wrapWithNsjail(outputDir, command, compileJailLimits(outputDir));
+            }
+            Process process = new ProcessBuilder(command)
+                    .directory(outputDir.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile())
+                    .start();
+            if (!process.waitFor(compileTimeoutMs, TimeUnit.MILLISECONDS)) {
+                destroyTree(process);
+                log.warn("Java 컴파일 시간 초과 ({}ms) - {}", compileTimeoutMs, outputDir);
+                return "컴파일 시간 초과";
+            }
+            return process.exitValue() == 0 ? null : Files.readString(output, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "javac 실행 실패: " + e.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "컴파일이 중단되었습니다";
+        }
+    }
+
+    private JailLimits compileJailLimits(Path dir) throws IOException {
+        int cpuSeconds = (int) Math.ceil(compileTimeoutMs / 1000.0) + 1;
+        return new JailLimits(
+                (Integer) Files.getAttribute(dir, "unix:uid"),
+                (Integer) Files.getAttribute(dir, "unix:gid"),
+                true,
+                cpuSeconds + 1,
+                cpuSeconds,
+                "inf",
+                (compileMemoryMb + (long) javaMemoryOverheadMb) * 1024L * 1024L);
+    }
+
+    private String detectJavaClassName(String sourceCode) {
+        Matcher matcher = JAVA_PUBLIC_CLASS.matcher(sourceCode);
+        return matcher.find() ? matcher.group(1) : "Main";
+    }
+
+    // ===== 실행 =====
+
+    private CompletableFuture<TestRunResponseDto> runAll(
+            Prepared prepared,
+            List<AlgoTestcaseDto> testCases,
+            int timeLimit,
+            int memoryLimit,
+            boolean failFast) {
+
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<CompletableFuture<TestRunResponseDto.TestCaseResultDto>> futures = new ArrayList<>(testCases.size());
+
+        for (int i = 0; i < testCases.size(); i++) {
+            AlgoTestcaseDto testCase = testCases.get(i);
+            int testCaseNumber = i + 1;
+
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    if (failFast && failed.get()) {
+                        return skippedResult(testCase, testCaseNumber);
+                    }
+                    TestRunResponseDto.TestCaseResultDto result =
+                            runSingle(prepared, testCase, testCaseNumber, timeLimit, memoryLimit);
+                    if (!"AC".equals(result.getResult())) {
+                        failed.set(true);
+                    }
+                    return result;
+                }, localExecutorPool));
+            } catch (RejectedExecutionException e) {
+                // 풀이 가득 차면 해당 케이스는 ERROR로 기록 (이미 제출된 케이스가 끝난 뒤 작업 디렉토리 삭제)
+                log.warn("로컬 실행 대기열 초과 - testCase: {}", testCaseNumber);
+                failed.set(true);
+                futures.add(CompletableFuture.completedFuture(rejectedResult(testCase, testCaseNumber)));
+            }
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> buildResponse(futures.stream().map(CompletableFuture::join).toList()));
+    }
+
+    private TestRunResponseDto.TestCaseResultDto runSingle(
+            Prepared prepared,
+            AlgoTestcaseDto testCase,
+            int testCaseNumber,
+            int timeLimit,
+            int memoryLimit) {
+
+        TestRunResponseDto.TestCaseResultDto.TestCaseResultDtoBuilder builder =
+                TestRunResponseDto.TestCaseResultDto.builder()
+                        .testCaseNumber(testCaseNumber)
+                        .input(testCase.getInputData())
+                        .expectedOutput(testCase.getExpectedOutput());
+
+        Path input = prepared.dir().resolve("in" + testCaseNumber + ".txt");
+        Path stdoutFile = prepared.dir().resolve("out" + testCaseNumber + ".txt");
+        Path stderrFile = prepared.dir().resolve("err" + testCaseNumber + ".txt");
+        Path cpuTimeFile = prepared.dir().resolve("cpu" + testCaseNumber + ".txt");
+
+        try {
+            Files.writeString(input, testCase.getInputData() != null ? testCase.getInputData() : "",
+                    StandardCharsets.UTF_8);
+
+            ProcessBuilder processBuilder = new ProcessBuilder(
+                    buildCommand(prepared.dir(), prepared.command(), cpuTimeFile, timeLimit, memoryLimit))
+                    .directory(prepared.dir().toFile())
+                    .redirectInput(input.toFile())
+                    .redirectOutput(stdoutFile.toFile())
+                    .redirectError(stderrFile.toFile());
+
+            // 벽시계 시간은 강제 종료 기한으로만 사용 (JVM/nsjail 기동, 부하 시 CPU 대기 시간이 포함되므로)
+            long start = System.nanoTime();
+            Process process = processBuilder.start();
+            boolean finished = process.waitFor(timeLimit + (long) wallTimeGraceMs, TimeUnit.MILLISECONDS);
+            int elapsedMs = (int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            if (!finished) {
+                destroyTree(process);
+                return builder.executionTime(elapsedMs).result("TLE").errorMessage("시간 초과").build();
+            }
+
+            // 실행 시간은 샌드박스 안에서 사용한 CPU 시간 (읽지 못한 경우에만 벽시계 시간 표시)
+            long cpuMs = readCpuMillis(cpuTimeFile);
+            builder.executionTime(cpuMs >= 0 ? (int) cpuMs : elapsedMs);
+
+            if (Files.size(stdoutFile) > outputLimitKb * 1024L) {
+                return builder.result("RE").errorMessage("출력 초과").build();
+            }
+
+            String stdout = Files.readString(stdoutFile, StandardCharsets.UTF_8);
+            String stderr = Files.readString(stderrFile, StandardCharsets.UTF_8);
+            int exitCode = process.exitValue();
+            builder.actualOutput(stdout);
+
+            if (exitCode == SIGXCPU_EXIT_CODE || cpuMs > timeLimit) {
+                return builder.result("TLE").errorMessage("시간 초과").build();
+            }
+            if (exitCode != 0) {
+                // 샌드박스에서는 cgroup 메모리 초과 시 SIGKILL로 종료됨
+                if (isOutOfMemory(stderr) || (exitCode == SIGKILL_EXIT_CODE && isSandboxed())) {
+                    return builder.result("MLE").errorMessage("메모리 초과").build();
+                }
+                return builder
+                        .result("RE")
+                        .errorMessage("런타임 에러 (exit code: " + exitCode + "): " + stderr)
+                        .build();
+            }
+
+            return TestCaseBundle.isSameOutput(testCase, stdout)
+                    ? builder.result("AC").build()
+                    : builder.result("WA").errorMessage("출력이 예상 결과와 다릅니다").build();
+
+        } catch (IOException e) {
+            log.error("로컬 실행 실패 - testCase: {}", testCaseNumber, e);
+            return builder.result("ERROR").errorMessage("로컬 실행 오류: " + e.getMessage()).build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return builder.result("ERROR").errorMessage("실행이 중단되었습니다").build();
+        }
+    }
+
+    /**
+     * 실행 명령 구성
+     * - Java: -Xmx로 힙 제한 (JVM은 가상 메모리를 크게 예약하므로 주소 공간 제한 미적용)
+     * - 그 외: 주소 공간 제한
+     * - 샌드박스 사용 시 nsjail로 감싸고, 아니면 ulimit으로만 제한
+     * - 샌드박스 밖의 셸로 감싸 종료 후 자식 프로세스 CPU 시간(times)을 cpuTimeFile에 기록
+     *   (작업 디렉토리는 샌드박스 안에서 읽기 전용이므로 제출 코드가 값을 바꿀 수 없음)
+     */
+    private List<String> buildCommand(Path dir, List<String> command, Path cpuTimeFile, int timeLimit, int memoryLimit) {
+        List<String> full = new ArrayList<>();
+        boolean java = command.get(0).equals(javaCommand);
+
+        if (java) {
+            full.add(command.get(0));
+            full.add("-Xmx" + memoryLimit + "m");
+            full.add("-Xss64m");
+            full.add("-XX:+UseSerialGC");
+            full.add("-XX:TieredStopAtLevel=1");
+            full.add("-Xshare:auto");
+            full.addAll(command.subList(1, command.size()));
+        } else {
+            full.addAll(command);
+        }
+
+        int cpuSeconds = (int) Math.ceil(timeLimit / 1000.0) + 1;
+        StringBuilder script = new StringBuilder();
+        if (isSandboxed()) {
+            int wallSeconds = (int) Math.ceil((timeLimit + (double) wallTimeGraceMs) / 1000.0) + 1;
+            long memoryBytes = (memoryLimit + (java ? (long) javaMemoryOverheadMb : 0L)) * 1024L * 1024L;
+            full = wrapWithNsjail(dir, full, new JailLimits(
+                    sandboxUid, sandboxGid, false, wallSeconds, cpuSeconds,
+                    java ? "inf" : String.valueOf(memoryLimit), memoryBytes));
+        } else if (useUlimit) {
+            // ulimit -u는 OS 사용자 단위로 계산되므로 전용 사용자로 실행할 때만 의미가 있음
+            script.append("ulimit -t ").append(cpuSeconds)
+                    .append(" -f ").append(outputLimitKb * 2)
+                    .append(" -u ").append(maxProcesses);
+            if (!java) {
+                script.append(" -v ").append(memoryLimit * 1024L);
+            }
+            script.append("; ");
+        }
+        script.append("\"$@\"; status=$?; times > \"$0\"; exit $status");
+
+        List<String> wrapped = new ArrayList<>();
+        wrapped.add("sh");
+        wrapped.add("-c");
+        wrapped.add(script.toString());
+        wrapped.add(cpuTimeFile.toString());
+        wrapped.addAll(full);
+        return wrapped;
+    }
+
+    /**
+     * nsjail 제한값
+     *
+     * @param writableDir  작업 디렉토리 쓰기 허용 여부 (컴파일 출력용)
+     * @param addressSpace 주소 공간 제한 (MB, 제한 없으면 "inf")
+     */
+    private record JailLimits(int uid, int gid, boolean writableDir, int wallSeconds, int cpuSeconds,
+                              String addressSpace, long memoryBytes) {
+    }
+
+    /**
+     * nsjail 실행 명령
+     * - 루트는 빈 tmpfs, readonly-mounts와 작업 디렉토리만 마운트 (작업 디렉토리는 컴파일 시에만 쓰기 가능), /tmp는 별도 tmpfs
+     * - 네트워크 네임스페이스 분리(기본값)로 외부 통신 불가, 환경 변수는 PATH/LANG만 전달
+     * - 실행 출력은 부모 프로세스가 연 파일로 리다이렉트되므로 작업 디렉토리에 쓰기 권한이 필요 없음
+     */
+    private List<String> wrapWithNsjail(Path dir, List<String> command, JailLimits limits) {
+        int fileSizeMb = Math.max(1, (int) Math.ceil(outputLimitKb * 2 / 1024.0));
+
+        List<String> jail = new ArrayList<>();
+        jail.add(resolveExecutable(nsjailCommand));
+        jail.addAll(List.of(
+                "--mode", "o",
+                "--quiet",
+                "--user", String.valueOf(limits.uid()),
+                "--group", String.valueOf(limits.gid()),
+                "--hostname", "judge",
+                "--cwd", dir.toString(),
+                "--time_limit", String.valueOf(limits.wallSeconds()),
+                "--rlimit_cpu", String.valueOf(limits.cpuSeconds()),
+                "--rlimit_fsize", String.valueOf(fileSizeMb),
+                "--rlimit_as", limits.addressSpace(),
+                "--rlimit_nofile", "64",
+                "--env", "PATH=/usr/local/bin:/usr/bin:/bin",
+                "--env", "LANG=C.UTF-8",
+                "--tmpfsmount", "/tmp"));
+        for (String mount : readonlyMounts) {
+            if (!mount.isBlank() && Files.exists(Paths.get(mount.trim()))) {
+                jail.add("--bindmount_ro");
+                jail.add(mount.trim());
+            }
+        }
+        jail.add(limits.writableDir() ? "--bindmount" : "--bindmount_ro");
+        jail.add(dir.toString());
+        if (useCgroupV2) {
+            jail.addAll(List.of(
+                    "--use_cgroupv2",
+                    "--cgroup_mem_max", String.valueOf(limits.memoryBytes()),
+                    "--cgroup_pids_max", String.valueOf(maxProcesses),
+                    "--cgroup_cpu_ms_per_sec", "1000"));
+        }
+        jail.add("--");
+
+        // nsjail은 PATH 검색 없이 실행하므로 절대 경로로 변환
+        String executable = resolveExecutable(command.get(0));
+        jail.add(executable != null ? executable : command.get(0));
+        jail.addAll(command.subList(1, command.size()));
+        return jail;
+    }
+
+    private boolean isSandboxed() {
+        return !SANDBOX_NONE.equalsIgnoreCase(sandbox);
+    }
+
+    /**
+     * 실행 파일 절대 경로 (경로 구분자가 없으면 PATH에서 검색, 없으면 null)
+     */
+    private static String resolveExecutable(String command) {
+        if (command.contains(File.separator)) {
+            return Files.isExecutable(Paths.get(command)) ? command : null;
+        }
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return null;
+        }
+        for (String entry : path.split(File.pathSeparator)) {
+            Path candidate = Paths.get(entry, command);
+            if (Files.isExecutable(candidate)) {
+                return candidate.toString();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 프로세스와 하위 프로세스 강제 종료 (측정용 셸/nsjail 아래에 남는 프로세스 포함)
+     */
+    private static void destroyTree(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    /**
+     * 측정용 셸이 기록한 CPU 시간 (ms, 없으면 -1)
+     */
+    private long readCpuMillis(Path cpuTimeFile) {
+        try {
+            return Files.exists(cpuTimeFile)
+                    ? parseChildCpuMillis(Files.readString(cpuTimeFile, StandardCharsets.UTF_8))
+                    : -1;
+        } catch (IOException e) {
+            log.warn("CPU 시간 기록 읽기 실패 - {}", cpuTimeFile, e);
+            return -1;
+        }
+    }
+
+    /**
+     * 셸 times 출력에서 자식 프로세스 user + sys 시간 합계 (ms, 형식이 다르면 -1)
+     * 출력은 두 줄 (셸 자신, 자식 프로세스) 각각 "XmY.ZZZs XmY.ZZZs" 형식 (bash/dash 소수 자릿수만 다름)
+     */
+    static long parseChildCpuMillis(String times) {
+        Matcher matcher = TIMES_ENTRY.matcher(times);
+        List<Double> seconds = new ArrayList<>(4);
+        while (matcher.find()) {
+            seconds.add(Long.parseLong(matcher.group(1)) * 60 + Double.parseDouble(matcher.group(2)));
+        }
+        if (seconds.size() != 4) {
+            return -1;
+        }
+        return Math.round((seconds.get(2) + seconds.get(3)) * 1000);
+    }
+
+    private boolean isOutOfMemory(String stderr) {
+        return stderr != null && (stderr.contains("OutOfMemoryError")
+                || stderr.contains("MemoryError")
+                || stderr.contains("heap out of memory"));
+    }
+
+    // ===== 결과 조립 =====
+
+    private TestRunResponseDto compileErrorResponse(List<AlgoTestcaseDto> testCases, String compileError) {
+        List<TestRunResponseDto.TestCaseResultDto> results = new ArrayList<>(testCases.size());
+        for (int i = 0; i < testCases.size(); i++) {
+            results.add(TestRunResponseDto.TestCaseResultDto.builder()
+                    .testCaseNumber(i + 1)
+                    .input(testCases.get(i).getInputData())
+                    .expectedOutput(testCases.get(i).getExpectedOutput())
+                    .result("CE")
+                    .errorMessage("컴파일 에러: " + compileError)
+                    .build());
+        }
+        return buildResponse(results);
+    }
+
+    private TestRunResponseDto.TestCaseResultDto rejectedResult(AlgoTestcaseDto testCase, int testCaseNumber) {
+        return TestRunResponseDto.TestCaseResultDto.builder()
+                .testCaseNumber(testCaseNumber)
+                .input(testCase.getInputData())
+                .expectedOutput(testCase.getExpectedOutput())
+                .result("ERROR")
+                .errorMessage("로컬 실행 대기열이 가득 찼습니다")
+                .build();
+    }
+
+    private TestRunResponseDto.TestCaseResultDto skippedResult(AlgoTestcaseDto testCase, int testCaseNumber) {
+        return TestRunResponseDto.TestCaseResultDto.builder()
+                .testCaseNumber(testCaseNumber)
+                .input(testCase.getInputData())
+                .expectedOutput(testCase.getExpectedOutput())
+                .result("SKIPPED")
+                .errorMessage("이전 테스트케이스 실패로 채점을 생략했습니다")
+                .build();
+    }
+
+    private TestRunResponseDto buildResponse(List<TestRunResponseDto.TestCaseResultDto> results) {
+        int passedCount = 0;
+        int maxExecutionTime = 0;
+
+        for (TestRunResponseDto.TestCaseResultDto result : results) {
+            if ("AC".equals(result.getResult())) {
+                passedCount++;
+            }
+            if (result.getExecutionTime() != null) {
+                maxExecutionTime = Math.max(maxExecutionTime, result.getExecutionTime());
+            }
+        }
+
+        String overallResult = determineOverallResult(results, passedCount, results.size());
+
+        log.info("로컬 채점 완료 - 총 {} 케이스, 통과 {} 케이스, 결과: {}",
+                results.size(), passedCount, overallResult);
+
+        return TestRunResponseDto.builder()
+                .overallResult(overallResult)
+                .passedCount(passedCount)
+                .totalCount(results.size())
+                .testPassRate(results.isEmpty() ? 0.0 : (double) passedCount / results.size() * 100.0)
+                .maxExecutionTime(maxExecutionTime)
+                .maxMemoryUsage(null)
+                .testCaseResults(results)
+                .build();
+    }
+
+    /**
+     * 전체 결과 판정
+     */
+    private String determineOverallResult(List<TestRunResponseDto.TestCaseResultDto> results,
+                                          int passedCount, int totalCount) {
+        if (passedCount == totalCount) {
+            return "AC";
+        }
+
+        boolean hasCompileError = results.stream().anyMatch(r -> "CE".equals(r.getResult()));
+        if (hasCompileError) return "CE";
+
+        boolean hasRuntimeError = results.stream().anyMatch(r -> "RE".equals(r.getResult()));
+        if (hasRuntimeError) return "RE";
+
+        boolean hasTimeLimit = results.stream().anyMatch(r -> "TLE".equals(r.getResult()));
+        if (hasTimeLimit) return "TLE";
+
+        boolean hasMemoryLimit = results.stream().anyMatch(r -> "MLE".equals(r.getResult()));
+        if (hasMemoryLimit) return "MLE";
+
+        return "WA";
+    }
+
+    // ===== 작업 디렉토리 =====
+
+    /**
+     * 설정값 → tmpfs(/dev/shm) → 시스템 임시 디렉토리 순으로 선택
+     */
+    private Path resolveBaseDir() throws IOException {
+        Path base;
+        if (workDir != null && !workDir.isBlank()) {
+            base = Paths.get(workDir);
+        } else if (new File("/dev/shm").canWrite()) {
+            base = Paths.get("/dev/shm", "codenemsy-judge");
+        } else {
+            base = Paths.get(System.getProperty("java.io.tmpdir"), "codenemsy-judge");
+        }
+        return Files.createDirectories(base);
+    }
+
+    private void deleteQuietly(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("로컬 실행 작업 디렉토리 삭제 실패 - {}", dir, e);
+        }
+    }
+
+    /**
+     * 로컬 실행기가 지원하는 언어
+     */
+    private enum LocalLanguage {
+        JAVA, PYTHON, JAVASCRIPT;
+
+        static LocalLanguage from(String key) {
+            if (key == null) {
+                return null;
+            }
+            return switch (key.trim().toLowerCase()) {
+                case "java" -> JAVA;
+                case "python", "python3", "py" -> PYTHON;
+                case "javascript", "js", "node", "nodejs" -> JAVASCRIPT;
+                default -> null;
+            };
+        }
+    }
+}
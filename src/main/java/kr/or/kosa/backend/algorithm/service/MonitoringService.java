@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
  * - 모니터링 결과가 점수에 반영되지 않음 (정보 제공 및 경고 목적)
  * - Redis를 이용한 실시간 이벤트 처리
  * - 개별 위반 로그 대신 유형별 카운트 집계
+ * - 위반 이벤트는 ViolationEventAggregator에서 모아서 DB/Redis에 반영 (세션 조회/종료 전 즉시 반영)
  */
 @Slf4j
 @Service
@@ -34,6 +35,7 @@ public class MonitoringService {
 
     private final MonitoringMapper monitoringMapper;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ViolationEventAggregator violationEventAggregator;
 
     private static final String SESSION_KEY_PREFIX = "monitoring:session:";
     private static final String EVENT_KEY_PREFIX = "monitoring:events:";
@@ -99,19 +101,12 @@ public class MonitoringService {
      * @param eventData 추가 이벤트 데이터
      */
     public void processViolation(String sessionId, String violationType, Map<String, Object> eventData) {
-        log.info("⚠️ 위반 이벤트 감지 - sessionId: {}, type: {}", sessionId, violationType);
+        log.debug("⚠️ 위반 이벤트 감지 - sessionId: {}, type: {}", sessionId, violationType);
 
-        // 1. DB에 위반 카운트 증가
-        monitoringMapper.incrementViolationCount(sessionId, violationType);
-
-        // 2. Redis에 이벤트 로그 저장 (실시간 모니터링용)
-        String eventKey = EVENT_KEY_PREFIX + sessionId;
+        // 이벤트 시각은 수신 시점 기준 (반영은 집계기에서 묶어서 처리)
         eventData.put("timestamp", LocalDateTime.now().toString());
         eventData.put("violationType", violationType);
-        redisTemplate.opsForList().rightPush(eventKey, eventData);
-        redisTemplate.expire(eventKey, SESSION_TTL_HOURS, TimeUnit.HOURS);
-
-        log.debug("📝 위반 이벤트 기록 완료 - sessionId: {}, type: {}", sessionId, violationType);
+        violationEventAggregator.record(sessionId, violationType, eventData);
     }
 
     /**
@@ -133,6 +128,8 @@ public class MonitoringService {
      */
     @Transactional
     public MonitoringSessionDto endSession(String sessionId, Integer remainingSeconds) {
+        // 대기 중인 위반 카운트를 먼저 반영 (updateSession이 조회한 카운트로 덮어쓰므로)
+        violationEventAggregator.flushSession(sessionId);
         MonitoringSessionDto session = monitoringMapper.findSessionById(sessionId);
 
         if (session == null) {
@@ -172,6 +169,7 @@ public class MonitoringService {
     public MonitoringSessionDto handleTimeout(String sessionId) {
         log.info("⏰ 시간 초과 자동 제출 처리 - sessionId: {}", sessionId);
 
+        violationEventAggregator.flushSession(sessionId);
         MonitoringSessionDto session = monitoringMapper.findSessionById(sessionId);
 
         if (session == null) {
@@ -214,6 +212,7 @@ public class MonitoringService {
      * @return 세션 정보
      */
     public MonitoringSessionDto getSession(String sessionId) {
+        violationEventAggregator.flushSession(sessionId);
         return monitoringMapper.findSessionById(sessionId);
     }
 
@@ -0,0 +1,212 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.enums.OutputCompareMode;
+
+/**
+ * 채점 출력 비교기
+ *
+ * 정규화된 문자열을 새로 만들지 않고 두 출력을 앞에서부터 한 글자씩 비교합니다.
+ * (수 MB 출력에서도 비교 중 추가 할당이 없음, 실수 토큰이 다를 때만 해당 토큰을 파싱)
+ *
+ * - EXACT: 앞뒤 공백(trim 기준) 제거 + \r\n → \n 후 완전 일치 (기존 정규식 정규화와 같은 결과)
+ * - TOKEN: 공백/개행으로 나눈 토큰이 순서대로 모두 같으면 일치
+ * - FLOAT: TOKEN과 같되, 두 토큰이 모두 실수이면 절대/상대 오차가 허용 오차 이내일 때 일치
+ */
+public final class OutputComparator {
+
+    public static final double DEFAULT_FLOAT_TOLERANCE = 1e-6;
+
+    private OutputComparator() {
+    }
+
+    /**
+     * 예상 출력과 실제 출력 비교
+     * 둘 중 하나라도 없으면 비교하지 않음 (통과 처리)
+     */
+    public static boolean matches(CharSequence expected, CharSequence actual,
+                                  OutputCompareMode mode, Double tolerance) {
+        if (expected == null || actual == null) {
+            return true;
+        }
+        if (mode == null) {
+            mode = OutputCompareMode.EXACT;
+        }
+        return switch (mode) {
+            case EXACT -> matchesExact(expected, actual);
+            case TOKEN -> matchesTokens(expected, actual, false, 0);
+            case FLOAT -> matchesTokens(expected, actual, true,
+                    tolerance != null ? tolerance : DEFAULT_FLOAT_TOLERANCE);
+        };
+    }
+
+    /**
+     * EXACT 비교 - 미리 정규화해 둔 예상 출력(UTF-8 바이트)과 실제 출력 비교
+     * 실제 출력은 정규화하면서 그 자리에서 UTF-8로 인코딩하여 바이트 단위로 비교
+     */
+    public static boolean matchesNormalized(byte[] expectedNormalized, CharSequence actual) {
+        if (expectedNormalized == null || actual == null) {
+            return true;
+        }
+        int end = trimmedEnd(actual);
+        int j = trimmedStart(actual, end);
+        int i = 0;
+
+        while (j < end) {
+            j = skipCarriageReturn(actual, j, end);
+            int codePoint = actual.charAt(j++);
+            if (Character.isHighSurrogate((char) codePoint) && j < end
+                    && Character.isLowSurrogate(actual.charAt(j))) {
+                codePoint = Character.toCodePoint((char) codePoint, actual.charAt(j++));
+            } else if (Character.isSurrogate((char) codePoint)) {
+                codePoint = '?';  // String.getBytes(UTF_8)와 같은 대체 문자
+            }
+
+            if (codePoint < 0x80) {
+                if (i >= expectedNormalized.length || expectedNormalized[i++] != (byte) codePoint) {
+                    return false;
+                }
+            } else {
+                int length = codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+                if (i + length > expectedNormalized.length) {
+                    return false;
+                }
+                int lead = switch (length) {
+                    case 2 -> 0xC0 | (codePoint >> 6);
+                    case 3 -> 0xE0 | (codePoint >> 12);
+                    default -> 0xF0 | (codePoint >> 18);
+                };
+                if (expectedNormalized[i++] != (byte) lead) {
+                    return false;
+                }
+                for (int shift = (length - 2) * 6; shift >= 0; shift -= 6) {
+                    if (expectedNormalized[i++] != (byte) (0x80 | ((codePoint >> shift) & 0x3F))) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return i == expectedNormalized.length;
+    }
+
+    private static boolean matchesExact(CharSequence expected, CharSequence actual) {
+        int expectedEnd = trimmedEnd(expected);
+        int actualEnd = trimmedEnd(actual);
+        int i = trimmedStart(expected, expectedEnd);
+        int j = trimmedStart(actual, actualEnd);
+
+        while (true) {
+            i = skipCarriageReturn(expected, i, expectedEnd);
+            j = skipCarriageReturn(actual, j, actualEnd);
+            if (i >= expectedEnd || j >= actualEnd) {
+                return i >= expectedEnd && j >= actualEnd;
+            }
+            if (expected.charAt(i++) != actual.charAt(j++)) {
+                return false;
+            }
+        }
+    }
+
+    private static boolean matchesTokens(CharSequence expected, CharSequence actual,
+                                         boolean numeric, double tolerance) {
+        int i = 0;
+        int j = 0;
+        while (true) {
+            i = skipWhitespace(expected, i);
+            j = skipWhitespace(actual, j);
+            if (i >= expected.length() || j >= actual.length()) {
+                return i >= expected.length() && j >= actual.length();
+            }
+            int expectedTokenEnd = tokenEnd(expected, i);
+            int actualTokenEnd = tokenEnd(actual, j);
+
+            if (!regionEquals(expected, i, expectedTokenEnd, actual, j, actualTokenEnd)
+                    && !(numeric && numbersClose(expected, i, expectedTokenEnd, actual, j, actualTokenEnd, tolerance))) {
+                return false;
+            }
+            i = expectedTokenEnd;
+            j = actualTokenEnd;
+        }
+    }
+
+    private static boolean numbersClose(CharSequence expected, int expectedStart, int expectedEnd,
+                                        CharSequence actual, int actualStart, int actualEnd,
+                                        double tolerance) {
+        if (!isNumberToken(expected, expectedStart, expectedEnd) || !isNumberToken(actual, actualStart, actualEnd)) {
+            return false;
+        }
+        try {
+            double expectedValue = Double.parseDouble(expected.subSequence(expectedStart, expectedEnd).toString());
+            double actualValue = Double.parseDouble(actual.subSequence(actualStart, actualEnd).toString());
+            double diff = Math.abs(expectedValue - actualValue);
+            return diff <= tolerance || diff <= tolerance * Math.abs(expectedValue);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 10진 실수 표기만 허용 (NaN, Infinity, 16진수, 1.0f 같은 자바 리터럴 접미사 제외)
+     */
+    private static boolean isNumberToken(CharSequence s, int start, int end) {
+        boolean digit = false;
+        for (int k = start; k < end; k++) {
+            char c = s.charAt(k);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (c != '.' && c != '-' && c != '+' && c != 'e' && c != 'E') {
+                return false;
+            }
+        }
+        return digit;
+    }
+
+    private static boolean regionEquals(CharSequence a, int aStart, int aEnd, CharSequence b, int bStart, int bEnd) {
+        if (aEnd - aStart != bEnd - bStart) {
+            return false;
+        }
+        for (int k = 0; k < aEnd - aStart; k++) {
+            if (a.charAt(aStart + k) != b.charAt(bStart + k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * \r\n의 \r은 건너뛰어 \n만 비교 (String.replace("\r\n", "\n")과 같은 결과)
+     */
+    private static int skipCarriageReturn(CharSequence s, int index, int end) {
+        return index + 1 < end && s.charAt(index) == '\r' && s.charAt(index + 1) == '\n' ? index + 1 : index;
+    }
+
+    private static int skipWhitespace(CharSequence s, int index) {
+        while (index < s.length() && s.charAt(index) <= ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    private static int tokenEnd(CharSequence s, int index) {
+        while (index < s.length() && s.charAt(index) > ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    // String.trim()과 같은 기준 (U+0020 이하 문자)
+    private static int trimmedStart(CharSequence s, int end) {
+        int start = 0;
+        while (start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimmedEnd(CharSequence s) {
+        int end = s.length();
+        while (end > 0 && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+}
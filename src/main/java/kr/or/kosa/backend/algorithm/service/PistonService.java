@@ -48,6 +48,21 @@ public class PistonService {
             List<AlgoTestcaseDto> testCases,
             Integer timeLimit,
             Integer memoryLimit) {
+        return judgeCode(sourceCode, pistonLanguage, testCases, timeLimit, memoryLimit, false);
+    }
+
+    /**
+     * AlgoTestcaseDto 목록으로 채점 실행 (fail-fast 선택)
+     *
+     * @param failFast true이면 첫 번째 비-AC 결과 이후의 테스트케이스는 실행하지 않고 SKIPPED 처리
+     */
+    public CompletableFuture<TestRunResponseDto> judgeCode(
+            String sourceCode,
+            String pistonLanguage,
+            List<AlgoTestcaseDto> testCases,
+            Integer timeLimit,
+            Integer memoryLimit,
+            boolean failFast) {
 
         return CompletableFuture.supplyAsync(() -> {
             log.info("Piston 채점 시작 - pistonLanguage: {}, testCases: {}", pistonLanguage, testCases.size());
@@ -60,10 +75,22 @@ public class PistonService {
             int passedCount = 0;
             int maxExecutionTime = 0;
             int maxMemoryUsage = 0;
+            boolean failed = false;
 
             for (int i = 0; i < testCases.size(); i++) {
                 AlgoTestcaseDto testCase = testCases.get(i);
 
+                if (failFast && failed) {
+                    results.add(TestRunResponseDto.TestCaseResultDto.builder()
+                            .testCaseNumber(i + 1)
+                            .input(testCase.getInputData())
+                            .expectedOutput(testCase.getExpectedOutput())
+                            .result("SKIPPED")
+                            .errorMessage("이전 테스트케이스 실패로 채점을 생략했습니다")
+                            .build());
+                    continue;
+                }
+
                 try {
                     log.debug("테스트케이스 {} 실행 중...", i + 1);
 
@@ -74,6 +101,8 @@ public class PistonService {
 
                     if ("AC".equals(result.getResult()) || "PASS".equals(result.getResult())) {
                         passedCount++;
+                    } else {
+                        failed = true;
                     }
 
                     if (result.getExecutionTime() != null) {
@@ -93,6 +122,7 @@ public class PistonService {
                             .result("ERROR")
                             .errorMessage("Piston API 오류: " + e.getMessage())
                             .build());
+                    failed = true;
                 }
             }
 
@@ -235,26 +265,14 @@ public class PistonService {
                     .build();
         }
 
-        // 정답 비교
-        String expected = testCase.getExpectedOutput();
-        String actual = stdout;
-
-        if (expected != null && actual != null) {
-            // 공백/개행 정규화 후 비교
-            String normalizedExpected = expected.trim().replaceAll("\\r\\n", "\n").replaceAll("\\s+$", "");
-            String normalizedActual = actual.trim().replaceAll("\\r\\n", "\n").replaceAll("\\s+$", "");
-
-            if (normalizedExpected.equals(normalizedActual)) {
-                return builder.result("AC").build();
-            } else {
-                return builder
-                        .result("WA")
-                        .errorMessage("출력이 예상 결과와 다릅니다")
-                        .build();
-            }
+        // 정답 비교 (공백/개행 정규화 후 비교, 묶음 캐시의 테스트케이스는 미리 정규화된 예상 출력 사용)
+        if (TestCaseBundle.isSameOutput(testCase, stdout)) {
+            return builder.result("AC").build();
         }
-
-        return builder.result("AC").build();
+        return builder
+                .result("WA")
+                .errorMessage("출력이 예상 결과와 다릅니다")
+                .build();
     }
 
     /**
@@ -14,6 +14,7 @@ import kr.or.kosa.backend.algorithm.service.external.BojCrawler;
 import kr.or.kosa.backend.algorithm.service.external.LeetCodeApiClient;
 import kr.or.kosa.backend.algorithm.service.external.LeetCodeCrawler;
 import kr.or.kosa.backend.algorithm.service.external.SolvedAcApiClient;
+import kr.or.kosa.backend.algorithm.service.validation.ProblemMinHashIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -40,6 +41,8 @@ public class ProblemCrawlerService {
     private final ObjectMapper objectMapper;
     private final BojCrawler bojCrawler;
     private final ProblemVectorStoreService vectorStoreService;
+    private final ProblemSearchIndex problemSearchIndex;
+    private final ProblemMinHashIndex problemMinHashIndex;
 
     /**
      * 백준 문제 일괄 가져오기
@@ -134,6 +137,8 @@ public class ProblemCrawlerService {
                 .build();
 
         int result = problemMapper.insertProblem(problem);
+        problemSearchIndex.indexProblem(problem);
+        problemMinHashIndex.indexProblem(problem);
         log.info("✅ 저장 완료: {}", title);
         return result > 0;
     }
@@ -228,6 +233,8 @@ public class ProblemCrawlerService {
                 .build();
 
         int result = problemMapper.insertProblem(problem);
+        problemSearchIndex.indexProblem(problem);
+        problemMinHashIndex.indexProblem(problem);
         log.info("✅ 저장 완료: {}", title);
         return result > 0;
     }
@@ -0,0 +1,90 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
+import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문제 상세 조회 결과 단기 캐시 (통계는 수십 초 지연 허용)
+ *
+ * - 노드 로컬 LRU, 항목별 만료 시간
+ * - 저장/조회 모두 복사본을 사용 (호출 측이 DTO를 수정해도 캐시된 값은 바뀌지 않음)
+ * - 테스트케이스 저장 시 해당 문제 항목 제거
+ */
+@Component
+public class ProblemDetailCache {
+
+    private static final int MAX_ENTRIES = 1000;
+
+    private final long ttlMillis;
+
+    private final Map<Long, CachedDetail> entries = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, CachedDetail> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+
+    public ProblemDetailCache(@Value("${algorithm.problem-detail.cache-ttl-seconds:30}") long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 캐시된 문제 상세 복사본 (없거나 만료되었으면 null)
+     */
+    public AlgoProblemDto get(Long problemId) {
+        CachedDetail cached = entries.get(problemId);
+        if (cached == null || cached.expiresAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return copyOf(cached.problem());
+    }
+
+    public void put(AlgoProblemDto problem) {
+        entries.put(problem.getAlgoProblemId(),
+                new CachedDetail(copyOf(problem), System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * 문제 데이터 변경 후 호출 - 바로 제거하고 트랜잭션 커밋 이후 한 번 더 제거
+     * (커밋 전에 다른 요청이 변경 전 데이터로 다시 채울 수 있으므로)
+     */
+    public void evict(Long problemId) {
+        entries.remove(problemId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(problemId);
+                }
+            });
+        }
+    }
+
+    private static AlgoProblemDto copyOf(AlgoProblemDto problem) {
+        List<AlgoTestcaseDto> testcases = problem.getTestcases();
+        List<AlgoTestcaseDto> copiedTestcases = null;
+        if (testcases != null) {
+            copiedTestcases = new ArrayList<>(testcases.size());
+            for (AlgoTestcaseDto testcase : testcases) {
+                copiedTestcases.add(testcase.toBuilder().build());
+            }
+        }
+        return problem.toBuilder()
+                .testcases(copiedTestcases)
+                .build();
+    }
+
+    private record CachedDetail(AlgoProblemDto problem, long expiresAt) {
+    }
+}
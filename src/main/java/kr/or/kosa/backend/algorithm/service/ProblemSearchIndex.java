@@ -0,0 +1,442 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
+import kr.or.kosa.backend.algorithm.mapper.AlgorithmProblemMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 알고리즘 문제 검색 색인 (노드 로컬 역색인)
+ *
+ * 제목/설명 LIKE '%검색어%' 전체 스캔 대신 메모리 역색인으로 검색어 조회와 순위 계산을 처리합니다.
+ * - 분석: 한글 음절 bigram + 영문/숫자 토큰 (ProblemTextAnalyzer)
+ * - 순위: 제목 3배, 태그 2배, 설명 1배 가중치에 BM25 방식 포화/IDF 적용, 제목에 검색어가 그대로 있으면 가산
+ * - 필터: 난이도/출처/문제 유형/태그, 결과 태그별 개수(facet) 제공
+ * - 기동 시 MySQL에서 전체 적재, 문제 저장 시 커밋 이후 반영, 주기적으로 변경분 동기화 (다른 노드/직접 수정 반영)
+ * - 적재 전이거나 기호로만 된 검색어이면 null을 반환하여 호출 측이 기존 SQL 조회를 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProblemSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int MAX_TAG_FACETS = 30;
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float TAG_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final double SATURATION = 1.2;
+    private static final double TITLE_PHRASE_BONUS = 2.0;
+
+    // 동기화 시점 경계에서 누락되지 않도록 이전 동기화 시각보다 조금 앞에서부터 다시 읽음
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(2);
+
+    private final AlgorithmProblemMapper problemMapper;
+    private final ObjectMapper objectMapper;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Postings> postings = new HashMap<>();
+    private Map<Long, IndexedProblem> problems = new HashMap<>();
+
+    private volatile boolean ready;
+    private volatile LocalDateTime lastSyncAt;
+    private volatile long maxIndexedId;
+
+    /**
+     * 검색 결과
+     *
+     * @param problemIds 순위순 문제 ID (검색어가 없으면 ID 오름차순)
+     * @param tagFacets  결과에 포함된 태그별 문제 수 (많은 순)
+     */
+    public record SearchResult(List<Long> problemIds, Map<String, Integer> tagFacets) {
+    }
+
+    /**
+     * 색인 준비 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 문제 검색
+     *
+     * @param keyword     검색어 (nullable - 없으면 필터만 적용)
+     * @param difficulty  난이도 필터 (nullable)
+     * @param source      출처 필터 (nullable)
+     * @param problemType 문제 유형 필터 (nullable)
+     * @param topic       태그 필터 (nullable, 태그 부분 일치)
+     * @return 검색 결과 (색인 적재 전이거나 검색어에서 용어를 뽑을 수 없으면 null)
+     */
+    public SearchResult search(String keyword, String difficulty, String source,
+                               String problemType, String topic) {
+        if (!ready) {
+            return null;
+        }
+
+        Set<String> terms = ProblemTextAnalyzer.queryTerms(keyword);
+        if (terms.isEmpty() && keyword != null && !keyword.isBlank()) {
+            // "++", "!"처럼 기호로만 된 검색어는 색인으로 답할 수 없으므로 기존 SQL LIKE 조회 사용
+            return null;
+        }
+        String phrase = ProblemTextAnalyzer.normalize(keyword);
+        String tagFilter = ProblemTextAnalyzer.normalize(topic);
+
+        lock.readLock().lock();
+        try {
+            List<ScoredProblem> matches = new ArrayList<>();
+
+            if (terms.isEmpty()) {
+                for (IndexedProblem problem : problems.values()) {
+                    if (problem.accepts(difficulty, source, problemType, tagFilter)) {
+                        matches.add(new ScoredProblem(problem, 0));
+                    }
+                }
+                matches.sort(Comparator.comparingLong(m -> m.problem().id()));
+            } else {
+                collectMatches(terms, phrase, difficulty, source, problemType, tagFilter, matches);
+                matches.sort(Comparator.comparingDouble(ScoredProblem::score).reversed()
+                        .thenComparingLong(m -> m.problem().id()));
+            }
+
+            List<Long> ids = new ArrayList<>(matches.size());
+            Map<String, Integer> tagCounts = new HashMap<>();
+            for (ScoredProblem match : matches) {
+                ids.add(match.problem().id());
+                for (String tag : match.problem().tags()) {
+                    tagCounts.merge(tag, 1, Integer::sum);
+                }
+            }
+            return new SearchResult(ids, topFacets(tagCounts));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장/수정된 문제 반영 (트랜잭션 안이면 커밋 이후, 비활성 문제는 색인에서 제거)
+     */
+    public void indexProblem(AlgoProblemDto problem) {
+        if (problem == null || problem.getAlgoProblemId() == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(problem);
+                }
+            });
+        } else {
+            apply(problem);
+        }
+    }
+
+    /**
+     * 기동 완료 후 MySQL에서 전체 색인 (적재 중 검색은 기존 SQL 조회 사용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재색인 - 새 색인을 만든 뒤 교체
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            Map<String, Postings> newPostings = new HashMap<>();
+            Map<Long, IndexedProblem> newProblems = new HashMap<>();
+            long afterId = 0;
+
+            while (true) {
+                List<AlgoProblemDto> batch = problemMapper.selectProblemsForSearchIndex(afterId, LOAD_BATCH_SIZE);
+                for (AlgoProblemDto problem : batch) {
+                    add(newPostings, newProblems, problem);
+                    afterId = problem.getAlgoProblemId();
+                }
+                if (batch.size() < LOAD_BATCH_SIZE) {
+                    break;
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                postings = newPostings;
+                problems = newProblems;
+                // 적재 중 반영된 문제는 새 색인에 없을 수 있으므로 적재한 범위 기준으로 동기화 재개
+                maxIndexedId = afterId;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastSyncAt = startedAt;
+            ready = true;
+
+            log.info("문제 검색 색인 완료 - 문제 수: {}, 용어 수: {}, {}ms",
+                    newProblems.size(), newPostings.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("문제 검색 색인 실패 - 기존 SQL 검색 사용", e);
+        }
+    }
+
+    /**
+     * 변경분 동기화 (새로 추가된 문제 + 최근 수정된 문제)
+     * 다른 노드에서 저장된 문제나 DB에서 직접 수정된 문제를 반영
+     */
+    @Scheduled(fixedDelayString = "${algorithm.search-index.sync-interval-ms:60000}")
+    public void syncChanges() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            List<AlgoProblemDto> changed = problemMapper.selectProblemsChangedForSearchIndex(
+                    maxIndexedId, lastSyncAt.minus(SYNC_OVERLAP));
+            for (AlgoProblemDto problem : changed) {
+                apply(problem);
+            }
+            lastSyncAt = startedAt;
+            if (!changed.isEmpty()) {
+                log.debug("문제 검색 색인 동기화 - 변경 문제 수: {}", changed.size());
+            }
+        } catch (Exception e) {
+            log.warn("문제 검색 색인 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private void collectMatches(Set<String> terms, String phrase, String difficulty, String source,
+                                String problemType, String tagFilter, List<ScoredProblem> matches) {
+        List<Postings> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                return;
+            }
+            lists.add(list);
+        }
+        // 가장 짧은 목록을 기준으로 나머지 목록에서 이진 탐색 (모든 용어 포함 문서만)
+        lists.sort(Comparator.comparingInt(Postings::size));
+
+        int total = problems.size();
+        double[] idf = new double[lists.size()];
+        for (int i = 0; i < idf.length; i++) {
+            int df = lists.get(i).size();
+            idf[i] = Math.log(1 + (total - df + 0.5) / (df + 0.5));
+        }
+
+        Postings rarest = lists.get(0);
+        candidates:
+        for (int i = 0; i < rarest.size(); i++) {
+            long id = rarest.idAt(i);
+            double score = 0;
+            for (int j = 0; j < lists.size(); j++) {
+                float weight = j == 0 ? rarest.weightAt(i) : lists.get(j).weightOf(id);
+                if (weight == 0f) {
+                    continue candidates;
+                }
+                score += idf[j] * weight / (weight + SATURATION);
+            }
+
+            IndexedProblem problem = problems.get(id);
+            if (problem == null || !problem.accepts(difficulty, source, problemType, tagFilter)) {
+                continue;
+            }
+            if (!phrase.isEmpty() && problem.title().contains(phrase)) {
+                score += TITLE_PHRASE_BONUS;
+            }
+            matches.add(new ScoredProblem(problem, score));
+        }
+    }
+
+    private static Map<String, Integer> topFacets(Map<String, Integer> tagCounts) {
+        Map<String, Integer> facets = new LinkedHashMap<>();
+        tagCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_TAG_FACETS)
+                .forEach(entry -> facets.put(entry.getKey(), entry.getValue()));
+        return facets;
+    }
+
+    private void apply(AlgoProblemDto problem) {
+        lock.writeLock().lock();
+        try {
+            remove(postings, problems, problem.getAlgoProblemId());
+            if (Boolean.TRUE.equals(problem.getAlgoProblemStatus())) {
+                add(postings, problems, problem);
+            }
+            maxIndexedId = Math.max(maxIndexedId, problem.getAlgoProblemId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(Map<String, Postings> targetPostings, Map<Long, IndexedProblem> targetProblems,
+                     AlgoProblemDto problem) {
+        List<String> tags = parseTags(problem.getAlgoProblemTags());
+
+        Map<String, Float> weights = new HashMap<>();
+        ProblemTextAnalyzer.indexTerms(problem.getAlgoProblemTitle(), true, TITLE_WEIGHT, weights);
+        for (String tag : tags) {
+            ProblemTextAnalyzer.indexTerms(tag, true, TAG_WEIGHT, weights);
+        }
+        ProblemTextAnalyzer.indexTerms(problem.getAlgoProblemDescription(), false, DESCRIPTION_WEIGHT, weights);
+
+        long id = problem.getAlgoProblemId();
+        for (Map.Entry<String, Float> entry : weights.entrySet()) {
+            targetPostings.computeIfAbsent(entry.getKey(), k -> new Postings()).put(id, entry.getValue());
+        }
+
+        targetProblems.put(id, new IndexedProblem(
+                id,
+                problem.getAlgoProblemDifficulty() != null ? problem.getAlgoProblemDifficulty().name() : null,
+                problem.getAlgoProblemSource() != null ? problem.getAlgoProblemSource().name() : null,
+                problem.getProblemType() != null ? problem.getProblemType().name() : null,
+                ProblemTextAnalyzer.normalize(problem.getAlgoProblemTitle()),
+                tags,
+                tags.stream().map(ProblemTextAnalyzer::normalize).toList(),
+                weights.keySet().toArray(new String[0])
+        ));
+    }
+
+    private static void remove(Map<String, Postings> targetPostings, Map<Long, IndexedProblem> targetProblems,
+                               Long problemId) {
+        IndexedProblem previous = targetProblems.remove(problemId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Postings list = targetPostings.get(term);
+            if (list != null && list.remove(problemId) && list.size() == 0) {
+                targetPostings.remove(term);
+            }
+        }
+    }
+
+    private List<String> parseTags(String tagsJson) {
+        if (tagsJson == null || tagsJson.isBlank()) {
+            return List.of();
+        }
+        try {
+            if (tagsJson.startsWith("[")) {
+                return objectMapper.readValue(tagsJson, new TypeReference<List<String>>() {});
+            }
+            return Arrays.stream(tagsJson.split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .toList();
+        } catch (Exception e) {
+            log.warn("태그 파싱 실패: {}", tagsJson);
+            return List.of();
+        }
+    }
+
+    /**
+     * 색인된 문제의 필터/표시용 정보
+     */
+    private record IndexedProblem(
+            long id,
+            String difficulty,
+            String source,
+            String problemType,
+            String title,
+            List<String> tags,
+            List<String> normalizedTags,
+            String[] terms
+    ) {
+        boolean accepts(String difficultyFilter, String sourceFilter, String typeFilter, String tagFilter) {
+            return matches(difficulty, difficultyFilter)
+                    && matches(source, sourceFilter)
+                    && matches(problemType, typeFilter)
+                    && (tagFilter.isEmpty() || normalizedTags.stream().anyMatch(tag -> tag.contains(tagFilter)));
+        }
+
+        private static boolean matches(String value, String filter) {
+            return filter == null || filter.isBlank() || filter.equalsIgnoreCase(value);
+        }
+    }
+
+    private record ScoredProblem(IndexedProblem problem, double score) {
+    }
+
+    /**
+     * 용어별 문서 목록 (문제 ID 오름차순 배열 + 가중치)
+     * 박싱된 Map 대신 기본형 배열로 저장하여 메모리 사용량을 줄임
+     */
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        long idAt(int index) {
+            return ids[index];
+        }
+
+        float weightAt(int index) {
+            return weights[index];
+        }
+
+        float weightOf(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            return pos >= 0 ? weights[pos] : 0f;
+        }
+
+        void put(long id, float weight) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                weights[pos] = weight;
+                return;
+            }
+            int insertAt = -pos - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            // 적재/신규 문제는 ID 순으로 들어오므로 대부분 끝에 추가됨
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            weights[insertAt] = weight;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            System.arraycopy(weights, pos + 1, weights, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+    }
+}
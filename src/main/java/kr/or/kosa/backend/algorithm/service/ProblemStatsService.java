@@ -0,0 +1,75 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemStatsDto;
+import kr.or.kosa.backend.algorithm.dto.AlgoSubmissionDto;
+import kr.or.kosa.backend.algorithm.dto.enums.JudgeResult;
+import kr.or.kosa.backend.algorithm.mapper.AlgorithmProblemMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 문제별 제출 통계 서비스
+ *
+ * 문제 상세 조회 때마다 제출 테이블을 COUNT 하지 않도록 ALGO_PROBLEM_STATS에 집계값을 유지합니다.
+ * - 채점 완료 시 제출 1건씩 증분 반영
+ * - 동시 첫 AC 등으로 생길 수 있는 오차는 매일 새벽 제출 기록 기준 재계산으로 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProblemStatsService {
+
+    private final AlgorithmProblemMapper algorithmProblemMapper;
+
+    /**
+     * 채점 완료된 제출을 통계에 반영
+     * 통계 갱신 실패가 채점 결과 저장에 영향을 주지 않도록 예외는 기록만 함
+     */
+    public void recordJudged(AlgoSubmissionDto submission) {
+        if (submission == null || submission.getJudgeResult() == null
+                || submission.getJudgeResult() == JudgeResult.PENDING) {
+            return;
+        }
+
+        try {
+            boolean accepted = submission.getJudgeResult() == JudgeResult.AC;
+            boolean newSolver = accepted && !algorithmProblemMapper.existsOtherAcceptedSubmission(
+                    submission.getUserId(), submission.getAlgoProblemId(), submission.getAlgosubmissionId());
+
+            algorithmProblemMapper.upsertProblemStats(
+                    submission.getAlgoProblemId(),
+                    accepted,
+                    newSolver,
+                    submission.getExecutionTime(),
+                    submission.getMemoryUsage()
+            );
+        } catch (Exception e) {
+            log.warn("문제 통계 갱신 실패 - submissionId: {}, problemId: {}",
+                    submission.getAlgosubmissionId(), submission.getAlgoProblemId(), e);
+        }
+    }
+
+    /**
+     * 문제 통계 조회 (제출 기록이 없으면 빈 통계)
+     */
+    public AlgoProblemStatsDto getStats(Long problemId) {
+        AlgoProblemStatsDto stats = algorithmProblemMapper.selectProblemStats(problemId);
+        return stats != null ? stats : AlgoProblemStatsDto.builder().algoProblemId(problemId).build();
+    }
+
+    /**
+     * 매일 새벽 제출 기록 기준 재계산
+     */
+    @Scheduled(cron = "${algorithm.problem-stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        try {
+            int affected = algorithmProblemMapper.reconcileProblemStats();
+            log.info("문제 통계 재계산 완료 - 영향 행: {}, {}ms", affected, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("문제 통계 재계산 실패", e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 문제 검색용 텍스트 분석기
+ *
+ * - 한글: 띄어쓰기/조사와 관계없이 부분 일치하도록 음절 bigram으로 분해 ("최단경로" → 최단, 단경, 경로)
+ * - 영문/숫자: 소문자 토큰, 색인할 때는 접두어(3자 이상)도 함께 넣어 "dijk" 같은 앞부분 검색 지원
+ * - 그 외 문자(공백, 기호)는 구분자로 처리
+ */
+public final class ProblemTextAnalyzer {
+
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MAX_PREFIX_LENGTH = 12;
+
+    private ProblemTextAnalyzer() {
+    }
+
+    /**
+     * 색인용 용어 추출 - 용어별 가중치를 into에 누적
+     *
+     * @param text     원문 (null 허용)
+     * @param unigrams 한글 음절 단위 용어도 색인할지 여부 (제목/태그처럼 짧은 필드만 사용)
+     * @param weight   필드 가중치
+     * @param into     용어 → 누적 가중치
+     */
+    public static void indexTerms(String text, boolean unigrams, float weight, Map<String, Float> into) {
+        tokenize(text, true, unigrams, term -> into.merge(term, weight, Float::sum));
+    }
+
+    /**
+     * 검색어 용어 추출 (중복 제거, 입력 순서 유지)
+     */
+    public static Set<String> queryTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        tokenize(text, false, false, terms::add);
+        return terms;
+    }
+
+    /**
+     * 부분 문자열 비교용 정규화 (소문자, 연속 공백 하나로)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+    }
+
+    private static void tokenize(String text, boolean indexing, boolean unigrams, Consumer<String> sink) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            int start = i;
+            if (isHangul(c)) {
+                while (i < length && isHangul(text.charAt(i))) {
+                    i++;
+                }
+                emitHangul(text, start, i, unigrams, sink);
+            } else if (isWordChar(c)) {
+                while (i < length && isWordChar(text.charAt(i))) {
+                    i++;
+                }
+                emitWord(text.substring(start, i).toLowerCase(Locale.ROOT), indexing, sink);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static void emitHangul(String text, int start, int end, boolean unigrams, Consumer<String> sink) {
+        // 한 음절짜리 단어("합", "수")는 bigram이 없으므로 그대로 사용
+        if (end - start == 1 || unigrams) {
+            for (int i = start; i < end; i++) {
+                sink.accept(String.valueOf(text.charAt(i)));
+            }
+        }
+        for (int i = start; i + 1 < end; i++) {
+            sink.accept(text.substring(i, i + 2));
+        }
+    }
+
+    private static void emitWord(String word, boolean indexing, Consumer<String> sink) {
+        sink.accept(word);
+        if (!indexing) {
+            return;
+        }
+        int maxPrefix = Math.min(word.length() - 1, MAX_PREFIX_LENGTH);
+        for (int len = MIN_PREFIX_LENGTH; len <= maxPrefix; len++) {
+            sink.accept(word.substring(0, len));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) && !isHangul(c);
+    }
+}
@@ -0,0 +1,175 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 유사도 비교용 토큰 집합
+ *
+ * 문제 유사도 검사(SimilarityChecker, Vector DB 후보 재검사)가 같은 토큰화를 쓰도록 모아 둔 곳입니다.
+ * - 토큰화: 소문자, 영문/숫자/한글 외 문자는 구분자, 공백 기준 분리
+ * - 토큰을 정수 ID로 바꾼 정렬된 int[]로 표현하고 두 배열을 병합하여 Jaccard 계산 (HashSet 생성 없음)
+ * - 저장된 문서(같은 키, 같은 본문)의 토큰 ID는 LRU 캐시에 보관하여 호출마다 다시 토큰화하지 않음
+ * - 토큰 사전이 상한을 넘으면 사전과 캐시를 함께 새로 시작 (서로 다른 사전의 ID는 섞이지 않음)
+ */
+@Component
+public class ProblemTokenSets {
+
+    private static final Pattern NON_TOKEN = Pattern.compile("[^a-z0-9가-힣\\s]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int[] EMPTY = new int[0];
+
+    private final int maxVocabulary;
+    private final Map<String, CachedTokens> cache;
+    private volatile TokenSpace space = new TokenSpace();
+
+    public ProblemTokenSets(@Value("${algorithm.similarity.token-cache-size:5000}") int cacheSize,
+                            @Value("${algorithm.similarity.max-vocabulary:500000}") int maxVocabulary) {
+        this.maxVocabulary = maxVocabulary;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedTokens> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * 토큰 문자열 집합 (MinHash 시그니처 등 실행 간에 같은 값이 필요한 곳에서 사용)
+     */
+    public static Set<String> tokens(String text) {
+        Set<String> tokens = new HashSet<>();
+        for (String token : split(text)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 두 정렬된 토큰 ID 배열의 Jaccard 유사도 (교집합/합집합, 한쪽이 비어 있으면 0)
+     */
+    public static double jaccard(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return 0.0;
+        }
+        int i = 0;
+        int j = 0;
+        int intersection = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) intersection / (a.length + b.length - intersection);
+    }
+
+    /**
+     * 현재 토큰 사전 (한 번의 비교에 쓰는 토큰 ID는 모두 같은 사전에서 받아야 함)
+     */
+    public TokenSpace space() {
+        TokenSpace current = space;
+        if (current.size() > maxVocabulary) {
+            synchronized (this) {
+                if (space == current) {
+                    space = new TokenSpace();
+                    cache.clear();
+                }
+                current = space;
+            }
+        }
+        return current;
+    }
+
+    private static String[] split(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        String normalized = NON_TOKEN.matcher(text.toLowerCase()).replaceAll(" ").trim();
+        return WHITESPACE.split(normalized);
+    }
+
+    private record CachedTokens(TokenSpace space, int textHash, int textLength, int[] ids) {
+
+        boolean matches(TokenSpace expectedSpace, String text) {
+            return space == expectedSpace && textLength == text.length() && textHash == text.hashCode();
+        }
+    }
+
+    /**
+     * 토큰 → 정수 ID 사전
+     */
+    public final class TokenSpace {
+
+        private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+        private final AtomicInteger nextId = new AtomicInteger();
+
+        private TokenSpace() {
+        }
+
+        int size() {
+            return ids.size();
+        }
+
+        /**
+         * 텍스트의 토큰 ID (정렬, 중복 제거)
+         */
+        public int[] tokenIds(String text) {
+            String[] tokens = split(text);
+            int[] result = new int[tokens.length];
+            int count = 0;
+            for (String token : tokens) {
+                if (!token.isEmpty()) {
+                    result[count++] = ids.computeIfAbsent(token, t -> nextId.getAndIncrement());
+                }
+            }
+            if (count == 0) {
+                return EMPTY;
+            }
+            Arrays.sort(result, 0, count);
+            int unique = 1;
+            for (int i = 1; i < count; i++) {
+                if (result[i] != result[unique - 1]) {
+                    result[unique++] = result[i];
+                }
+            }
+            return unique == result.length ? result : Arrays.copyOf(result, unique);
+        }
+
+        /**
+         * 저장된 문서의 토큰 ID (키와 본문이 같으면 캐시 사용)
+         *
+         * @param key  문서 식별자 (Vector DB 문서 ID 등)
+         * @param text 문서 본문
+         */
+        public int[] cachedTokenIds(String key, String text) {
+            if (key == null || text == null) {
+                return tokenIds(text);
+            }
+            CachedTokens cached = cache.get(key);
+            if (cached != null && cached.matches(this, text)) {
+                return cached.ids();
+            }
+            int[] computed = tokenIds(text);
+            cache.put(key, new CachedTokens(this, text.hashCode(), text.length(), computed));
+            return computed;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.commons.util.HashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * Vector DB 일괄 적재
+ *
+ * 크롤링한 문제 수천 건을 vectorStore.add 한 번(또는 임의 크기)으로 넘기지 않고 묶음 단위로 나누어 적재합니다.
+ * - 묶음: 예상 토큰 수 합계(임베딩 요청 한도)와 문서 수 상한으로 나눔, 한도를 넘는 문서 하나는 단독 묶음
+ * - 묶음마다 vectorStore.add 1회 (임베딩 1회 + Qdrant upsert 1회), 여러 묶음을 batchExecutor에서 병렬 처리
+ * - 실패한 묶음은 대기 후 재시도, 최종 실패한 문서는 완료 기록에 남지 않음
+ * - 적재 단위(문서 ID + 본문 해시로 식별)별 완료 문서 ID를 Redis에 기록하여, 중단 후 같은 문서로 다시 호출하면 남은 문서만 적재
+ * - 문서 ID가 결정적이고 Qdrant upsert는 덮어쓰기이므로 같은 문서를 다시 적재해도 중복되지 않음
+ */
+@Slf4j
+@Service
+public class ProblemVectorBatchWriter {
+
+    private static final String PROGRESS_KEY_PREFIX = "vector-store:load:";
+    private static final Duration PROGRESS_TTL = Duration.ofDays(1);
+
+    private final VectorStore vectorStore;
+    private final StringRedisTemplate redisTemplate;
+    private final Executor batchExecutor;
+    private final int maxTokensPerBatch;
+    private final int maxDocumentsPerBatch;
+    private final int parallelism;
+    private final int maxAttempts;
+
+    public ProblemVectorBatchWriter(
+            VectorStore vectorStore,
+            StringRedisTemplate redisTemplate,
+            @Qualifier("batchExecutor") Executor batchExecutor,
+            @Value("${algorithm.vector-store.batch.max-tokens:8000}") int maxTokensPerBatch,
+            @Value("${algorithm.vector-store.batch.max-documents:64}") int maxDocumentsPerBatch,
+            @Value("${algorithm.vector-store.batch.parallelism:2}") int parallelism,
+            @Value("${algorithm.vector-store.batch.max-attempts:3}") int maxAttempts
+    ) {
+        this.vectorStore = vectorStore;
+        this.redisTemplate = redisTemplate;
+        this.batchExecutor = batchExecutor;
+        this.maxTokensPerBatch = maxTokensPerBatch;
+        this.maxDocumentsPerBatch = maxDocumentsPerBatch;
+        this.parallelism = parallelism;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 문서 일괄 적재
+     *
+     * @param documents 적재할 문서 (ID가 결정적이어야 이어서 적재 가능)
+     * @return 적재 완료된 문서 수 (이전 실행에서 이미 적재된 문서 포함)
+     */
+    public int write(List<Document> documents) {
+        if (documents.isEmpty()) {
+            return 0;
+        }
+        String progressKey = PROGRESS_KEY_PREFIX + loadId(documents);
+        Set<String> done = readProgress(progressKey);
+
+        List<Document> pending = documents.stream()
+                .filter(document -> !done.contains(document.getId()))
+                .toList();
+        if (pending.size() < documents.size()) {
+            log.info("Vector DB 적재 이어서 진행 - 전체: {}, 이미 적재: {}", documents.size(), documents.size() - pending.size());
+        }
+
+        List<List<Document>> batches = split(pending);
+        long start = System.currentTimeMillis();
+        int stored = documents.size() - pending.size();
+        int failedBatches = 0;
+
+        // parallelism개씩 묶어서 제출 (배치 스레드 풀을 혼자 차지하지 않도록)
+        for (int from = 0; from < batches.size(); from += parallelism) {
+            List<List<Document>> wave = batches.subList(from, Math.min(from + parallelism, batches.size()));
+            List<CompletableFuture<Boolean>> results = new ArrayList<>(wave.size());
+            for (List<Document> batch : wave) {
+                results.add(CompletableFuture.supplyAsync(() -> writeWithRetry(batch, progressKey), batchExecutor));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i).join()) {
+                    stored += wave.get(i).size();
+                } else {
+                    failedBatches++;
+                }
+            }
+            log.info("Vector DB 적재 진행: {}/{} (묶음 {}/{})", stored, documents.size(),
+                    Math.min(from + parallelism, batches.size()), batches.size());
+        }
+
+        if (failedBatches == 0) {
+            clearProgress(progressKey);
+        }
+        long elapsed = Math.max(System.currentTimeMillis() - start, 1);
+        log.info("Vector DB 적재 종료 - 적재: {}/{}, 묶음: {}, 실패 묶음: {}, {}ms ({}건/초)",
+                stored, documents.size(), batches.size(), failedBatches, elapsed,
+                String.format("%.1f", pending.size() * 1000.0 / elapsed));
+        return stored;
+    }
+
+    /**
+     * 예상 토큰 수와 문서 수 상한으로 묶음 나누기 (입력 순서 유지)
+     */
+    List<List<Document>> split(List<Document> documents) {
+        List<List<Document>> batches = new ArrayList<>();
+        List<Document> current = new ArrayList<>();
+        int currentTokens = 0;
+
+        for (Document document : documents) {
+            int tokens = estimateTokens(document.getText());
+            boolean full = current.size() >= maxDocumentsPerBatch || currentTokens + tokens > maxTokensPerBatch;
+            if (!current.isEmpty() && full) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(document);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    /**
+     * 예상 토큰 수 (한글 등 비ASCII는 글자당 1토큰, ASCII는 4글자당 1토큰으로 넉넉하게 계산)
+     */
+    static int estimateTokens(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return other + (ascii + 3) / 4;
+    }
+
+    private boolean writeWithRetry(List<Document> batch, String progressKey) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                vectorStore.add(batch);
+                recordProgress(progressKey, batch);
+                return true;
+            } catch (Exception e) {
+                log.warn("Vector DB 묶음 적재 실패 ({}/{}) - 문서 {}건: {}", attempt, maxAttempts, batch.size(), e.getMessage());
+                if (attempt < maxAttempts && !sleep(1000L * attempt)) {
+                    return false;
+                }
+            }
+        }
+        log.error("Vector DB 묶음 적재 최종 실패 - 문서 {}건 (같은 문서로 다시 호출하면 이어서 적재)", batch.size());
+        return false;
+    }
+
+    /**
+     * 적재 단위 식별자 (문서 ID와 본문이 같으면 같은 값, 입력 순서와 무관)
+     */
+    static String loadId(List<Document> documents) {
+        String[] parts = documents.stream()
+                .sorted(Comparator.comparing(Document::getId))
+                .flatMap(document -> Stream.of(document.getId(), document.getText()))
+                .toArray(String[]::new);
+        return HashUtil.sha256Hex(parts);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ===== Redis 진행 기록 (Redis 장애 시에는 진행 기록 없이 전체 적재) =====
+
+    private Set<String> readProgress(String key) {
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(key);
+            return members != null ? members : Set.of();
+        } catch (Exception e) {
+            log.warn("Vector DB 적재 진행 기록 조회 실패: {}", e.getMessage());
+            return Set.of();
+        }
+    }
+
+    private void recordProgress(String key, List<Document> batch) {
+        try {
+            redisTemplate.opsForSet().add(key, batch.stream().map(Document::getId).toArray(String[]::new));
+            redisTemplate.expire(key, PROGRESS_TTL);
+        } catch (Exception e) {
+            log.warn("Vector DB 적재 진행 기록 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void clearProgress(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.debug("Vector DB 적재 진행 기록 삭제 실패: {}", e.getMessage());
+        }
+    }
+}
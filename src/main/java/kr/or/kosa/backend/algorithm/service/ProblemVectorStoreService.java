@@ -1,21 +1,23 @@
 package kr.or.kosa.backend.algorithm.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.or.kosa.backend.algorithm.dto.external.ProblemDocumentDto;
+import kr.or.kosa.backend.algorithm.service.external.QdrantScrollClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 알고리즘 문제 Vector DB 저장/검색 서비스
@@ -26,13 +28,18 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ProblemVectorStoreService {
 
-    private final VectorStore vectorStore;
+    // scroll 시 받을 페이로드 필드
+    private static final List<String> ENGLISH_SCAN_FIELDS = List.of("doc_content", "title", "source", "externalId");
+    private static final List<String> STATS_FIELDS = List.of("difficulty", "tags", "source");
+    private static final ObjectMapper TAG_MAPPER = new ObjectMapper();
 
-    @Value("${spring.ai.vectorstore.qdrant.host:localhost}")
-    private String qdrantHost;
+    private final VectorStore vectorStore;
+    private final ProblemTokenSets tokenSets;
+    private final ProblemVectorBatchWriter batchWriter;
+    private final QdrantScrollClient qdrantScrollClient;
 
-    @Value("${spring.ai.vectorstore.qdrant.port:6334}")
-    private int qdrantPort;
+    @Value("${algorithm.vector-store.stats-scan-limit:100000}")
+    private int statsScanLimit;
 
     @Value("${spring.ai.vectorstore.qdrant.collection-name:coai_documents}")
     private String collectionName;
@@ -64,6 +71,7 @@ public class ProblemVectorStoreService {
 
     /**
      * 여러 문제를 일괄 저장
+     * 토큰 수 기준 묶음 단위로 병렬 적재, 중단 후 같은 문제 목록으로 다시 호출하면 남은 문서만 적재
      *
      * @param problems 저장할 문제 목록
      * @return 저장된 문서 수
@@ -77,10 +85,10 @@ public class ProblemVectorStoreService {
                 ))
                 .toList();
 
-        vectorStore.add(documents);
+        int stored = batchWriter.write(documents);
 
-        log.info("✅ Vector DB 일괄 저장 완료: {}개 문제", documents.size());
-        return documents.size();
+        log.info("✅ Vector DB 일괄 저장 완료: {}/{}개 문제", stored, documents.size());
+        return stored;
     }
 
     /**
@@ -219,13 +227,17 @@ public class ProblemVectorStoreService {
             }
 
             // 유사도 계산 (Spring AI는 score를 metadata에 포함하지 않으므로 직접 계산)
+            // 검색 쿼리는 한 번만 토큰화, 저장된 문서는 문서 ID 기준 캐시 사용
+            ProblemTokenSets.TokenSpace tokenSpace = tokenSets.space();
+            int[] queryTokens = tokenSpace.tokenIds(query);
             double maxSimilarity = 0.0;
             Document mostSimilar = null;
 
             for (Document doc : similarDocs) {
-                // 텍스트 유사도 계산 (Jaccard + 공통 키워드 기반)
+                // 텍스트 유사도 계산 (토큰 Jaccard)
                 String docContent = doc.getText();
-                double similarity = calculateContentSimilarity(query, docContent);
+                double similarity = docContent == null ? 0.0
+                        : ProblemTokenSets.jaccard(queryTokens, tokenSpace.cachedTokenIds(doc.getId(), docContent));
 
                 if (similarity > maxSimilarity) {
                     maxSimilarity = similarity;
@@ -261,46 +273,6 @@ public class ProblemVectorStoreService {
         return result;
     }
 
-    /**
-     * 콘텐츠 유사도 계산 (Jaccard + 키워드 기반)
-     */
-    private double calculateContentSimilarity(String text1, String text2) {
-        if (text1 == null || text2 == null) {
-            return 0.0;
-        }
-
-        // 토큰화
-        java.util.Set<String> tokens1 = tokenize(text1);
-        java.util.Set<String> tokens2 = tokenize(text2);
-
-        if (tokens1.isEmpty() || tokens2.isEmpty()) {
-            return 0.0;
-        }
-
-        // Jaccard 유사도
-        java.util.Set<String> intersection = new java.util.HashSet<>(tokens1);
-        intersection.retainAll(tokens2);
-
-        java.util.Set<String> union = new java.util.HashSet<>(tokens1);
-        union.addAll(tokens2);
-
-        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
-    }
-
-    /**
-     * 텍스트 토큰화
-     */
-    private java.util.Set<String> tokenize(String text) {
-        if (text == null) {
-            return java.util.Collections.emptySet();
-        }
-        String[] tokens = text.toLowerCase()
-                .replaceAll("[^a-z0-9가-힣\\s]", " ")
-                .trim()
-                .split("\\s+");
-        return new java.util.HashSet<>(java.util.Arrays.asList(tokens));
-    }
-
     /**
      * AI 생성 문제를 Vector DB에 저장
      *
@@ -417,7 +389,7 @@ public class ProblemVectorStoreService {
 
     /**
      * 영어 문제 검색 및 ID 목록 반환
-     * Qdrant REST API를 직접 호출하여 모든 문서를 스캔
+     * Qdrant scroll API로 문서를 페이지 단위로 순회 (영어 문제만 결과에 남김)
      *
      * @param limit 검색할 최대 문서 수
      * @return 영어 문제 문서 목록 (ID, 제목 포함)
@@ -426,78 +398,27 @@ public class ProblemVectorStoreService {
         log.info("🔍 영어 문제 검색 중 (Qdrant 직접 스캔, limit={})", limit);
 
         List<Document> englishDocs = new ArrayList<>();
-        String nextPageOffset = null;
-        int batchSize = 50;
-        int totalScanned = 0;
+        AtomicInteger totalScanned = new AtomicInteger();
 
         try {
-            WebClient webClient = WebClient.builder()
-                    .baseUrl("http://" + qdrantHost + ":6333")
-                    .build();
-
-            while (totalScanned < limit) {
-                // Qdrant scroll API 호출
-                Map<String, Object> requestBody = new java.util.HashMap<>();
-                requestBody.put("limit", Math.min(batchSize, limit - totalScanned));
-                requestBody.put("with_payload", true);
-                requestBody.put("with_vector", false);
-                if (nextPageOffset != null) {
-                    requestBody.put("offset", nextPageOffset);
-                }
-
-                Map<String, Object> response = webClient.post()
-                        .uri("/collections/" + collectionName + "/points/scroll")
-                        .bodyValue(requestBody)
-                        .retrieve()
-                        .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                        .block();
-
-                if (response == null || !response.containsKey("result")) {
-                    log.warn("Qdrant 응답이 비어있습니다.");
-                    break;
-                }
-
-                @SuppressWarnings("unchecked")
-                Map<String, Object> result = (Map<String, Object>) response.get("result");
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> points = (List<Map<String, Object>>) result.get("points");
-
-                if (points == null || points.isEmpty()) {
-                    log.info("더 이상 문서가 없습니다.");
-                    break;
-                }
-
-                for (Map<String, Object> point : points) {
-                    totalScanned++;
-                    String id = point.get("id").toString();
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> payload = (Map<String, Object>) point.get("payload");
-
-                    if (payload == null) continue;
-
-                    String docContent = (String) payload.get("doc_content");
-                    String title = (String) payload.getOrDefault("title", "Unknown");
-
-                    // Description 부분에 한국어가 없으면 영어 문제
-                    if (docContent != null && !hasKoreanDescription(docContent)) {
-                        Document doc = new Document(id, docContent, payload);
-                        englishDocs.add(doc);
-                        log.debug("🔤 영어 문제 발견: {}", title);
-                    }
-                }
-
-                // 다음 페이지 오프셋
-                nextPageOffset = result.get("next_page_offset") != null
-                        ? result.get("next_page_offset").toString()
-                        : null;
+            qdrantScrollClient.scroll(collectionName, ENGLISH_SCAN_FIELDS, 50, limit)
+                    .doOnNext(point -> {
+                        totalScanned.incrementAndGet();
+                        Map<String, Object> payload = point.payload();
+                        if (payload == null) {
+                            return;
+                        }
+                        String docContent = (String) payload.get("doc_content");
 
-                if (nextPageOffset == null) {
-                    log.info("마지막 페이지 도달");
-                    break;
-                }
-            }
+                        // Description 부분에 한국어가 없으면 영어 문제
+                        if (docContent != null && !hasKoreanDescription(docContent)) {
+                            englishDocs.add(new Document(point.id(), docContent, payload));
+                            log.debug("🔤 영어 문제 발견: {}", payload.getOrDefault("title", "Unknown"));
+                        }
+                    })
+                    .blockLast();
 
-            log.info("✅ 총 {}개 문서 스캔, 영어 문제 {}개 발견", totalScanned, englishDocs.size());
+            log.info("✅ 총 {}개 문서 스캔, 영어 문제 {}개 발견", totalScanned.get(), englishDocs.size());
 
         } catch (Exception e) {
             log.error("Qdrant 스캔 중 오류 발생", e);
@@ -634,8 +555,7 @@ public class ProblemVectorStoreService {
             // JSON 배열 형태인 경우: ["tag1", "tag2"]
             if (tagsStr.startsWith("[")) {
                 try {
-                    com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                    return mapper.readValue(tagsStr, new com.fasterxml.jackson.core.type.TypeReference<List<String>>() {});
+                    return TAG_MAPPER.readValue(tagsStr, new TypeReference<List<String>>() {});
                 } catch (Exception e) {
                     log.warn("태그 JSON 파싱 실패: {}", tagsStr);
                     return null;
@@ -676,97 +596,22 @@ public class ProblemVectorStoreService {
         log.info("📊 Vector DB 통계 조회 시작");
 
         VectorDbStats stats = new VectorDbStats();
-        String nextPageOffset = null;
-        int batchSize = 100;
-        int totalScanned = 0;
-        int maxDocuments = 2000; // 최대 스캔 문서 수
+        AtomicInteger totalScanned = new AtomicInteger();
 
         try {
-            WebClient webClient = WebClient.builder()
-                    .baseUrl("http://" + qdrantHost + ":6333")
-                    .build();
-
-            while (totalScanned < maxDocuments) {
-                // Qdrant scroll API 호출
-                Map<String, Object> requestBody = new java.util.HashMap<>();
-                requestBody.put("limit", batchSize);
-                requestBody.put("with_payload", true);
-                requestBody.put("with_vector", false);
-                if (nextPageOffset != null) {
-                    requestBody.put("offset", nextPageOffset);
-                }
-
-                Map<String, Object> response = webClient.post()
-                        .uri("/collections/" + collectionName + "/points/scroll")
-                        .bodyValue(requestBody)
-                        .retrieve()
-                        .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                        .block();
-
-                if (response == null || !response.containsKey("result")) {
-                    log.warn("Qdrant 응답이 비어있습니다.");
-                    break;
-                }
-
-                @SuppressWarnings("unchecked")
-                Map<String, Object> result = (Map<String, Object>) response.get("result");
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> points = (List<Map<String, Object>>) result.get("points");
-
-                if (points == null || points.isEmpty()) {
-                    log.info("더 이상 문서가 없습니다.");
-                    break;
-                }
-
-                for (Map<String, Object> point : points) {
-                    totalScanned++;
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> payload = (Map<String, Object>) point.get("payload");
-
-                    if (payload == null) continue;
-
-                    // 난이도 집계
-                    String difficulty = (String) payload.get("difficulty");
-                    if (difficulty != null && !difficulty.isEmpty()) {
-                        stats.incrementDifficulty(difficulty);
-                    }
-
-                    // 토픽 집계 (tags 필드에서 추출)
-                    // tags는 List<String> 또는 String(JSON) 형태일 수 있음
-                    List<String> tags = extractTags(payload.get("tags"));
-                    if (tags != null && !tags.isEmpty()) {
-                        for (String tag : tags) {
-                            stats.incrementTopic(tag);
+            // 통계에 필요한 필드만 받아 포인트마다 바로 집계 (문서를 모아 두지 않음)
+            qdrantScrollClient.scroll(collectionName, STATS_FIELDS, 256, statsScanLimit)
+                    .doOnNext(point -> {
+                        totalScanned.incrementAndGet();
+                        Map<String, Object> payload = point.payload();
+                        if (payload != null) {
+                            accumulateStats(stats, payload);
                         }
-                    }
+                    })
+                    .blockLast();
 
-                    // 난이도×토픽 조합 집계
-                    if (difficulty != null && tags != null && !tags.isEmpty()) {
-                        for (String tag : tags) {
-                            stats.incrementCombination(difficulty, tag);
-                        }
-                    }
-
-                    // 소스 집계
-                    String source = (String) payload.get("source");
-                    if (source != null) {
-                        stats.incrementSource(source);
-                    }
-                }
-
-                // 다음 페이지 오프셋
-                nextPageOffset = result.get("next_page_offset") != null
-                        ? result.get("next_page_offset").toString()
-                        : null;
-
-                if (nextPageOffset == null) {
-                    log.info("마지막 페이지 도달");
-                    break;
-                }
-            }
-
-            stats.setTotalDocuments(totalScanned);
-            log.info("✅ Vector DB 통계 조회 완료: 총 {}개 문서", totalScanned);
+            stats.setTotalDocuments(totalScanned.get());
+            log.info("✅ Vector DB 통계 조회 완료: 총 {}개 문서", totalScanned.get());
 
         } catch (Exception e) {
             log.error("Vector DB 통계 조회 중 오류 발생", e);
@@ -776,6 +621,36 @@ public class ProblemVectorStoreService {
         return stats;
     }
 
+    private void accumulateStats(VectorDbStats stats, Map<String, Object> payload) {
+        // 난이도 집계
+        String difficulty = (String) payload.get("difficulty");
+        if (difficulty != null && !difficulty.isEmpty()) {
+            stats.incrementDifficulty(difficulty);
+        }
+
+        // 토픽 집계 (tags 필드에서 추출)
+        // tags는 List<String> 또는 String(JSON) 형태일 수 있음
+        List<String> tags = extractTags(payload.get("tags"));
+        if (tags != null && !tags.isEmpty()) {
+            for (String tag : tags) {
+                stats.incrementTopic(tag);
+            }
+        }
+
+        // 난이도×토픽 조합 집계
+        if (difficulty != null && tags != null && !tags.isEmpty()) {
+            for (String tag : tags) {
+                stats.incrementCombination(difficulty, tag);
+            }
+        }
+
+        // 소스 집계
+        String source = (String) payload.get("source");
+        if (source != null) {
+            stats.incrementSource(source);
+        }
+    }
+
     /**
      * Vector DB 통계 데이터 클래스
      */
@@ -3,7 +3,13 @@ package kr.or.kosa.backend.algorithm.service;
 import kr.or.kosa.backend.algorithm.dto.enums.UsageType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -11,12 +17,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 
 /**
  * Rate Limiting 서비스
  * Redis 기반 일일 사용량 추적 및 제한
+ *
+ * 체크-증가-만료와 초당 버스트 제한을 하나의 Lua 스크립트(scripts/rate_limit.lua)로 원자 실행
+ * - RedisTemplate.execute가 EVALSHA로 호출하고, 스크립트 캐시가 비어 있으면 EVAL로 재시도
+ * - 요청당 Redis 왕복 1회, 동시 요청이 한도를 함께 통과하는 경쟁 조건 없음
  */
 @Service
 @Slf4j
@@ -24,42 +35,67 @@ import java.util.concurrent.TimeUnit;
 public class RateLimitService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
 
     private static final int FREE_USER_DAILY_LIMIT = 3;  // 무료 사용자 일일 한도
     private static final String KEY_PREFIX = "usage:daily:";
+    private static final String BURST_KEY_PREFIX = "usage:burst:";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
+    private static final RedisScript<List> RATE_LIMIT_SCRIPT = loadScript();
+
+    @Value("${rate-limit.burst.window-ms:1000}")
+    private long burstWindowMs;
+
+    @Value("${rate-limit.burst.limit:5}")
+    private int burstLimit;  // 윈도우 내 최대 요청 수 (0 이하이면 비활성)
+
     /**
      * 사용량 체크 및 증가 (체크 후 사용 가능하면 증가)
+     * 버스트 제한 → 일일 한도 체크 → HINCRBY → 최초 증가 시 EXPIRE 를 스크립트 한 번으로 처리
      *
      * @param userId       사용자 ID
      * @param type         사용 유형
-     * @param isSubscriber 구독자 여부
+     * @param isSubscriber 구독자 여부 (일일 한도 없음, 버스트 제한은 동일하게 적용)
      * @return 사용 가능 여부 및 잔여 횟수
      */
     public UsageCheckResult checkAndIncrementUsage(Long userId, UsageType type, boolean isSubscriber) {
-        // 구독자는 무제한
-        if (isSubscriber) {
-            incrementUsage(userId, type);
-            return UsageCheckResult.allowed(-1, -1);  // 무제한 표시
+        int dailyLimit = isSubscriber ? -1 : FREE_USER_DAILY_LIMIT;
+
+        List<?> reply = stringRedisTemplate.execute(
+                RATE_LIMIT_SCRIPT,
+                List.of(buildKey(userId), BURST_KEY_PREFIX + userId),
+                type.name(),
+                String.valueOf(dailyLimit),
+                String.valueOf(getSecondsUntilMidnight()),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(burstWindowMs),
+                String.valueOf(burstLimit),
+                UUID.randomUUID().toString());
+
+        if (reply == null || reply.size() < 3) {
+            throw new IllegalStateException("Rate limit 스크립트 응답이 올바르지 않습니다: " + reply);
         }
 
-        // 현재 사용량 조회
-        UsageInfo currentUsage = getUsage(userId);
-        int totalUsage = currentUsage.getTotal();
+        int status = parseIntOrZero(reply.get(0));
+        int currentUsage = parseIntOrZero(reply.get(1));
+        int remaining = parseIntOrZero(reply.get(2));
 
-        // 한도 체크
-        if (totalUsage >= FREE_USER_DAILY_LIMIT) {
-            log.info("사용자 {} 일일 한도 초과: {}/{}", userId, totalUsage, FREE_USER_DAILY_LIMIT);
-            return UsageCheckResult.denied(totalUsage, FREE_USER_DAILY_LIMIT);
+        if (status < 0) {
+            log.info("사용자 {} 버스트 제한 초과: {}회/{}ms", userId, currentUsage, burstWindowMs);
+            return UsageCheckResult.throttled(burstLimit, burstWindowMs);
+        }
+        if (status == 0) {
+            log.info("사용자 {} 일일 한도 초과: {}/{}", userId, currentUsage, FREE_USER_DAILY_LIMIT);
+            return UsageCheckResult.denied(currentUsage, FREE_USER_DAILY_LIMIT);
         }
 
-        // 사용량 증가
-        incrementUsage(userId, type);
-        int remaining = FREE_USER_DAILY_LIMIT - totalUsage - 1;
+        if (isSubscriber) {
+            return UsageCheckResult.allowed(-1, -1);  // 무제한 표시
+        }
 
         log.info("사용자 {} 사용량 증가: {} (남은 횟수: {})", userId, type, remaining);
-        return UsageCheckResult.allowed(totalUsage + 1, remaining);
+        return UsageCheckResult.allowed(currentUsage, remaining);
     }
 
     /**
@@ -92,21 +128,13 @@ public class RateLimitService {
     }
 
     /**
-     * 사용량 증가
+     * Lua 스크립트 로드 (SHA1은 DefaultRedisScript가 계산하여 EVALSHA에 사용)
      */
-    private void incrementUsage(Long userId, UsageType type) {
-        String key = buildKey(userId);
-
-        // HINCRBY로 원자적 증가
-        redisTemplate.opsForHash().increment(key, type.name(), 1);
-
-        // TTL 설정 (자정까지)
-        Long ttl = redisTemplate.getExpire(key);
-        if (ttl == null || ttl == -1) {
-            long secondsUntilMidnight = getSecondsUntilMidnight();
-            redisTemplate.expire(key, secondsUntilMidnight, TimeUnit.SECONDS);
-            log.debug("Redis 키 {} TTL 설정: {}초", key, secondsUntilMidnight);
-        }
+    private static RedisScript<List> loadScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/rate_limit.lua")));
+        script.setResultType(List.class);
+        return script;
     }
 
     /**
@@ -160,17 +188,19 @@ public class RateLimitService {
      */
     public record UsageCheckResult(
             boolean allowed,
+            boolean throttled,
             int currentUsage,
             int dailyLimit,
             int remaining,
             String message
     ) {
         public static UsageCheckResult allowed(int currentUsage, int remaining) {
-            return new UsageCheckResult(true, currentUsage, FREE_USER_DAILY_LIMIT, remaining, null);
+            return new UsageCheckResult(true, false, currentUsage, FREE_USER_DAILY_LIMIT, remaining, null);
         }
 
         public static UsageCheckResult denied(int currentUsage, int dailyLimit) {
             return new UsageCheckResult(
+                    false,
                     false,
                     currentUsage,
                     dailyLimit,
@@ -178,5 +208,16 @@ public class RateLimitService {
                     String.format("일일 무료 사용 한도(%d회)를 초과했습니다. 구독권을 구매하시면 무제한으로 이용 가능합니다.", dailyLimit)
             );
         }
+
+        public static UsageCheckResult throttled(int burstLimit, long windowMs) {
+            return new UsageCheckResult(
+                    false,
+                    true,
+                    0,
+                    FREE_USER_DAILY_LIMIT,
+                    0,
+                    String.format("요청이 너무 잦습니다. %dms 동안 최대 %d회까지 요청할 수 있습니다.", windowMs, burstLimit)
+            );
+        }
     }
 }
@@ -0,0 +1,101 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
+import kr.or.kosa.backend.algorithm.mapper.AlgorithmProblemMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 테스트케이스 일괄 저장 서비스
+ *
+ * 테스트케이스를 한 건씩 INSERT하지 않고 multi-row INSERT로 나누어 저장합니다.
+ * - 한 문장의 행 수/문자 수를 제한하여 MySQL max_allowed_packet을 넘지 않도록 분할
+ * - 별도 빈의 public 메서드이므로 @Transactional이 실제로 적용됨 (호출 측 트랜잭션이 있으면 참여)
+ * - 저장 후 채점용 테스트케이스 묶음 캐시와 문제 상세 캐시 무효화
+ */
+@Slf4j
+@Service
+public class TestCaseBatchService {
+
+    private final AlgorithmProblemMapper algorithmProblemMapper;
+    private final TestCaseBundleCache testCaseBundleCache;
+    private final ProblemDetailCache problemDetailCache;
+    private final int maxRowsPerStatement;
+    private final long maxCharsPerStatement;
+
+    public TestCaseBatchService(
+            AlgorithmProblemMapper algorithmProblemMapper,
+            TestCaseBundleCache testCaseBundleCache,
+            ProblemDetailCache problemDetailCache,
+            @Value("${algorithm.testcase.insert-batch-rows:500}") int maxRowsPerStatement,
+            @Value("${algorithm.testcase.insert-batch-chars:4000000}") long maxCharsPerStatement
+    ) {
+        this.algorithmProblemMapper = algorithmProblemMapper;
+        this.testCaseBundleCache = testCaseBundleCache;
+        this.problemDetailCache = problemDetailCache;
+        this.maxRowsPerStatement = maxRowsPerStatement;
+        this.maxCharsPerStatement = maxCharsPerStatement;
+    }
+
+    /**
+     * 문제의 테스트케이스 일괄 저장
+     *
+     * @param problemId 문제 ID
+     * @param testcases 저장할 테스트케이스 목록
+     * @return 저장된 행 수
+     */
+    @Transactional
+    public int saveAll(Long problemId, List<AlgoTestcaseDto> testcases) {
+        if (testcases == null || testcases.isEmpty()) {
+            return 0;
+        }
+
+        int savedCount = 0;
+        int statements = 0;
+        int from = 0;
+        long chars = 0;
+
+        for (int i = 0; i < testcases.size(); i++) {
+            AlgoTestcaseDto testcase = testcases.get(i);
+            testcase.setAlgoProblemId(problemId);
+            long rowChars = length(testcase.getInputData()) + length(testcase.getExpectedOutput());
+
+            // 현재 묶음에 추가하면 제한을 넘는 경우 먼저 저장 (한 행이 제한보다 크면 단독 저장)
+            if (i > from && (i - from >= maxRowsPerStatement || chars + rowChars > maxCharsPerStatement)) {
+                savedCount += insertChunk(problemId, testcases.subList(from, i));
+                statements++;
+                from = i;
+                chars = 0;
+            }
+            chars += rowChars;
+        }
+        savedCount += insertChunk(problemId, testcases.subList(from, testcases.size()));
+        statements++;
+
+        log.info("테스트케이스 저장 완료 - 문제 ID: {}, 저장 개수: {}, INSERT 문: {}",
+                problemId, savedCount, statements);
+
+        // 채점용 테스트케이스 묶음 캐시 무효화 (커밋 이후 버전 증가)
+        testCaseBundleCache.invalidate(problemId);
+        // 문제 상세 캐시도 제거 (TTL 동안 변경 전 테스트케이스가 보이지 않도록)
+        problemDetailCache.evict(problemId);
+        return savedCount;
+    }
+
+    private int insertChunk(Long problemId, List<AlgoTestcaseDto> chunk) {
+        int inserted = algorithmProblemMapper.insertTestcases(chunk);
+        if (inserted != chunk.size()) {
+            throw new IllegalStateException("테스트케이스 저장 실패 - 문제 ID: " + problemId
+                    + ", 요청: " + chunk.size() + ", 저장: " + inserted);
+        }
+        return inserted;
+    }
+
+    private static long length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
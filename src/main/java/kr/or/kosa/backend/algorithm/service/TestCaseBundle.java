@@ -0,0 +1,148 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
+import kr.or.kosa.backend.algorithm.dto.enums.OutputCompareMode;
+import kr.or.kosa.backend.commons.util.HashUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 문제별 채점용 테스트케이스 묶음 (불변)
+ *
+ * 채점마다 테스트케이스를 다시 조회하고 예상 출력을 다시 정규화하지 않도록
+ * 입력값과 정규화된 예상 출력(UTF-8 바이트)을 한 번만 만들어 재사용합니다.
+ * - version: 적재 시점의 Redis 버전 (테스트케이스 변경 시 증가)
+ * - compareMode/floatTolerance: 문제별 출력 비교 방식 (각 테스트케이스 복사본에도 지정)
+ * - totalBytes: 로컬 캐시 용량 계산용
+ * - checksum: 입력/예상 출력 전체의 SHA-256 (노드 간 동일 데이터 확인용)
+ */
+public final class TestCaseBundle {
+
+    private final Long problemId;
+    private final long version;
+    private final OutputCompareMode compareMode;
+    private final Double floatTolerance;
+    private final List<AlgoTestcaseDto> testCases;
+    private final long totalBytes;
+    private final String checksum;
+
+    private TestCaseBundle(Long problemId, long version, OutputCompareMode compareMode, Double floatTolerance,
+                           List<AlgoTestcaseDto> testCases, long totalBytes, String checksum) {
+        this.problemId = problemId;
+        this.version = version;
+        this.compareMode = compareMode;
+        this.floatTolerance = floatTolerance;
+        this.testCases = testCases;
+        this.totalBytes = totalBytes;
+        this.checksum = checksum;
+    }
+
+    /**
+     * 조회한 테스트케이스로 묶음 생성
+     * 원본 DTO는 채점 중 공유되므로 복사본에 정규화된 예상 출력을 담아 보관
+     */
+    public static TestCaseBundle of(Long problemId, long version, OutputCompareMode compareMode,
+                                    Double floatTolerance, List<AlgoTestcaseDto> source) {
+        OutputCompareMode mode = compareMode != null ? compareMode : OutputCompareMode.EXACT;
+        List<AlgoTestcaseDto> copies = new ArrayList<>(source.size());
+        List<String> checksumParts = new ArrayList<>(source.size() * 2);
+        long totalBytes = 0;
+
+        for (AlgoTestcaseDto testCase : source) {
+            byte[] normalized = mode == OutputCompareMode.EXACT && testCase.getExpectedOutput() != null
+                    ? normalizeOutput(testCase.getExpectedOutput()).getBytes(StandardCharsets.UTF_8)
+                    : null;
+
+            AlgoTestcaseDto copy = AlgoTestcaseDto.builder()
+                    .testcaseId(testCase.getTestcaseId())
+                    .inputData(testCase.getInputData())
+                    .expectedOutput(testCase.getExpectedOutput())
+                    .isSample(testCase.getIsSample())
+                    .algoProblemId(testCase.getAlgoProblemId())
+                    .normalizedExpectedOutput(normalized)
+                    .outputCompareMode(mode)
+                    .floatTolerance(floatTolerance)
+                    .build();
+            copies.add(copy);
+
+            checksumParts.add(testCase.getInputData());
+            checksumParts.add(testCase.getExpectedOutput());
+            totalBytes += byteLength(testCase.getInputData())
+                    + byteLength(testCase.getExpectedOutput())
+                    + (normalized != null ? normalized.length : 0);
+        }
+
+        return new TestCaseBundle(problemId, version, mode, floatTolerance,
+                Collections.unmodifiableList(copies), totalBytes,
+                HashUtil.sha256Hex(checksumParts.toArray(String[]::new)));
+    }
+
+    /**
+     * 출력 비교 (테스트케이스에 지정된 비교 방식, 없으면 EXACT)
+     * 묶음에서 꺼낸 테스트케이스는 미리 정규화된 예상 출력을 사용하고, 그 외에는 비교하면서 정규화
+     * 예상 출력이나 실제 출력이 없으면 비교하지 않음 (통과 처리)
+     */
+    public static boolean isSameOutput(AlgoTestcaseDto testCase, String actual) {
+        if (testCase.getExpectedOutput() == null || actual == null) {
+            return true;
+        }
+        if (testCase.getNormalizedExpectedOutput() != null) {
+            return OutputComparator.matchesNormalized(testCase.getNormalizedExpectedOutput(), actual);
+        }
+        return OutputComparator.matches(testCase.getExpectedOutput(), actual,
+                testCase.getOutputCompareMode(), testCase.getFloatTolerance());
+    }
+
+    /**
+     * 문제의 비교 설정이 이 묶음을 만들 때와 같은지 확인
+     */
+    public boolean hasSameCompareSettings(OutputCompareMode mode, Double tolerance) {
+        return compareMode == (mode != null ? mode : OutputCompareMode.EXACT)
+                && Objects.equals(floatTolerance, tolerance);
+    }
+
+    /**
+     * 기존 정규식 정규화(trim → \r\n 치환 → 끝 공백 제거)와 같은 결과
+     * trim 이후에는 끝 공백이 남지 않으므로 문자열 치환만으로 충분
+     */
+    static String normalizeOutput(String output) {
+        String trimmed = output.trim();
+        return trimmed.indexOf('\r') >= 0 ? trimmed.replace("\r\n", "\n") : trimmed;
+    }
+
+    private static long byteLength(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+
+    public Long getProblemId() {
+        return problemId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public OutputCompareMode getCompareMode() {
+        return compareMode;
+    }
+
+    public Double getFloatTolerance() {
+        return floatTolerance;
+    }
+
+    public List<AlgoTestcaseDto> getTestCases() {
+        return testCases;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+}
@@ -0,0 +1,147 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
+import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
+import kr.or.kosa.backend.algorithm.mapper.AlgorithmProblemMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채점용 테스트케이스 묶음 캐시
+ *
+ * - 노드 로컬 LRU에 문제별 TestCaseBundle 보관 (전체 바이트 수와 문제 수로 용량 제한)
+ * - 문제별 버전을 Redis에 두고, 조회 시 버전이 다르면 DB에서 다시 적재
+ *   (테스트케이스 저장 시 버전을 올리면 모든 노드의 캐시가 다음 채점부터 무효화됨)
+ * - Redis 장애 시에는 캐시를 쓰지 않고 DB에서 직접 조회
+ */
+@Slf4j
+@Service
+public class TestCaseBundleCache {
+
+    private static final String VERSION_KEY_PREFIX = "algo:testcase:version:";
+
+    private final AlgorithmProblemMapper problemMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final long maxBytes;
+    private final int maxProblems;
+
+    // 접근 순서 LRU (synchronized로 보호)
+    private final LinkedHashMap<Long, TestCaseBundle> bundles = new LinkedHashMap<>(64, 0.75f, true);
+    private long cachedBytes;
+
+    public TestCaseBundleCache(
+            AlgorithmProblemMapper problemMapper,
+            StringRedisTemplate redisTemplate,
+            @Value("${judge.testcase-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${judge.testcase-cache.max-problems:500}") int maxProblems
+    ) {
+        this.problemMapper = problemMapper;
+        this.redisTemplate = redisTemplate;
+        this.maxBytes = maxBytes;
+        this.maxProblems = maxProblems;
+    }
+
+    /**
+     * 문제의 테스트케이스 묶음 조회 (없거나 버전/비교 설정이 바뀌었으면 DB에서 적재)
+     */
+    public TestCaseBundle get(AlgoProblemDto problem) {
+        Long problemId = problem.getAlgoProblemId();
+        Long version = currentVersion(problemId);
+        if (version == null) {
+            return TestCaseBundle.of(problemId, -1, problem.getOutputCompareMode(), problem.getFloatTolerance(),
+                    problemMapper.selectTestCasesByProblemId(problemId));
+        }
+
+        TestCaseBundle cached = getLocal(problemId);
+        if (cached != null && cached.getVersion() == version
+                && cached.hasSameCompareSettings(problem.getOutputCompareMode(), problem.getFloatTolerance())) {
+            return cached;
+        }
+
+        // 적재 전에 읽은 버전으로 저장하므로, 적재 중 무효화되면 다음 조회에서 다시 적재됨
+        List<AlgoTestcaseDto> testCases = problemMapper.selectTestCasesByProblemId(problemId);
+        TestCaseBundle bundle = TestCaseBundle.of(problemId, version,
+                problem.getOutputCompareMode(), problem.getFloatTolerance(), testCases);
+        putLocal(bundle);
+        log.debug("테스트케이스 묶음 적재 - problemId: {}, version: {}, count: {}, bytes: {}",
+                problemId, version, testCases.size(), bundle.getTotalBytes());
+        return bundle;
+    }
+
+    /**
+     * 테스트케이스 변경 후 호출 - 트랜잭션 커밋 이후 버전 증가
+     * (커밋 전에 올리면 다른 노드가 변경 전 데이터로 새 버전을 적재할 수 있음)
+     */
+    public void invalidate(Long problemId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersion(problemId);
+                }
+            });
+        } else {
+            bumpVersion(problemId);
+        }
+    }
+
+    private void bumpVersion(Long problemId) {
+        removeLocal(problemId);
+        try {
+            redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + problemId);
+        } catch (Exception e) {
+            log.warn("테스트케이스 버전 갱신 실패 - problemId: {}", problemId, e);
+        }
+    }
+
+    private Long currentVersion(Long problemId) {
+        try {
+            String value = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + problemId);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.warn("테스트케이스 버전 조회 실패 - DB 직접 조회: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private synchronized TestCaseBundle getLocal(Long problemId) {
+        return bundles.get(problemId);
+    }
+
+    private synchronized void putLocal(TestCaseBundle bundle) {
+        if (bundle.getTotalBytes() > maxBytes) {
+            return;
+        }
+        TestCaseBundle previous = bundles.put(bundle.getProblemId(), bundle);
+        if (previous != null) {
+            cachedBytes -= previous.getTotalBytes();
+        }
+        cachedBytes += bundle.getTotalBytes();
+
+        Iterator<Map.Entry<Long, TestCaseBundle>> eldest = bundles.entrySet().iterator();
+        while ((cachedBytes > maxBytes || bundles.size() > maxProblems) && eldest.hasNext()) {
+            Map.Entry<Long, TestCaseBundle> entry = eldest.next();
+            if (entry.getValue() == bundle) {
+                continue;
+            }
+            cachedBytes -= entry.getValue().getTotalBytes();
+            eldest.remove();
+        }
+    }
+
+    private synchronized void removeLocal(Long problemId) {
+        TestCaseBundle removed = bundles.remove(problemId);
+        if (removed != null) {
+            cachedBytes -= removed.getTotalBytes();
+        }
+    }
+}
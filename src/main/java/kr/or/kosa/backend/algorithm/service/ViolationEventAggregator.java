@@ -0,0 +1,290 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.or.kosa.backend.algorithm.dto.MonitoringSessionDto;
+import kr.or.kosa.backend.algorithm.mapper.MonitoringMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 위반 이벤트 집계기
+ *
+ * 위반 이벤트마다 DB UPDATE + Redis RPUSH/EXPIRE를 실행하지 않고 세션별로 모아서 반영합니다.
+ * - (세션, 위반 유형)별 카운트를 메모리에서 합산, 이벤트 로그는 세션별 고정 크기 버퍼(가득 차면 오래된 것부터 버림)
+ * - 일정 주기 또는 대기 이벤트 수가 기준을 넘으면 세션당 UPDATE 1회 + Redis 파이프라인 1회로 반영
+ * - 한 세션의 대기 위반 수가 기준에 도달하면 그 세션은 즉시 반영 (많이 위반하는 세션은 지연 없이 DB에 보임)
+ * - 세션 조회/종료 전에는 해당 세션을 먼저 반영, 애플리케이션 종료 시 남은 이벤트 모두 반영
+ * - DB 반영 실패 시 카운트를 버퍼에 되돌려 다음 주기에 다시 시도
+ */
+@Slf4j
+@Service
+public class ViolationEventAggregator {
+
+    private static final String EVENT_KEY_PREFIX = "monitoring:events:";
+    private static final int SESSION_TTL_HOURS = 24;
+
+    // 카운트 배열 인덱스 (OTHER는 유형별 컬럼 없이 전체 위반 수만 증가 - 기존 UPDATE와 동일)
+    private static final int GAZE_AWAY = 0;
+    private static final int SLEEPING = 1;
+    private static final int NO_FACE = 2;
+    private static final int MASK_DETECTED = 3;
+    private static final int MULTIPLE_FACES = 4;
+    private static final int MOUSE_LEAVE = 5;
+    private static final int TAB_SWITCH = 6;
+    private static final int FULLSCREEN_EXIT = 7;
+    private static final int OTHER = 8;
+    private static final int TYPE_COUNT = 9;
+
+    private final MonitoringMapper monitoringMapper;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final int maxPendingEvents;
+    private final int sessionFlushThreshold;
+    private final int maxBufferedEventsPerSession;
+
+    private final Map<String, SessionBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private final ReentrantLock flushAllLock = new ReentrantLock();
+
+    public ViolationEventAggregator(
+            MonitoringMapper monitoringMapper,
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${monitoring.violation.max-pending-events:500}") int maxPendingEvents,
+            @Value("${monitoring.violation.session-flush-threshold:20}") int sessionFlushThreshold,
+            @Value("${monitoring.violation.max-buffered-events-per-session:200}") int maxBufferedEventsPerSession
+    ) {
+        this.monitoringMapper = monitoringMapper;
+        this.redisTemplate = redisTemplate;
+        this.maxPendingEvents = maxPendingEvents;
+        this.sessionFlushThreshold = sessionFlushThreshold;
+        this.maxBufferedEventsPerSession = maxBufferedEventsPerSession;
+    }
+
+    /**
+     * 위반 이벤트 적재
+     *
+     * @param sessionId     세션 ID
+     * @param violationType 위반 유형
+     * @param event         Redis 이벤트 로그에 남길 데이터 (timestamp 포함)
+     */
+    public void record(String sessionId, String violationType, Map<String, Object> event) {
+        int type = typeIndex(violationType);
+        int[] sessionPending = new int[1];
+
+        // compute 안에서 추가해야 반영 후 빈 버퍼 제거와 겹치지 않음
+        buffers.compute(sessionId, (id, buffer) -> {
+            SessionBuffer target = buffer != null ? buffer : new SessionBuffer(maxBufferedEventsPerSession);
+            sessionPending[0] = target.add(type, event);
+            return target;
+        });
+
+        int pending = pendingEvents.incrementAndGet();
+        if (sessionPending[0] >= sessionFlushThreshold) {
+            flushSession(sessionId);
+        } else if (pending >= maxPendingEvents) {
+            flushAll();
+        }
+    }
+
+    /**
+     * 특정 세션의 대기 이벤트 즉시 반영 (세션 조회/종료 전 호출)
+     */
+    public void flushSession(String sessionId) {
+        SessionBuffer buffer = buffers.get(sessionId);
+        if (buffer != null) {
+            flush(sessionId, buffer);
+        }
+    }
+
+    /**
+     * 주기적 전체 반영
+     */
+    @Scheduled(fixedDelayString = "${monitoring.violation.flush-interval-ms:1000}")
+    public void flushAll() {
+        // 다른 스레드가 반영 중이면 그쪽에 맡김
+        if (!flushAllLock.tryLock()) {
+            return;
+        }
+        try {
+            for (Map.Entry<String, SessionBuffer> entry : buffers.entrySet()) {
+                flush(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            flushAllLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 이벤트 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushAllLock.lock();
+        try {
+            for (Map.Entry<String, SessionBuffer> entry : buffers.entrySet()) {
+                flush(entry.getKey(), entry.getValue());
+            }
+            log.info("위반 이벤트 집계기 종료 - 미반영 세션: {}", buffers.size());
+        } finally {
+            flushAllLock.unlock();
+        }
+    }
+
+    private void flush(String sessionId, SessionBuffer buffer) {
+        Drained drained = buffer.drain();
+        // 비어 있는 버퍼는 제거 (그 사이 이벤트가 들어왔으면 유지)
+        buffers.computeIfPresent(sessionId, (id, current) -> current.isEmpty() ? null : current);
+        if (drained == null) {
+            return;
+        }
+        pendingEvents.addAndGet(-drained.total());
+
+        try {
+            monitoringMapper.addViolationCounts(toDelta(sessionId, drained.counts()));
+        } catch (Exception e) {
+            log.warn("위반 카운트 반영 실패 - 다음 주기에 재시도, sessionId: {}, {}", sessionId, e.getMessage());
+            buffers.compute(sessionId, (id, current) -> {
+                SessionBuffer target = current != null ? current : new SessionBuffer(maxBufferedEventsPerSession);
+                target.restoreCounts(drained.counts());
+                return target;
+            });
+            pendingEvents.addAndGet(drained.total());
+            return;
+        }
+
+        if (!drained.events().isEmpty()) {
+            pushEvents(sessionId, drained.events());
+        }
+        log.debug("위반 이벤트 반영 - sessionId: {}, 위반 수: {}, 로그: {}",
+                sessionId, drained.total(), drained.events().size());
+    }
+
+    /**
+     * 이벤트 로그는 실시간 확인용이므로 Redis 실패 시 버림
+     */
+    private void pushEvents(String sessionId, List<Object> events) {
+        String eventKey = EVENT_KEY_PREFIX + sessionId;
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.opsForList().rightPushAll(eventKey, events);
+                    ops.expire(eventKey, SESSION_TTL_HOURS, TimeUnit.HOURS);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("위반 이벤트 로그 저장 실패 - sessionId: {}, {}건, {}", sessionId, events.size(), e.getMessage());
+        }
+    }
+
+    private static MonitoringSessionDto toDelta(String sessionId, int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return MonitoringSessionDto.builder()
+                .sessionId(sessionId)
+                .gazeAwayCount(counts[GAZE_AWAY])
+                .sleepingCount(counts[SLEEPING])
+                .noFaceCount(counts[NO_FACE])
+                .maskDetectedCount(counts[MASK_DETECTED])
+                .multipleFacesCount(counts[MULTIPLE_FACES])
+                .mouseLeaveCount(counts[MOUSE_LEAVE])
+                .tabSwitchCount(counts[TAB_SWITCH])
+                .fullscreenExitCount(counts[FULLSCREEN_EXIT])
+                .totalViolations(total)
+                .build();
+    }
+
+    private static int typeIndex(String violationType) {
+        if (violationType == null) {
+            return OTHER;
+        }
+        return switch (violationType) {
+            case "GAZE_AWAY" -> GAZE_AWAY;
+            case "SLEEPING" -> SLEEPING;
+            case "NO_FACE", "NO_FACE_SUSTAINED" -> NO_FACE;
+            case "MASK_DETECTED" -> MASK_DETECTED;
+            case "MULTIPLE_FACES" -> MULTIPLE_FACES;
+            case "MOUSE_LEAVE" -> MOUSE_LEAVE;
+            case "TAB_SWITCH" -> TAB_SWITCH;
+            case "FULLSCREEN_EXIT" -> FULLSCREEN_EXIT;
+            default -> OTHER;
+        };
+    }
+
+    private record Drained(int[] counts, int total, List<Object> events) {
+    }
+
+    /**
+     * 세션별 대기 카운트와 이벤트 로그 버퍼 (인스턴스 잠금으로 보호)
+     */
+    private static final class SessionBuffer {
+
+        private final int capacity;
+        private final int[] counts = new int[TYPE_COUNT];
+        private final ArrayDeque<Object> events;
+        private int total;
+        private int droppedEvents;
+
+        SessionBuffer(int capacity) {
+            this.capacity = capacity;
+            this.events = new ArrayDeque<>(Math.min(capacity, 16));
+        }
+
+        synchronized int add(int type, Object event) {
+            counts[type]++;
+            total++;
+            if (events.size() >= capacity) {
+                events.pollFirst();
+                droppedEvents++;
+            }
+            events.addLast(event);
+            return total;
+        }
+
+        synchronized void restoreCounts(int[] restored) {
+            for (int i = 0; i < TYPE_COUNT; i++) {
+                counts[i] += restored[i];
+                total += restored[i];
+            }
+        }
+
+        synchronized boolean isEmpty() {
+            return total == 0 && events.isEmpty();
+        }
+
+        synchronized Drained drain() {
+            if (isEmpty()) {
+                return null;
+            }
+            if (droppedEvents > 0) {
+                log.debug("위반 이벤트 로그 버퍼 초과로 {}건 생략", droppedEvents);
+                droppedEvents = 0;
+            }
+            Drained drained = new Drained(counts.clone(), total, new ArrayList<>(events));
+            Arrays.fill(counts, 0);
+            total = 0;
+            events.clear();
+            return drained;
+        }
+    }
+}
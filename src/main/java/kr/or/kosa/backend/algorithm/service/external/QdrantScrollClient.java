@@ -0,0 +1,93 @@
+package kr.or.kosa.backend.algorithm.service.external;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Qdrant scroll API 클라이언트
+ *
+ * 컬렉션 전체를 메모리에 모으지 않고 페이지 단위로 흘려보냅니다.
+ * - 다음 페이지는 앞 페이지를 소비한 뒤에 요청 (한 번에 메모리에 있는 것은 페이지 하나)
+ * - 필요한 페이로드 필드만 요청, 벡터는 받지 않음
+ * - 구독을 취소하거나 limit에 도달하면 더 이상 요청하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QdrantScrollClient {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient qdrantWebClient;
+
+    /**
+     * scroll 결과 포인트 (id, payload)
+     */
+    public record Point(String id, Map<String, Object> payload) {
+    }
+
+    private record Page(List<Point> points, Object nextOffset) {
+    }
+
+    /**
+     * 컬렉션 포인트 순회
+     *
+     * @param collection    컬렉션 이름
+     * @param payloadFields 받을 페이로드 필드 (비어 있으면 전체)
+     * @param pageSize      페이지 크기
+     * @param limit         최대 포인트 수
+     */
+    public Flux<Point> scroll(String collection, List<String> payloadFields, int pageSize, int limit) {
+        return fetchPage(collection, payloadFields, pageSize, null)
+                .expand(page -> page.nextOffset() == null
+                        ? Mono.empty()
+                        : fetchPage(collection, payloadFields, pageSize, page.nextOffset()))
+                .concatMapIterable(Page::points, 1)
+                .take(limit);
+    }
+
+    private Mono<Page> fetchPage(String collection, List<String> payloadFields, int pageSize, Object offset) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("limit", pageSize);
+        requestBody.put("with_payload", payloadFields.isEmpty() ? true : payloadFields);
+        requestBody.put("with_vector", false);
+        if (offset != null) {
+            requestBody.put("offset", offset);
+        }
+
+        return qdrantWebClient.post()
+                .uri("/collections/{collection}/points/scroll", collection)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(RESPONSE_TYPE)
+                .map(QdrantScrollClient::toPage)
+                .doOnError(e -> log.error("Qdrant scroll 오류 - collection: {}, {}", collection, e.getMessage()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Page toPage(Map<String, Object> response) {
+        Object resultObj = response.get("result");
+        if (!(resultObj instanceof Map<?, ?> result)) {
+            log.warn("Qdrant 응답이 비어있습니다.");
+            return new Page(List.of(), null);
+        }
+        List<Map<String, Object>> rawPoints = (List<Map<String, Object>>) result.get("points");
+        if (rawPoints == null || rawPoints.isEmpty()) {
+            return new Page(List.of(), null);
+        }
+        List<Point> points = rawPoints.stream()
+                .map(point -> new Point(String.valueOf(point.get("id")), (Map<String, Object>) point.get("payload")))
+                .toList();
+        return new Page(points, result.get("next_page_offset"));
+    }
+}
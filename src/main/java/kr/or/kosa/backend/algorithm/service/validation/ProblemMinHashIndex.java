@@ -0,0 +1,470 @@
+package kr.or.kosa.backend.algorithm.service.validation;
+
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemSignatureDto;
+import kr.or.kosa.backend.algorithm.mapper.AlgorithmProblemMapper;
+import kr.or.kosa.backend.algorithm.service.ProblemTokenSets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문제 유사도 후보 색인 (MinHash + LSH)
+ *
+ * 생성된 문제마다 기존 문제 전체를 토큰화하여 Jaccard를 계산하지 않고, 비슷할 가능성이 있는 문제만 후보로 찾습니다.
+ * - 제목/설명 토큰 집합(ProblemTokenSets)의 MinHash 시그니처를 따로 계산 (가중 평균 0.4/0.6 유지)
+ * - 시그니처를 밴드로 나누어 밴드 값이 하나라도 같은 문제만 후보 (밴드별 정렬된 long 배열, 이진 탐색)
+ *   제목: 16밴드 x 2행 (Jaccard 0.5에서 검출 확률 약 99%), 설명: 20밴드 x 5행 (0.67에서 약 94%, 0.75에서 약 99.8%)
+ *   가중 평균이 기준(기본 0.8)을 넘으려면 제목 0.5 이상 또는 설명 0.67 이상이어야 하므로 어느 쪽이든 걸리면 후보
+ * - 시그니처는 ALGO_PROBLEM_SIGNATURES에 저장 (문제 저장 시 함께 저장), 기동 시 시그니처만 읽어 색인
+ * - 시그니처가 없거나 오래된 문제는 기동/동기화 시 다시 계산하여 저장, 다른 노드에서 저장된 시그니처는 주기적으로 반영
+ * - 적재 전에는 null을 반환하여 호출 측이 기존 방식(최근 문제 전체 비교)을 사용
+ */
+@Slf4j
+@Component
+public class ProblemMinHashIndex {
+
+    /**
+     * 시그니처 계산 방식 버전 (해시/토큰화/시그니처 길이를 바꾸면 올려서 전체 재계산)
+     */
+    static final int SIGNATURE_VERSION = 1;
+
+    private static final int TITLE_BANDS = 16;
+    private static final int TITLE_ROWS = 2;
+    private static final int DESCRIPTION_BANDS = 20;
+    private static final int DESCRIPTION_ROWS = 5;
+    private static final int TITLE_HASHES = TITLE_BANDS * TITLE_ROWS;
+    private static final int DESCRIPTION_HASHES = DESCRIPTION_BANDS * DESCRIPTION_ROWS;
+    private static final int TOTAL_BANDS = TITLE_BANDS + DESCRIPTION_BANDS;
+    // 시그니처가 없는 쪽(토큰 없음)의 밴드 키 - 실제 밴드 키는 0이 되지 않도록 보정
+    private static final int EMPTY_BAND = 0;
+
+    // 해시 함수별 시드 (고정값에서 계산 - 저장된 시그니처와 호환되어야 하므로 바꾸지 않음)
+    private static final long[] SEEDS = new long[Math.max(TITLE_HASHES, DESCRIPTION_HASHES)];
+
+    static {
+        for (int i = 0; i < SEEDS.length; i++) {
+            SEEDS[i] = mix(0x9E3779B97F4A7C15L * (i + 1));
+        }
+    }
+
+    private static final int LOAD_BATCH_SIZE = 2000;
+    private static final int BACKFILL_BATCH_SIZE = 200;
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(2);
+
+    private final AlgorithmProblemMapper problemMapper;
+    private final int maxCandidates;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Band[] bands = newBands();
+    // 문제별 밴드 키 (수정/비활성화 시 이전 밴드에서 제거하는 데 사용)
+    private Map<Long, IndexedSignature> signatures = new HashMap<>();
+
+    private volatile boolean ready;
+    private volatile LocalDateTime lastSyncAt;
+
+    public ProblemMinHashIndex(AlgorithmProblemMapper problemMapper,
+                               @Value("${algorithm.validation.lsh-max-candidates:200}") int maxCandidates) {
+        this.problemMapper = problemMapper;
+        this.maxCandidates = maxCandidates;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return signatures.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 유사 후보 문제 ID 조회 (밴드 일치 수가 많은 순, 최대 maxCandidates개)
+     *
+     * @return 후보 ID 목록 (색인 적재 전이면 null)
+     */
+    public List<Long> findCandidates(Set<String> titleTokens, Set<String> descriptionTokens) {
+        if (!ready) {
+            return null;
+        }
+        int[] bandKeys = bandKeys(minHash(titleTokens, TITLE_HASHES), minHash(descriptionTokens, DESCRIPTION_HASHES));
+
+        Map<Long, Integer> hits = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (int band = 0; band < TOTAL_BANDS; band++) {
+                if (bandKeys[band] != EMPTY_BAND) {
+                    bands[band].collect(bandKeys[band], hits);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return hits.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
+                .limit(maxCandidates)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 저장된 문제의 시그니처 저장 + 색인 반영
+     * 시그니처는 호출한 트랜잭션 안에서 저장하고, 메모리 색인은 커밋 이후 반영 (비활성 문제는 색인에서 제거)
+     */
+    public void indexProblem(AlgoProblemDto problem) {
+        if (problem == null || problem.getAlgoProblemId() == null) {
+            return;
+        }
+        AlgoProblemSignatureDto signature = signatureOf(problem);
+        try {
+            problemMapper.upsertProblemSignatures(List.of(signature));
+        } catch (Exception e) {
+            // 저장 실패 시 다음 동기화에서 다시 계산
+            log.warn("문제 시그니처 저장 실패 - problemId: {}, {}", problem.getAlgoProblemId(), e.getMessage());
+        }
+
+        boolean active = !Boolean.FALSE.equals(problem.getAlgoProblemStatus());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(signature, active);
+                }
+            });
+        } else {
+            apply(signature, active);
+        }
+    }
+
+    /**
+     * 기동 완료 후 시그니처 적재 (적재 중 유사도 검사는 기존 방식 사용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재색인 - 빠진 시그니처를 계산한 뒤 저장된 시그니처로 새 색인을 만들어 교체
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            int backfilled = backfill();
+
+            Band[] newBands = newBands();
+            Map<Long, IndexedSignature> newSignatures = new HashMap<>();
+            long afterId = 0;
+            while (true) {
+                List<AlgoProblemSignatureDto> batch =
+                        problemMapper.selectProblemSignatures(SIGNATURE_VERSION, afterId, LOAD_BATCH_SIZE);
+                for (AlgoProblemSignatureDto signature : batch) {
+                    IndexedSignature indexed = indexedOf(signature);
+                    newSignatures.put(indexed.problemId(), indexed);
+                    for (int band = 0; band < TOTAL_BANDS; band++) {
+                        if (indexed.bandKeys()[band] != EMPTY_BAND) {
+                            newBands[band].append(indexed.bandKeys()[band], indexed.problemId());
+                        }
+                    }
+                    afterId = signature.getAlgoProblemId();
+                }
+                if (batch.size() < LOAD_BATCH_SIZE) {
+                    break;
+                }
+            }
+            for (Band band : newBands) {
+                band.sort();
+            }
+
+            lock.writeLock().lock();
+            try {
+                bands = newBands;
+                signatures = newSignatures;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastSyncAt = startedAt;
+            ready = true;
+
+            log.info("문제 유사도 색인 완료 - 문제 수: {}, 새로 계산한 시그니처: {}, {}ms",
+                    newSignatures.size(), backfilled, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("문제 유사도 색인 실패 - 기존 유사도 검사 사용", e);
+        }
+    }
+
+    /**
+     * 변경분 동기화 (다른 노드에서 저장된 시그니처, 비활성화/수정된 문제 반영)
+     */
+    @Scheduled(fixedDelayString = "${algorithm.validation.lsh-sync-interval-ms:60000}")
+    public void syncChanges() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            backfill();
+            List<AlgoProblemSignatureDto> changed =
+                    problemMapper.selectProblemSignaturesChanged(SIGNATURE_VERSION, lastSyncAt.minus(SYNC_OVERLAP));
+            for (AlgoProblemSignatureDto signature : changed) {
+                apply(signature, Boolean.TRUE.equals(signature.getAlgoProblemStatus()));
+            }
+            lastSyncAt = startedAt;
+            if (!changed.isEmpty()) {
+                log.debug("문제 유사도 색인 동기화 - 변경 문제 수: {}", changed.size());
+            }
+        } catch (Exception e) {
+            log.warn("문제 유사도 색인 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 시그니처가 없거나 오래된 활성 문제의 시그니처 계산 및 저장
+     *
+     * @return 계산한 문제 수
+     */
+    private int backfill() {
+        int total = 0;
+        while (true) {
+            List<AlgoProblemDto> problems =
+                    problemMapper.selectProblemsWithoutSignature(SIGNATURE_VERSION, BACKFILL_BATCH_SIZE);
+            if (problems.isEmpty()) {
+                return total;
+            }
+            List<AlgoProblemSignatureDto> computed = new ArrayList<>(problems.size());
+            for (AlgoProblemDto problem : problems) {
+                computed.add(signatureOf(problem));
+            }
+            problemMapper.upsertProblemSignatures(computed);
+            total += problems.size();
+            if (problems.size() < BACKFILL_BATCH_SIZE) {
+                return total;
+            }
+        }
+    }
+
+    private void apply(AlgoProblemSignatureDto signature, boolean active) {
+        IndexedSignature indexed = indexedOf(signature);
+        lock.writeLock().lock();
+        try {
+            IndexedSignature previous = signatures.remove(indexed.problemId());
+            if (previous != null) {
+                for (int band = 0; band < TOTAL_BANDS; band++) {
+                    if (previous.bandKeys()[band] != EMPTY_BAND) {
+                        bands[band].remove(previous.bandKeys()[band], previous.problemId());
+                    }
+                }
+            }
+            if (active) {
+                signatures.put(indexed.problemId(), indexed);
+                for (int band = 0; band < TOTAL_BANDS; band++) {
+                    if (indexed.bandKeys()[band] != EMPTY_BAND) {
+                        bands[band].insert(indexed.bandKeys()[band], indexed.problemId());
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===== 토큰화/시그니처 계산 =====
+
+    static AlgoProblemSignatureDto signatureOf(AlgoProblemDto problem) {
+        return AlgoProblemSignatureDto.builder()
+                .algoProblemId(problem.getAlgoProblemId())
+                .signatureVersion(SIGNATURE_VERSION)
+                .titleSignature(toBytes(minHash(
+                        ProblemTokenSets.tokens(problem.getAlgoProblemTitle()), TITLE_HASHES)))
+                .descriptionSignature(toBytes(minHash(
+                        ProblemTokenSets.tokens(problem.getAlgoProblemDescription()), DESCRIPTION_HASHES)))
+                .build();
+    }
+
+    /**
+     * MinHash 시그니처 (토큰이 없으면 null)
+     */
+    static int[] minHash(Set<String> tokens, int hashCount) {
+        if (tokens == null || tokens.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[hashCount];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String token : tokens) {
+            long base = hashToken(token);
+            for (int i = 0; i < hashCount; i++) {
+                int h = (int) (mix(base ^ SEEDS[i]) >>> 32);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 밴드별 키 (밴드 번호를 섞어 밴드 간 충돌 방지, 시그니처가 없는 쪽은 EMPTY_BAND)
+     */
+    private static int[] bandKeys(int[] titleSignature, int[] descriptionSignature) {
+        int[] keys = new int[TOTAL_BANDS];
+        if (titleSignature != null) {
+            for (int band = 0; band < TITLE_BANDS; band++) {
+                keys[band] = bandKey(band, titleSignature, band * TITLE_ROWS, TITLE_ROWS);
+            }
+        }
+        if (descriptionSignature != null) {
+            for (int band = 0; band < DESCRIPTION_BANDS; band++) {
+                keys[TITLE_BANDS + band] = bandKey(TITLE_BANDS + band, descriptionSignature,
+                        band * DESCRIPTION_ROWS, DESCRIPTION_ROWS);
+            }
+        }
+        return keys;
+    }
+
+    private static int bandKey(int band, int[] signature, int offset, int rows) {
+        long h = band;
+        for (int i = offset; i < offset + rows; i++) {
+            h = mix(h * 31 + signature[i]);
+        }
+        int key = (int) (h ^ (h >>> 32));
+        return key == EMPTY_BAND ? 1 : key;
+    }
+
+    private static IndexedSignature indexedOf(AlgoProblemSignatureDto signature) {
+        return new IndexedSignature(signature.getAlgoProblemId(),
+                bandKeys(fromBytes(signature.getTitleSignature()), fromBytes(signature.getDescriptionSignature())));
+    }
+
+    // FNV-1a 64 (JVM/실행과 무관하게 같은 값이어야 하므로 String.hashCode 대신 사용)
+    private static long hashToken(String token) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static byte[] toBytes(int[] signature) {
+        if (signature == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    private static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        int[] signature = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    private static Band[] newBands() {
+        Band[] bands = new Band[TOTAL_BANDS];
+        for (int i = 0; i < TOTAL_BANDS; i++) {
+            bands[i] = new Band();
+        }
+        return bands;
+    }
+
+    private record IndexedSignature(long problemId, int[] bandKeys) {
+    }
+
+    /**
+     * 밴드 하나의 버킷 (상위 32비트 밴드 키 + 하위 32비트 문제 ID를 정렬된 배열로 유지)
+     * 같은 밴드 키를 가진 문제가 연속으로 놓이므로 이진 탐색 후 순차로 읽음
+     */
+    private static final class Band {
+
+        private long[] entries = new long[16];
+        private int size;
+
+        void append(int bandKey, long problemId) {
+            ensureCapacity();
+            entries[size++] = entry(bandKey, problemId);
+        }
+
+        void sort() {
+            Arrays.sort(entries, 0, size);
+        }
+
+        void insert(int bandKey, long problemId) {
+            long entry = entry(bandKey, problemId);
+            int pos = Arrays.binarySearch(entries, 0, size, entry);
+            if (pos >= 0) {
+                return;
+            }
+            pos = -pos - 1;
+            ensureCapacity();
+            System.arraycopy(entries, pos, entries, pos + 1, size - pos);
+            entries[pos] = entry;
+            size++;
+        }
+
+        void remove(int bandKey, long problemId) {
+            int pos = Arrays.binarySearch(entries, 0, size, entry(bandKey, problemId));
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(entries, pos + 1, entries, pos, size - pos - 1);
+            size--;
+        }
+
+        void collect(int bandKey, Map<Long, Integer> hits) {
+            int pos = Arrays.binarySearch(entries, 0, size, (long) bandKey << 32);
+            if (pos < 0) {
+                pos = -pos - 1;
+            }
+            while (pos < size && (int) (entries[pos] >> 32) == bandKey) {
+                hits.merge(entries[pos] & 0xFFFFFFFFL, 1, Integer::sum);
+                pos++;
+            }
+        }
+
+        private void ensureCapacity() {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+        }
+
+        private static long entry(int bandKey, long problemId) {
+            return ((long) bandKey << 32) | (problemId & 0xFFFFFFFFL);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package kr.or.kosa.backend.algorithm.service.validation;
 import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
 import kr.or.kosa.backend.algorithm.dto.ValidationResultDto;
 import kr.or.kosa.backend.algorithm.mapper.AlgorithmProblemMapper;
+import kr.or.kosa.backend.algorithm.service.ProblemTokenSets;
 import kr.or.kosa.backend.algorithm.service.ProblemVectorStoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +25,8 @@ public class SimilarityChecker {
 
     private final AlgorithmProblemMapper problemMapper;
     private final ProblemVectorStoreService vectorStoreService;
+    private final ProblemMinHashIndex minHashIndex;
+    private final ProblemTokenSets tokenSets;
 
     @Value("${algorithm.validation.max-similarity:0.8}")
     private double maxSimilarity;
@@ -128,10 +131,21 @@ public class SimilarityChecker {
 
     /**
      * Jaccard 기반 유사도 검사 (폴백)
+     * MinHash 색인이 준비되어 있으면 LSH 후보만, 아니면 최근 문제 similarityCheckLimit개와 비교
      */
     private ValidationResultDto checkJaccardSimilarity(String newTitle, String newDescription, ValidationResultDto result) {
-        List<AlgoProblemDto> existingProblems = problemMapper.selectProblemsWithFilter(
-                0, similarityCheckLimit, null, null, null, null);
+        List<AlgoProblemDto> existingProblems;
+        List<Long> candidateIds = minHashIndex.findCandidates(
+                ProblemTokenSets.tokens(newTitle), ProblemTokenSets.tokens(newDescription));
+        if (candidateIds != null) {
+            existingProblems = candidateIds.isEmpty() ? List.of() : problemMapper.selectProblemTextsByIds(candidateIds);
+            result.addMetadata("candidateSource", "MinHashLSH");
+            result.addMetadata("indexedProblems", minHashIndex.size());
+        } else {
+            existingProblems = problemMapper.selectProblemsWithFilter(
+                    0, similarityCheckLimit, null, null, null, null);
+            result.addMetadata("candidateSource", "Recent");
+        }
 
         if (existingProblems == null || existingProblems.isEmpty()) {
             log.info("비교할 기존 문제가 없습니다");
@@ -141,15 +155,21 @@ public class SimilarityChecker {
             return result;
         }
 
+        // 새 문제는 한 번만 토큰화, 기존 문제는 문제 ID 기준 캐시 사용
+        ProblemTokenSets.TokenSpace tokenSpace = tokenSets.space();
+        int[] newTitleTokens = tokenSpace.tokenIds(newTitle);
+        int[] newDescriptionTokens = tokenSpace.tokenIds(newDescription);
+
         double maxFoundSimilarity = 0.0;
         Long mostSimilarProblemId = null;
         String mostSimilarTitle = null;
 
         for (AlgoProblemDto existing : existingProblems) {
-            double titleSimilarity = calculateJaccardSimilarity(
-                    newTitle, existing.getAlgoProblemTitle());
-            double descSimilarity = calculateJaccardSimilarity(
-                    newDescription, existing.getAlgoProblemDescription());
+            String problemKey = "problem:" + existing.getAlgoProblemId();
+            double titleSimilarity = ProblemTokenSets.jaccard(newTitleTokens,
+                    tokenSpace.cachedTokenIds(problemKey + ":title", existing.getAlgoProblemTitle()));
+            double descSimilarity = ProblemTokenSets.jaccard(newDescriptionTokens,
+                    tokenSpace.cachedTokenIds(problemKey + ":description", existing.getAlgoProblemDescription()));
 
             // 가중 평균 (제목 40%, 설명 60%)
             double combinedSimilarity = titleSimilarity * 0.4 + descSimilarity * 0.6;
@@ -184,55 +204,4 @@ public class SimilarityChecker {
         log.info("유사도 검사 완료 (Jaccard) - 결과: {}", result.getSummary());
         return result;
     }
-
-    /**
-     * Jaccard 유사도 계산
-     * 두 문자열을 토큰화하여 교집합/합집합 비율 계산
-     */
-    private double calculateJaccardSimilarity(String text1, String text2) {
-        if (text1 == null || text2 == null) {
-            return 0.0;
-        }
-
-        // 공백 기준 토큰화 및 정규화
-        String[] tokens1 = normalizeAndTokenize(text1);
-        String[] tokens2 = normalizeAndTokenize(text2);
-
-        if (tokens1.length == 0 || tokens2.length == 0) {
-            return 0.0;
-        }
-
-        // Set으로 변환
-        java.util.Set<String> set1 = new java.util.HashSet<>(java.util.Arrays.asList(tokens1));
-        java.util.Set<String> set2 = new java.util.HashSet<>(java.util.Arrays.asList(tokens2));
-
-        // 교집합 계산
-        java.util.Set<String> intersection = new java.util.HashSet<>(set1);
-        intersection.retainAll(set2);
-
-        // 합집합 계산
-        java.util.Set<String> union = new java.util.HashSet<>(set1);
-        union.addAll(set2);
-
-        if (union.isEmpty()) {
-            return 0.0;
-        }
-
-        return (double) intersection.size() / union.size();
-    }
-
-    /**
-     * 텍스트 정규화 및 토큰화
-     */
-    private String[] normalizeAndTokenize(String text) {
-        if (text == null) {
-            return new String[0];
-        }
-
-        // 소문자 변환, 특수문자 제거, 공백 기준 분리
-        return text.toLowerCase()
-                .replaceAll("[^a-z0-9가-힣\\s]", " ")
-                .trim()
-                .split("\\s+");
-    }
 }
@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import kr.or.kosa.backend.codeboard.dto.*;
 import kr.or.kosa.backend.codeboard.service.CodeboardService;
 import kr.or.kosa.backend.codeboard.sort.CodeboardSortType;
+import kr.or.kosa.backend.commons.pagination.KeysetResponse;
 import kr.or.kosa.backend.commons.pagination.PageResponse;
 import kr.or.kosa.backend.commons.pagination.SortDirection;
 import kr.or.kosa.backend.commons.response.ApiResponse;
@@ -38,6 +39,22 @@ public class CodeboardController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    // 코드 게시판 목록 조회 (커서 기반 무한 스크롤, 전체 개수 미포함)
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<KeysetResponse<CodeboardListResponseDto>>> getListByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "CREATED_AT") String sort,
+            @RequestParam(defaultValue = "DESC") SortDirection direction,
+            @RequestParam(required = false) String keyword
+    ) {
+        CodeboardSortType sortType = CodeboardSortType.from(sort);
+        KeysetResponse<CodeboardListResponseDto> response =
+                codeboardService.getListByCursor(cursor, size, sortType, direction, keyword);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     // 코드 게시글 생성
     @PostMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> create(
@@ -14,7 +14,8 @@ public enum CodeboardErrorCode implements ErrorCode {
     JSON_PARSE_ERROR("CB007", "블록 내용을 JSON으로 변환할 수 없습니다."),
     INVALID_BLOCK_CONTENT("CB008", "허용되지 않는 블록 콘텐츠가 포함되어 있습니다."),
 
-    INVALID_SORT("CB009", "허용되지 않은 정렬 조건입니다.");
+    INVALID_SORT("CB009", "허용되지 않은 정렬 조건입니다."),
+    INVALID_CURSOR("CB010", "유효하지 않은 커서입니다.");
 
     private final String code;
     private final String message;
@@ -3,6 +3,7 @@ package kr.or.kosa.backend.codeboard.mapper;
 import kr.or.kosa.backend.codeboard.domain.Codeboard;
 import kr.or.kosa.backend.codeboard.dto.CodeboardDetailResponseDto;
 import kr.or.kosa.backend.codeboard.dto.CodeboardListResponseDto;
+import kr.or.kosa.backend.commons.pagination.KeysetRequest;
 import kr.or.kosa.backend.commons.pagination.PageRequest;
 import kr.or.kosa.backend.commons.pagination.SearchCondition;
 import kr.or.kosa.backend.commons.pagination.SortCondition;
@@ -24,6 +25,12 @@ public interface CodeboardMapper {
 
     void increaseClick(Long codeboardId);
 
+    int updateLikeCount(@Param("codeboardId") Long codeboardId, @Param("delta") int delta);
+
+    int updateCommentCount(@Param("codeboardId") Long codeboardId, @Param("delta") int delta);
+
+    int reconcileCounters();
+
     long countPosts(@Param("search") SearchCondition searchCondition);
 
     List<CodeboardListResponseDto> findPosts(
@@ -31,4 +38,9 @@ public interface CodeboardMapper {
             @Param("search") SearchCondition searchCondition,
             @Param("sort") SortCondition sortCondition
     );
+
+    List<CodeboardListResponseDto> findPostsByCursor(
+            @Param("keyset") KeysetRequest keysetRequest,
+            @Param("search") SearchCondition searchCondition
+    );
 }
\ No newline at end of file
@@ -9,6 +9,9 @@ import kr.or.kosa.backend.codeboard.exception.CodeboardErrorCode;
 import kr.or.kosa.backend.codeboard.mapper.CodeboardMapper;
 import kr.or.kosa.backend.codeboard.sort.CodeboardSortType;
 import kr.or.kosa.backend.commons.exception.custom.CustomBusinessException;
+import kr.or.kosa.backend.commons.pagination.KeysetKeyType;
+import kr.or.kosa.backend.commons.pagination.KeysetRequest;
+import kr.or.kosa.backend.commons.pagination.KeysetResponse;
 import kr.or.kosa.backend.commons.pagination.PageRequest;
 import kr.or.kosa.backend.commons.pagination.PageResponse;
 import kr.or.kosa.backend.commons.pagination.SearchCondition;
@@ -60,6 +63,44 @@ public class CodeboardService {
         return new PageResponse<>(boards, pageRequest, totalCount);
     }
 
+    // 코드 게시판 목록 조회 (검색 + 정렬 + 키셋 페이지네이션, 무한 스크롤용)
+    public KeysetResponse<CodeboardListResponseDto> getListByCursor(
+            String cursor,
+            int size,
+            CodeboardSortType sortType,
+            SortDirection direction,
+            String keyword
+    ) {
+        SortCondition sortCondition = new SortCondition(sortType, direction);
+        KeysetRequest keysetRequest;
+        try {
+            keysetRequest = new KeysetRequest(cursor, size, sortCondition,
+                    sortType == CodeboardSortType.CREATED_AT ? KeysetKeyType.TIME : KeysetKeyType.NUMBER);
+        } catch (IllegalArgumentException e) {
+            throw new CustomBusinessException(CodeboardErrorCode.INVALID_CURSOR);
+        }
+
+        List<CodeboardListResponseDto> boards =
+                mapper.findPostsByCursor(keysetRequest, new SearchCondition(keyword));
+
+        return new KeysetResponse<>(
+                boards,
+                keysetRequest,
+                board -> sortKeyOf(board, sortType),
+                CodeboardListResponseDto::getCodeboardId
+        );
+    }
+
+    // 정렬 타입별 커서 키 추출 (매퍼 ORDER BY 컬럼과 일치해야 함)
+    private Object sortKeyOf(CodeboardListResponseDto board, CodeboardSortType sortType) {
+        return switch (sortType) {
+            case VIEW_COUNT -> board.getCodeboardClick() != null ? board.getCodeboardClick() : 0L;
+            case LIKE_COUNT -> board.getLikeCount() != null ? board.getLikeCount() : 0;
+            case COMMENT_COUNT -> board.getCommentCount() != null ? board.getCommentCount() : 0;
+            case CREATED_AT -> board.getCodeboardCreatedAt();
+        };
+    }
+
     // 코드 게시글 작성
     @Transactional
     public Long write(CodeboardDto dto, Long userId) {
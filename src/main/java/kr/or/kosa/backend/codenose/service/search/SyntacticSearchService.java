@@ -1,10 +1,14 @@
 package kr.or.kosa.backend.codenose.service.search;
 
 import kr.or.kosa.backend.codenose.service.search.strategy.SyntacticAnalysisStrategy;
-import lombok.RequiredArgsConstructor;
+import kr.or.kosa.backend.commons.util.HashUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -15,23 +19,40 @@ import java.util.stream.Collectors;
  * 역할:
  * 코드의 구조적 특징(Identifier, Method Name 등)을 추출하여 검색에 활용할 수 있는 문자열로 변환합니다.
  * 언어별(Java, Python, JS 등) 전략 패턴을 사용하여 확장성을 보장합니다.
+ *
+ * 같은 코드가 반복 분석되는 경우(저장된 파일 재분석, 하이브리드 검색 등)를 위해
+ * (언어, 코드 SHA-256) 키로 추출 결과를 LRU 캐시에 보관합니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SyntacticSearchService {
 
     // 등록된 모든 구문 분석 전략(Strategy) 리스트
     private final List<SyntacticAnalysisStrategy> strategies;
 
+    // 내용 해시 → 불변 특징 맵 (접근 순서 기반 LRU)
+    private final Map<String, Map<String, Object>> featureCache;
+
+    public SyntacticSearchService(List<SyntacticAnalysisStrategy> strategies,
+                                  @Value("${codenose.syntactic.cache-size:1000}") int cacheSize) {
+        this.strategies = strategies;
+        this.featureCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
     /**
      * 코드에서 구문적 특징 추출
      * 
      * 입력된 언어에 맞는 적절한 전략(Strategy)을 찾아 특징(Features)을 추출합니다.
+     * 이미 분석한 코드라면 파싱 없이 캐시된 결과를 반환합니다. (파싱 실패 결과는 캐시하지 않음)
      * 
      * @param code     분석할 코드
      * @param language 프로그래밍 언어 (java, python, javascript 등)
-     * @return 특징 맵 (Key: 특징 유형, Value: 특징 값)
+     * @return 특징 맵 (Key: 특징 유형, Value: 특징 값), 읽기 전용
      */
     public Map<String, Object> extractFeatures(String code, String language) {
         SyntacticAnalysisStrategy strategy = strategies.stream()
@@ -40,7 +61,31 @@ public class SyntacticSearchService {
                 .orElseThrow(
                         () -> new IllegalArgumentException("지원하지 않는 언어입니다: " + language));
 
-        return strategy.extractFeatures(code);
+        String cacheKey = HashUtil.sha256Hex(strategy.getClass().getSimpleName(), code);
+        Map<String, Object> cached = featureCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        Map<String, Object> features = strategy.extractFeatures(code);
+        if (features.containsKey("error")) {
+            return features;
+        }
+
+        Map<String, Object> immutable = toImmutable(features);
+        featureCache.put(cacheKey, immutable);
+        return immutable;
+    }
+
+    /**
+     * 캐시에 공유되는 결과이므로 중첩 맵(api_usage 등)까지 읽기 전용으로 복사
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toImmutable(Map<String, Object> features) {
+        Map<String, Object> copy = new HashMap<>(features.size());
+        features.forEach((key, value) -> copy.put(key,
+                value instanceof Map<?, ?> nested ? Map.copyOf((Map<Object, Object>) nested) : value));
+        return Collections.unmodifiableMap(copy);
     }
 
     /**
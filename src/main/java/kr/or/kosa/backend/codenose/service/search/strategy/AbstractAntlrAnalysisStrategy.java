@@ -0,0 +1,113 @@
+package kr.or.kosa.backend.codenose.service.search.strategy;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.Map;
+
+/**
+ * ANTLR 기반 구문 분석 전략 공통 베이스 (AbstractAntlrAnalysisStrategy)
+ *
+ * 역할:
+ * 언어별 전략이 공통으로 쓰는 파싱 절차를 한 곳에 모읍니다.
+ * - 스레드마다 Lexer/Parser 인스턴스를 하나씩 두고 입력만 교체하여 재사용
+ * - SLL 예측 + BailErrorStrategy로 먼저 파싱하고, 실패할 때만 전체 LL 예측으로 재파싱
+ * - 기동 시 샘플 코드를 파싱하여 (클래스 단위로 공유되는) DFA 캐시를 미리 채움
+ *
+ * @param <L> 생성된 Lexer 타입
+ * @param <P> 생성된 Parser 타입
+ */
+@Slf4j
+public abstract class AbstractAntlrAnalysisStrategy<L extends Lexer, P extends Parser>
+        implements SyntacticAnalysisStrategy {
+
+    private final ThreadLocal<L> lexers = ThreadLocal.withInitial(() -> createLexer(CharStreams.fromString("")));
+    private final ThreadLocal<P> parsers =
+            ThreadLocal.withInitial(() -> createParser(new CommonTokenStream(lexers.get())));
+
+    /**
+     * 언어별 Lexer 생성
+     */
+    protected abstract L createLexer(CharStream input);
+
+    /**
+     * 언어별 Parser 생성
+     */
+    protected abstract P createParser(TokenStream tokens);
+
+    /**
+     * 시작 규칙으로 파스 트리 생성 (예: compilationUnit, file_input, program)
+     */
+    protected abstract ParseTree parseRoot(P parser);
+
+    /**
+     * 파스 트리에서 특징 추출
+     */
+    protected abstract Map<String, Object> extractFromTree(ParseTree tree);
+
+    /**
+     * DFA 워밍업에 사용할 대표 코드
+     */
+    protected abstract String warmUpSource();
+
+    @Override
+    public Map<String, Object> extractFeatures(String code) {
+        try {
+            return extractFromTree(parse(code));
+        } catch (Exception e) {
+            log.error("{} 구문 분석 실패", getClass().getSimpleName(), e);
+            return Map.of("error", String.valueOf(e.getMessage()));
+        }
+    }
+
+    /**
+     * 2단계 파싱 (SLL → LL)
+     * 대부분의 입력은 더 빠른 SLL 예측만으로 파싱되며, SLL이 모호성으로 실패한 경우에만 LL로 다시 파싱합니다.
+     */
+    protected ParseTree parse(String code) {
+        L lexer = lexers.get();
+        lexer.setInputStream(CharStreams.fromString(code));
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+
+        P parser = parsers.get();
+        parser.setTokenStream(tokens);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+
+        try {
+            return parseRoot(parser);
+        } catch (ParseCancellationException e) {
+            tokens.seek(0);
+            parser.setTokenStream(tokens);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return parseRoot(parser);
+        }
+    }
+
+    /**
+     * 기동 시 DFA 캐시 워밍업
+     */
+    @PostConstruct
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        try {
+            extractFromTree(parse(warmUpSource()));
+            log.info("{} DFA 워밍업 완료 - {}ms", getClass().getSimpleName(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("{} DFA 워밍업 실패: {}", getClass().getSimpleName(), e.getMessage());
+        }
+    }
+}
@@ -3,9 +3,8 @@ package kr.or.kosa.backend.codenose.service.search.strategy;
 import kr.or.kosa.backend.codenose.parser.JavaScriptLexer;
 import kr.or.kosa.backend.codenose.parser.JavaScriptParser;
 import kr.or.kosa.backend.codenose.parser.JavaScriptParserBaseListener;
-import lombok.extern.slf4j.Slf4j;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.springframework.stereotype.Component;
@@ -13,9 +12,8 @@ import org.springframework.stereotype.Component;
 import java.util.HashMap;
 import java.util.Map;
 
-@Slf4j
 @Component
-public class JavaScriptSyntacticAnalysisStrategy implements SyntacticAnalysisStrategy {
+public class JavaScriptSyntacticAnalysisStrategy extends AbstractAntlrAnalysisStrategy<JavaScriptLexer, JavaScriptParser> {
 
     @Override
     public boolean supports(String language) {
@@ -24,24 +22,51 @@ public class JavaScriptSyntacticAnalysisStrategy implements SyntacticAnalysisStr
     }
 
     @Override
-    public Map<String, Object> extractFeatures(String code) {
-        try {
-            JavaScriptLexer lexer = new JavaScriptLexer(CharStreams.fromString(code));
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            JavaScriptParser parser = new JavaScriptParser(tokens);
+    protected JavaScriptLexer createLexer(CharStream input) {
+        return new JavaScriptLexer(input);
+    }
 
-            ParseTree tree = parser.program();
+    @Override
+    protected JavaScriptParser createParser(TokenStream tokens) {
+        return new JavaScriptParser(tokens);
+    }
 
-            FeatureExtractionListener listener = new FeatureExtractionListener();
-            ParseTreeWalker walker = new ParseTreeWalker();
-            walker.walk(listener, tree);
+    @Override
+    protected ParseTree parseRoot(JavaScriptParser parser) {
+        return parser.program();
+    }
 
-            return listener.getFeatures();
+    @Override
+    protected Map<String, Object> extractFromTree(ParseTree tree) {
+        FeatureExtractionListener listener = new FeatureExtractionListener();
+        ParseTreeWalker.DEFAULT.walk(listener, tree);
+        return listener.getFeatures();
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to parse JavaScript code for syntactic analysis", e);
-            return Map.of("error", e.getMessage());
-        }
+    @Override
+    protected String warmUpSource() {
+        return """
+                import fs from 'fs';
+
+                function solve(n) {
+                    const arr = [];
+                    for (let i = 0; i < n; i++) {
+                        if (i % 2 === 0) arr.push(i);
+                    }
+                    for (const x of arr) {
+                        while (x > 10) { break; }
+                    }
+                    switch (n) {
+                        case 1: return 1;
+                        default: break;
+                    }
+                    try {
+                        return arr.reduce((a, b) => a + b, 0);
+                    } catch (e) {
+                        return -1;
+                    }
+                }
+                """;
     }
 
     private static class FeatureExtractionListener extends JavaScriptParserBaseListener {
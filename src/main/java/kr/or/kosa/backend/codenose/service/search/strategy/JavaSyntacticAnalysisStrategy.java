@@ -3,9 +3,8 @@ package kr.or.kosa.backend.codenose.service.search.strategy;
 import kr.or.kosa.backend.codenose.parser.JavaBaseListener;
 import kr.or.kosa.backend.codenose.parser.JavaLexer;
 import kr.or.kosa.backend.codenose.parser.JavaParser;
-import lombok.extern.slf4j.Slf4j;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.springframework.stereotype.Component;
@@ -20,9 +19,8 @@ import java.util.Map;
  * ANTLR4로 생성된 Java 파서(`JavaParser`, `JavaLexer`)를 사용하여
  * Java 코드의 구조적 특징(루프 중첩 깊이, 순환 복잡도, 예외 처리 여부, API 사용 등)을 추출합니다.
  */
-@Slf4j
 @Component
-public class JavaSyntacticAnalysisStrategy implements SyntacticAnalysisStrategy {
+public class JavaSyntacticAnalysisStrategy extends AbstractAntlrAnalysisStrategy<JavaLexer, JavaParser> {
 
     @Override
     public boolean supports(String language) {
@@ -30,27 +28,49 @@ public class JavaSyntacticAnalysisStrategy implements SyntacticAnalysisStrategy
     }
 
     @Override
-    public Map<String, Object> extractFeatures(String code) {
-        try {
-            // ANTLR Lexer & Parser 초기화
-            JavaLexer lexer = new JavaLexer(CharStreams.fromString(code));
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            JavaParser parser = new JavaParser(tokens);
-
-            // 파스 트리 생성 (CompilationUnit 시작점)
-            ParseTree tree = parser.compilationUnit();
-
-            // 리스너 기반으로 트리 순회하며 특징 추출
-            FeatureExtractionListener listener = new FeatureExtractionListener();
-            ParseTreeWalker walker = new ParseTreeWalker();
-            walker.walk(listener, tree);
-
-            return listener.getFeatures();
-
-        } catch (Exception e) {
-            log.error("Java 코드 구문 분석 실패", e);
-            return Map.of("error", e.getMessage());
-        }
+    protected JavaLexer createLexer(CharStream input) {
+        return new JavaLexer(input);
+    }
+
+    @Override
+    protected JavaParser createParser(TokenStream tokens) {
+        return new JavaParser(tokens);
+    }
+
+    @Override
+    protected ParseTree parseRoot(JavaParser parser) {
+        return parser.compilationUnit();
+    }
+
+    @Override
+    protected Map<String, Object> extractFromTree(ParseTree tree) {
+        FeatureExtractionListener listener = new FeatureExtractionListener();
+        ParseTreeWalker.DEFAULT.walk(listener, tree);
+        return listener.getFeatures();
+    }
+
+    @Override
+    protected String warmUpSource() {
+        return """
+                import java.util.*;
+
+                public class Main {
+                    public static void main(String[] args) throws Exception {
+                        Scanner sc = new Scanner(System.in);
+                        int n = sc.nextInt();
+                        List<Integer> list = new ArrayList<>();
+                        for (int i = 0; i < n; i++) {
+                            if (i % 2 == 0) list.add(i);
+                            while (list.size() > 10) list.remove(0);
+                        }
+                        try {
+                            System.out.println(list.stream().mapToInt(x -> x).sum());
+                        } catch (RuntimeException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                }
+                """;
     }
 
     /**
@@ -3,9 +3,8 @@ package kr.or.kosa.backend.codenose.service.search.strategy;
 import kr.or.kosa.backend.codenose.parser.PythonLexer;
 import kr.or.kosa.backend.codenose.parser.PythonParser;
 import kr.or.kosa.backend.codenose.parser.PythonParserBaseListener;
-import lombok.extern.slf4j.Slf4j;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.springframework.stereotype.Component;
@@ -13,9 +12,8 @@ import org.springframework.stereotype.Component;
 import java.util.HashMap;
 import java.util.Map;
 
-@Slf4j
 @Component
-public class PythonSyntacticAnalysisStrategy implements SyntacticAnalysisStrategy {
+public class PythonSyntacticAnalysisStrategy extends AbstractAntlrAnalysisStrategy<PythonLexer, PythonParser> {
 
     @Override
     public boolean supports(String language) {
@@ -23,24 +21,49 @@ public class PythonSyntacticAnalysisStrategy implements SyntacticAnalysisStrateg
     }
 
     @Override
-    public Map<String, Object> extractFeatures(String code) {
-        try {
-            PythonLexer lexer = new PythonLexer(CharStreams.fromString(code));
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            PythonParser parser = new PythonParser(tokens);
+    protected PythonLexer createLexer(CharStream input) {
+        return new PythonLexer(input);
+    }
 
-            ParseTree tree = parser.file_input();
+    @Override
+    protected PythonParser createParser(TokenStream tokens) {
+        return new PythonParser(tokens);
+    }
 
-            FeatureExtractionListener listener = new FeatureExtractionListener();
-            ParseTreeWalker walker = new ParseTreeWalker();
-            walker.walk(listener, tree);
+    @Override
+    protected ParseTree parseRoot(PythonParser parser) {
+        return parser.file_input();
+    }
 
-            return listener.getFeatures();
+    @Override
+    protected Map<String, Object> extractFromTree(ParseTree tree) {
+        FeatureExtractionListener listener = new FeatureExtractionListener();
+        ParseTreeWalker.DEFAULT.walk(listener, tree);
+        return listener.getFeatures();
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to parse Python code for syntactic analysis", e);
-            return Map.of("error", e.getMessage());
-        }
+    @Override
+    protected String warmUpSource() {
+        return """
+                import sys
+                from collections import deque
+
+                def solve(n):
+                    q = deque()
+                    for i in range(n):
+                        if i % 2 == 0:
+                            q.append(i)
+                        elif i % 3 == 0:
+                            continue
+                    while q:
+                        q.popleft()
+                    try:
+                        return sum(x for x in range(n))
+                    except ValueError as e:
+                        return -1
+
+                print(solve(int(sys.stdin.readline())))
+                """;
     }
 
     private static class FeatureExtractionListener extends PythonParserBaseListener {
@@ -100,6 +100,8 @@ public class CommentService {
             throw new CustomBusinessException(CommentErrorCode.INSERT_ERROR);
         }
 
+        updateBoardCommentCount(request.boardType(), request.boardId(), 1);
+
         // DB에서 다시 조회하여 자동 생성된 필드 값 가져오기
         Comment savedComment = commentMapper.selectCommentById(comment.getCommentId());
 
@@ -176,12 +178,19 @@ public class CommentService {
             throw new CustomBusinessException(CommentErrorCode.NO_DELETE_PERMISSION);
         }
 
+        // 이미 삭제된 댓글은 카운터를 다시 차감하지 않도록 그대로 종료
+        if (comment.getIsDeleted()) {
+            return;
+        }
+
         // 소프트 딜리트
         Long deleted = commentMapper.deleteComment(commentId);
         if (deleted == 0) {
             throw new CustomBusinessException(CommentErrorCode.DELETE_ERROR);
         }
 
+        updateBoardCommentCount(comment.getBoardType(), comment.getBoardId(), -1);
+
         // 관련 좋아요 삭제
         likeService.deleteByReference(ReferenceType.COMMENT, commentId);
 
@@ -189,6 +198,19 @@ public class CommentService {
         notificationService.deleteByReference(ReferenceType.COMMENT, commentId);
     }
 
+    /**
+     * 게시글 댓글 수 컬럼 증감
+     * 댓글 저장/삭제와 같은 트랜잭션에서 처리 (알고리즘 게시판은 카운터 없음)
+     */
+    private void updateBoardCommentCount(String boardType, Long boardId, int delta) {
+        switch (boardType) {
+            case "CODEBOARD" -> codeBoardMapper.updateCommentCount(boardId, delta);
+            case "FREEBOARD" -> freeboardMapper.updateCommentCount(boardId, delta);
+            default -> {
+            }
+        }
+    }
+
     private Long getBoardAuthorId(String boardType, Long boardId) {
         return switch (boardType) {
             case "CODEBOARD" -> {
@@ -0,0 +1,61 @@
+package kr.or.kosa.backend.commons.pagination;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 키셋 페이지네이션 커서
+// 마지막으로 본 행의 (정렬 키, ID)를 정렬 조건과 함께 불투명 문자열로 인코딩
+// 형식: base64url("column|direction|value|id")
+
+@Getter
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String column;
+    private final SortDirection direction;
+    private final String value;
+    private final Long id;
+
+    private KeysetCursor(String column, SortDirection direction, String value, Long id) {
+        this.column = column;
+        this.direction = direction;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static KeysetCursor of(SortCondition sort, Object value, Long id) {
+        if (value == null || id == null) {
+            throw new IllegalArgumentException("커서 값과 ID는 필수입니다.");
+        }
+        return new KeysetCursor(sort.getColumn(), sort.getDirection(), value.toString(), id);
+    }
+
+    public String encode() {
+        String raw = column + DELIMITER + direction.name() + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 형식이면 IllegalArgumentException 발생
+    public static KeysetCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\|", -1);
+        if (parts.length != 4 || parts[0].isEmpty() || parts[2].isEmpty()) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다.");
+        }
+        return new KeysetCursor(
+                parts[0],
+                SortDirection.valueOf(parts[1]),
+                parts[2],
+                Long.parseLong(parts[3])
+        );
+    }
+
+    // 커서가 현재 정렬 조건에서 발급된 것인지 확인
+    public boolean matches(SortCondition sort) {
+        return column.equals(sort.getColumn()) && direction == sort.getDirection();
+    }
+}
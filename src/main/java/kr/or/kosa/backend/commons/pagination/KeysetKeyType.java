@@ -0,0 +1,8 @@
+package kr.or.kosa.backend.commons.pagination;
+
+// 키셋 정렬 키의 타입
+// 매퍼에서 비교하는 파라미터와 일치해야 함 (NUMBER: keyset.numberKey, TIME: keyset.timeKey)
+public enum KeysetKeyType {
+    NUMBER,
+    TIME
+}
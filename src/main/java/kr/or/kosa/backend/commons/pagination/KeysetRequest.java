@@ -0,0 +1,76 @@
+package kr.or.kosa.backend.commons.pagination;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// 키셋(커서) 기반 페이지네이션 요청 객체
+// OFFSET 없이 마지막 행의 (정렬 키, ID) 이후부터 조회하므로 페이지 깊이와 무관하게 인덱스 범위 탐색만 수행
+// 정렬 키가 같은 행은 ID로 순서를 고정하므로 매퍼의 ORDER BY에도 ID가 포함되어야 함
+
+@Getter
+public class KeysetRequest {
+
+    private final KeysetCursor cursor;
+    private final int size;
+    private final SortCondition sort;
+    private final KeysetKeyType keyType;
+
+    // 커서가 정렬 조건과 맞지 않거나 형식/타입이 잘못되면 IllegalArgumentException 발생
+    public KeysetRequest(String cursorToken, int size, SortCondition sort, KeysetKeyType keyType) {
+        this.sort = sort;
+        this.keyType = keyType;
+        this.size = Math.max(size, 1);
+        this.cursor = (cursorToken == null || cursorToken.isBlank())
+                ? null
+                : KeysetCursor.decode(cursorToken);
+
+        if (cursor != null && !cursor.matches(sort)) {
+            throw new IllegalArgumentException("커서의 정렬 조건이 요청과 다릅니다.");
+        }
+        if (cursor != null) {
+            validateKey(cursor.getValue(), keyType);
+        }
+    }
+
+    // 정렬 키가 정렬 컬럼의 타입으로 변환되는지 미리 검증 (매퍼에서 변환 오류가 나지 않도록)
+    private static void validateKey(String value, KeysetKeyType keyType) {
+        try {
+            switch (keyType) {
+                case NUMBER -> Long.parseLong(value);
+                case TIME -> LocalDateTime.parse(value);
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서 값입니다.", e);
+        }
+    }
+
+    public boolean hasCursor() {
+        return cursor != null;
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    public int getFetchSize() {
+        return size + 1;
+    }
+
+    // MyBatis XML에서 ${keyset.comparator} 사용 (정렬 방향 enum에서만 파생되므로 주입 불가)
+    public String getComparator() {
+        return sort.getDirection() == SortDirection.DESC ? "<" : ">";
+    }
+
+    public Long getLastId() {
+        return cursor != null ? cursor.getId() : null;
+    }
+
+    // 숫자 정렬 키 (조회수, 좋아요 수, 댓글 수)
+    public Long getNumberKey() {
+        return cursor != null && keyType == KeysetKeyType.NUMBER ? Long.parseLong(cursor.getValue()) : null;
+    }
+
+    // 시간 정렬 키 (작성일)
+    public LocalDateTime getTimeKey() {
+        return cursor != null && keyType == KeysetKeyType.TIME ? LocalDateTime.parse(cursor.getValue()) : null;
+    }
+}
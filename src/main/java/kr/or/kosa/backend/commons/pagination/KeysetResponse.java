@@ -0,0 +1,41 @@
+package kr.or.kosa.backend.commons.pagination;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 키셋(커서) 기반 목록 응답
+// 전체 개수(COUNT) 없이 다음 페이지 존재 여부와 다음 커서만 제공
+
+@Getter
+public class KeysetResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor; // 다음 요청에 그대로 전달할 불투명 커서
+    private final boolean hasNext;
+    private final int size;
+
+    // rows는 request.getFetchSize()(= size + 1)만큼 조회한 결과
+    public KeysetResponse(
+            List<T> rows,
+            KeysetRequest request,
+            Function<T, Object> sortKeyExtractor,
+            Function<T, Long> idExtractor
+    ) {
+        this.hasNext = rows.size() > request.getSize();
+        this.content = hasNext ? List.copyOf(rows.subList(0, request.getSize())) : rows;
+        this.size = content.size();
+
+        if (hasNext) {
+            T last = content.get(content.size() - 1);
+            this.nextCursor = KeysetCursor.of(
+                    request.getSort(),
+                    sortKeyExtractor.apply(last),
+                    idExtractor.apply(last)
+            ).encode();
+        } else {
+            this.nextCursor = null;
+        }
+    }
+}
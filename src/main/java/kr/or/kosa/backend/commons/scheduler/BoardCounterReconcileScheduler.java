@@ -0,0 +1,39 @@
+package kr.or.kosa.backend.commons.scheduler;
+
+import kr.or.kosa.backend.codeboard.mapper.CodeboardMapper;
+import kr.or.kosa.backend.freeboard.mapper.FreeboardMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시판 좋아요/댓글 수 보정 스케줄러
+ * 카운터는 좋아요/댓글 변경과 같은 트랜잭션에서 증감되지만,
+ * 직접 DB 수정이나 게시글 삭제 시 일괄 삭제 등으로 어긋난 값을 실제 집계값으로 되돌림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCounterReconcileScheduler {
+
+    private final FreeboardMapper freeboardMapper;
+    private final CodeboardMapper codeboardMapper;
+
+    // 매일 새벽 4시 실행
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcileCounters() {
+        try {
+            int freeboardFixed = freeboardMapper.reconcileCounters();
+            int codeboardFixed = codeboardMapper.reconcileCounters();
+
+            if (freeboardFixed > 0 || codeboardFixed > 0) {
+                log.warn("게시판 카운터 보정 - freeboard: {}건, codeboard: {}건", freeboardFixed, codeboardFixed);
+            } else {
+                log.info("게시판 카운터 보정 - 불일치 없음");
+            }
+        } catch (Exception e) {
+            log.error("게시판 카운터 보정 실패", e);
+        }
+    }
+}
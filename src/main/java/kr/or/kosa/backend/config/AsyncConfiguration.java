@@ -82,6 +82,49 @@ public class AsyncConfiguration implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 로컬 코드 실행기 전용 스레드 풀
+     * 실행 스레드 하나가 채점 프로세스 하나를 감시하므로 CPU 코어 수로 동시 실행을 제한
+     */
+    @Bean(name = "localExecutorPool")
+    public Executor localExecutorPool() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        log.info("🖥️ AsyncConfiguration: 로컬 실행기 전용 TaskExecutor 설정 중...");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);    // 동시 실행 프로세스 수 = 코어 수
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(500);     // 테스트케이스 단위로 적재되므로 넉넉하게
+        executor.setThreadNamePrefix("Local-Executor-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("✅ AsyncConfiguration: 로컬 실행기 TaskExecutor 설정 완료 (코어/최대: {})", cores);
+        return executor;
+    }
+
+    /**
+     * 배치 작업 전용 스레드 풀
+     * 스케줄러 일괄 작업(데일리 미션 생성 등)의 묶음 단위 병렬 처리용, DB 커넥션을 오래 점유하지 않도록 작게 유지
+     */
+    @Bean(name = "batchExecutor")
+    public Executor batchExecutor() {
+        log.info("📦 AsyncConfiguration: 배치 작업 전용 TaskExecutor 설정 중...");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);     // 호출 측이 묶음 단위로 나누어 제출
+        executor.setThreadNamePrefix("Batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("✅ AsyncConfiguration: 배치 작업 TaskExecutor 설정 완료 (코어/최대: 4)");
+        return executor;
+    }
+
     /**
      * 비동기 메서드에서 예외 발생 시 처리
      */
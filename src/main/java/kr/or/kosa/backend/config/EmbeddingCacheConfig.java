@@ -0,0 +1,40 @@
+package kr.or.kosa.backend.config;
+
+import kr.or.kosa.backend.infra.embedding.CachingEmbeddingModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.openai.OpenAiEmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 임베딩 캐시 설정
+ * OpenAI 임베딩 모델을 캐시 모델로 감싸 기본(@Primary) EmbeddingModel로 등록 - VectorStore 등 모든 임베딩 사용처가 공유
+ */
+@Configuration
+@Slf4j
+public class EmbeddingCacheConfig {
+
+    @Bean
+    @Primary
+    public CachingEmbeddingModel cachingEmbeddingModel(
+            OpenAiEmbeddingModel openAiEmbeddingModel,
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${spring.ai.openai.embedding.options.model:text-embedding-ada-002}") String model,
+            @Value("${embedding.cache.local-max-mb:64}") long localMaxMb,
+            @Value("${embedding.cache.redis-enabled:true}") boolean redisEnabled,
+            @Value("${embedding.cache.redis-ttl-hours:168}") long redisTtlHours
+    ) {
+        log.info("임베딩 캐시 설정 - 모델: {}, 로컬: {}MB, Redis: {}", model, localMaxMb, redisEnabled);
+        return new CachingEmbeddingModel(
+                openAiEmbeddingModel,
+                redisEnabled ? stringRedisTemplate : null,
+                model,
+                localMaxMb * 1024 * 1024,
+                Duration.ofHours(redisTtlHours));
+    }
+}
@@ -57,9 +57,13 @@ public class Judge0Config {
                 .keepAlive(true);
 
         // 3. Exchange Strategies 설정
+        // 배치 조회 응답 하나에 최대 maxSize 케이스의 stdout/stderr/compile_output이 담기므로 그만큼 허용
+        Judge0Properties.Batch batch = judge0Properties.getBatch();
+        long batchResponseBytes = (long) Math.max(1, batch.getMaxSize()) * batch.getMaxOutputKbPerCase() * 1024L;
+        int maxInMemorySize = (int) Math.min(Integer.MAX_VALUE, Math.max(1024 * 1024, batchResponseBytes));
         ExchangeStrategies strategies = ExchangeStrategies.builder()
                 .codecs(configurer -> {
-                    configurer.defaultCodecs().maxInMemorySize(1024 * 1024);
+                    configurer.defaultCodecs().maxInMemorySize(maxInMemorySize);
                 })
                 .build();
 
@@ -121,6 +125,7 @@ public class Judge0Config {
         private Timeout timeout = new Timeout();
         private Retry retry = new Retry();
         private Limits limits = new Limits();
+        private Batch batch = new Batch();
         private Map<String, Integer> languages = Map.of(
                 "java", 62,
                 "python", 71,
@@ -150,5 +155,23 @@ public class Judge0Config {
             private Integer memory = 128000;
             private Double wallTime = 5.0;
         }
+
+        /**
+         * 배치 채점 설정
+         * - maxSize: Judge0 MAX_SUBMISSION_BATCH_SIZE (기본 20)
+         * - fallbackConcurrency: 배치 API 실패 시 단건 동시 제출 수
+         * - poll*: 토큰 폴링 적응형 백오프 (결과가 도착하면 초기 간격으로 복귀)
+         * - maxOutputKbPerCase: 케이스당 예상 최대 응답 크기 (stdout + stderr + compile_output), WebClient 응답 버퍼 크기 계산용
+         */
+        @Data
+        public static class Batch {
+            private boolean enabled = true;
+            private int maxSize = 20;
+            private int fallbackConcurrency = 4;
+            private long pollInitialDelayMs = 100;
+            private long pollMaxDelayMs = 1500;
+            private long pollTimeoutMs = 60000;
+            private int maxOutputKbPerCase = 2048;
+        }
     }
 }
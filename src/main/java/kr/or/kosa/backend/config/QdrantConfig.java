@@ -0,0 +1,61 @@
+package kr.or.kosa.backend.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Qdrant REST API WebClient 설정
+ * Spring AI VectorStore(gRPC)가 제공하지 않는 scroll 등 관리용 호출에 사용, 호출마다 WebClient를 만들지 않고 연결 풀 공유
+ */
+@Configuration
+@Slf4j
+public class QdrantConfig {
+
+    @Value("${spring.ai.vectorstore.qdrant.host:localhost}")
+    private String qdrantHost;
+
+    @Value("${qdrant.rest.port:6333}")
+    private int restPort;
+
+    @Value("${qdrant.rest.timeout:30000}")
+    private Integer timeout;
+
+    @Bean("qdrantWebClient")
+    public WebClient qdrantWebClient() {
+        String baseUrl = "http://" + qdrantHost + ":" + restPort;
+        log.info("Qdrant REST WebClient 설정 - BaseURL: {}", baseUrl);
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("qdrant-pool")
+                .maxConnections(10)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
+                .responseTimeout(Duration.ofMillis(timeout))
+                .compress(true);
+
+        // scroll 페이지 하나만 메모리에 올리므로 페이지 크기 x 페이로드 크기 기준으로 제한
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(8 * 1024 * 1024))
+                .build();
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(strategies)
+                .defaultHeader("Content-Type", "application/json")
+                .defaultHeader("Accept", "application/json")
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import kr.or.kosa.backend.security.jwt.JwtAuthenticationFilter;
 import kr.or.kosa.backend.security.jwt.JwtProvider;
+import kr.or.kosa.backend.security.jwt.TokenBlacklist;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.context.annotation.Bean;
@@ -28,6 +29,7 @@ import org.springframework.http.HttpMethod;
 public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
+    private final TokenBlacklist tokenBlacklist;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -71,7 +73,7 @@ public class SecurityConfig {
                 )
                 // JWT 인증 필터 (한 번만 등록)
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtProvider),
+                        new JwtAuthenticationFilter(jwtProvider, tokenBlacklist),
                         UsernamePasswordAuthenticationFilter.class
                 );
 
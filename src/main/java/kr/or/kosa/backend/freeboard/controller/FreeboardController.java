@@ -1,6 +1,7 @@
 package kr.or.kosa.backend.freeboard.controller;
 
 import jakarta.validation.Valid;
+import kr.or.kosa.backend.commons.pagination.KeysetResponse;
 import kr.or.kosa.backend.commons.pagination.PageResponse;
 import kr.or.kosa.backend.commons.pagination.SortDirection;
 import kr.or.kosa.backend.commons.response.ApiResponse;
@@ -38,6 +39,22 @@ public class FreeboardController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    // 게시글 목록 조회 (커서 기반 무한 스크롤, 전체 개수 미포함)
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<KeysetResponse<FreeboardListResponseDto>>> getListByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "CREATED_AT") String sort,
+            @RequestParam(defaultValue = "DESC") SortDirection direction,
+            @RequestParam(required = false) String keyword
+    ) {
+        FreeboardSortType sortType = FreeboardSortType.from(sort);
+        KeysetResponse<FreeboardListResponseDto> response =
+                freeboardService.getListByCursor(cursor, size, sortType, direction, keyword);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     // 게시글 작성
     @PostMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> create(
@@ -21,7 +21,10 @@ public enum FreeboardErrorCode implements ErrorCode {
     JSON_PARSE_ERROR("FB008", "게시글 콘텐츠 변환 중 오류가 발생했습니다."),
 
     // 정렬
-    INVALID_SORT("FB009", "허용되지 않은 정렬 조건입니다.");
+    INVALID_SORT("FB009", "허용되지 않은 정렬 조건입니다."),
+
+    // 페이지네이션
+    INVALID_CURSOR("FB010", "유효하지 않은 커서입니다.");
 
 
     private final String code;
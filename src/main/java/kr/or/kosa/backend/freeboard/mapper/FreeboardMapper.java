@@ -1,5 +1,6 @@
 package kr.or.kosa.backend.freeboard.mapper;
 
+import kr.or.kosa.backend.commons.pagination.KeysetRequest;
 import kr.or.kosa.backend.commons.pagination.PageRequest;
 import kr.or.kosa.backend.commons.pagination.SearchCondition;
 import kr.or.kosa.backend.commons.pagination.SortCondition;
@@ -21,6 +22,12 @@ public interface FreeboardMapper {
             @Param("sort") SortCondition sortCondition
     );
 
+    // 게시글 목록 조회 (키셋 페이지네이션 + 검색 + 정렬, size + 1건 조회)
+    List<FreeboardListResponseDto> findPostsByCursor(
+            @Param("keyset") KeysetRequest keysetRequest,
+            @Param("search") SearchCondition searchCondition
+    );
+
     // 전체 개수 조회 (검색 조건 적용)
     long countPosts(@Param("search") SearchCondition searchCondition);
 
@@ -38,4 +45,13 @@ public interface FreeboardMapper {
 
     // 조회수 증가
     void increaseClick(@Param("freeboardId") Long freeboardId);
+
+    // 좋아요 수 증감 (delta: +1 / -1)
+    int updateLikeCount(@Param("freeboardId") Long freeboardId, @Param("delta") int delta);
+
+    // 댓글 수 증감 (delta: +1 / -1)
+    int updateCommentCount(@Param("freeboardId") Long freeboardId, @Param("delta") int delta);
+
+    // 좋아요/댓글 수 보정 (실제 집계값과 다른 행만 갱신, 갱신된 행 수 반환)
+    int reconcileCounters();
 }
\ No newline at end of file
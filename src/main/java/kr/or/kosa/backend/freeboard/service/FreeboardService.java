@@ -2,6 +2,9 @@ package kr.or.kosa.backend.freeboard.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.or.kosa.backend.commons.exception.custom.CustomBusinessException;
+import kr.or.kosa.backend.commons.pagination.KeysetKeyType;
+import kr.or.kosa.backend.commons.pagination.KeysetRequest;
+import kr.or.kosa.backend.commons.pagination.KeysetResponse;
 import kr.or.kosa.backend.commons.pagination.PageRequest;
 import kr.or.kosa.backend.commons.pagination.PageResponse;
 import kr.or.kosa.backend.commons.pagination.SearchCondition;
@@ -54,6 +57,50 @@ public class FreeboardService {
         List<FreeboardListResponseDto> boards =
                 mapper.findPosts(pageRequest, searchCondition, sortCondition);
 
+        long totalCount = mapper.countPosts(searchCondition);
+
+        return new PageResponse<>(attachTags(boards), pageRequest, totalCount);
+    }
+
+    // 자유게시판 목록 조회 (검색 + 정렬 + 키셋 페이지네이션, 무한 스크롤용)
+    public KeysetResponse<FreeboardListResponseDto> getListByCursor(
+            String cursor,
+            int size,
+            FreeboardSortType sortType,
+            SortDirection direction,
+            String keyword
+    ) {
+        SortCondition sortCondition = new SortCondition(sortType, direction);
+        KeysetRequest keysetRequest;
+        try {
+            keysetRequest = new KeysetRequest(cursor, size, sortCondition,
+                    sortType == FreeboardSortType.CREATED_AT ? KeysetKeyType.TIME : KeysetKeyType.NUMBER);
+        } catch (IllegalArgumentException e) {
+            throw new CustomBusinessException(FreeboardErrorCode.INVALID_CURSOR);
+        }
+
+        List<FreeboardListResponseDto> boards =
+                mapper.findPostsByCursor(keysetRequest, new SearchCondition(keyword));
+
+        return new KeysetResponse<>(
+                attachTags(boards),
+                keysetRequest,
+                board -> sortKeyOf(board, sortType),
+                FreeboardListResponseDto::getFreeboardId
+        );
+    }
+
+    // 정렬 타입별 커서 키 추출 (매퍼 ORDER BY 컬럼과 일치해야 함)
+    private Object sortKeyOf(FreeboardListResponseDto board, FreeboardSortType sortType) {
+        return switch (sortType) {
+            case VIEW_COUNT -> board.getFreeboardClick() != null ? board.getFreeboardClick() : 0L;
+            case LIKE_COUNT -> board.getLikeCount() != null ? board.getLikeCount() : 0;
+            case COMMENT_COUNT -> board.getCommentCount() != null ? board.getCommentCount() : 0;
+            case CREATED_AT -> board.getFreeboardCreatedAt();
+        };
+    }
+
+    private List<FreeboardListResponseDto> attachTags(List<FreeboardListResponseDto> boards) {
         // 게시글 ID 목록 추출
         List<Long> boardIds = boards.stream()
                 .map(FreeboardListResponseDto::getFreeboardId)
@@ -85,9 +132,7 @@ public class FreeboardService {
                     .collect(Collectors.toList());
         }
 
-        long totalCount = mapper.countPosts(searchCondition);
-
-        return new PageResponse<>(boardsWithTags, pageRequest, totalCount);
+        return boardsWithTags;
     }
 
     @Transactional
@@ -0,0 +1,283 @@
+package kr.or.kosa.backend.infra.embedding;
+
+import kr.or.kosa.backend.commons.util.HashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.BatchingStrategy;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 임베딩 캐시 EmbeddingModel
+ *
+ * 검색어 임베딩(VectorStore 유사도 검색, RAG 조회 등)을 모델 + 본문 해시 기준으로 캐시하여 같은 검색어는 임베딩 API를 다시 호출하지 않습니다.
+ * - L1: 노드 로컬 LRU, float[] 그대로 보관 (전체 바이트 수 상한)
+ * - L2: Redis (선택), float32 little-endian 바이트로 저장 (JSON/Base64 대비 작음)
+ * - 한 요청에 여러 텍스트가 있으면 캐시에 없는 텍스트만 모아 한 번에 임베딩
+ * - 문서 적재(embed(List&lt;Document&gt;, ...))는 캐시 없이 원래 모델로 처리 (검색어와 겹치지 않으므로 캐시만 차지)
+ * - 적중률/항목당 바이트는 stats()로 조회, 주기적으로 로그 기록
+ * - 캐시에는 복사본을 저장하고 호출자에게도 복사본을 반환 (호출자가 배열을 수정해도 캐시는 그대로)
+ */
+@Slf4j
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    private static final String KEY_PREFIX = "embedding:";
+    private static final byte ENCODING_VERSION = 1;
+
+    private final EmbeddingModel delegate;
+    private final StringRedisTemplate redisTemplate;
+    private final String namespace;
+    private final long maxLocalBytes;
+    private final Duration redisTtl;
+
+    // 접근 순서 LRU, localBytes와 함께 이 객체로 동기화
+    private final LinkedHashMap<String, float[]> localCache = new LinkedHashMap<>(256, 0.75f, true);
+    private long localBytes;
+
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param delegate      실제 임베딩 모델
+     * @param redisTemplate L2 캐시 (null이면 로컬 캐시만 사용)
+     * @param namespace     캐시 키 구분값 (임베딩 모델 이름 - 모델이 바뀌면 다른 키)
+     * @param maxLocalBytes 로컬 캐시 최대 바이트
+     * @param redisTtl      Redis 보관 기간
+     */
+    public CachingEmbeddingModel(EmbeddingModel delegate, StringRedisTemplate redisTemplate, String namespace,
+                                 long maxLocalBytes, Duration redisTtl) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.namespace = namespace;
+        this.maxLocalBytes = maxLocalBytes;
+        this.redisTtl = redisTtl;
+    }
+
+    /**
+     * 캐시 통계
+     *
+     * @param localHits     로컬 캐시 적중 수
+     * @param redisHits     Redis 적중 수
+     * @param misses        모델 호출로 계산한 텍스트 수
+     * @param localEntries  로컬 캐시 항목 수
+     * @param localBytes    로컬 캐시 벡터 바이트 합계
+     */
+    public record Stats(long localHits, long redisHits, long misses, int localEntries, long localBytes) {
+
+        public double hitRatio() {
+            long total = localHits + redisHits + misses;
+            return total == 0 ? 0.0 : (double) (localHits + redisHits) / total;
+        }
+
+        public long bytesPerEntry() {
+            return localEntries == 0 ? 0 : localBytes / localEntries;
+        }
+    }
+
+    public Stats stats() {
+        synchronized (localCache) {
+            return new Stats(localHits.get(), redisHits.get(), misses.get(), localCache.size(), localBytes);
+        }
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        List<String> inputs = request.getInstructions();
+        String modelKey = modelKey(request.getOptions());
+
+        float[][] vectors = new float[inputs.size()][];
+        List<Integer> missIndexes = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            vectors[i] = lookup(cacheKey(modelKey, inputs.get(i)));
+            if (vectors[i] == null) {
+                missIndexes.add(i);
+            }
+        }
+
+        if (missIndexes.isEmpty()) {
+            return toResponse(vectors);
+        }
+
+        // 캐시에 없는 텍스트만 한 번에 임베딩 (같은 요청 안의 중복 텍스트도 한 번만)
+        Map<String, List<Integer>> missTexts = new LinkedHashMap<>();
+        for (int index : missIndexes) {
+            missTexts.computeIfAbsent(inputs.get(index), text -> new ArrayList<>()).add(index);
+        }
+        List<String> texts = new ArrayList<>(missTexts.keySet());
+        EmbeddingResponse response = delegate.call(new EmbeddingRequest(texts, request.getOptions()));
+        misses.addAndGet(texts.size());
+
+        Iterator<Embedding> results = response.getResults().iterator();
+        for (String text : texts) {
+            float[] vector = results.next().getOutput();
+            store(cacheKey(modelKey, text), vector);
+            for (int index : missTexts.get(text)) {
+                vectors[index] = vector;
+            }
+        }
+        return missIndexes.size() == inputs.size() && texts.size() == inputs.size()
+                ? response
+                : toResponse(vectors);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        return delegate.embed(document);
+    }
+
+    @Override
+    public List<float[]> embed(List<Document> documents, EmbeddingOptions options, BatchingStrategy batchingStrategy) {
+        return delegate.embed(documents, options, batchingStrategy);
+    }
+
+    @Override
+    public int dimensions() {
+        return delegate.dimensions();
+    }
+
+    /**
+     * 캐시 통계 로그 (호출이 있었을 때만)
+     */
+    @Scheduled(fixedDelayString = "${embedding.cache.stats-log-interval-ms:600000}")
+    public void logStats() {
+        Stats stats = stats();
+        if (stats.localHits() + stats.redisHits() + stats.misses() == 0) {
+            return;
+        }
+        log.info("임베딩 캐시 - 적중률: {}%, 로컬 적중: {}, Redis 적중: {}, 미적중: {}, 로컬 항목: {}, 항목당 {}바이트",
+                String.format("%.1f", stats.hitRatio() * 100), stats.localHits(), stats.redisHits(),
+                stats.misses(), stats.localEntries(), stats.bytesPerEntry());
+    }
+
+    private String modelKey(EmbeddingOptions options) {
+        if (options == null) {
+            return namespace;
+        }
+        String model = options.getModel() != null ? options.getModel() : namespace;
+        return options.getDimensions() != null ? model + ":" + options.getDimensions() : model;
+    }
+
+    private static String cacheKey(String modelKey, String text) {
+        return HashUtil.sha256Hex(modelKey, text);
+    }
+
+    private float[] lookup(String key) {
+        synchronized (localCache) {
+            float[] local = localCache.get(key);
+            if (local != null) {
+                localHits.incrementAndGet();
+                return local;
+            }
+        }
+        float[] remote = getRemote(key);
+        if (remote != null) {
+            redisHits.incrementAndGet();
+            putLocal(key, remote);
+        }
+        return remote;
+    }
+
+    private void store(String key, float[] vector) {
+        putLocal(key, vector.clone());
+        putRemote(key, vector);
+    }
+
+    private void putLocal(String key, float[] vector) {
+        long size = (long) vector.length * Float.BYTES;
+        if (size > maxLocalBytes) {
+            return;
+        }
+        synchronized (localCache) {
+            float[] previous = localCache.put(key, vector);
+            if (previous != null) {
+                localBytes -= (long) previous.length * Float.BYTES;
+            }
+            localBytes += size;
+            Iterator<float[]> eldest = localCache.values().iterator();
+            while (localBytes > maxLocalBytes && eldest.hasNext()) {
+                localBytes -= (long) eldest.next().length * Float.BYTES;
+                eldest.remove();
+            }
+        }
+    }
+
+    private float[] getRemote(String key) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            byte[] bytes = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(redisKey(key)));
+            return decode(bytes);
+        } catch (Exception e) {
+            log.debug("임베딩 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String key, float[] vector) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            byte[] encoded = encode(vector);
+            redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.stringCommands().set(redisKey(key), encoded,
+                            Expiration.from(redisTtl), RedisStringCommands.SetOption.upsert()));
+        } catch (Exception e) {
+            log.debug("임베딩 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static byte[] redisKey(String key) {
+        return (KEY_PREFIX + key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * [버전 1바이트][float32 little-endian ...]
+     */
+    static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(ENCODING_VERSION);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    static float[] decode(byte[] bytes) {
+        if (bytes == null || bytes.length < 1 + Float.BYTES || bytes[0] != ENCODING_VERSION
+                || (bytes.length - 1) % Float.BYTES != 0) {
+            return null;
+        }
+        float[] vector = new float[(bytes.length - 1) / Float.BYTES];
+        ByteBuffer.wrap(bytes, 1, bytes.length - 1).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    private static EmbeddingResponse toResponse(float[][] vectors) {
+        List<Embedding> embeddings = new ArrayList<>(vectors.length);
+        for (int i = 0; i < vectors.length; i++) {
+            embeddings.add(new Embedding(vectors[i].clone(), i));
+        }
+        return new EmbeddingResponse(embeddings);
+    }
+}
@@ -11,12 +11,12 @@ import java.util.List;
 public interface LikeMapper {
 
     // 좋아요 추가
-    void insertLike(Like like);
+    int insertLike(Like like);
 
     // 좋아요 삭제
-    void deleteLike(@Param("userId") Long userId,
-                    @Param("referenceType") ReferenceType referenceType,
-                    @Param("referenceId") Long referenceId);
+    int deleteLike(@Param("userId") Long userId,
+                   @Param("referenceType") ReferenceType referenceType,
+                   @Param("referenceId") Long referenceId);
 
     // 좋아요 존재 여부 확인
     Like selectLike(@Param("userId") Long userId,
@@ -1,5 +1,7 @@
 package kr.or.kosa.backend.like.service;
 
+import kr.or.kosa.backend.codeboard.mapper.CodeboardMapper;
+import kr.or.kosa.backend.freeboard.mapper.FreeboardMapper;
 import kr.or.kosa.backend.like.domain.Like;
 import kr.or.kosa.backend.like.domain.ReferenceType;
 import kr.or.kosa.backend.like.mapper.LikeMapper;
@@ -18,6 +20,8 @@ import java.util.List;
 public class LikeService {
 
     private final LikeMapper likeMapper;
+    private final FreeboardMapper freeboardMapper;
+    private final CodeboardMapper codeboardMapper;
 
     @Transactional
     public boolean toggleLike(Long userId, ReferenceType referenceType, Long referenceId) {
@@ -25,7 +29,9 @@ public class LikeService {
 
         if (existingLike != null) {
             // 좋아요 취소
-            likeMapper.deleteLike(userId, referenceType, referenceId);
+            if (likeMapper.deleteLike(userId, referenceType, referenceId) > 0) {
+                updatePostLikeCount(referenceType, referenceId, -1);
+            }
             return false;
         } else {
             // 좋아요 추가
@@ -34,11 +40,27 @@ public class LikeService {
                     .referenceType(referenceType)
                     .referenceId(referenceId)
                     .build();
-            likeMapper.insertLike(likeRecord);
+            if (likeMapper.insertLike(likeRecord) > 0) {
+                updatePostLikeCount(referenceType, referenceId, 1);
+            }
             return true;
         }
     }
 
+    /**
+     * 게시글 좋아요 수 컬럼 증감
+     * 좋아요 행 변경과 같은 트랜잭션에서 처리하여 목록 정렬값이 실제 좋아요 수와 함께 커밋되도록 함
+     */
+    private void updatePostLikeCount(ReferenceType referenceType, Long referenceId, int delta) {
+        switch (referenceType) {
+            case POST_FREEBOARD -> freeboardMapper.updateLikeCount(referenceId, delta);
+            case POST_CODEBOARD -> codeboardMapper.updateLikeCount(referenceId, delta);
+            default -> {
+                // 알고리즘 게시글/댓글은 비정규화 카운터 없음
+            }
+        }
+    }
+
     public List<Long> getLikedIds(Long userId, ReferenceType referenceType, List<Long> referenceIds) {
         if (referenceIds == null || referenceIds.isEmpty()) {
             return Collections.emptyList();
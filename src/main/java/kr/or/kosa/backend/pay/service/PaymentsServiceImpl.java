@@ -23,15 +23,18 @@ public class PaymentsServiceImpl implements PaymentsService {
     private final PointService pointService;
     private final TossPaymentsClient tossPaymentsClient;
     private final SubscriptionDomainService subscriptionDomainService;
+    private final SubscriptionStatusCache subscriptionStatusCache;
 
     public PaymentsServiceImpl(PaymentsMapper paymentsMapper,
                                PointService pointService,
                                TossPaymentsClient tossPaymentsClient,
-                               SubscriptionDomainService subscriptionDomainService) {
+                               SubscriptionDomainService subscriptionDomainService,
+                               SubscriptionStatusCache subscriptionStatusCache) {
         this.paymentsMapper = paymentsMapper;
         this.pointService = pointService;
         this.tossPaymentsClient = tossPaymentsClient;
         this.subscriptionDomainService = subscriptionDomainService;
+        this.subscriptionStatusCache = subscriptionStatusCache;
     }
 
     /**
@@ -227,6 +230,7 @@ public class PaymentsServiceImpl implements PaymentsService {
 
         paymentsMapper.updatePaymentStatusToCanceled(paymentToCancel.getOrderId(), newStatus);
         subscriptionDomainService.cancelSubscriptionByOrderId(paymentToCancel.getOrderId());
+        subscriptionStatusCache.invalidate(userId);
 
         BigDecimal usedPoint = nvl(paymentToCancel.getUsedPoint());
         if (usedPoint.compareTo(BigDecimal.ZERO) > 0) {
@@ -25,13 +25,16 @@ public class SubscriptionDomainService {
     private final SubscriptionMapper subscriptionMapper;
     private final SubscriptionPlanMapper subscriptionPlanMapper;
     private final PaymentsMapper paymentsMapper;
+    private final SubscriptionStatusCache subscriptionStatusCache;
 
     public SubscriptionDomainService(SubscriptionMapper subscriptionMapper,
                                      SubscriptionPlanMapper subscriptionPlanMapper,
-                                     PaymentsMapper paymentsMapper) {
+                                     PaymentsMapper paymentsMapper,
+                                     SubscriptionStatusCache subscriptionStatusCache) {
         this.subscriptionMapper = subscriptionMapper;
         this.subscriptionPlanMapper = subscriptionPlanMapper;
         this.paymentsMapper = paymentsMapper;
+        this.subscriptionStatusCache = subscriptionStatusCache;
     }
 
     /**
@@ -41,7 +44,9 @@ public class SubscriptionDomainService {
         if (userId == null) {
             return List.of();
         }
-        subscriptionMapper.expireSubscriptionsByUserId(userId);
+        if (subscriptionMapper.expireSubscriptionsByUserId(userId) > 0) {
+            subscriptionStatusCache.invalidate(userId);
+        }
         return subscriptionMapper.findActiveSubscriptionsByUserId(userId);
     }
 
@@ -97,6 +102,7 @@ public class SubscriptionDomainService {
                     if (inserted != 1) {
                         throw new RuntimeException("구독권 업그레이드 정보 DB 저장 실패");
                     }
+                    subscriptionStatusCache.invalidate(userId);
 
                     return;
                 }
@@ -119,6 +125,7 @@ public class SubscriptionDomainService {
         if (result != 1) {
             throw new RuntimeException("구독권 정보 DB 저장 실패");
         }
+        subscriptionStatusCache.invalidate(userId);
     }
 
     /**
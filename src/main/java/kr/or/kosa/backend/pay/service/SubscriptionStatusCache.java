@@ -0,0 +1,199 @@
+package kr.or.kosa.backend.pay.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.or.kosa.backend.pay.entity.Subscription;
+import kr.or.kosa.backend.pay.repository.SubscriptionMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 구독 상태 캐시
+ *
+ * 요청 제한/문제 생성 경로에서 호출마다 subscriptions 테이블을 조회하지 않도록 현재 유효한 구독 플랜을 캐시합니다.
+ * - L1: 노드 로컬 LRU (짧은 TTL), L2: Redis
+ * - 조회 시점에 다음 상태 변경 시각(가장 빠른 구독 종료/시작 시각)을 미리 계산하여
+ *   그 시각이 되면 캐시가 스스로 만료됨 (구독이 끝나는 순간부터 FREE로 판정)
+ * - 구독 부여/환불 취소/만료 처리 시 invalidate로 즉시 제거 (트랜잭션 안이면 커밋 이후)
+ */
+@Slf4j
+@Service
+public class SubscriptionStatusCache {
+
+    private static final String KEY_PREFIX = "subscription:status:";
+
+    private final SubscriptionMapper subscriptionMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration localTtl;
+    private final Duration maxTtl;
+    private final Map<Long, Snapshot> localCache;
+
+    public SubscriptionStatusCache(SubscriptionMapper subscriptionMapper,
+                                   StringRedisTemplate redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${subscription.status-cache.local-ttl-seconds:10}") long localTtlSeconds,
+                                   @Value("${subscription.status-cache.max-ttl-minutes:10}") long maxTtlMinutes,
+                                   @Value("${subscription.status-cache.local-size:10000}") int localSize) {
+        this.subscriptionMapper = subscriptionMapper;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localTtl = Duration.ofSeconds(localTtlSeconds);
+        this.maxTtl = Duration.ofMinutes(maxTtlMinutes);
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Snapshot> eldest) {
+                return size() > localSize;
+            }
+        });
+    }
+
+    /**
+     * 현재 유효한 구독 상태
+     *
+     * @param planCodes 지금 유효한 구독의 플랜 코드 목록 (없으면 비구독자)
+     * @param expiresAt 이 상태가 바뀔 수 있는 가장 빠른 시각 (epoch millis, 이후에는 다시 조회)
+     */
+    public record Snapshot(List<String> planCodes, long expiresAt) {
+
+        @JsonIgnore
+        public boolean isSubscriber() {
+            return !planCodes.isEmpty();
+        }
+
+        boolean isValidAt(long nowMillis) {
+            return nowMillis < expiresAt;
+        }
+    }
+
+    /**
+     * 사용자 구독 상태 조회 (L1 → Redis → DB)
+     */
+    public Snapshot get(Long userId) {
+        long now = System.currentTimeMillis();
+
+        Snapshot local = localCache.get(userId);
+        if (local != null && local.isValidAt(now)) {
+            return local;
+        }
+
+        Snapshot remote = getRemote(userId);
+        if (remote != null && remote.isValidAt(now)) {
+            putLocal(userId, remote, now);
+            return remote;
+        }
+
+        Snapshot loaded = snapshotOf(subscriptionMapper.findActiveSubscriptionsByUserId(userId),
+                LocalDateTime.now(), maxTtl);
+        putRemote(userId, loaded, now);
+        putLocal(userId, loaded, now);
+        return loaded;
+    }
+
+    /**
+     * 구독 변경 후 호출 - 캐시 제거 (트랜잭션 안이면 커밋 이후)
+     * 다른 노드의 L1은 짧은 TTL 이후 Redis/DB에서 다시 읽음
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    /**
+     * 구독 목록으로 현재 상태 계산
+     * 종료 시각이 지난 구독은 제외 (end_date > NOW() 조회 조건과 동일), 시작 전 구독은 시작 시각에 만료되도록 반영
+     */
+    static Snapshot snapshotOf(List<Subscription> subscriptions, LocalDateTime now, Duration maxTtl) {
+        List<String> planCodes = new ArrayList<>();
+        LocalDateTime changeAt = now.plus(maxTtl);
+
+        for (Subscription subscription : subscriptions) {
+            if (subscription == null || !"ACTIVE".equalsIgnoreCase(subscription.getStatus())) {
+                continue;
+            }
+            LocalDateTime start = subscription.getStartDate();
+            LocalDateTime end = subscription.getEndDate();
+
+            if (start != null && start.isAfter(now)) {
+                changeAt = earlier(changeAt, start);
+                continue;
+            }
+            if (end != null && !end.isAfter(now)) {
+                continue;
+            }
+            planCodes.add(subscription.getSubscriptionType());
+            if (end != null) {
+                changeAt = earlier(changeAt, end);
+            }
+        }
+
+        long expiresAt = changeAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new Snapshot(List.copyOf(planCodes), expiresAt);
+    }
+
+    private static LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+        return b.isBefore(a) ? b : a;
+    }
+
+    private void putLocal(Long userId, Snapshot snapshot, long now) {
+        // L1은 짧은 TTL과 구독 변경 시각 중 빠른 쪽에 만료
+        long expiresAt = Math.min(snapshot.expiresAt(), now + localTtl.toMillis());
+        localCache.put(userId, new Snapshot(snapshot.planCodes(), expiresAt));
+    }
+
+    private Snapshot getRemote(Long userId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            return json != null ? objectMapper.readValue(json, Snapshot.class) : null;
+        } catch (Exception e) {
+            log.warn("구독 상태 캐시 조회 실패 - userId: {}, {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(Long userId, Snapshot snapshot, long now) {
+        long ttlMillis = snapshot.expiresAt() - now;
+        if (ttlMillis <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, objectMapper.writeValueAsString(snapshot),
+                    Duration.ofMillis(ttlMillis));
+        } catch (Exception e) {
+            log.warn("구독 상태 캐시 저장 실패 - userId: {}, {}", userId, e.getMessage());
+        }
+    }
+
+    private void evict(Long userId) {
+        localCache.remove(userId);
+        try {
+            redisTemplate.delete(KEY_PREFIX + userId);
+        } catch (Exception e) {
+            log.warn("구독 상태 캐시 삭제 실패 - userId: {}, {}", userId, e.getMessage());
+        }
+    }
+}
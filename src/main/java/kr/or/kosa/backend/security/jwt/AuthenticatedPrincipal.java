@@ -0,0 +1,21 @@
+package kr.or.kosa.backend.security.jwt;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 인증 정보
+ * 토큰을 한 번만 파싱하여 필터에서 필요한 값을 모두 담아 둠
+ *
+ * @param tokenId   토큰 식별자 (토큰 문자열의 SHA-256, 블랙리스트/캐시 키로 사용)
+ * @param userId    사용자 ID (id 클레임)
+ * @param email     이메일 (sub 클레임)
+ * @param expiresAt 만료 시각 (epoch millis)
+ */
+public record AuthenticatedPrincipal(String tokenId, Long userId, String email, long expiresAt) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAt;
+    }
+
+    public long remainingMillis(long nowMillis) {
+        return Math.max(expiresAt - nowMillis, 0);
+    }
+}
@@ -0,0 +1,62 @@
+package kr.or.kosa.backend.security.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 식별자(SHA-256 16진수) 전용 블룸 필터
+ * 식별자 자체가 균등 분포 해시이므로 앞 128비트를 두 해시값으로 나눠 이중 해싱(h1 + i*h2)에 사용
+ * 오탐(false positive)은 있을 수 있으나 미탐은 없음
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max((bits + 63) / 64, 1);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    void put(String tokenId) {
+        long h1 = h1(tokenId);
+        long h2 = h2(tokenId);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(index);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String tokenId) {
+        long h1 = h1(tokenId);
+        long h2 = h2(tokenId);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long h1(String tokenId) {
+        return Long.parseUnsignedLong(tokenId.substring(0, 16), 16);
+    }
+
+    private static long h2(String tokenId) {
+        // 0이면 모든 해시가 같은 비트를 가리키므로 홀수로 보정
+        return Long.parseUnsignedLong(tokenId.substring(16, 32), 16) | 1L;
+    }
+}
@@ -18,9 +18,11 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
+    private final TokenBlacklist tokenBlacklist;
 
-    public JwtAuthenticationFilter(JwtProvider jwtProvider) {
+    public JwtAuthenticationFilter(JwtProvider jwtProvider, TokenBlacklist tokenBlacklist) {
         this.jwtProvider = jwtProvider;
+        this.tokenBlacklist = tokenBlacklist;
     }
 
     @Override
@@ -42,39 +44,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // 🔥 그 외의 경로는 JWT 검증
         String token = resolveToken(request);
-        log.info("[JwtFilter] Request URI: {}, Token Present: {}", path, token != null);
+        log.debug("[JwtFilter] Request URI: {}, Token Present: {}", path, token != null);
 
         try {
             if (token != null) {
-                boolean isValid = jwtProvider.validateToken(token);
-                log.info("[JwtFilter] Token Valid: {}", isValid);
+                // 토큰은 한 번만 파싱/검증 (같은 토큰은 만료 전까지 캐시된 결과 사용)
+                AuthenticatedPrincipal principal = jwtProvider.authenticate(token);
 
-                if (isValid) {
-                    Long userId = jwtProvider.getUserId(token);
-                    String email = jwtProvider.getEmail(token);
-
-                    JwtUserDetails userDetails = new JwtUserDetails(userId, email);
+                if (tokenBlacklist.isRevoked(principal.tokenId())) {
+                    log.debug("[JwtFilter] Revoked token for URI: {}", path);
+                } else {
+                    JwtUserDetails userDetails = new JwtUserDetails(principal.userId(), principal.email());
 
                     JwtAuthentication auth = new JwtAuthentication(userDetails);
                     SecurityContextHolder.getContext().setAuthentication(auth);
-                    request.setAttribute("userId", userId);
+                    request.setAttribute("userId", principal.userId());
                 }
             }
-
-            filterChain.doFilter(request, response);
-            log.info("[JwtFilter] FilterChain passed for URI: {}", path);
-
         } catch (ExpiredJwtException e) {
             log.warn("Expired JWT token: {}", e.getMessage());
             // Token is expired, but we let the request continue as Anonymous.
             // If the endpoint requires auth, SecurityConfig will block it (403).
             // If the endpoint is permitAll, it will succeed.
-            filterChain.doFilter(request, response);
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
             // Token is invalid, treat as Anonymous.
-            filterChain.doFilter(request, response);
         }
+
+        // 인증 여부와 관계없이 체인은 한 번만 진행
+        filterChain.doFilter(request, response);
     }
 
     private String resolveToken(HttpServletRequest request) {
@@ -3,23 +3,42 @@ package kr.or.kosa.backend.security.jwt;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 
+import kr.or.kosa.backend.commons.util.HashUtil;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
 public class JwtProvider {
 
     private final SecretKey key;
+    private final JwtParser parser;
+
+    // 검증 완료된 토큰 캐시 (토큰 해시 → 인증 정보, LRU)
+    private final Map<String, AuthenticatedPrincipal> verifiedCache;
 
     private static final long ACCESS_TOKEN_EXP = 1000L * 60 * 30 * 48; // 30분 -> 하루 
     private static final long REFRESH_TOKEN_EXP = 1000L * 60 * 60 * 24 * 7; // 7일
 
-    public JwtProvider(@Value("${jwt.secret}") String secretKey) {
+    public JwtProvider(@Value("${jwt.secret}") String secretKey,
+                       @Value("${jwt.verified-cache.size:10000}") int verifiedCacheSize) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedCache = Collections.synchronizedMap(
+                new LinkedHashMap<>(256, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, AuthenticatedPrincipal> eldest) {
+                        return size() > verifiedCacheSize;
+                    }
+                });
     }
 
     // =======================
@@ -48,10 +67,7 @@ public class JwtProvider {
     // =======================
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            parser.parseClaimsJws(token);
 
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
@@ -81,11 +97,48 @@ public class JwtProvider {
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    // =======================
+    // 1회 파싱 인증 (요청 필터용)
+    // =======================
+
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하여 인증 정보를 반환
+     * 같은 토큰의 반복 요청은 만료 전까지 캐시된 결과를 사용하며, 만료된 항목은 다시 파싱하여 ExpiredJwtException을 던짐
+     *
+     * @throws JwtException 서명 불일치, 형식 오류, 만료 등 검증 실패 시
+     */
+    public AuthenticatedPrincipal authenticate(String token) {
+        String tokenId = tokenId(token);
+        long now = System.currentTimeMillis();
+
+        AuthenticatedPrincipal cached = verifiedCache.get(tokenId);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedCache.remove(tokenId);
+        }
+
+        Claims claims = getClaims(token);
+        Date expiration = claims.getExpiration();
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(
+                tokenId,
+                claims.get("id", Long.class),
+                claims.getSubject(),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE
+        );
+        verifiedCache.put(tokenId, principal);
+        return principal;
+    }
+
+    /**
+     * 토큰 식별자 (블랙리스트 키 및 검증 캐시 키)
+     */
+    public String tokenId(String token) {
+        return HashUtil.sha256Hex(token);
     }
 
     // =======================
@@ -119,10 +172,6 @@ public class JwtProvider {
     // 공통 Claims 파싱 메서드 추가 (새로 추가됨)
     // =======================
     private Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package kr.or.kosa.backend.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import kr.or.kosa.backend.commons.util.HashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 블랙리스트 (로그아웃된 토큰 차단)
+ *
+ * Redis의 auth:blacklist:{tokenId} 키가 원본이며, 요청마다 Redis를 조회하지 않도록
+ * 각 노드가 블룸 필터 사본을 들고 주기적으로 SCAN하여 다시 만듭니다.
+ * - 블룸 필터에 없으면 즉시 통과 (대부분의 요청)
+ * - 블룸 필터에 있으면 오탐일 수 있으므로 Redis로 한 번 더 확인
+ * - 다른 노드의 로그아웃은 pub/sub으로 즉시 반영되고, 메시지가 유실되어도 다음 동기화 주기 안에 반영
+ */
+@Slf4j
+@Component
+public class TokenBlacklist {
+
+    private static final String KEY_PREFIX = "auth:blacklist:";
+    private static final String REVOKE_CHANNEL = "auth:blacklist:revoked";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedInsertions;
+
+    private volatile BloomFilter filter;
+
+    // 마지막 동기화 이후 이 노드가 알게 된 식별자 (tokenId → 등록 시각)
+    // 동기화 도중 추가된 항목이 새 필터에서 빠지지 않도록 다음 동기화까지 유지
+    private final Map<String, Long> recentRevocations = new ConcurrentHashMap<>();
+
+    public TokenBlacklist(StringRedisTemplate redisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          @Value("${jwt.blacklist.expected-size:100000}") long expectedInsertions) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.filter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener((message, pattern) ->
+                remember(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(REVOKE_CHANNEL));
+        sync();
+    }
+
+    /**
+     * 토큰 폐기 (남은 유효시간 동안만 Redis에 보관)
+     */
+    public void revoke(String tokenId, long ttlMillis) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "logout", ttlMillis, TimeUnit.MILLISECONDS);
+        remember(tokenId);
+        try {
+            redisTemplate.convertAndSend(REVOKE_CHANNEL, tokenId);
+        } catch (Exception e) {
+            log.warn("블랙리스트 전파 실패 (다음 동기화 때 반영) - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 폐기된 토큰 여부
+     */
+    public boolean isRevoked(String tokenId) {
+        if (!filter.mightContain(tokenId) && !recentRevocations.containsKey(tokenId)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+        } catch (Exception e) {
+            // 확인할 수 없으면 차단 쪽으로 처리 (블룸 필터 양성인 경우에만 해당)
+            log.warn("블랙리스트 확인 실패 - 차단 처리: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Redis 블랙리스트 키로 블룸 필터 재구성
+     * 만료된 키는 Redis에서 사라지므로 재구성 시 자연스럽게 필터에서도 제거됨
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.sync-ms:5000}",
+            initialDelayString = "${jwt.blacklist.sync-ms:5000}")
+    public void sync() {
+        long startedAt = System.currentTimeMillis();
+        List<String> tokenIds = new ArrayList<>();
+
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String suffix = key.substring(KEY_PREFIX.length());
+                tokenIds.add(suffix.indexOf('.') >= 0 ? migrateLegacyKey(key, suffix) : suffix);
+            }
+        } catch (Exception e) {
+            log.warn("블랙리스트 동기화 실패 - 기존 필터 유지: {}", e.getMessage());
+            return;
+        }
+
+        BloomFilter next = new BloomFilter(Math.max(expectedInsertions, tokenIds.size() * 2L), FALSE_POSITIVE_RATE);
+        tokenIds.forEach(next::put);
+        recentRevocations.keySet().forEach(next::put);
+        filter = next;
+
+        // 동기화 시작 전에 Redis에 기록된 항목은 SCAN 결과에 포함되었으므로 정리
+        recentRevocations.values().removeIf(registeredAt -> registeredAt < startedAt);
+
+        log.debug("블랙리스트 동기화 완료 - {}건, {}ms", tokenIds.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void remember(String tokenId) {
+        recentRevocations.put(tokenId, System.currentTimeMillis());
+        filter.put(tokenId);
+    }
+
+    /**
+     * 토큰 원문을 키로 쓰던 이전 형식을 토큰 해시 키로 변환
+     */
+    private String migrateLegacyKey(String legacyKey, String token) {
+        String tokenId = HashUtil.sha256Hex(token);
+        Long ttl = redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+        if (ttl != null && ttl > 0) {
+            redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "logout", ttl, TimeUnit.MILLISECONDS);
+        }
+        redisTemplate.delete(legacyKey);
+        return tokenId;
+    }
+}
@@ -1,20 +1,16 @@
 package kr.or.kosa.backend.tutor.subscription;
 
-import kr.or.kosa.backend.pay.repository.SubscriptionMapper;
-import kr.or.kosa.backend.pay.entity.Subscription;
+import kr.or.kosa.backend.pay.service.SubscriptionStatusCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.util.Comparator;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SubscriptionTierResolverImpl implements SubscriptionTierResolver {
 
-    private final SubscriptionMapper subscriptionMapper;
+    private final SubscriptionStatusCache subscriptionStatusCache;
 
     @Override
     public SubscriptionTier resolveTier(String userId) {
@@ -24,16 +20,10 @@ public class SubscriptionTierResolverImpl implements SubscriptionTierResolver {
         }
 
         try {
-            LocalDateTime now = LocalDateTime.now();
-
-            return subscriptionMapper.findActiveSubscriptionsByUserId(userIdLong)
+            return subscriptionStatusCache.get(userIdLong)
+                    .planCodes()
                     .stream()
-                    .filter(subscription -> subscription != null && isWithinActivePeriod(subscription, now))
-                    .sorted(Comparator.comparing(
-                            (Subscription subscription) -> subscription.getEndDate(),
-                            Comparator.nullsLast(Comparator.naturalOrder()))
-                            .reversed())
-                    .map(subscription -> SubscriptionTier.fromPlanCode(subscription.getSubscriptionType()))
+                    .map(SubscriptionTier::fromPlanCode)
                     .reduce(SubscriptionTier.FREE, this::preferHigherTier);
         } catch (Exception e) {
             log.warn("Failed to resolve subscription tier for userId={}", userId, e);
@@ -53,12 +43,6 @@ public class SubscriptionTierResolverImpl implements SubscriptionTierResolver {
         }
     }
 
-    private boolean isWithinActivePeriod(Subscription subscription, LocalDateTime now) {
-        boolean withinStart = subscription.getStartDate() == null || !subscription.getStartDate().isAfter(now);
-        boolean withinEnd = subscription.getEndDate() == null || !subscription.getEndDate().isBefore(now);
-        return "ACTIVE".equalsIgnoreCase(subscription.getStatus()) && withinStart && withinEnd;
-    }
-
     private SubscriptionTier preferHigherTier(SubscriptionTier current, SubscriptionTier next) {
         if (next == SubscriptionTier.PRO) {
             return SubscriptionTier.PRO;
@@ -4,7 +4,9 @@ import kr.or.kosa.backend.auth.github.dto.GithubLoginResult;
 import kr.or.kosa.backend.commons.exception.custom.CustomBusinessException;
 import kr.or.kosa.backend.commons.util.EncryptionUtil; // Import added
 import kr.or.kosa.backend.infra.s3.S3Uploader;
+import kr.or.kosa.backend.security.jwt.AuthenticatedPrincipal;
 import kr.or.kosa.backend.security.jwt.JwtProvider;
+import kr.or.kosa.backend.security.jwt.TokenBlacklist;
 import kr.or.kosa.backend.users.domain.Users;
 import kr.or.kosa.backend.users.dto.*;
 import kr.or.kosa.backend.users.exception.UserErrorCode;
@@ -36,6 +38,7 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final EmailVerificationService emailVerificationService;
     private final JwtProvider jwtProvider;
+    private final TokenBlacklist tokenBlacklist;
     private final StringRedisTemplate redisTemplate;
     private final S3Uploader s3Uploader;
     private final PasswordResetTokenService passwordResetTokenService;
@@ -44,7 +47,6 @@ public class UserServiceImpl implements UserService {
 
     private static final long REFRESH_TOKEN_EXPIRE_DAYS = 14;
     private static final String REFRESH_KEY_PREFIX = "auth:refresh:";
-    private static final String BLACKLIST_KEY_PREFIX = "auth:blacklist:";
     private static final String PROVIDER_GITHUB = "github";
 
     private static final String KEY_ACCESS_TOKEN = "accessToken";
@@ -199,21 +201,13 @@ public class UserServiceImpl implements UserService {
             if (!jwtProvider.validateToken(token))
                 return false;
 
-            Long userId = jwtProvider.getUserId(token);
+            AuthenticatedPrincipal principal = jwtProvider.authenticate(token);
 
             // 1) Redis refresh 삭제
-            redisTemplate.delete(REFRESH_KEY_PREFIX + userId);
+            redisTemplate.delete(REFRESH_KEY_PREFIX + principal.userId());
 
-            // AccessToken 블랙리스트 처리
-            long expireAt = jwtProvider.getTokenRemainingTime(token);
-
-            if (expireAt > 0) {
-                redisTemplate.opsForValue().set(
-                        BLACKLIST_KEY_PREFIX + token,
-                        "logout",
-                        expireAt,
-                        TimeUnit.MILLISECONDS);
-            }
+            // AccessToken 블랙리스트 처리 (남은 유효시간 동안 토큰 해시로 보관)
+            tokenBlacklist.revoke(principal.tokenId(), principal.remainingMillis(System.currentTimeMillis()));
 
             return true;
 
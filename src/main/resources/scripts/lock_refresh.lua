@@ -0,0 +1,12 @@
+-- 소유자 확인 후 잠금 만료 연장 (compare-and-pexpire)
+--
+-- KEYS[1] : 잠금 키
+-- ARGV[1] : 잠금을 획득한 실행의 토큰
+-- ARGV[2] : 새 만료 시간 (ms)
+--
+-- 반환: 1 = 연장, 0 = 이미 만료되었거나 다른 실행이 보유한 잠금
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
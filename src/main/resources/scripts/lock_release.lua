@@ -0,0 +1,11 @@
+-- 소유자 확인 후 잠금 해제 (compare-and-delete)
+--
+-- KEYS[1] : 잠금 키
+-- ARGV[1] : 잠금을 획득한 실행의 토큰
+--
+-- 반환: 1 = 해제, 0 = 이미 만료되었거나 다른 실행이 보유한 잠금
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,51 @@
+-- 일일 사용량 + 초당 버스트 제한 (원자적 체크-증가-만료)
+--
+-- KEYS[1] : 일일 사용량 해시 (usage:daily:{userId}:{yyyyMMdd})
+-- KEYS[2] : 버스트 슬라이딩 윈도우 ZSET (usage:burst:{userId})
+-- ARGV[1] : 증가시킬 필드 (GENERATE / SOLVE)
+-- ARGV[2] : 일일 한도 (-1 이면 무제한)
+-- ARGV[3] : 일일 키 TTL (자정까지 남은 초)
+-- ARGV[4] : 현재 시각 (ms)
+-- ARGV[5] : 버스트 윈도우 크기 (ms)
+-- ARGV[6] : 윈도우 내 최대 요청 수 (0 이하이면 비활성)
+-- ARGV[7] : 요청 식별자 (ZSET member)
+--
+-- 반환: { status, currentUsage, remaining }
+--   status  1 = 허용, 0 = 일일 한도 초과, -1 = 버스트 제한 초과
+
+local dailyLimit = tonumber(ARGV[2])
+local now = tonumber(ARGV[4])
+local window = tonumber(ARGV[5])
+local burstLimit = tonumber(ARGV[6])
+
+if burstLimit > 0 then
+    redis.call('ZREMRANGEBYSCORE', KEYS[2], 0, now - window)
+    local recent = redis.call('ZCARD', KEYS[2])
+    if recent >= burstLimit then
+        return { -1, recent, 0 }
+    end
+end
+
+local generate = tonumber(redis.call('HGET', KEYS[1], 'GENERATE') or '0') or 0
+local solve = tonumber(redis.call('HGET', KEYS[1], 'SOLVE') or '0') or 0
+local total = generate + solve
+
+if dailyLimit >= 0 and total >= dailyLimit then
+    return { 0, total, 0 }
+end
+
+redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+if redis.call('TTL', KEYS[1]) < 0 then
+    redis.call('EXPIRE', KEYS[1], tonumber(ARGV[3]))
+end
+
+if burstLimit > 0 then
+    redis.call('ZADD', KEYS[2], now, ARGV[7])
+    redis.call('PEXPIRE', KEYS[2], window)
+end
+
+local remaining = -1
+if dailyLimit >= 0 then
+    remaining = dailyLimit - total - 1
+end
+return { 1, total + 1, remaining }
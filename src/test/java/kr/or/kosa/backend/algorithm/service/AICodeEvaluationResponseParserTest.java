@@ -0,0 +1,178 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.or.kosa.backend.algorithm.service.AICodeEvaluationResponseParser.ParsedEvaluation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AICodeEvaluationResponseParserTest {
+
+    private final AICodeEvaluationResponseParser parser = new AICodeEvaluationResponseParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("정상 JSON은 엄격한 파싱으로 모든 필드를 읽는다")
+    void parsesWellFormedJson() {
+        ParsedEvaluation result = parser.parse("""
+                {
+                  "aiScore": 85,
+                  "feedback": "좋은 풀이입니다.",
+                  "codeQuality": "GOOD",
+                  "readability": "EXCELLENT",
+                  "efficiency": "GOOD",
+                  "approachVerdict": "OPTIMAL",
+                  "detectedApproach": "투 포인터",
+                  "detectedTimeComplexity": "O(N)",
+                  "detectedSpaceComplexity": "O(1)",
+                  "complexityExplanation": "한 번 순회",
+                  "nextStepSuggestion": "예외 케이스 점검",
+                  "strongPoints": ["변수명이 명확함", "불필요한 정렬 없음"],
+                  "improvementTips": ["입력 검증 추가"]
+                }
+                """);
+
+        assertThat(result.lenient()).isFalse();
+        assertThat(result.aiScore()).isEqualTo(85.0);
+        assertThat(result.feedback()).isEqualTo("좋은 풀이입니다.");
+        assertThat(result.codeQuality()).isEqualTo("GOOD");
+        assertThat(result.readability()).isEqualTo("EXCELLENT");
+        assertThat(result.approachVerdict()).isEqualTo("OPTIMAL");
+        assertThat(result.detectedTimeComplexity()).isEqualTo("O(N)");
+        assertThat(result.strongPoints()).containsExactly("변수명이 명확함", "불필요한 정렬 없음");
+        assertThat(result.improvementTips()).containsExactly("입력 검증 추가");
+    }
+
+    @Test
+    @DisplayName("코드블록과 앞뒤 설명문으로 감싼 JSON도 읽는다")
+    void parsesCodeFencedJson() {
+        ParsedEvaluation result = parser.parse("""
+                평가 결과는 다음과 같습니다.
+                ```json
+                {"aiScore": 92.5, "feedback": "훌륭합니다", "strongPoints": ["간결함"]}
+                ```
+                추가 질문이 있으면 알려주세요.
+                """);
+
+        assertThat(result.lenient()).isFalse();
+        assertThat(result.aiScore()).isEqualTo(92.5);
+        assertThat(result.feedback()).isEqualTo("훌륭합니다");
+        assertThat(result.strongPoints()).containsExactly("간결함");
+    }
+
+    @Test
+    @DisplayName("후행 쉼표가 있으면 관대한 파싱으로 읽는다")
+    void parsesTrailingCommas() {
+        ParsedEvaluation result = parser.parse("""
+                {"aiScore": 77, "strongPoints": ["a", "b",], "feedback": "ok",}
+                """);
+
+        assertThat(result.lenient()).isTrue();
+        assertThat(result.aiScore()).isEqualTo(77.0);
+        assertThat(result.feedback()).isEqualTo("ok");
+        assertThat(result.strongPoints()).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("따옴표 없는 키와 작은따옴표 문자열도 관대한 파싱으로 읽는다")
+    void parsesUnquotedKeysAndSingleQuotes() {
+        ParsedEvaluation result = parser.parse("{aiScore: 64, 'feedback': '보통', codeQuality: 'POOR'}");
+
+        assertThat(result.lenient()).isTrue();
+        assertThat(result.aiScore()).isEqualTo(64.0);
+        assertThat(result.feedback()).isEqualTo("보통");
+        assertThat(result.codeQuality()).isEqualTo("POOR");
+    }
+
+    @Test
+    @DisplayName("응답이 배열 중간에서 잘리면 그 전까지 읽은 필드와 항목을 사용한다")
+    void keepsFieldsBeforeTruncationInsideArray() {
+        ParsedEvaluation result = parser.parse(
+                "{\"aiScore\": 81, \"feedback\": \"대체로 좋음\", \"strongPoints\": [\"반복문 최소화\", \"주석이 적");
+
+        assertThat(result.lenient()).isTrue();
+        assertThat(result.aiScore()).isEqualTo(81.0);
+        assertThat(result.feedback()).isEqualTo("대체로 좋음");
+        assertThat(result.strongPoints()).containsExactly("반복문 최소화");
+        assertThat(result.improvementTips()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("응답이 문자열 값 중간에서 잘리면 그 필드는 기본값을 사용한다")
+    void truncatedStringValueFallsBackToDefault() {
+        ParsedEvaluation result = parser.parse("{\"aiScore\": 58, \"codeQuality\": \"FAIR\", \"feedback\": \"시간 복잡도가");
+
+        assertThat(result.lenient()).isTrue();
+        assertThat(result.aiScore()).isEqualTo(58.0);
+        assertThat(result.codeQuality()).isEqualTo("FAIR");
+        assertThat(result.feedback()).isEqualTo("피드백을 생성하지 못했습니다.");
+    }
+
+    @Test
+    @DisplayName("응답이 키 뒤에서 잘려도 앞의 필드는 유지한다")
+    void truncatedAfterFieldName() {
+        ParsedEvaluation result = parser.parse("```json\n{\"aiScore\": 73, \"efficiency\": \"GOOD\", \"feedback\":");
+
+        assertThat(result.lenient()).isTrue();
+        assertThat(result.aiScore()).isEqualTo(73.0);
+        assertThat(result.efficiency()).isEqualTo("GOOD");
+        assertThat(result.feedback()).isEqualTo("피드백을 생성하지 못했습니다.");
+    }
+
+    @Test
+    @DisplayName("문자열로 온 숫자 점수도 숫자로 읽는다")
+    void readsNumericValuesSentAsStrings() {
+        assertThat(parser.parse("{\"aiScore\": \"88.5\"}").aiScore()).isEqualTo(88.5);
+        assertThat(parser.parse("{\"aiScore\": \" 90 \"}").aiScore()).isEqualTo(90.0);
+        assertThat(parser.parse("{aiScore: '66', feedback: 'x',}").aiScore()).isEqualTo(66.0);
+    }
+
+    @Test
+    @DisplayName("숫자로 읽을 수 없는 점수는 기본값을 사용한다")
+    void nonNumericScoreFallsBackToDefault() {
+        assertThat(parser.parse("{\"aiScore\": \"high\"}").aiScore()).isEqualTo(70.0);
+        assertThat(parser.parse("{\"aiScore\": null}").aiScore()).isEqualTo(70.0);
+    }
+
+    @Test
+    @DisplayName("누락된 필드는 기본값으로 채운다")
+    void fillsMissingFieldsWithDefaults() {
+        ParsedEvaluation result = parser.parse("{\"aiScore\": 75}");
+
+        assertThat(result.lenient()).isFalse();
+        assertThat(result.aiScore()).isEqualTo(75.0);
+        assertThat(result.feedback()).isEqualTo("피드백을 생성하지 못했습니다.");
+        assertThat(result.codeQuality()).isEqualTo("FAIR");
+        assertThat(result.readability()).isEqualTo("FAIR");
+        assertThat(result.efficiency()).isEqualTo("FAIR");
+        assertThat(result.approachVerdict()).isEqualTo("UNKNOWN");
+        assertThat(result.detectedApproach()).isEmpty();
+        assertThat(result.nextStepSuggestion()).isEmpty();
+        assertThat(result.strongPoints()).isEmpty();
+        assertThat(result.improvementTips()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 문자열 필드와 배열의 빈 항목/객체 항목은 무시한다")
+    void ignoresBlankValuesAndNonScalarItems() {
+        ParsedEvaluation result = parser.parse(
+                "{\"feedback\": \"  \", \"strongPoints\": [\"a\", \"\", null, {\"x\": 1}, [\"y\"], 3]}");
+
+        assertThat(result.feedback()).isEqualTo("피드백을 생성하지 못했습니다.");
+        assertThat(result.strongPoints()).containsExactly("a", "3");
+    }
+
+    @Test
+    @DisplayName("JSON이 없거나 응답이 비어 있으면 모든 필드에 기본값을 사용한다")
+    void noJsonAtAll() {
+        ParsedEvaluation empty = parser.parse(null);
+        ParsedEvaluation prose = parser.parse("죄송합니다. 평가할 수 없습니다.");
+
+        assertThat(empty.lenient()).isTrue();
+        assertThat(empty.aiScore()).isEqualTo(70.0);
+        assertThat(empty.feedback()).isEqualTo("피드백을 생성하지 못했습니다.");
+        assertThat(prose.lenient()).isTrue();
+        assertThat(prose.aiScore()).isEqualTo(70.0);
+        assertThat(prose.strongPoints()).isEmpty();
+    }
+}
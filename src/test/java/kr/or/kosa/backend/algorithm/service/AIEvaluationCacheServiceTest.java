@@ -0,0 +1,151 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samskivert.mustache.Mustache;
+import kr.or.kosa.backend.algorithm.dto.AICodeEvaluationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AIEvaluationCacheServiceTest {
+
+    private static final String SOURCE_CODE = "class Main {\n    public static void main(String[] args) {\n    }\n}\n";
+    private static final String MODEL_RESPONSE = """
+            {"aiScore": 88, "feedback": "좋은 풀이입니다.", "codeQuality": "GOOD", "efficiency": "OPTIMAL"}
+            """;
+
+    private final AtomicInteger modelCalls = new AtomicInteger();
+    private final AtomicBoolean modelFailing = new AtomicBoolean(false);
+    private final CountDownLatch modelRelease = new CountDownLatch(1);
+
+    private ExecutorService asyncExecutor;
+    private CodeEvaluationService codeEvaluationService;
+    private AIEvaluationCacheService cacheService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // 호출 수를 세고, modelRelease가 열릴 때까지 응답을 붙잡아 두는 스텁 모델
+        OpenAiChatModel chatModel = mock(OpenAiChatModel.class);
+        when(chatModel.call(any(Prompt.class))).thenAnswer(invocation -> {
+            modelCalls.incrementAndGet();
+            modelRelease.await(10, TimeUnit.SECONDS);
+            if (modelFailing.get()) {
+                throw new IllegalStateException("모델 호출 실패");
+            }
+            return new ChatResponse(List.of(new Generation(new AssistantMessage(MODEL_RESPONSE))));
+        });
+
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        codeEvaluationService = new CodeEvaluationService(
+                chatModel, Mustache.compiler(), new AICodeEvaluationResponseParser(objectMapper));
+        cacheService = new AIEvaluationCacheService(redisTemplate, objectMapper, 1, 100);
+        asyncExecutor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        modelRelease.countDown();
+        asyncExecutor.shutdownNow();
+    }
+
+    /**
+     * AlgorithmEvaluationService와 같은 방식으로 평가 요청 (@Async 프록시처럼 평가는 별도 스레드에서 실행)
+     */
+    private CompletableFuture<AICodeEvaluationResult> evaluate(String sourceCode) {
+        String key = cacheService.keyOf(1L, 62L, sourceCode, "AC", 10, 10);
+        return cacheService.getOrEvaluate(key, () -> CompletableFuture.supplyAsync(
+                () -> codeEvaluationService.evaluateCode(
+                        sourceCode, "두 수의 합을 출력하세요.", "Java", "AC", "greedy", "O(N)", 10, 10).join(),
+                asyncExecutor));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 100개의 같은 평가는 모델을 한 번만 호출한다")
+    void coalescesConcurrentIdenticalEvaluations() throws Exception {
+        int requests = 100;
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<CompletableFuture<AICodeEvaluationResult>>> submitted = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                submitted.add(callers.submit(() -> {
+                    start.await();
+                    return evaluate(SOURCE_CODE);
+                }));
+            }
+            start.countDown();
+
+            // 모든 요청이 모델 응답 전에 들어온 뒤 응답을 풀어 줌
+            List<CompletableFuture<AICodeEvaluationResult>> results = new ArrayList<>(requests);
+            for (Future<CompletableFuture<AICodeEvaluationResult>> future : submitted) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            modelRelease.countDown();
+
+            for (CompletableFuture<AICodeEvaluationResult> result : results) {
+                AICodeEvaluationResult evaluation = result.get(10, TimeUnit.SECONDS);
+                assertThat(evaluation.getAiScore()).isEqualTo(88.0);
+                assertThat(evaluation.isFallback()).isFalse();
+            }
+            assertThat(modelCalls.get()).isEqualTo(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("평가가 끝난 뒤 공백만 다른 같은 코드는 캐시에서 반환한다")
+    void servesWhitespaceVariantsFromCache() throws Exception {
+        modelRelease.countDown();
+
+        AICodeEvaluationResult first = evaluate(SOURCE_CODE).get(10, TimeUnit.SECONDS);
+        AICodeEvaluationResult second = evaluate(SOURCE_CODE.replace("\n", "  \r\n") + "\n\n").get(10, TimeUnit.SECONDS);
+
+        assertThat(second.getAiScore()).isEqualTo(first.getAiScore());
+        assertThat(modelCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모델 오류로 만든 기본 결과는 캐시하지 않는다")
+    void doesNotCacheFallbackResults() throws Exception {
+        modelRelease.countDown();
+        modelFailing.set(true);
+
+        AICodeEvaluationResult failed = evaluate(SOURCE_CODE).get(10, TimeUnit.SECONDS);
+        modelFailing.set(false);
+        AICodeEvaluationResult retried = evaluate(SOURCE_CODE).get(10, TimeUnit.SECONDS);
+
+        assertThat(failed.isFallback()).isTrue();
+        assertThat(retried.isFallback()).isFalse();
+        assertThat(retried.getAiScore()).isEqualTo(88.0);
+        assertThat(modelCalls.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,277 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
+import kr.or.kosa.backend.algorithm.dto.AlgoSubmissionDto;
+import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
+import kr.or.kosa.backend.algorithm.dto.enums.AiFeedbackStatus;
+import kr.or.kosa.backend.algorithm.dto.enums.OutputCompareMode;
+import kr.or.kosa.backend.algorithm.dto.request.SubmissionRequestDto;
+import kr.or.kosa.backend.algorithm.dto.response.TestRunResponseDto;
+import kr.or.kosa.backend.algorithm.mapper.AlgorithmSubmissionMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AlgorithmJudgingServiceTest {
+
+    private static final TestRunResponseDto ACCEPTED = TestRunResponseDto.builder()
+            .overallResult("AC")
+            .passedCount(1)
+            .totalCount(1)
+            .maxExecutionTime(5)
+            .maxMemoryUsage(1024)
+            .testCaseResults(List.of())
+            .build();
+
+    private final AlgorithmSubmissionMapper submissionMapper = mock(AlgorithmSubmissionMapper.class);
+    private final CodeExecutorService codeExecutorService = mock(CodeExecutorService.class);
+    private final TestCaseBundleCache testCaseBundleCache = mock(TestCaseBundleCache.class);
+
+    // 제출별 최종 상태 (updateSubmission 호출 기록)
+    private final Set<Long> judgedSubmissions = ConcurrentHashMap.newKeySet();
+    private final Set<Long> failedSubmissions = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger judgeCalls = new AtomicInteger();
+    private final AtomicInteger activeJudges = new AtomicInteger();
+    private final AtomicInteger maxActiveJudges = new AtomicInteger();
+    private volatile CompletableFuture<Void> judgeGate = CompletableFuture.completedFuture(null);
+    private volatile long judgeDelayMs = 0;
+
+    private ExecutorService pool;
+    private AlgoProblemDto problem;
+    private SubmissionRequestDto request;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(4);
+        problem = AlgoProblemDto.builder().algoProblemId(1L).timelimit(1000).memorylimit(256).build();
+        request = new SubmissionRequestDto();
+        request.setLanguageId(71);
+        request.setSourceCode("print(1)");
+
+        // 버전 -1 묶음은 채점 결과 캐시를 거치지 않으므로 매번 실행기 호출
+        when(testCaseBundleCache.get(any())).thenReturn(TestCaseBundle.of(1L, -1L, OutputCompareMode.EXACT, null,
+                List.of(AlgoTestcaseDto.builder().inputData("1").expectedOutput("1").build())));
+
+        when(submissionMapper.selectSubmissionById(anyLong())).thenAnswer(invocation ->
+                AlgoSubmissionDto.builder().algosubmissionId(invocation.getArgument(0)).build());
+        doAnswer(invocation -> {
+            AlgoSubmissionDto submission = invocation.getArgument(0);
+            if (submission.getAiFeedbackStatus() == AiFeedbackStatus.FAILED) {
+                failedSubmissions.add(submission.getAlgosubmissionId());
+            } else {
+                judgedSubmissions.add(submission.getAlgosubmissionId());
+            }
+            return 1;
+        }).when(submissionMapper).updateSubmission(any());
+
+        // 동시 실행 수를 기록하는 스텁 실행기 (judgeGate가 열린 뒤 judgeDelayMs 후 AC)
+        when(codeExecutorService.judgeCode(anyString(), anyInt(), anyList(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    judgeCalls.incrementAndGet();
+                    maxActiveJudges.accumulateAndGet(activeJudges.incrementAndGet(), Math::max);
+                    return judgeGate.thenCompose(ignored -> CompletableFuture.supplyAsync(() -> {
+                        activeJudges.decrementAndGet();
+                        return ACCEPTED;
+                    }, CompletableFuture.delayedExecutor(judgeDelayMs, TimeUnit.MILLISECONDS)));
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private AlgorithmJudgingService newService(Executor judgeExecutor, int maxInFlight, int maxPending) {
+        return new AlgorithmJudgingService(
+                submissionMapper,
+                codeExecutorService,
+                mock(AlgorithmEvaluationService.class),
+                mock(LanguageService.class),
+                mock(DailyQuizBonusService.class),
+                testCaseBundleCache,
+                new JudgeResultCacheService(mock(StringRedisTemplate.class), new ObjectMapper(), 30, 100, 1024 * 1024, 64L * 1024 * 1024),
+                mock(ProblemStatsService.class),
+                judgeExecutor,
+                maxInFlight,
+                maxPending);
+    }
+
+    private static void awaitAll(List<CompletableFuture<Void>> completions) throws Exception {
+        CompletableFuture.allOf(completions.stream()
+                        .map(completion -> completion.handle((ignored, error) -> null))
+                        .toArray(CompletableFuture[]::new))
+                .get(30, TimeUnit.SECONDS);
+    }
+
+    private void awaitJudgeCalls(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (judgeCalls.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("정상 채점은 결과를 저장하고 허용량을 반환한다")
+    void completesNormally() throws Exception {
+        AlgorithmJudgingService service = newService(pool, 2, 10);
+
+        service.processCompleteJudgingFlow(1L, request, problem).get(10, TimeUnit.SECONDS);
+
+        assertThat(judgedSubmissions).containsExactly(1L);
+        assertThat(failedSubmissions).isEmpty();
+        assertThat(service.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실행기가 첫 단계를 거부하면 제출을 실패 처리하고 완료한다")
+    void rejectedFirstStageFailsSubmission() throws Exception {
+        AlgorithmJudgingService service = newService(task -> {
+            throw new RejectedExecutionException("가득 참");
+        }, 2, 10);
+
+        service.processCompleteJudgingFlow(1L, request, problem).get(10, TimeUnit.SECONDS);
+
+        assertThat(failedSubmissions).containsExactly(1L);
+        assertThat(judgeCalls.get()).isZero();
+        assertThat(service.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("채점 후 저장 단계가 거부되어도 체인이 끝나고 허용량을 반환한다")
+    void rejectedLaterStageStillCompletes() throws Exception {
+        // 첫 단계만 받고 이후 단계(결과 저장)는 거부하는 실행기
+        AtomicInteger accepted = new AtomicInteger(1);
+        AlgorithmJudgingService service = newService(task -> {
+            if (accepted.getAndDecrement() <= 0) {
+                throw new RejectedExecutionException("가득 참");
+            }
+            pool.execute(task);
+        }, 2, 10);
+
+        service.processCompleteJudgingFlow(1L, request, problem).get(10, TimeUnit.SECONDS);
+
+        assertThat(judgeCalls.get()).isEqualTo(1);
+        assertThat(failedSubmissions).containsExactly(1L);
+        assertThat(judgedSubmissions).isEmpty();
+        assertThat(service.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("파이프라인 시작이 바로 실패하면 제출을 실패 처리하고 완료한다")
+    void startFailureFailsSubmission() throws Exception {
+        AlgorithmJudgingService service = newService(pool, 2, 10);
+
+        // 요청이 없으면 파이프라인 구성 중 예외 발생
+        service.processCompleteJudgingFlow(1L, null, problem).get(10, TimeUnit.SECONDS);
+        service.processCompleteJudgingFlow(2L, request, problem).get(10, TimeUnit.SECONDS);
+
+        assertThat(failedSubmissions).containsExactly(1L);
+        assertThat(judgedSubmissions).containsExactly(2L);
+        assertThat(service.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시 진행 수와 대기열을 넘는 제출은 실패 처리하고, 나머지는 차례로 모두 완료한다")
+    void overflowIsFailedAndRestCompletes() throws Exception {
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+        judgeGate = gate;
+        AlgorithmJudgingService service = newService(pool, 2, 3);
+
+        List<CompletableFuture<Void>> completions = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            completions.add(service.processCompleteJudgingFlow(id, request, problem));
+        }
+
+        // 2개 진행 + 3개 대기, 나머지 5개는 바로 거부
+        assertThat(service.availablePermits()).isZero();
+        assertThat(service.pendingCount()).isEqualTo(3);
+        for (int i = 5; i < 10; i++) {
+            assertThat(completions.get(i).isCompletedExceptionally()).isTrue();
+        }
+        assertThat(failedSubmissions).containsExactlyInAnyOrder(6L, 7L, 8L, 9L, 10L);
+        awaitJudgeCalls(2);
+        assertThat(judgeCalls.get()).isEqualTo(2);
+
+        gate.complete(null);
+        awaitAll(completions);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(completions.get(i).isCompletedExceptionally()).isFalse();
+        }
+        assertThat(judgedSubmissions).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        assertThat(judgeCalls.get()).isEqualTo(5);
+        assertThat(maxActiveJudges.get()).isEqualTo(2);
+        assertThat(service.availablePermits()).isEqualTo(2);
+        assertThat(service.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 몰린 제출도 모두 끝나고, 동시 진행 수를 넘지 않으며 허용량을 모두 반환한다")
+    void concurrentLoadCompletesEverySubmission() throws Exception {
+        int maxInFlight = 8;
+        int submissions = 300;
+        judgeDelayMs = 20;
+        AlgorithmJudgingService service = newService(pool, maxInFlight, 50);
+
+        ExecutorService submitters = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> completions = new ArrayList<>();
+        try {
+            List<CompletableFuture<CompletableFuture<Void>>> submitted = new ArrayList<>();
+            for (long id = 1; id <= submissions; id++) {
+                long submissionId = id;
+                submitted.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return service.processCompleteJudgingFlow(submissionId, request, problem);
+                }, submitters));
+            }
+            start.countDown();
+            for (CompletableFuture<CompletableFuture<Void>> future : submitted) {
+                completions.add(future.get(10, TimeUnit.SECONDS));
+            }
+            awaitAll(completions);
+        } finally {
+            submitters.shutdownNow();
+        }
+
+        long overflow = completions.stream().filter(CompletableFuture::isCompletedExceptionally).count();
+        assertThat(completions.stream().allMatch(CompletableFuture::isDone)).isTrue();
+        assertThat(overflow).isGreaterThan(0);
+        assertThat((long) failedSubmissions.size()).isEqualTo(overflow);
+        assertThat((long) judgedSubmissions.size()).isEqualTo(submissions - overflow);
+        assertThat(maxActiveJudges.get()).isLessThanOrEqualTo(maxInFlight);
+        assertThat(service.availablePermits()).isEqualTo(maxInFlight);
+        assertThat(service.pendingCount()).isZero();
+    }
+}
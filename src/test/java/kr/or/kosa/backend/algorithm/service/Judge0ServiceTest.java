@@ -0,0 +1,207 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
+import kr.or.kosa.backend.algorithm.dto.response.TestRunResponseDto;
+import kr.or.kosa.backend.config.Judge0Config;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Judge0 배치 제출/폴링 흐름 검증 (WebClient의 ExchangeFunction을 스텁으로 교체해 HTTP 응답을 재현)
+ */
+class Judge0ServiceTest {
+
+    private static final String ACCEPTED = "{\"status\":{\"id\":3,\"description\":\"Accepted\"},\"stdout\":\"3\\n\",\"time\":0.01,\"memory\":1024}";
+    private static final String WRONG_ANSWER = "{\"status\":{\"id\":4,\"description\":\"Wrong Answer\"},\"stdout\":\"4\\n\",\"time\":0.01,\"memory\":1024}";
+
+    // 호출된 요청 기록 ("POST /submissions/batch" 형식)
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+
+    private Judge0Config.Judge0Properties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new Judge0Config.Judge0Properties();
+        properties.getBatch().setPollInitialDelayMs(1);
+        properties.getBatch().setPollMaxDelayMs(5);
+        properties.getBatch().setPollTimeoutMs(5000);
+    }
+
+    private Judge0Service service(Function<ClientRequest, ClientResponse> server) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://judge0.test")
+                .exchangeFunction(request -> {
+                    calls.add(request.method().name() + " " + request.url().getPath());
+                    return Mono.just(server.apply(request));
+                })
+                .build();
+        return new Judge0Service(webClient, properties);
+    }
+
+    private static ClientResponse json(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    private static boolean isBatchSubmit(ClientRequest request) {
+        return "POST".equals(request.method().name()) && request.url().getPath().equals("/submissions/batch");
+    }
+
+    private static boolean isSingleSubmit(ClientRequest request) {
+        return "POST".equals(request.method().name()) && request.url().getPath().equals("/submissions");
+    }
+
+    private long count(String call) {
+        return calls.stream().filter(call::equals).count();
+    }
+
+    private static List<AlgoTestcaseDto> testCases(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> AlgoTestcaseDto.builder().inputData("1 2").expectedOutput("3").build())
+                .toList();
+    }
+
+    private static TestRunResponseDto judge(Judge0Service service, int cases, boolean failFast) throws Exception {
+        return service.judgeCode("print(3)", 71, testCases(cases), 1000, 128, failFast).get(10, TimeUnit.SECONDS);
+    }
+
+    private static List<String> results(TestRunResponseDto response) {
+        return response.getTestCaseResults().stream().map(TestRunResponseDto.TestCaseResultDto::getResult).toList();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {404, 405, 422})
+    @DisplayName("첫 배치 제출이 404/405/422로 거부되면 단건 제출로 전환한다")
+    void batchRejectedFallsBackToSingleSubmissions(int status) throws Exception {
+        Judge0Service service = service(request -> {
+            if (isBatchSubmit(request)) {
+                return json(HttpStatus.valueOf(status), "{\"error\":\"batch disabled\"}");
+            }
+            if (isSingleSubmit(request)) {
+                return json(HttpStatus.CREATED, ACCEPTED);
+            }
+            return json(HttpStatus.NOT_FOUND, "{}");
+        });
+
+        TestRunResponseDto response = judge(service, 3, false);
+
+        assertThat(response.getOverallResult()).isEqualTo("AC");
+        assertThat(response.getPassedCount()).isEqualTo(3);
+        // 거부 응답은 재시도하지 않고 바로 대체 경로로 넘어감
+        assertThat(count("POST /submissions/batch")).isEqualTo(1);
+        assertThat(count("POST /submissions")).isEqualTo(3);
+        assertThat(count("GET /submissions/batch")).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 묶음 하나가 접수된 뒤의 거부는 재제출하지 않고 해당 케이스만 ERROR 처리한다")
+    void rejectionAfterAcceptedChunkDoesNotFallBack() throws Exception {
+        properties.getBatch().setMaxSize(1);
+        AtomicInteger batchSubmits = new AtomicInteger();
+        Judge0Service service = service(request -> {
+            if (isBatchSubmit(request)) {
+                return batchSubmits.getAndIncrement() == 0
+                        ? json(HttpStatus.CREATED, "[{\"token\":\"t0\"}]")
+                        : json(HttpStatus.UNPROCESSABLE_ENTITY, "{\"error\":\"too many\"}");
+            }
+            if (isSingleSubmit(request)) {
+                return json(HttpStatus.CREATED, ACCEPTED);
+            }
+            return json(HttpStatus.OK, "{\"submissions\":[" + ACCEPTED.replace("{\"status\"", "{\"token\":\"t0\",\"status\"") + "]}");
+        });
+
+        TestRunResponseDto response = judge(service, 2, false);
+
+        assertThat(results(response)).containsExactly("AC", "ERROR");
+        assertThat(count("POST /submissions")).isZero();
+    }
+
+    @Test
+    @DisplayName("거부가 아닌 4xx 응답은 단건 제출로 전환하지 않는다")
+    void otherClientErrorIsNotTreatedAsUnsupported() throws Exception {
+        Judge0Service service = service(request -> isBatchSubmit(request)
+                ? json(HttpStatus.BAD_REQUEST, "{\"error\":\"bad\"}")
+                : json(HttpStatus.CREATED, ACCEPTED));
+
+        TestRunResponseDto response = judge(service, 2, false);
+
+        assertThat(results(response)).containsExactly("ERROR", "ERROR");
+        assertThat(count("POST /submissions")).isZero();
+    }
+
+    @Test
+    @DisplayName("failFast면 폴링 중 첫 비-AC 결과에서 대기를 멈추고 나머지는 SKIPPED 처리한다")
+    void failFastStopsPollingOnFirstFailure() throws Exception {
+        Judge0Service service = service(request -> {
+            if (isBatchSubmit(request)) {
+                return json(HttpStatus.CREATED, "[{\"token\":\"t0\"},{\"token\":\"t1\"},{\"token\":\"t2\"}]");
+            }
+            // t0만 오답으로 끝나고 나머지는 계속 처리 중
+            return json(HttpStatus.OK, "{\"submissions\":["
+                    + WRONG_ANSWER.replace("{\"status\"", "{\"token\":\"t0\",\"status\"") + ","
+                    + "{\"token\":\"t1\",\"status\":{\"id\":2}},"
+                    + "{\"token\":\"t2\",\"status\":{\"id\":2}}]}");
+        });
+
+        TestRunResponseDto response = judge(service, 3, true);
+
+        assertThat(response.getOverallResult()).isEqualTo("WA");
+        assertThat(results(response)).containsExactly("WA", "SKIPPED", "SKIPPED");
+        assertThat(count("GET /submissions/batch")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("failFast가 아니면 처리 중인 토큰을 끝날 때까지 다시 폴링한다")
+    void withoutFailFastPollsUntilAllFinished() throws Exception {
+        AtomicInteger polls = new AtomicInteger();
+        Judge0Service service = service(request -> {
+            if (isBatchSubmit(request)) {
+                return json(HttpStatus.CREATED, "[{\"token\":\"t0\"},{\"token\":\"t1\"}]");
+            }
+            String t1 = polls.getAndIncrement() == 0
+                    ? "{\"token\":\"t1\",\"status\":{\"id\":2}}"
+                    : ACCEPTED.replace("{\"status\"", "{\"token\":\"t1\",\"status\"");
+            return json(HttpStatus.OK, "{\"submissions\":["
+                    + WRONG_ANSWER.replace("{\"status\"", "{\"token\":\"t0\",\"status\"") + "," + t1 + "]}");
+        });
+
+        TestRunResponseDto response = judge(service, 2, false);
+
+        assertThat(results(response)).containsExactly("WA", "AC");
+        assertThat(count("GET /submissions/batch")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("단건 제출 경로에서도 failFast면 첫 비-AC 이후 제출을 중단한다")
+    void failFastStopsSingleSubmissions() throws Exception {
+        properties.getBatch().setEnabled(false);
+        properties.getBatch().setFallbackConcurrency(1);
+        Judge0Service service = service(request -> json(HttpStatus.CREATED, WRONG_ANSWER));
+
+        TestRunResponseDto response = judge(service, 3, true);
+
+        assertThat(results(response)).containsExactly("WA", "SKIPPED", "SKIPPED");
+        assertThat(count("POST /submissions")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,276 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
+import kr.or.kosa.backend.algorithm.dto.enums.OutputCompareMode;
+import kr.or.kosa.backend.algorithm.dto.response.TestRunResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JudgeResultCacheServiceTest {
+
+    private static final String SOURCE_CODE = "print(sum(map(int, input().split())))";
+    private static final Integer LANGUAGE_ID = 71;
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final Map<String, String> redisStore = new ConcurrentHashMap<>();
+
+    private CodeExecutorService codeExecutorService;
+    private StringRedisTemplate redisTemplate;
+    private JudgeResultCacheService cacheService;
+    private TestCaseBundle bundle;
+
+    // 다음 실행에서 돌려줄 테스트케이스별 판정과, 실행 결과를 내보낼 시점
+    private volatile List<String> verdicts = List.of("AC", "AC");
+    private volatile CompletableFuture<Void> executionGate = CompletableFuture.completedFuture(null);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // 실행 횟수를 세는 스텁 실행기
+        codeExecutorService = mock(CodeExecutorService.class);
+        when(codeExecutorService.judgeCode(anyString(), anyInt(), anyList(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    executions.incrementAndGet();
+                    List<String> current = verdicts;
+                    return executionGate.thenApply(ignored -> response(current));
+                });
+
+        // 메모리 맵으로 동작하는 Redis
+        redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redisStore.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redisStore.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        cacheService = newCacheService();
+        bundle = TestCaseBundle.of(1L, 3L, OutputCompareMode.EXACT, null, List.of(
+                AlgoTestcaseDto.builder().testcaseId(11L).inputData("1 2").expectedOutput("3").build(),
+                AlgoTestcaseDto.builder().testcaseId(12L).inputData("5 7").expectedOutput("12").build()));
+    }
+
+    private JudgeResultCacheService newCacheService() {
+        return new JudgeResultCacheService(redisTemplate, new ObjectMapper(), 30, 100, 1024 * 1024, 64L * 1024 * 1024);
+    }
+
+    /**
+     * AlgorithmJudgingService와 같은 방식으로 채점 요청
+     */
+    private CompletableFuture<TestRunResponseDto> judge(JudgeResultCacheService service, String sourceCode) {
+        return service.getOrJudge(
+                service.keyOf(bundle, LANGUAGE_ID, sourceCode, 1000, 262144),
+                bundle,
+                () -> codeExecutorService.judgeCode(sourceCode, LANGUAGE_ID, bundle.getTestCases(), 1000, 262144));
+    }
+
+    private TestRunResponseDto judgeNow(String sourceCode) throws Exception {
+        return judge(cacheService, sourceCode).get(10, TimeUnit.SECONDS);
+    }
+
+    private static TestRunResponseDto response(List<String> verdicts) {
+        List<TestRunResponseDto.TestCaseResultDto> cases = new ArrayList<>();
+        int passed = 0;
+        for (int i = 0; i < verdicts.size(); i++) {
+            if ("AC".equals(verdicts.get(i))) {
+                passed++;
+            }
+            cases.add(TestRunResponseDto.TestCaseResultDto.builder()
+                    .testCaseNumber(i + 1)
+                    .actualOutput("out" + (i + 1))
+                    .result(verdicts.get(i))
+                    .executionTime(10 + i)
+                    .memoryUsage(1024)
+                    .build());
+        }
+        String overall = verdicts.stream().filter(v -> !"AC".equals(v)).findFirst().orElse("AC");
+        return TestRunResponseDto.builder()
+                .overallResult(overall)
+                .passedCount(passed)
+                .totalCount(verdicts.size())
+                .testPassRate(passed * 100.0 / verdicts.size())
+                .maxExecutionTime(10 + verdicts.size() - 1)
+                .maxMemoryUsage(1024)
+                .testCaseResults(cases)
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 코드를 다시 제출하면 실행기를 다시 호출하지 않는다")
+    void resubmissionIsServedFromCache() throws Exception {
+        TestRunResponseDto first = judgeNow(SOURCE_CODE);
+        TestRunResponseDto second = judgeNow(SOURCE_CODE);
+        judgeNow(SOURCE_CODE);
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(second.getOverallResult()).isEqualTo(first.getOverallResult());
+        assertThat(second.getPassedCount()).isEqualTo(2);
+        assertThat(cacheService.getStats().misses()).isEqualTo(1);
+        assertThat(cacheService.getStats().localHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 제출은 한 번만 실행한다")
+    void concurrentIdenticalSubmissionsExecuteOnce() throws Exception {
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+        executionGate = gate;
+        int requests = 50;
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<CompletableFuture<TestRunResponseDto>>> submitted = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                submitted.add(callers.submit(() -> {
+                    start.await();
+                    return judge(cacheService, SOURCE_CODE);
+                }));
+            }
+            start.countDown();
+
+            List<CompletableFuture<TestRunResponseDto>> results = new ArrayList<>(requests);
+            for (Future<CompletableFuture<TestRunResponseDto>> future : submitted) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            gate.complete(null);
+
+            for (CompletableFuture<TestRunResponseDto> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS).getOverallResult()).isEqualTo("AC");
+            }
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(cacheService.getStats().coalesced()).isEqualTo(requests - 1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("TLE가 포함된 결과는 캐시하지 않는다")
+    void timeLimitExceededIsNotCached() throws Exception {
+        verdicts = List.of("AC", "TLE");
+
+        assertThat(judgeNow(SOURCE_CODE).getOverallResult()).isEqualTo("TLE");
+        assertThat(judgeNow(SOURCE_CODE).getOverallResult()).isEqualTo("TLE");
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(redisStore).isEmpty();
+    }
+
+    @Test
+    @DisplayName("채점 서버 오류(ERROR) 결과는 캐시하지 않는다")
+    void errorVerdictIsNotCached() throws Exception {
+        verdicts = List.of("ERROR", "ERROR");
+        judgeNow(SOURCE_CODE);
+
+        // 일시적 오류가 풀린 뒤 재제출하면 다시 실행해 정상 결과를 받음
+        verdicts = List.of("AC", "AC");
+        TestRunResponseDto retried = judgeNow(SOURCE_CODE);
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(retried.getOverallResult()).isEqualTo("AC");
+    }
+
+    @Test
+    @DisplayName("확정된 오답(WA)은 캐시한다")
+    void wrongAnswerIsCached() throws Exception {
+        verdicts = List.of("AC", "WA");
+
+        judgeNow(SOURCE_CODE);
+        judgeNow(SOURCE_CODE);
+
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("코드가 다르면 따로 실행한다")
+    void differentSourceExecutesAgain() throws Exception {
+        judgeNow(SOURCE_CODE);
+        judgeNow(SOURCE_CODE + "\n# changed");
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드는 Redis에 저장된 결과를 쓰고, 입력/예상 출력은 테스트케이스 묶음에서 채운다")
+    void otherNodeUsesRedisAndRestoresInputs() throws Exception {
+        judgeNow(SOURCE_CODE);
+
+        TestRunResponseDto fromRedis = judge(newCacheService(), SOURCE_CODE).get(10, TimeUnit.SECONDS);
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(redisStore).hasSize(1);
+        assertThat(fromRedis.getPassedCount()).isEqualTo(2);
+        TestRunResponseDto.TestCaseResultDto second = fromRedis.getTestCaseResults().get(1);
+        assertThat(second.getInput()).isEqualTo("5 7");
+        assertThat(second.getExpectedOutput()).isEqualTo("12");
+        assertThat(second.getActualOutput()).isEqualTo("out2");
+    }
+
+    @Test
+    @DisplayName("버전을 모르는 테스트케이스 묶음은 캐시를 사용하지 않는다")
+    void unknownBundleVersionBypassesCache() throws Exception {
+        bundle = TestCaseBundle.of(1L, -1L, OutputCompareMode.EXACT, null, bundle.getTestCases());
+
+        judgeNow(SOURCE_CODE);
+        judgeNow(SOURCE_CODE);
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(redisStore).isEmpty();
+    }
+
+    @Test
+    @DisplayName("출력이 저장 상한을 넘는 결과는 L1에도 저장하지 않는다")
+    void oversizedOutputIsNotCachedLocally() throws Exception {
+        // 출력 합계 8자 ("out1" + "out2") > 상한 4자
+        cacheService = new JudgeResultCacheService(redisTemplate, new ObjectMapper(), 30, 100, 4, 64L * 1024 * 1024);
+
+        judgeNow(SOURCE_CODE);
+        judgeNow(SOURCE_CODE);
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(redisStore).isEmpty();
+        assertThat(cacheService.getStats().localEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("L1 출력 크기 합계가 상한을 넘으면 오래된 항목부터 제거한다")
+    void localCacheIsBoundedByOutputBytes() throws Exception {
+        // 결과당 출력 8자, L1 합계 상한 10자 → 한 항목만 유지
+        cacheService = new JudgeResultCacheService(redisTemplate, new ObjectMapper(), 30, 100, 1024, 10);
+
+        judgeNow(SOURCE_CODE);
+        judgeNow(SOURCE_CODE + "\n# changed");
+        judgeNow(SOURCE_CODE);
+
+        JudgeResultCacheService.Stats stats = cacheService.getStats();
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(stats.localHits()).isZero();
+        assertThat(stats.remoteHits()).isEqualTo(1);
+        assertThat(stats.localEntries()).isEqualTo(1);
+        assertThat(stats.localBytes()).isEqualTo(8);
+    }
+}
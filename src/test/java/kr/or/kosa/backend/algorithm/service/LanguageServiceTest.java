@@ -0,0 +1,153 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.LanguageDto;
+import kr.or.kosa.backend.algorithm.dto.enums.LanguageType;
+import kr.or.kosa.backend.algorithm.mapper.LanguageMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class LanguageServiceTest {
+
+    private static final List<LanguageDto> LANGUAGES = List.of(
+            LanguageDto.builder().languageId(71).languageName("Python").pistonLanguage("python")
+                    .languageType(LanguageType.GENERAL).timeFactor(new BigDecimal("3")).timeAddition(2000)
+                    .memoryFactor(new BigDecimal("2")).memoryAddition(0).build(),
+            LanguageDto.builder().languageId(62).languageName("Java").pistonLanguage("java")
+                    .languageType(LanguageType.GENERAL).timeFactor(new BigDecimal("2")).timeAddition(1000).build(),
+            LanguageDto.builder().languageId(82).languageName("MySQL").pistonLanguage("sqlite3")
+                    .languageType(LanguageType.DB).build());
+
+    private LanguageMapper languageMapper;
+    private StringRedisTemplate redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+    private LanguageService languageService;
+
+    @BeforeEach
+    void setUp() {
+        languageMapper = mock(LanguageMapper.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        listenerContainer = mock(RedisMessageListenerContainer.class);
+        when(languageMapper.selectAll()).thenReturn(LANGUAGES);
+
+        languageService = new LanguageService(languageMapper, redisTemplate, listenerContainer);
+    }
+
+    /**
+     * 채점/조회 경로에서 쓰는 조회 메서드를 반복 호출
+     */
+    private void lookUpRepeatedly(int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            assertThat(languageService.getById(71).getLanguageName()).isEqualTo("Python");
+            assertThat(languageService.getByName("java").getLanguageId()).isEqualTo(62);
+            assertThat(languageService.getByPistonLanguage("SQLITE3").getLanguageId()).isEqualTo(82);
+            assertThat(languageService.getLanguagesByType(LanguageType.GENERAL)).hasSize(2);
+            assertThat(languageService.getAllLanguages()).hasSize(3);
+            assertThat(languageService.calculateRealTimeLimit(71, 1000)).isEqualTo(5000);
+            assertThat(languageService.calculateRealMemoryLimit(71, 256)).isEqualTo(512);
+            assertThat(languageService.getById(999)).isNull();
+        }
+    }
+
+    private MessageListener capturedListener() {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+        return listener.getValue();
+    }
+
+    private static Message message(String body) {
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+        return message;
+    }
+
+    @Test
+    @DisplayName("반복 조회는 DB를 다시 읽지 않는다 (시작 시 한 번만 적재)")
+    void repeatedLookupsHitMapperOnce() {
+        languageService.init();
+
+        lookUpRepeatedly(1000);
+
+        verify(languageMapper, times(1)).selectAll();
+        verifyNoMoreInteractions(languageMapper);
+    }
+
+    @Test
+    @DisplayName("주기 갱신마다 한 번씩만 다시 읽는다")
+    void periodicRefreshLoadsOncePerRefresh() {
+        languageService.init();
+        lookUpRepeatedly(100);
+
+        languageService.refreshPeriodically();
+        languageService.refreshPeriodically();
+        lookUpRepeatedly(100);
+
+        verify(languageMapper, times(3)).selectAll();
+        verifyNoMoreInteractions(languageMapper);
+    }
+
+    @Test
+    @DisplayName("언어를 수정하면 한 번 다시 적재하고 다른 노드에 무효화를 알린다")
+    void updateReloadsOnceAndPublishes() {
+        languageService.init();
+        when(languageMapper.update(any())).thenReturn(1);
+
+        languageService.updateLanguage(LANGUAGES.get(0));
+        lookUpRepeatedly(100);
+
+        verify(languageMapper, times(2)).selectAll();
+        verify(redisTemplate).convertAndSend(eq("language:registry:invalidate"), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지에는 다시 적재하고, 자신이 보낸 메시지는 무시한다")
+    void invalidationMessageReloadsOnlyFromOtherNodes() {
+        languageService.init();
+        MessageListener listener = capturedListener();
+        ArgumentCaptor<String> ownNodeId = ArgumentCaptor.forClass(String.class);
+        languageService.reload();
+        verify(redisTemplate).convertAndSend(eq("language:registry:invalidate"), ownNodeId.capture());
+
+        listener.onMessage(message(ownNodeId.getValue()), null);
+        verify(languageMapper, times(2)).selectAll();
+
+        listener.onMessage(message("other-node"), null);
+        lookUpRepeatedly(100);
+        verify(languageMapper, times(3)).selectAll();
+    }
+
+    @Test
+    @DisplayName("시작 시 적재에 실패하면 첫 조회에서 한 번만 다시 적재한다")
+    void failedInitialLoadRetriesOnFirstLookup() {
+        when(languageMapper.selectAll())
+                .thenThrow(new IllegalStateException("DB not ready"))
+                .thenReturn(LANGUAGES);
+
+        languageService.init();
+        lookUpRepeatedly(100);
+
+        verify(languageMapper, times(2)).selectAll();
+        verify(languageMapper, never()).selectById(any());
+    }
+}
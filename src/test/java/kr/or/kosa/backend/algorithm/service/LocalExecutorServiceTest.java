@@ -0,0 +1,32 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalExecutorServiceTest {
+
+    @Test
+    @DisplayName("dash 형식 times 출력에서 자식 프로세스 user + sys 시간을 읽는다")
+    void parsesDashTimes() {
+        String times = "0m0.000000s 0m0.000000s\n0m0.460000s 0m0.030000s\n";
+
+        assertThat(LocalExecutorService.parseChildCpuMillis(times)).isEqualTo(490);
+    }
+
+    @Test
+    @DisplayName("bash 형식과 분 단위 값도 읽는다")
+    void parsesBashTimesWithMinutes() {
+        String times = "0m0.001s 0m0.002s\n1m2.500s 0m0.250s\n";
+
+        assertThat(LocalExecutorService.parseChildCpuMillis(times)).isEqualTo(62_750);
+    }
+
+    @Test
+    @DisplayName("형식이 다르면 -1을 반환한다")
+    void rejectsMalformedTimes() {
+        assertThat(LocalExecutorService.parseChildCpuMillis("")).isEqualTo(-1);
+        assertThat(LocalExecutorService.parseChildCpuMillis("0m0.001s 0m0.002s\n")).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,245 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.enums.OutputCompareMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutputComparatorTest {
+
+    private static final String EMOJI = "😀";     // U+1F600 (서로게이트 쌍)
+    private static final String OTHER_EMOJI = "😁";
+
+    /**
+     * 기존 채점 코드의 정규식 정규화
+     */
+    private static String legacyNormalize(String output) {
+        return output.trim().replaceAll("\\r\\n", "\n").replaceAll("\\s+$", "");
+    }
+
+    private static boolean legacyEquals(String expected, String actual) {
+        return legacyNormalize(expected).equals(legacyNormalize(actual));
+    }
+
+    private static boolean exact(String expected, String actual) {
+        return OutputComparator.matches(expected, actual, OutputCompareMode.EXACT, null);
+    }
+
+    private static boolean exactNormalized(String expected, String actual) {
+        byte[] normalized = TestCaseBundle.normalizeOutput(expected).getBytes(StandardCharsets.UTF_8);
+        return OutputComparator.matchesNormalized(normalized, actual);
+    }
+
+    @Nested
+    @DisplayName("EXACT")
+    class Exact {
+
+        @Test
+        @DisplayName("CRLF와 LF는 같은 출력으로 본다")
+        void crlfEqualsLf() {
+            assertThat(exact("1 2\n3 4", "1 2\r\n3 4\r\n")).isTrue();
+            assertThat(exactNormalized("1 2\n3 4", "1 2\r\n3 4\r\n")).isTrue();
+            assertThat(exact("1 2\r\n3 4", "1 2\n3 4")).isTrue();
+        }
+
+        @Test
+        @DisplayName("앞뒤 공백과 끝의 빈 줄은 무시한다")
+        void ignoresSurroundingWhitespaceAndBlankTrailingLines() {
+            assertThat(exact("answer", "  answer \t\n\n\r\n   ")).isTrue();
+            assertThat(exactNormalized("answer\n", "\n answer\n\n\n")).isTrue();
+        }
+
+        @Test
+        @DisplayName("줄 중간의 공백과 단독 CR은 그대로 비교한다")
+        void keepsInnerWhitespaceAndLoneCarriageReturn() {
+            assertThat(exact("1\n2", "1 \n2")).isFalse();
+            assertThat(exactNormalized("1\n2", "1 \n2")).isFalse();
+            assertThat(exact("a\nb", "a\rb")).isFalse();
+            assertThat(exactNormalized("a\nb", "a\rb")).isFalse();
+        }
+
+        @Test
+        @DisplayName("한쪽이 다른 쪽의 접두사이면 다르다")
+        void prefixIsNotEqual() {
+            assertThat(exact("1 2", "1 2 3")).isFalse();
+            assertThat(exact("1 2 3", "1 2")).isFalse();
+            assertThat(exactNormalized("1 2", "1 2 3")).isFalse();
+            assertThat(exactNormalized("1 2 3", "1 2")).isFalse();
+        }
+
+        @Test
+        @DisplayName("한글과 BMP 밖 문자도 UTF-8 바이트 단위로 같게 비교한다")
+        void comparesNonBmpText() {
+            assertThat(exact("정답 " + EMOJI, "정답 " + EMOJI + "\r\n")).isTrue();
+            assertThat(exactNormalized("정답 " + EMOJI, "정답 " + EMOJI + "\r\n")).isTrue();
+            assertThat(exact("정답 " + EMOJI, "정답 " + OTHER_EMOJI)).isFalse();
+            assertThat(exactNormalized("정답 " + EMOJI, "정답 " + OTHER_EMOJI)).isFalse();
+            assertThat(exactNormalized(EMOJI, "?")).isFalse();
+        }
+
+        @Test
+        @DisplayName("짝이 없는 서로게이트는 String.getBytes(UTF_8)처럼 '?'로 비교한다")
+        void loneSurrogateMatchesUtf8Replacement() {
+            String lone = "a\uD83D";
+
+            assertThat(exactNormalized(lone, lone)).isTrue();
+            assertThat(OutputComparator.matchesNormalized(lone.getBytes(StandardCharsets.UTF_8), "a?")).isTrue();
+        }
+
+        @Test
+        @DisplayName("출력이 없으면 비교하지 않고, 모드가 없으면 EXACT로 비교한다")
+        void nullHandling() {
+            assertThat(OutputComparator.matches(null, "x", OutputCompareMode.EXACT, null)).isTrue();
+            assertThat(OutputComparator.matches("x", null, OutputCompareMode.EXACT, null)).isTrue();
+            assertThat(OutputComparator.matchesNormalized(null, "x")).isTrue();
+            assertThat(OutputComparator.matches("1\n2", "1\r\n2", null, null)).isTrue();
+            assertThat(OutputComparator.matches("1 2", "1  2", null, null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("무작위 출력에서 기존 정규식 정규화와 같은 판정을 낸다")
+        void equivalentToLegacyRegexNormalization() {
+            Random random = new Random(20251213L);
+            int equalPairs = 0;
+
+            for (int round = 0; round < 5000; round++) {
+                String expected = randomOutput(random);
+                String actual = random.nextInt(4) == 0 ? randomOutput(random) : perturb(expected, random);
+                boolean legacy = legacyEquals(expected, actual);
+                if (legacy) {
+                    equalPairs++;
+                }
+
+                assertThat(TestCaseBundle.normalizeOutput(expected)).isEqualTo(legacyNormalize(expected));
+                assertThat(exact(expected, actual)).as("EXACT [%s] vs [%s]", expected, actual).isEqualTo(legacy);
+                assertThat(exactNormalized(expected, actual)).as("normalized [%s] vs [%s]", expected, actual)
+                        .isEqualTo(legacy);
+            }
+            // 같은 경우와 다른 경우가 모두 충분히 나왔는지 확인
+            assertThat(equalPairs).isBetween(500, 4500);
+        }
+
+        private static final String[] PIECES = {
+                "a", "b", "1", "-", " ", "  ", "\t", "\n", "\r\n", "\r", "\u000B", "\f", "\u0001", "가", EMOJI
+        };
+
+        private String randomOutput(Random random) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int i = 0; i < length; i++) {
+                builder.append(PIECES[random.nextInt(PIECES.length)]);
+            }
+            return builder.toString();
+        }
+
+        /**
+         * 기존 정규화에서 같게 취급되는 변형(줄바꿈, 앞뒤 공백)을 주로 넣고, 가끔 한 글자를 바꿈
+         */
+        private String perturb(String source, Random random) {
+            String result = source;
+            if (random.nextBoolean()) {
+                result = result.replace("\r\n", "\n").replace("\n", "\r\n");
+            }
+            if (random.nextBoolean()) {
+                result = " \n\t".substring(random.nextInt(3)) + result;
+            }
+            if (random.nextBoolean()) {
+                result = result + "\r\n\n  \t".substring(random.nextInt(5));
+            }
+            if (random.nextInt(5) == 0 && !result.isEmpty()) {
+                int index = random.nextInt(result.length());
+                result = result.substring(0, index) + PIECES[random.nextInt(PIECES.length)] + result.substring(index + 1);
+            }
+            return result;
+        }
+    }
+
+    @Nested
+    @DisplayName("TOKEN")
+    class Token {
+
+        private boolean token(String expected, String actual) {
+            return OutputComparator.matches(expected, actual, OutputCompareMode.TOKEN, null);
+        }
+
+        @Test
+        @DisplayName("공백 종류와 개수, 줄바꿈 위치가 달라도 토큰이 같으면 일치한다")
+        void ignoresWhitespaceLayout() {
+            assertThat(token("1 2\n3", "1\t2   3\r\n")).isTrue();
+            assertThat(token("1 2 3", "\n\n1\n2\n3\n\n")).isTrue();
+            assertThat(token("", " \r\n\t")).isTrue();
+        }
+
+        @Test
+        @DisplayName("토큰 내용이나 개수가 다르면 다르다")
+        void differentTokens() {
+            assertThat(token("1 2", "1 2 3")).isFalse();
+            assertThat(token("1 2 3", "1 2")).isFalse();
+            assertThat(token("1 2", "12")).isFalse();
+            assertThat(token("YES", "yes")).isFalse();
+            assertThat(token("1.0", "1.00")).isFalse();
+        }
+
+        @Test
+        @DisplayName("BMP 밖 문자가 들어간 토큰도 그대로 비교한다")
+        void nonBmpTokens() {
+            assertThat(token(EMOJI + " 가", EMOJI + "\r\n가\n")).isTrue();
+            assertThat(token(EMOJI + " 가", OTHER_EMOJI + " 가")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("FLOAT")
+    class Float {
+
+        private boolean floats(String expected, String actual, Double tolerance) {
+            return OutputComparator.matches(expected, actual, OutputCompareMode.FLOAT, tolerance);
+        }
+
+        @Test
+        @DisplayName("기본 허용 오차(1e-6) 이내의 실수는 일치한다")
+        void withinDefaultTolerance() {
+            assertThat(floats("0.333333", "0.3333333", null)).isTrue();
+            assertThat(floats("1e-7", "0", null)).isTrue();
+            assertThat(floats("2.5 3.5", "2.5000001\n3.4999999\r\n", null)).isTrue();
+            assertThat(floats("1.0", "1.1", null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("큰 값은 상대 오차로도 허용한다")
+        void relativeTolerance() {
+            assertThat(floats("1000000.0", "1000000.5", null)).isTrue();
+            assertThat(floats("1000000.0", "1000002.0", null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("문제별 허용 오차를 사용한다")
+        void customTolerance() {
+            assertThat(floats("1.0", "1.05", 0.1)).isTrue();
+            assertThat(floats("1.0", "1.05", 0.01)).isFalse();
+        }
+
+        @Test
+        @DisplayName("실수가 아닌 토큰은 그대로 비교한다")
+        void nonNumericTokensCompareExactly() {
+            assertThat(floats("YES 0.5", "YES 0.5000001", null)).isTrue();
+            assertThat(floats("YES 0.5", "yes 0.5", null)).isFalse();
+            assertThat(floats("NaN", "NaN", null)).isTrue();
+            assertThat(floats("1.0", "1.0f", null)).isFalse();
+            assertThat(floats("1.0", "0x1", null)).isFalse();
+            assertThat(floats("-", "+", null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("토큰 개수가 다르면 다르다")
+        void differentTokenCount() {
+            assertThat(floats("1.0 2.0", "1.0", null)).isFalse();
+            assertThat(floats("1.0", "1.0 2.0", null)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
+import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProblemDetailCacheTest {
+
+    private final ProblemDetailCache cache = new ProblemDetailCache(30);
+
+    private static AlgoProblemDto problem() {
+        List<AlgoTestcaseDto> testcases = new ArrayList<>();
+        testcases.add(AlgoTestcaseDto.builder().testcaseId(1L).inputData("1 2").expectedOutput("3").isSample(true).build());
+        return AlgoProblemDto.builder()
+                .algoProblemId(7L)
+                .algoProblemTitle("두 수의 합")
+                .totalAttempts(10)
+                .testcases(testcases)
+                .build();
+    }
+
+    @Test
+    @DisplayName("조회 결과를 수정해도 캐시된 값은 바뀌지 않는다")
+    void returnsDefensiveCopies() {
+        AlgoProblemDto original = problem();
+        cache.put(original);
+        original.setAlgoProblemTitle("저장 후 수정");
+
+        AlgoProblemDto first = cache.get(7L);
+        first.setTotalAttempts(999);
+        first.getTestcases().get(0).setExpectedOutput("변경");
+        first.getTestcases().add(AlgoTestcaseDto.builder().testcaseId(2L).build());
+
+        AlgoProblemDto second = cache.get(7L);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getAlgoProblemTitle()).isEqualTo("두 수의 합");
+        assertThat(second.getTotalAttempts()).isEqualTo(10);
+        assertThat(second.getTestcases()).hasSize(1);
+        assertThat(second.getTestcases().get(0).getExpectedOutput()).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("테스트케이스 저장으로 제거된 문제는 다시 조회해야 한다")
+    void evictRemovesEntry() {
+        cache.put(problem());
+
+        cache.evict(7L);
+
+        assertThat(cache.get(7L)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 반환하지 않는다")
+    void expiredEntryIsMiss() {
+        ProblemDetailCache noTtl = new ProblemDetailCache(0);
+        noTtl.put(problem());
+
+        assertThat(noTtl.get(7L)).isNull();
+    }
+}
@@ -0,0 +1,117 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
+import kr.or.kosa.backend.algorithm.dto.enums.ProblemDifficulty;
+import kr.or.kosa.backend.algorithm.mapper.AlgorithmProblemMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProblemSearchIndexTest {
+
+    private ProblemSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        AlgorithmProblemMapper problemMapper = mock(AlgorithmProblemMapper.class);
+        when(problemMapper.selectProblemsForSearchIndex(anyLong(), anyInt())).thenReturn(List.of(
+                problem(1L, "최단경로 구하기", "다익스트라 알고리즘으로 최단 경로를 구하세요",
+                        "[\"그래프\",\"다익스트라\"]", ProblemDifficulty.GOLD),
+                problem(2L, "두 수의 합", "정수 두 개를 입력받아 합을 출력하세요",
+                        "[\"수학\"]", ProblemDifficulty.BRONZE),
+                problem(3L, "C++ 입출력 연습", "cin과 cout을 사용해 보세요",
+                        "[\"구현\"]", ProblemDifficulty.BRONZE),
+                problem(4L, "Dijkstra shortest path", "Use a priority queue",
+                        "[\"graph\"]", ProblemDifficulty.GOLD),
+                problem(5L, "경로 찾기", "그래프에서 경로가 있는지 확인하세요",
+                        "[\"그래프\"]", ProblemDifficulty.SILVER)));
+
+        searchIndex = new ProblemSearchIndex(problemMapper, new ObjectMapper());
+        searchIndex.rebuild();
+    }
+
+    private static AlgoProblemDto problem(Long id, String title, String description, String tags,
+                                          ProblemDifficulty difficulty) {
+        return AlgoProblemDto.builder()
+                .algoProblemId(id)
+                .algoProblemTitle(title)
+                .algoProblemDescription(description)
+                .algoProblemTags(tags)
+                .algoProblemDifficulty(difficulty)
+                .algoProblemStatus(true)
+                .build();
+    }
+
+    private List<Long> search(String keyword) {
+        return searchIndex.search(keyword, null, null, null, null).problemIds();
+    }
+
+    @Test
+    @DisplayName("기호로만 된 검색어는 전체 목록 대신 null을 반환해 SQL 조회로 넘긴다")
+    void symbolOnlyKeywordFallsBackToSql() {
+        assertThat(searchIndex.search("++", null, null, null, null)).isNull();
+        assertThat(searchIndex.search("!", null, null, null, null)).isNull();
+        assertThat(searchIndex.search(" ! ", "GOLD", null, null, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("검색어가 없으면 필터만 적용해 ID 순으로 반환한다")
+    void blankKeywordAppliesFiltersOnly() {
+        assertThat(searchIndex.search(null, "GOLD", null, null, null).problemIds()).containsExactly(1L, 4L);
+        assertThat(searchIndex.search("  ", null, null, null, "그래프").problemIds()).containsExactly(1L, 5L);
+    }
+
+    @Test
+    @DisplayName("한글 검색어는 띄어쓰기와 관계없이 음절 bigram으로 일치한다")
+    void hangulBigramMatchesRegardlessOfSpacing() {
+        assertThat(search("최단경로")).containsExactly(1L);
+        assertThat(search("최단 경로")).containsExactly(1L);
+        assertThat(search("경로")).containsExactlyInAnyOrder(1L, 5L);
+        // 어느 문제에도 없는 bigram이 섞이면 일치하지 않음
+        assertThat(search("최단거리")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 음절 검색어는 제목/태그의 음절 단위 용어로 일치한다")
+    void singleSyllableMatchesTitleUnigram() {
+        assertThat(search("합")).containsExactly(2L);
+        // 설명은 음절 단위로 색인하지 않으므로 "확인하세요"의 "확"으로는 찾지 않음
+        assertThat(search("확")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("영문은 3자 이상 앞부분으로 검색할 수 있다")
+    void prefixSearch() {
+        assertThat(search("dijk")).containsExactly(4L);
+        assertThat(search("DIJKSTRA")).containsExactly(4L);
+        assertThat(search("short pri")).containsExactly(4L);
+        assertThat(search("di")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 용어라도 여러 필드에 나오는 문제가 먼저 온다")
+    void matchesInMoreFieldsRankHigher() {
+        // 5번은 태그와 설명 모두, 1번은 태그에만 "그래프"가 있음
+        assertThat(search("그래프")).containsExactly(5L, 1L);
+        assertThat(searchIndex.search("그래프", "SILVER", null, null, null).problemIds()).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("비활성으로 바뀐 문제는 색인에서 제거된다")
+    void deactivatedProblemIsRemoved() {
+        searchIndex.indexProblem(problem(4L, "Dijkstra shortest path", "Use a priority queue",
+                "[\"graph\"]", ProblemDifficulty.GOLD).toBuilder().algoProblemStatus(false).build());
+
+        assertThat(search("dijkstra")).isEmpty();
+        assertThat(searchIndex.search(null, "GOLD", null, null, null).problemIds()).containsExactly(1L);
+    }
+}
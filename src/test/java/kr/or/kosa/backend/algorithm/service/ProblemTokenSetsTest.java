@@ -0,0 +1,150 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProblemTokenSetsTest {
+
+    private final ProblemTokenSets tokenSets = new ProblemTokenSets(100, 500_000);
+
+    /**
+     * 기존 ProblemVectorStoreService의 토큰화 (split 결과를 그대로 HashSet에 담음)
+     */
+    private static Set<String> legacyTokenize(String text) {
+        String[] tokens = text.toLowerCase()
+                .replaceAll("[^a-z0-9가-힣\\s]", " ")
+                .trim()
+                .split("\\s+");
+        return new HashSet<>(Arrays.asList(tokens));
+    }
+
+    /**
+     * 기존 HashSet 기반 Jaccard
+     */
+    private static double legacyJaccard(String text1, String text2) {
+        Set<String> tokens1 = legacyTokenize(text1);
+        Set<String> tokens2 = legacyTokenize(text2);
+        if (tokens1.isEmpty() || tokens2.isEmpty()) {
+            return 0.0;
+        }
+        Set<String> intersection = new HashSet<>(tokens1);
+        intersection.retainAll(tokens2);
+        Set<String> union = new HashSet<>(tokens1);
+        union.addAll(tokens2);
+        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+    }
+
+    private double jaccard(String text1, String text2) {
+        ProblemTokenSets.TokenSpace space = tokenSets.space();
+        return ProblemTokenSets.jaccard(space.tokenIds(text1), space.tokenIds(text2));
+    }
+
+    private static final String[] PIECES = {
+            "Two", "sum", "SUM", "두", "수의", "합", "배열", "array", "a1", "42", "x-y", "n_m",
+            " ", "  ", "\n", "\r\n", "\t", ",", ".", "!?", "(", ")", "é", "😀"
+    };
+
+    private static String randomText(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(16);
+        for (int i = 0; i < length; i++) {
+            builder.append(PIECES[random.nextInt(PIECES.length)]);
+        }
+        return builder.toString();
+    }
+
+    @Test
+    @DisplayName("토큰이 있는 텍스트는 기존 HashSet Jaccard와 같은 값을 낸다")
+    void equivalentToLegacyHashSetJaccard() {
+        Random random = new Random(20251215L);
+        int compared = 0;
+
+        for (int round = 0; round < 5000; round++) {
+            String text1 = randomText(random);
+            String text2 = random.nextInt(3) == 0 ? text1 + PIECES[random.nextInt(PIECES.length)] : randomText(random);
+            boolean bothHaveTokens = !ProblemTokenSets.tokens(text1).isEmpty() && !ProblemTokenSets.tokens(text2).isEmpty();
+
+            double actual = jaccard(text1, text2);
+            if (bothHaveTokens) {
+                compared++;
+                assertThat(actual).as("[%s] vs [%s]", text1, text2).isEqualTo(legacyJaccard(text1, text2));
+            } else {
+                assertThat(actual).as("[%s] vs [%s]", text1, text2).isEqualTo(0.0);
+            }
+        }
+        assertThat(compared).isGreaterThan(3000);
+    }
+
+    @Test
+    @DisplayName("토큰 문자열 집합은 기존 토큰화에서 빈 토큰만 뺀 것과 같다")
+    void tokensMatchLegacyTokenizeWithoutEmptyToken() {
+        Random random = new Random(7L);
+        for (int round = 0; round < 2000; round++) {
+            String text = randomText(random);
+            Set<String> expected = legacyTokenize(text);
+            expected.remove("");
+
+            assertThat(ProblemTokenSets.tokens(text)).as("[%s]", text).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 텍스트끼리는 이제 1이 아니라 0이다 (기존은 빈 문자열을 토큰으로 셈)")
+    void emptyTextsNowScoreZero() {
+        assertThat(legacyJaccard("", "")).isEqualTo(1.0);
+        assertThat(legacyJaccard("!!", "...")).isEqualTo(1.0);
+
+        assertThat(jaccard("", "")).isEqualTo(0.0);
+        assertThat(jaccard("!!", "...")).isEqualTo(0.0);
+        assertThat(jaccard("", "two sum")).isEqualTo(0.0);
+        assertThat(tokenSets.space().tokenIds(null)).isEmpty();
+        assertThat(ProblemTokenSets.tokens(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰 ID는 정렬되고 중복이 없다")
+    void tokenIdsAreSortedAndDistinct() {
+        int[] ids = tokenSets.space().tokenIds("b a c a B, c! 가 가");
+
+        assertThat(ids).hasSize(4);
+        for (int i = 1; i < ids.length; i++) {
+            assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키와 본문이면 캐시된 토큰 ID를 쓰고, 본문이 바뀌면 다시 계산한다")
+    void cachedTokenIdsAreValidatedAgainstText() {
+        ProblemTokenSets.TokenSpace space = tokenSets.space();
+
+        int[] first = space.cachedTokenIds("doc-1", "two sum problem");
+        int[] second = space.cachedTokenIds("doc-1", "two sum problem");
+        int[] changed = space.cachedTokenIds("doc-1", "three sum problem");
+
+        assertThat(second).isSameAs(first);
+        assertThat(changed).isNotSameAs(first);
+        assertThat(ProblemTokenSets.jaccard(first, changed)).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("토큰 사전이 상한을 넘으면 사전과 캐시를 새로 시작한다")
+    void vocabularyResetsWhenTooLarge() {
+        ProblemTokenSets small = new ProblemTokenSets(100, 3);
+        ProblemTokenSets.TokenSpace first = small.space();
+        int[] cached = first.cachedTokenIds("doc-1", "a b c d");
+
+        ProblemTokenSets.TokenSpace second = small.space();
+        int[] recomputed = second.cachedTokenIds("doc-1", "a b c d");
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(recomputed).isNotSameAs(cached);
+        assertThat(ProblemTokenSets.jaccard(recomputed, second.tokenIds("a b"))).isEqualTo(0.5);
+    }
+}
@@ -0,0 +1,244 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.SimpleVectorStore;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProblemVectorBatchWriterTest {
+
+    // 메모리 맵으로 동작하는 Redis 진행 기록 (키 → 완료 문서 ID)
+    private final Map<String, Set<String>> progressStore = new ConcurrentHashMap<>();
+
+    private StubEmbeddingModel embeddingModel;
+    private RecordingVectorStore vectorStore;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        embeddingModel = new StubEmbeddingModel();
+        vectorStore = new RecordingVectorStore(embeddingModel);
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(anyString())).thenAnswer(invocation ->
+                progressStore.getOrDefault(invocation.<String>getArgument(0), Set.of()));
+        when(setOperations.add(anyString(), any(String[].class))).thenAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            Set<String> done = progressStore.computeIfAbsent((String) arguments[0], key -> ConcurrentHashMap.newKeySet());
+            for (int i = 1; i < arguments.length; i++) {
+                if (arguments[i] instanceof String[] ids) {
+                    done.addAll(List.of(ids));
+                } else {
+                    done.add((String) arguments[i]);
+                }
+            }
+            return (long) done.size();
+        });
+        when(redisTemplate.expire(anyString(), any(Duration.class))).thenReturn(true);
+        when(redisTemplate.delete(anyString())).thenAnswer(invocation ->
+                progressStore.remove(invocation.<String>getArgument(0)) != null);
+    }
+
+    private ProblemVectorBatchWriter writer(int maxTokens, int maxDocuments, int maxAttempts) {
+        // 묶음을 호출 스레드에서 바로 실행
+        return new ProblemVectorBatchWriter(vectorStore, redisTemplate, Runnable::run,
+                maxTokens, maxDocuments, 2, maxAttempts);
+    }
+
+    private static List<Document> documents(int count) {
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            documents.add(new Document("problem-" + i, "문제 " + i + " 설명", Map.of()));
+        }
+        return documents;
+    }
+
+    private static List<String> ids(List<Document> documents) {
+        return documents.stream().map(Document::getId).toList();
+    }
+
+    @Test
+    @DisplayName("예상 토큰 수는 비ASCII 글자당 1, ASCII 4글자당 1로 계산한다")
+    void estimateTokens() {
+        assertThat(ProblemVectorBatchWriter.estimateTokens(null)).isZero();
+        assertThat(ProblemVectorBatchWriter.estimateTokens("")).isZero();
+        assertThat(ProblemVectorBatchWriter.estimateTokens("abcd")).isEqualTo(1);
+        assertThat(ProblemVectorBatchWriter.estimateTokens("abcde")).isEqualTo(2);
+        assertThat(ProblemVectorBatchWriter.estimateTokens("최단경로")).isEqualTo(4);
+        assertThat(ProblemVectorBatchWriter.estimateTokens("DP 문제")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("토큰 한도와 문서 수 상한으로 나누고, 한도를 넘는 문서는 단독 묶음이 된다")
+    void splitByTokensAndDocumentCount() {
+        List<Document> documents = List.of(
+                new Document("a", "가나다라", Map.of()),
+                new Document("b", "가나다라", Map.of()),
+                new Document("c", "가나다라", Map.of()),
+                new Document("big", "가".repeat(20), Map.of()),
+                new Document("d", "x", Map.of()),
+                new Document("e", "x", Map.of()),
+                new Document("f", "x", Map.of()),
+                new Document("g", "x", Map.of()));
+
+        List<List<Document>> batches = writer(10, 3, 1).split(documents);
+
+        assertThat(batches).extracting(ProblemVectorBatchWriterTest::ids).containsExactly(
+                List.of("a", "b"),
+                List.of("c"),
+                List.of("big"),
+                List.of("d", "e", "f"),
+                List.of("g"));
+    }
+
+    @Test
+    @DisplayName("묶음마다 저장소에 한 번씩 넣고, 끝나면 진행 기록을 지운다")
+    void writesEachBatchOnce() {
+        List<Document> documents = documents(10);
+
+        int stored = writer(1000, 4, 1).write(documents);
+
+        assertThat(stored).isEqualTo(10);
+        assertThat(vectorStore.addedBatches).extracting(List::size).containsExactly(4, 4, 2);
+        assertThat(embeddingModel.embeddedTexts).hasSize(10);
+        assertThat(vectorStore.similaritySearch(SearchRequest.builder().query("문제").topK(100).build()))
+                .extracting(Document::getId)
+                .containsExactlyInAnyOrderElementsOf(ids(documents));
+        assertThat(progressStore).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패한 묶음이 있으면 다시 호출했을 때 남은 문서만 적재한다")
+    void resumesOnlyPendingDocuments() {
+        List<Document> documents = documents(10);
+        vectorStore.failWhen = batch -> ids(batch).contains("problem-5");
+
+        int firstRun = writer(1000, 4, 1).write(documents);
+
+        assertThat(firstRun).isEqualTo(6);
+        assertThat(progressStore).hasSize(1);
+
+        vectorStore.failWhen = batch -> false;
+        vectorStore.addedBatches.clear();
+        // 입력 순서가 달라도 같은 적재 단위로 인식
+        List<Document> reordered = new ArrayList<>(documents);
+        Collections.reverse(reordered);
+
+        int secondRun = writer(1000, 4, 1).write(reordered);
+
+        assertThat(secondRun).isEqualTo(10);
+        assertThat(vectorStore.addedBatches).hasSize(1);
+        assertThat(vectorStore.addedBatches.get(0))
+                .containsExactlyInAnyOrder("problem-4", "problem-5", "problem-6", "problem-7");
+        assertThat(progressStore).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일시적인 실패는 같은 묶음을 재시도해 적재한다")
+    void retriesFailedBatch() {
+        AtomicInteger failures = new AtomicInteger();
+        vectorStore.failWhen = batch -> failures.getAndIncrement() == 0;
+
+        int stored = writer(1000, 10, 2).write(documents(3));
+
+        assertThat(stored).isEqualTo(3);
+        assertThat(vectorStore.addedBatches).hasSize(1);
+        assertThat(progressStore).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 단위 식별자는 입력 순서와 무관하고 본문이 바뀌면 달라진다")
+    void loadIdDependsOnIdsAndTextOnly() {
+        List<Document> documents = documents(3);
+        List<Document> reversed = List.of(documents.get(2), documents.get(1), documents.get(0));
+
+        assertThat(ProblemVectorBatchWriter.loadId(reversed)).isEqualTo(ProblemVectorBatchWriter.loadId(documents));
+        // "Aa"와 "BB"는 String.hashCode가 같지만 다른 적재 단위여야 함
+        assertThat(ProblemVectorBatchWriter.loadId(List.of(new Document("p", "Aa", Map.of()))))
+                .isNotEqualTo(ProblemVectorBatchWriter.loadId(List.of(new Document("p", "BB", Map.of()))));
+    }
+
+    /**
+     * 본문 길이로 벡터를 만드는 임베딩 모델 (외부 API 호출 없음)
+     */
+    private static class StubEmbeddingModel implements EmbeddingModel {
+
+        private final List<String> embeddedTexts = new CopyOnWriteArrayList<>();
+
+        static float[] vectorOf(String text) {
+            return new float[]{1f, text.length()};
+        }
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            List<Embedding> embeddings = new ArrayList<>();
+            List<String> inputs = request.getInstructions();
+            for (int i = 0; i < inputs.size(); i++) {
+                embeddedTexts.add(inputs.get(i));
+                embeddings.add(new Embedding(vectorOf(inputs.get(i)), i));
+            }
+            return new EmbeddingResponse(embeddings);
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            embeddedTexts.add(document.getText());
+            return vectorOf(document.getText());
+        }
+
+        @Override
+        public int dimensions() {
+            return 2;
+        }
+    }
+
+    /**
+     * 메모리 저장소에 add 호출 단위를 기록하고, 조건에 맞는 묶음은 실패시키는 저장소
+     */
+    private static class RecordingVectorStore extends SimpleVectorStore {
+
+        private final List<List<String>> addedBatches = new CopyOnWriteArrayList<>();
+        private volatile Predicate<List<Document>> failWhen = batch -> false;
+
+        RecordingVectorStore(EmbeddingModel embeddingModel) {
+            super(SimpleVectorStore.builder(embeddingModel));
+        }
+
+        @Override
+        public void add(List<Document> documents) {
+            if (failWhen.test(documents)) {
+                throw new IllegalStateException("vector store unavailable");
+            }
+            addedBatches.add(ids(documents));
+            super.add(documents);
+        }
+    }
+}
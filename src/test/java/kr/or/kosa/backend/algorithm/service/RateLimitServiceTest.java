@@ -0,0 +1,140 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.enums.UsageType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * rate_limit.lua를 실제 Redis에서 실행해 동시 요청의 원자성 확인 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimitServiceTest {
+
+    private static final int FREE_USER_DAILY_LIMIT = 3;
+    private static final int CONCURRENT_CALLS = 50;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(stringRedisTemplate.getStringSerializer());
+        redisTemplate.setHashKeySerializer(stringRedisTemplate.getStringSerializer());
+        redisTemplate.setHashValueSerializer(stringRedisTemplate.getStringSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        rateLimitService = new RateLimitService(redisTemplate, stringRedisTemplate);
+        ReflectionTestUtils.setField(rateLimitService, "burstWindowMs", 1000L);
+        ReflectionTestUtils.setField(rateLimitService, "burstLimit", 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    /**
+     * 같은 사용자로 동시에 호출하고 결과 수집
+     */
+    private List<RateLimitService.UsageCheckResult> callConcurrently(int calls, boolean isSubscriber) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(calls);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<RateLimitService.UsageCheckResult>> futures = new ArrayList<>();
+            for (int i = 0; i < calls; i++) {
+                UsageType type = i % 2 == 0 ? UsageType.GENERATE : UsageType.SOLVE;
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    return rateLimitService.checkAndIncrementUsage(1L, type, isSubscriber);
+                }));
+            }
+            start.countDown();
+
+            List<RateLimitService.UsageCheckResult> results = new ArrayList<>();
+            for (Future<RateLimitService.UsageCheckResult> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 요청이 몰려도 무료 사용자는 일일 한도만큼만 허용된다")
+    void concurrentCallsAllowExactlyDailyLimit() throws Exception {
+        List<RateLimitService.UsageCheckResult> results = callConcurrently(CONCURRENT_CALLS, false);
+
+        long allowed = results.stream().filter(RateLimitService.UsageCheckResult::allowed).count();
+        assertThat(allowed).isEqualTo(FREE_USER_DAILY_LIMIT);
+        assertThat(results.stream().filter(RateLimitService.UsageCheckResult::throttled).count()).isZero();
+        assertThat(rateLimitService.getUsage(1L).getTotal()).isEqualTo(FREE_USER_DAILY_LIMIT);
+        assertThat(rateLimitService.getRemainingUsage(1L, false)).isZero();
+    }
+
+    @Test
+    @DisplayName("허용된 요청의 잔여 횟수는 중복 없이 한 번씩 배정된다")
+    void remainingCountsAreDistinct() throws Exception {
+        List<RateLimitService.UsageCheckResult> results = callConcurrently(CONCURRENT_CALLS, false);
+
+        List<Integer> remaining = results.stream()
+                .filter(RateLimitService.UsageCheckResult::allowed)
+                .map(RateLimitService.UsageCheckResult::remaining)
+                .sorted()
+                .toList();
+        assertThat(remaining).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    @DisplayName("버스트 제한은 구독자에게도 윈도우당 한도만큼만 허용한다")
+    void burstLimitAppliesToSubscribers() throws Exception {
+        ReflectionTestUtils.setField(rateLimitService, "burstWindowMs", 60_000L);
+        ReflectionTestUtils.setField(rateLimitService, "burstLimit", 5);
+
+        List<RateLimitService.UsageCheckResult> results = callConcurrently(CONCURRENT_CALLS, true);
+
+        assertThat(results.stream().filter(RateLimitService.UsageCheckResult::allowed).count()).isEqualTo(5);
+        assertThat(results.stream().filter(RateLimitService.UsageCheckResult::throttled).count())
+                .isEqualTo(CONCURRENT_CALLS - 5);
+    }
+}
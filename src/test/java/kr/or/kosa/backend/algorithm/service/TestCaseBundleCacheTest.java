@@ -0,0 +1,176 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
+import kr.or.kosa.backend.algorithm.dto.AlgoTestcaseDto;
+import kr.or.kosa.backend.algorithm.dto.enums.OutputCompareMode;
+import kr.or.kosa.backend.algorithm.mapper.AlgorithmProblemMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TestCaseBundleCacheTest {
+
+    private static final Long PROBLEM_ID = 1L;
+
+    private final AtomicInteger selects = new AtomicInteger();
+    // 메모리 맵으로 동작하는 테스트케이스 테이블과 Redis
+    private final Map<Long, List<AlgoTestcaseDto>> testcaseTable = new ConcurrentHashMap<>();
+    private final Map<String, String> redisStore = new ConcurrentHashMap<>();
+    private volatile boolean redisDown;
+
+    private AlgorithmProblemMapper problemMapper;
+    private StringRedisTemplate redisTemplate;
+    private TestCaseBundleCache bundleCache;
+    private TestCaseBatchService batchService;
+    private AlgoProblemDto problem;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        problemMapper = mock(AlgorithmProblemMapper.class);
+        when(problemMapper.selectTestCasesByProblemId(anyLong())).thenAnswer(invocation -> {
+            selects.incrementAndGet();
+            return new ArrayList<>(testcaseTable.getOrDefault(invocation.<Long>getArgument(0), List.of()));
+        });
+        when(problemMapper.insertTestcases(anyList())).thenAnswer(invocation -> {
+            List<AlgoTestcaseDto> chunk = invocation.getArgument(0);
+            for (AlgoTestcaseDto testcase : chunk) {
+                testcaseTable.computeIfAbsent(testcase.getAlgoProblemId(), id -> new ArrayList<>()).add(testcase);
+            }
+            return chunk.size();
+        });
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> {
+            if (redisDown) {
+                throw new RedisConnectionFailureException("down");
+            }
+            return redisStore.get(invocation.<String>getArgument(0));
+        });
+        when(valueOperations.increment(anyString())).thenAnswer(invocation -> Long.parseLong(
+                redisStore.merge(invocation.getArgument(0), "1",
+                        (current, one) -> String.valueOf(Long.parseLong(current) + 1))));
+
+        bundleCache = newBundleCache();
+        batchService = new TestCaseBatchService(problemMapper, bundleCache, new ProblemDetailCache(30), 500, 4_000_000);
+        problem = AlgoProblemDto.builder().algoProblemId(PROBLEM_ID).outputCompareMode(OutputCompareMode.EXACT).build();
+
+        testcaseTable.put(PROBLEM_ID, new ArrayList<>(List.of(testcase("1 2", "3"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private TestCaseBundleCache newBundleCache() {
+        return new TestCaseBundleCache(problemMapper, redisTemplate, 64L * 1024 * 1024, 500);
+    }
+
+    private static AlgoTestcaseDto testcase(String input, String expected) {
+        return AlgoTestcaseDto.builder().algoProblemId(PROBLEM_ID).inputData(input).expectedOutput(expected).build();
+    }
+
+    @Test
+    @DisplayName("버전이 그대로면 반복 조회해도 DB를 한 번만 읽는다")
+    void repeatedGetLoadsOnce() {
+        TestCaseBundle first = bundleCache.get(problem);
+        TestCaseBundle second = bundleCache.get(problem);
+
+        assertThat(second).isSameAs(first);
+        assertThat(selects.get()).isEqualTo(1);
+        assertThat(first.getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("테스트케이스를 저장하면 다음 조회에서 새 테스트케이스를 다시 적재한다")
+    void saveAllMakesNextGetReload() {
+        TestCaseBundle before = bundleCache.get(problem);
+
+        batchService.saveAll(PROBLEM_ID, new ArrayList<>(List.of(testcase("5 7", "12"))));
+        TestCaseBundle after = bundleCache.get(problem);
+
+        assertThat(selects.get()).isEqualTo(2);
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.getTestCases()).hasSize(2);
+        assertThat(after.getTestCases().get(1).getExpectedOutput()).isEqualTo("12");
+        assertThat(after.getChecksum()).isNotEqualTo(before.getChecksum());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 캐시도 저장 후 다음 조회에서 다시 적재한다")
+    void otherNodeReloadsAfterSave() {
+        TestCaseBundleCache otherNode = newBundleCache();
+        otherNode.get(problem);
+
+        batchService.saveAll(PROBLEM_ID, new ArrayList<>(List.of(testcase("5 7", "12"))));
+
+        assertThat(otherNode.get(problem).getTestCases()).hasSize(2);
+        assertThat(selects.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 저장하면 커밋 이후에 버전을 올린다")
+    void versionIsBumpedAfterCommit() {
+        bundleCache.get(problem);
+        TransactionSynchronizationManager.initSynchronization();
+
+        batchService.saveAll(PROBLEM_ID, new ArrayList<>(List.of(testcase("5 7", "12"))));
+
+        // 커밋 전에는 이전 버전 유지
+        assertThat(redisStore).isEmpty();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        TestCaseBundle after = bundleCache.get(problem);
+        assertThat(after.getVersion()).isEqualTo(1);
+        assertThat(after.getTestCases()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("비교 방식이 바뀌면 버전이 같아도 다시 적재한다")
+    void compareModeChangeReloads() {
+        bundleCache.get(problem);
+
+        TestCaseBundle reloaded = bundleCache.get(problem.toBuilder().outputCompareMode(OutputCompareMode.TOKEN).build());
+
+        assertThat(selects.get()).isEqualTo(2);
+        assertThat(reloaded.getCompareMode()).isEqualTo(OutputCompareMode.TOKEN);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 캐시를 쓰지 않고 매번 DB에서 읽는다")
+    void redisFailureReadsDatabaseDirectly() {
+        redisDown = true;
+
+        TestCaseBundle first = bundleCache.get(problem);
+        bundleCache.get(problem);
+
+        assertThat(selects.get()).isEqualTo(2);
+        assertThat(first.getVersion()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,144 @@
+package kr.or.kosa.backend.algorithm.service;
+
+import kr.or.kosa.backend.algorithm.dto.MonitoringSessionDto;
+import kr.or.kosa.backend.algorithm.mapper.MonitoringMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ViolationEventAggregatorTest {
+
+    private MonitoringMapper monitoringMapper;
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        monitoringMapper = mock(MonitoringMapper.class);
+        redisTemplate = mock(RedisTemplate.class);
+    }
+
+    private ViolationEventAggregator aggregator(int sessionFlushThreshold) {
+        return new ViolationEventAggregator(monitoringMapper, redisTemplate, 1000, sessionFlushThreshold, 200);
+    }
+
+    private static void record(ViolationEventAggregator aggregator, String sessionId, String type, int times) {
+        for (int i = 0; i < times; i++) {
+            aggregator.record(sessionId, type, Map.of("type", type, "timestamp", i));
+        }
+    }
+
+    private List<MonitoringSessionDto> capturedDeltas(int expectedCalls) {
+        ArgumentCaptor<MonitoringSessionDto> delta = ArgumentCaptor.forClass(MonitoringSessionDto.class);
+        verify(monitoringMapper, times(expectedCalls)).addViolationCounts(delta.capture());
+        return delta.getAllValues();
+    }
+
+    @Test
+    @DisplayName("한 세션의 위반 N건은 반영 주기마다 UPDATE 1회로 합쳐진다")
+    void eventsOfOneSessionAreFlushedInOneUpdate() {
+        ViolationEventAggregator aggregator = aggregator(1000);
+
+        record(aggregator, "s1", "GAZE_AWAY", 4);
+        record(aggregator, "s1", "TAB_SWITCH", 3);
+        record(aggregator, "s1", "NO_FACE_SUSTAINED", 2);
+        record(aggregator, "s1", "UNKNOWN", 1);
+        verify(monitoringMapper, never()).addViolationCounts(any());
+
+        aggregator.flushAll();
+        // 새 이벤트가 없으면 다음 주기에는 반영하지 않음
+        aggregator.flushAll();
+
+        MonitoringSessionDto delta = capturedDeltas(1).get(0);
+        assertThat(delta.getSessionId()).isEqualTo("s1");
+        assertThat(delta.getGazeAwayCount()).isEqualTo(4);
+        assertThat(delta.getTabSwitchCount()).isEqualTo(3);
+        assertThat(delta.getNoFaceCount()).isEqualTo(2);
+        assertThat(delta.getSleepingCount()).isZero();
+        assertThat(delta.getTotalViolations()).isEqualTo(10);
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("세션마다 따로 UPDATE한다")
+    void eachSessionGetsItsOwnUpdate() {
+        ViolationEventAggregator aggregator = aggregator(1000);
+
+        record(aggregator, "s1", "GAZE_AWAY", 5);
+        record(aggregator, "s2", "SLEEPING", 2);
+        aggregator.flushAll();
+
+        assertThat(capturedDeltas(2))
+                .extracting(MonitoringSessionDto::getSessionId, MonitoringSessionDto::getTotalViolations)
+                .containsExactlyInAnyOrder(
+                        tuple("s1", 5),
+                        tuple("s2", 2));
+    }
+
+    @Test
+    @DisplayName("세션의 대기 위반 수가 기준에 도달하면 주기를 기다리지 않고 반영한다")
+    void sessionThresholdFlushesImmediately() {
+        ViolationEventAggregator aggregator = aggregator(5);
+
+        record(aggregator, "s1", "MOUSE_LEAVE", 12);
+        List<MonitoringSessionDto> beforeFlush = capturedDeltas(2);
+        assertThat(beforeFlush).extracting(MonitoringSessionDto::getTotalViolations).containsExactly(5, 5);
+
+        aggregator.flushSession("s1");
+
+        assertThat(capturedDeltas(3).get(2).getMouseLeaveCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 카운트를 되돌려 다음 주기에 합쳐서 다시 반영한다")
+    void failedFlushRestoresCounts() {
+        ViolationEventAggregator aggregator = aggregator(1000);
+        doThrow(new RuntimeException("db down"))
+                .doNothing()
+                .when(monitoringMapper).addViolationCounts(any());
+
+        record(aggregator, "s1", "GAZE_AWAY", 3);
+        aggregator.flushAll();
+        // 실패한 반영분의 이벤트 로그는 Redis에 쓰지 않음
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+
+        record(aggregator, "s1", "GAZE_AWAY", 1);
+        aggregator.flushAll();
+
+        List<MonitoringSessionDto> deltas = capturedDeltas(2);
+        assertThat(deltas.get(1).getGazeAwayCount()).isEqualTo(4);
+        assertThat(deltas.get(1).getTotalViolations()).isEqualTo(4);
+
+        // 반영 완료 후에는 다시 보내지 않음
+        aggregator.flushAll();
+        capturedDeltas(2);
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 위반을 모두 반영한다")
+    void shutdownFlushesRemainingEvents() {
+        ViolationEventAggregator aggregator = aggregator(1000);
+        doNothing().when(monitoringMapper).addViolationCounts(any());
+
+        record(aggregator, "s1", "FULLSCREEN_EXIT", 2);
+        aggregator.shutdown();
+
+        assertThat(capturedDeltas(1).get(0).getFullscreenExitCount()).isEqualTo(2);
+    }
+}
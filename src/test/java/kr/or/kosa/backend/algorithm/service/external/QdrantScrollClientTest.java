@@ -0,0 +1,159 @@
+package kr.or.kosa.backend.algorithm.service.external;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Qdrant scroll 페이지 순회 검증 (MockWebServer가 Qdrant 응답을 페이지 단위로 재현)
+ */
+class QdrantScrollClientTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockWebServer server;
+    private QdrantScrollClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        client = new QdrantScrollClient(WebClient.builder().baseUrl(server.url("/").toString()).build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    /**
+     * 포인트 ID 목록과 다음 페이지 오프셋으로 scroll 응답 한 페이지 등록
+     */
+    private void enqueuePage(List<Integer> ids, Integer nextOffset) {
+        StringBuilder points = new StringBuilder();
+        for (Integer id : ids) {
+            if (points.length() > 0) {
+                points.append(',');
+            }
+            points.append("{\"id\":").append(id).append(",\"payload\":{\"title\":\"문제 ").append(id).append("\"}}");
+        }
+        server.enqueue(new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .setBody("{\"result\":{\"points\":[" + points + "],\"next_page_offset\":" + nextOffset + "},"
+                        + "\"status\":\"ok\",\"time\":0.001}"));
+    }
+
+    private JsonNode requestBody(RecordedRequest request) throws IOException {
+        return objectMapper.readTree(request.getBody().readUtf8());
+    }
+
+    private RecordedRequest takeRequest() throws InterruptedException {
+        RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+        assertThat(request).isNotNull();
+        return request;
+    }
+
+    @Test
+    @DisplayName("next_page_offset을 다음 요청의 offset으로 이어 마지막 페이지까지 순회한다")
+    void followsNextPageOffset() throws Exception {
+        enqueuePage(List.of(1, 2), 3);
+        enqueuePage(List.of(3, 4), 5);
+        enqueuePage(List.of(5), null);
+
+        List<QdrantScrollClient.Point> points = client.scroll("problems", List.of("title", "difficulty"), 2, 100)
+                .collectList()
+                .block(TIMEOUT);
+
+        assertThat(points).extracting(QdrantScrollClient.Point::id).containsExactly("1", "2", "3", "4", "5");
+        assertThat(points.get(4).payload()).containsEntry("title", "문제 5");
+        assertThat(server.getRequestCount()).isEqualTo(3);
+
+        RecordedRequest first = takeRequest();
+        assertThat(first.getMethod()).isEqualTo("POST");
+        assertThat(first.getPath()).isEqualTo("/collections/problems/points/scroll");
+        assertThat(requestBody(first).has("offset")).isFalse();
+        assertThat(requestBody(takeRequest()).get("offset").asInt()).isEqualTo(3);
+        assertThat(requestBody(takeRequest()).get("offset").asInt()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("요청 본문에는 지정한 페이로드 필드만 담고 벡터는 요청하지 않는다")
+    void requestsOnlyPayloadFields() throws Exception {
+        enqueuePage(List.of(1), null);
+
+        client.scroll("problems", List.of("title", "difficulty"), 50, 100).blockLast(TIMEOUT);
+
+        JsonNode body = requestBody(takeRequest());
+        assertThat(body.get("limit").asInt()).isEqualTo(50);
+        assertThat(body.get("with_vector").asBoolean()).isFalse();
+        assertThat(objectMapper.treeToValue(body.get("with_payload"), List.class)).containsExactly("title", "difficulty");
+    }
+
+    @Test
+    @DisplayName("페이로드 필드를 지정하지 않으면 전체 페이로드를 요청한다")
+    void emptyFieldsRequestWholePayload() throws Exception {
+        enqueuePage(List.of(1), null);
+
+        client.scroll("problems", List.of(), 50, 100).blockLast(TIMEOUT);
+
+        JsonNode body = requestBody(takeRequest());
+        assertThat(body.get("with_payload").isBoolean()).isTrue();
+        assertThat(body.get("with_payload").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("limit에 도달하면 남은 페이지를 요청하지 않는다")
+    void limitStopsFetchingPages() {
+        enqueuePage(List.of(1, 2), 3);
+        enqueuePage(List.of(3, 4), 5);
+        enqueuePage(List.of(5, 6), 7);
+
+        List<QdrantScrollClient.Point> points = client.scroll("problems", List.of("title"), 2, 3)
+                .collectList()
+                .block(TIMEOUT);
+
+        assertThat(points).extracting(QdrantScrollClient.Point::id).containsExactly("1", "2", "3");
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("페이지 경계에서 limit에 도달하면 다음 페이지를 요청하지 않는다")
+    void limitAtPageBoundaryStopsAfterFirstPage() {
+        enqueuePage(List.of(1, 2), 3);
+        enqueuePage(List.of(3, 4), null);
+
+        List<QdrantScrollClient.Point> points = client.scroll("problems", List.of("title"), 2, 2)
+                .collectList()
+                .block(TIMEOUT);
+
+        assertThat(points).extracting(QdrantScrollClient.Point::id).containsExactly("1", "2");
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Qdrant 오류 응답은 스트림 오류로 전달한다")
+    void errorResponsePropagates() {
+        server.enqueue(new MockResponse().setResponseCode(500).setBody("{\"status\":{\"error\":\"boom\"}}"));
+
+        assertThatThrownBy(() -> client.scroll("problems", List.of("title"), 2, 10).blockLast(TIMEOUT))
+                .isInstanceOf(WebClientResponseException.class);
+    }
+}
@@ -0,0 +1,185 @@
+package kr.or.kosa.backend.algorithm.service.validation;
+
+import kr.or.kosa.backend.algorithm.dto.AlgoProblemDto;
+import kr.or.kosa.backend.algorithm.mapper.AlgorithmProblemMapper;
+import kr.or.kosa.backend.algorithm.service.ProblemTokenSets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ProblemMinHashIndexTest {
+
+    private static final double THRESHOLD = 0.8;
+    private static final int CORPUS_SIZE = 1000;
+    private static final int VOCABULARY = 3000;
+
+    private ProblemMinHashIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 저장된 시그니처가 없는 빈 DB로 적재 (이후 indexProblem으로 색인)
+        index = new ProblemMinHashIndex(mock(AlgorithmProblemMapper.class), 200);
+        index.rebuild();
+    }
+
+    /**
+     * SimilarityChecker와 같은 가중 평균 (제목 0.4, 설명 0.6) - 토큰 문자열 집합으로 직접 계산
+     */
+    private static double bruteForceSimilarity(AlgoProblemDto a, AlgoProblemDto b) {
+        return jaccard(ProblemTokenSets.tokens(a.getAlgoProblemTitle()), ProblemTokenSets.tokens(b.getAlgoProblemTitle())) * 0.4
+                + jaccard(ProblemTokenSets.tokens(a.getAlgoProblemDescription()),
+                ProblemTokenSets.tokens(b.getAlgoProblemDescription())) * 0.6;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        Set<String> intersection = new HashSet<>(a);
+        intersection.retainAll(b);
+        return (double) intersection.size() / (a.size() + b.size() - intersection.size());
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(i == 0 ? "" : " ").append("w").append(random.nextInt(VOCABULARY));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 단어를 일정 확률로 다른 단어로 바꾼 변형 (확률에 따라 기준 유사도 위아래로 분포)
+     */
+    private static String mutate(Random random, String text, double replaceRate) {
+        String[] tokens = text.split(" ");
+        for (int i = 0; i < tokens.length; i++) {
+            if (random.nextDouble() < replaceRate) {
+                tokens[i] = "w" + random.nextInt(VOCABULARY);
+            }
+        }
+        return String.join(" ", tokens);
+    }
+
+    private static AlgoProblemDto problem(long id, String title, String description) {
+        return AlgoProblemDto.builder()
+                .algoProblemId(id)
+                .algoProblemTitle(title)
+                .algoProblemDescription(description)
+                .algoProblemStatus(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("기준 이상으로 유사한 문제는 전수 Jaccard 비교와 같은 문제를 후보로 찾는다")
+    void recallAgainstBruteForceJaccard() {
+        Random random = new Random(20251214L);
+        List<AlgoProblemDto> corpus = new ArrayList<>(CORPUS_SIZE);
+        for (long id = 1; id <= CORPUS_SIZE; id++) {
+            AlgoProblemDto problem = problem(id, words(random, 6), words(random, 40));
+            corpus.add(problem);
+            index.indexProblem(problem);
+        }
+
+        double[] replaceRates = {0.0, 0.05, 0.1, 0.15, 0.2, 0.3, 0.5};
+        int expectedPairs = 0;
+        int foundPairs = 0;
+        long candidateTotal = 0;
+        int queries = 300;
+        for (int q = 0; q < queries; q++) {
+            AlgoProblemDto source = corpus.get(random.nextInt(CORPUS_SIZE));
+            double rate = replaceRates[q % replaceRates.length];
+            AlgoProblemDto query = problem(null,
+                    mutate(random, source.getAlgoProblemTitle(), rate),
+                    mutate(random, source.getAlgoProblemDescription(), rate));
+
+            List<Long> candidates = index.findCandidates(
+                    ProblemTokenSets.tokens(query.getAlgoProblemTitle()),
+                    ProblemTokenSets.tokens(query.getAlgoProblemDescription()));
+            candidateTotal += candidates.size();
+
+            for (AlgoProblemDto existing : corpus) {
+                if (bruteForceSimilarity(query, existing) >= THRESHOLD) {
+                    expectedPairs++;
+                    if (candidates.contains(existing.getAlgoProblemId())) {
+                        foundPairs++;
+                    }
+                }
+            }
+        }
+
+        // 기준 이상인 쌍이 충분히 나왔는지, 그중 후보로 찾은 비율(recall), 후보 수가 전체보다 훨씬 적은지 확인
+        assertThat(expectedPairs).isGreaterThan(100);
+        assertThat((double) foundPairs / expectedPairs).isGreaterThanOrEqualTo(0.97);
+        assertThat((double) candidateTotal / queries).isLessThan(CORPUS_SIZE * 0.05);
+    }
+
+    @Test
+    @DisplayName("MinHash 시그니처의 일치 비율은 실제 Jaccard를 근사한다")
+    void minHashEstimatesJaccard() {
+        Random random = new Random(7L);
+        double totalError = 0;
+        int pairs = 200;
+        for (int p = 0; p < pairs; p++) {
+            String text = words(random, 40);
+            String other = mutate(random, text, random.nextDouble());
+            Set<String> a = ProblemTokenSets.tokens(text);
+            Set<String> b = ProblemTokenSets.tokens(other);
+
+            int[] sigA = ProblemMinHashIndex.minHash(a, 100);
+            int[] sigB = ProblemMinHashIndex.minHash(b, 100);
+            int equal = 0;
+            for (int i = 0; i < sigA.length; i++) {
+                if (sigA[i] == sigB[i]) {
+                    equal++;
+                }
+            }
+            totalError += Math.abs(equal / 100.0 - jaccard(a, b));
+        }
+
+        assertThat(totalError / pairs).isLessThan(0.05);
+    }
+
+    @Test
+    @DisplayName("시그니처는 실행마다 같고, 토큰이 없으면 null이다")
+    void minHashIsDeterministic() {
+        Set<String> tokens = ProblemTokenSets.tokens("두 수의 합 two sum");
+
+        assertThat(ProblemMinHashIndex.minHash(tokens, 32)).containsExactly(ProblemMinHashIndex.minHash(Set.copyOf(tokens), 32));
+        assertThat(ProblemMinHashIndex.minHash(Set.of(), 32)).isNull();
+        assertThat(ProblemMinHashIndex.minHash(null, 32)).isNull();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 null을 반환하여 기존 전체 비교를 사용하게 한다")
+    void returnsNullBeforeLoaded() {
+        ProblemMinHashIndex notLoaded = new ProblemMinHashIndex(mock(AlgorithmProblemMapper.class), 200);
+
+        assertThat(notLoaded.findCandidates(Set.of("a"), Set.of("b"))).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성화된 문제는 색인에서 제거한다")
+    void deactivatedProblemIsRemoved() {
+        AlgoProblemDto problem = problem(42L, "two sum pair", "find two numbers whose sum equals target value");
+        index.indexProblem(problem);
+        Set<String> title = ProblemTokenSets.tokens(problem.getAlgoProblemTitle());
+        Set<String> description = ProblemTokenSets.tokens(problem.getAlgoProblemDescription());
+        assertThat(index.findCandidates(title, description)).containsExactly(42L);
+
+        problem.setAlgoProblemStatus(false);
+        index.indexProblem(problem);
+
+        assertThat(index.findCandidates(title, description)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
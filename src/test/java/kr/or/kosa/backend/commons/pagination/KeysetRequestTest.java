@@ -0,0 +1,97 @@
+package kr.or.kosa.backend.commons.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetRequestTest {
+
+    private static final SortCondition CREATED_AT_DESC = new SortCondition(TestSortType.CREATED_AT, SortDirection.DESC);
+    private static final SortCondition VIEW_COUNT_DESC = new SortCondition(TestSortType.VIEW_COUNT, SortDirection.DESC);
+
+    enum TestSortType {
+        CREATED_AT("created_at"),
+        VIEW_COUNT("view_count");
+
+        private final String column;
+
+        TestSortType(String column) {
+            this.column = column;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+    }
+
+    // 클라이언트가 임의로 만든 커서 (형식: column|direction|value|id)
+    private static String tamperedCursor(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("발급한 커서는 정렬 컬럼 타입에 맞는 키로 복원한다")
+    void issuedCursorRoundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 12, 1, 9, 30, 15);
+        String timeCursor = KeysetCursor.of(CREATED_AT_DESC, createdAt, 10L).encode();
+        String numberCursor = KeysetCursor.of(VIEW_COUNT_DESC, 1234L, 11L).encode();
+
+        KeysetRequest timeRequest = new KeysetRequest(timeCursor, 20, CREATED_AT_DESC, KeysetKeyType.TIME);
+        KeysetRequest numberRequest = new KeysetRequest(numberCursor, 20, VIEW_COUNT_DESC, KeysetKeyType.NUMBER);
+
+        assertThat(timeRequest.getTimeKey()).isEqualTo(createdAt);
+        assertThat(timeRequest.getNumberKey()).isNull();
+        assertThat(timeRequest.getLastId()).isEqualTo(10L);
+        assertThat(timeRequest.getComparator()).isEqualTo("<");
+        assertThat(numberRequest.getNumberKey()).isEqualTo(1234L);
+        assertThat(numberRequest.getTimeKey()).isNull();
+    }
+
+    @Test
+    @DisplayName("작성일 정렬에 숫자 값을 넣은 커서는 잘못된 커서로 거부한다")
+    void rejectsNumericValueOnTimeSort() {
+        assertThatThrownBy(() -> new KeysetRequest(
+                tamperedCursor("created_at|DESC|1700000000|10"), 20, CREATED_AT_DESC, KeysetKeyType.TIME))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서 값입니다.");
+    }
+
+    @Test
+    @DisplayName("숫자 정렬에 날짜 값을 넣은 커서는 잘못된 커서로 거부한다")
+    void rejectsTimeValueOnNumberSort() {
+        assertThatThrownBy(() -> new KeysetRequest(
+                tamperedCursor("view_count|DESC|2025-12-01T09:30:15|10"), 20, VIEW_COUNT_DESC, KeysetKeyType.NUMBER))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서 값입니다.");
+    }
+
+    @Test
+    @DisplayName("정렬 조건이 다르거나 형식이 잘못된 커서는 거부한다")
+    void rejectsMismatchedOrMalformedCursor() {
+        String numberCursor = KeysetCursor.of(VIEW_COUNT_DESC, 5L, 1L).encode();
+
+        assertThatThrownBy(() -> new KeysetRequest(numberCursor, 20, CREATED_AT_DESC, KeysetKeyType.TIME))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new KeysetRequest("not a cursor!", 20, CREATED_AT_DESC, KeysetKeyType.TIME))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new KeysetRequest(
+                tamperedCursor("view_count|DESC|5|abc"), 20, VIEW_COUNT_DESC, KeysetKeyType.NUMBER))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지로 조회한다")
+    void noCursorMeansFirstPage() {
+        KeysetRequest request = new KeysetRequest(" ", 0, CREATED_AT_DESC, KeysetKeyType.TIME);
+
+        assertThat(request.hasCursor()).isFalse();
+        assertThat(request.getTimeKey()).isNull();
+        assertThat(request.getFetchSize()).isEqualTo(2);
+    }
+}
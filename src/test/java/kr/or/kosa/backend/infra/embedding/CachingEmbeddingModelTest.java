@@ -0,0 +1,213 @@
+package kr.or.kosa.backend.infra.embedding;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingEmbeddingModelTest {
+
+    private static final int DIMENSIONS = 8;
+
+    private CountingEmbeddingModel stub;
+    private CachingEmbeddingModel model;
+
+    @BeforeEach
+    void setUp() {
+        stub = new CountingEmbeddingModel();
+        model = new CachingEmbeddingModel(stub, null, "test-model", 1024 * 1024, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("같은 검색어는 모델을 한 번만 호출한다")
+    void sameQueryCallsModelOnce() {
+        float[] first = model.embed("two pointers");
+        float[] second = model.embed("two pointers");
+
+        assertThat(second).containsExactly(first);
+        assertThat(stub.calls.get()).isEqualTo(1);
+        assertThat(stub.embeddedTexts).containsExactly("two pointers");
+    }
+
+    @Test
+    @DisplayName("여러 텍스트 요청은 캐시에 없는 텍스트만 중복 없이 한 번에 임베딩한다")
+    void multiTextRequestEmbedsOnlyDistinctMisses() {
+        model.embed("dp");
+
+        EmbeddingResponse response = model.call(new EmbeddingRequest(List.of("dp", "graph", "graph", "greedy"), null));
+
+        assertThat(stub.calls.get()).isEqualTo(2);
+        assertThat(stub.embeddedTexts).containsExactly("dp", "graph", "greedy");
+        assertThat(response.getResults()).hasSize(4);
+        assertThat(response.getResults().get(0).getOutput()).containsExactly(CountingEmbeddingModel.vectorOf("dp"));
+        assertThat(response.getResults().get(1).getOutput()).containsExactly(CountingEmbeddingModel.vectorOf("graph"));
+        assertThat(response.getResults().get(2).getOutput()).containsExactly(CountingEmbeddingModel.vectorOf("graph"));
+        assertThat(response.getResults().get(3).getOutput()).containsExactly(CountingEmbeddingModel.vectorOf("greedy"));
+        assertThat(response.getResults().get(3).getIndex()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("반환된 배열을 수정해도 캐시는 바뀌지 않는다")
+    void mutatingReturnedVectorDoesNotCorruptCache() {
+        float[] first = model.embed("binary search");
+        first[0] = 999f;
+
+        float[] second = model.embed("binary search");
+        second[1] = 999f;
+
+        assertThat(model.embed("binary search")).containsExactly(CountingEmbeddingModel.vectorOf("binary search"));
+        assertThat(stub.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모델이 다르면 다른 캐시 항목을 사용한다")
+    void differentModelsUseDifferentEntries() {
+        model.call(new EmbeddingRequest(List.of("bfs"), options("model-a")));
+        model.call(new EmbeddingRequest(List.of("bfs"), options("model-b")));
+        model.call(new EmbeddingRequest(List.of("bfs"), options("model-a")));
+
+        assertThat(stub.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시는 바이트 상한을 넘으면 오래된 항목부터 제거한다")
+    void localCacheEvictsLeastRecentlyUsedByBytes() {
+        long entryBytes = (long) DIMENSIONS * Float.BYTES;
+        CachingEmbeddingModel bounded = new CachingEmbeddingModel(stub, null, "test-model", entryBytes * 2, Duration.ofHours(1));
+
+        bounded.embed("a");
+        bounded.embed("b");
+        bounded.embed("a");
+        bounded.embed("c");
+        bounded.embed("a");
+        bounded.embed("b");
+
+        // a는 최근 사용으로 남고, b는 c가 들어오면서 제거되어 다시 임베딩
+        assertThat(stub.embeddedTexts).containsExactly("a", "b", "c", "b");
+        assertThat(bounded.stats().localEntries()).isEqualTo(2);
+        assertThat(bounded.stats().localBytes()).isEqualTo(entryBytes * 2);
+    }
+
+    @Test
+    @DisplayName("통계는 적중률과 항목당 바이트를 계산한다")
+    void statsReportHitRatioAndBytesPerEntry() {
+        model.embed("hash");
+        model.embed("hash");
+        model.embed("hash");
+        model.embed("heap");
+
+        CachingEmbeddingModel.Stats stats = model.stats();
+        assertThat(stats.localHits()).isEqualTo(2);
+        assertThat(stats.redisHits()).isZero();
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.hitRatio()).isEqualTo(0.5);
+        assertThat(stats.localEntries()).isEqualTo(2);
+        assertThat(stats.bytesPerEntry()).isEqualTo((long) DIMENSIONS * Float.BYTES);
+    }
+
+    @Test
+    @DisplayName("문서 적재는 캐시를 거치지 않는다")
+    void documentEmbeddingBypassesCache() {
+        Document document = new Document("doc-1", "segment tree", Map.of());
+
+        model.embed(document);
+        model.embed(document);
+
+        assertThat(stub.documentCalls.get()).isEqualTo(2);
+        assertThat(model.stats().localEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 인코딩은 버전 헤더와 float32 값을 그대로 복원한다")
+    void redisEncodingRoundTrips() {
+        float[] vector = {0.5f, -1.25f, Float.MIN_VALUE, Float.MAX_VALUE, 0f};
+
+        byte[] encoded = CachingEmbeddingModel.encode(vector);
+
+        assertThat(encoded).hasSize(1 + vector.length * Float.BYTES);
+        assertThat(CachingEmbeddingModel.decode(encoded)).containsExactly(vector);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전이나 잘린 값은 캐시 미적중으로 처리한다")
+    void unknownVersionOrTruncatedValueIsMiss() {
+        byte[] encoded = CachingEmbeddingModel.encode(new float[]{1f, 2f});
+
+        byte[] otherVersion = encoded.clone();
+        otherVersion[0] = 99;
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+        assertThat(CachingEmbeddingModel.decode(otherVersion)).isNull();
+        assertThat(CachingEmbeddingModel.decode(truncated)).isNull();
+        assertThat(CachingEmbeddingModel.decode(null)).isNull();
+    }
+
+    private static EmbeddingOptions options(String modelName) {
+        return new EmbeddingOptions() {
+            @Override
+            public String getModel() {
+                return modelName;
+            }
+
+            @Override
+            public Integer getDimensions() {
+                return null;
+            }
+        };
+    }
+
+    /**
+     * 호출 횟수와 임베딩한 텍스트를 기록하는 스텁 모델 (텍스트마다 결정적인 벡터 반환)
+     */
+    private static class CountingEmbeddingModel implements EmbeddingModel {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger documentCalls = new AtomicInteger();
+        private final List<String> embeddedTexts = new ArrayList<>();
+
+        static float[] vectorOf(String text) {
+            float[] vector = new float[DIMENSIONS];
+            for (int i = 0; i < DIMENSIONS; i++) {
+                vector[i] = text.hashCode() % 1000 + i;
+            }
+            return vector;
+        }
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            calls.incrementAndGet();
+            List<Embedding> embeddings = new ArrayList<>();
+            List<String> inputs = request.getInstructions();
+            for (int i = 0; i < inputs.size(); i++) {
+                embeddedTexts.add(inputs.get(i));
+                embeddings.add(new Embedding(vectorOf(inputs.get(i)), i));
+            }
+            return new EmbeddingResponse(embeddings);
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            documentCalls.incrementAndGet();
+            return vectorOf(document.getText());
+        }
+
+        @Override
+        public int dimensions() {
+            return DIMENSIONS;
+        }
+    }
+}
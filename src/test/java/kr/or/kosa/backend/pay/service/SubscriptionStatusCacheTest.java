@@ -0,0 +1,104 @@
+package kr.or.kosa.backend.pay.service;
+
+import kr.or.kosa.backend.pay.entity.Subscription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubscriptionStatusCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 20, 12, 0, 0);
+    private static final Duration MAX_TTL = Duration.ofMinutes(10);
+
+    private static Subscription subscription(String type, LocalDateTime start, LocalDateTime end) {
+        return Subscription.builder()
+                .subscriptionType(type)
+                .startDate(start)
+                .endDate(end)
+                .status("ACTIVE")
+                .build();
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("종료 시각이 지금과 같으면 이미 끝난 구독이다")
+    void endExactlyAtNowIsExpired() {
+        SubscriptionStatusCache.Snapshot snapshot = SubscriptionStatusCache.snapshotOf(
+                List.of(subscription("PRO", NOW.minusDays(30), NOW)), NOW, MAX_TTL);
+
+        assertThat(snapshot.isSubscriber()).isFalse();
+        assertThat(snapshot.expiresAt()).isEqualTo(millis(NOW.plus(MAX_TTL)));
+    }
+
+    @Test
+    @DisplayName("종료 1ms 전이면 구독 중이고, 종료 시각에 캐시가 만료된다")
+    void endOneMilliLaterIsActiveUntilEnd() {
+        LocalDateTime end = NOW.plusNanos(1_000_000);
+
+        SubscriptionStatusCache.Snapshot snapshot = SubscriptionStatusCache.snapshotOf(
+                List.of(subscription("PRO", NOW.minusDays(30), end)), NOW, MAX_TTL);
+
+        assertThat(snapshot.planCodes()).containsExactly("PRO");
+        assertThat(snapshot.expiresAt()).isEqualTo(millis(NOW) + 1);
+        assertThat(snapshot.isValidAt(millis(NOW))).isTrue();
+        assertThat(snapshot.isValidAt(millis(end))).isFalse();
+    }
+
+    @Test
+    @DisplayName("시작 전 구독은 아직 반영하지 않고, 시작 시각에 캐시가 만료된다")
+    void futureStartExpiresAtStart() {
+        LocalDateTime start = NOW.plusMinutes(3);
+
+        SubscriptionStatusCache.Snapshot snapshot = SubscriptionStatusCache.snapshotOf(
+                List.of(subscription("BASIC", start, start.plusDays(30))), NOW, MAX_TTL);
+
+        assertThat(snapshot.isSubscriber()).isFalse();
+        assertThat(snapshot.expiresAt()).isEqualTo(millis(start));
+    }
+
+    @Test
+    @DisplayName("만료된 구독과 유효한 구독이 섞이면 유효한 구독만 반영한다")
+    void expiredRowMixedWithActiveRow() {
+        LocalDateTime activeEnd = NOW.plusMinutes(5);
+
+        SubscriptionStatusCache.Snapshot snapshot = SubscriptionStatusCache.snapshotOf(List.of(
+                subscription("BASIC", NOW.minusDays(60), NOW.minusDays(30)),
+                subscription("PRO", NOW.minusDays(1), activeEnd)), NOW, MAX_TTL);
+
+        assertThat(snapshot.planCodes()).containsExactly("PRO");
+        assertThat(snapshot.expiresAt()).isEqualTo(millis(activeEnd));
+    }
+
+    @Test
+    @DisplayName("상태 변경 시각이 멀면 최대 TTL에서 만료된다")
+    void maxTtlCapsExpiresAt() {
+        SubscriptionStatusCache.Snapshot snapshot = SubscriptionStatusCache.snapshotOf(List.of(
+                subscription("PRO", NOW.minusDays(1), NOW.plusDays(30)),
+                subscription("BASIC", NOW.plusDays(2), NOW.plusDays(32))), NOW, MAX_TTL);
+
+        assertThat(snapshot.planCodes()).containsExactly("PRO");
+        assertThat(snapshot.expiresAt()).isEqualTo(millis(NOW.plus(MAX_TTL)));
+    }
+
+    @Test
+    @DisplayName("ACTIVE가 아닌 구독은 종료 시각이 남아 있어도 제외한다")
+    void nonActiveStatusIsIgnored() {
+        Subscription canceled = subscription("PRO", NOW.minusDays(1), NOW.plusMinutes(1));
+        canceled.setStatus("CANCELED");
+
+        SubscriptionStatusCache.Snapshot snapshot = SubscriptionStatusCache.snapshotOf(
+                List.of(canceled), NOW, MAX_TTL);
+
+        assertThat(snapshot.isSubscriber()).isFalse();
+        assertThat(snapshot.expiresAt()).isEqualTo(millis(NOW.plus(MAX_TTL)));
+    }
+}
@@ -0,0 +1,188 @@
+package kr.or.kosa.backend.security.jwt;
+
+import kr.or.kosa.backend.commons.util.EncryptionUtil;
+import kr.or.kosa.backend.infra.s3.S3Uploader;
+import kr.or.kosa.backend.tutor.subscription.SubscriptionTierResolver;
+import kr.or.kosa.backend.users.mapper.UserMapper;
+import kr.or.kosa.backend.users.service.EmailVerificationService;
+import kr.or.kosa.backend.users.service.PasswordResetTokenService;
+import kr.or.kosa.backend.users.service.UserServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenBlacklistTest {
+
+    private static final String SECRET = "test-secret-key-for-token-blacklist-0123456789";
+    private static final String KEY_PREFIX = "auth:blacklist:";
+
+    // 메모리 맵으로 동작하는 Redis (블랙리스트 키 → 값)
+    private final Map<String, String> redisStore = new ConcurrentHashMap<>();
+    private volatile boolean redisDown;
+
+    private StringRedisTemplate redisTemplate;
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doAnswer(invocation -> redisStore.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        when(redisTemplate.hasKey(anyString())).thenAnswer(invocation -> {
+            if (redisDown) {
+                throw new RedisConnectionFailureException("down");
+            }
+            return redisStore.containsKey(invocation.<String>getArgument(0));
+        });
+        when(redisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation -> {
+            Iterator<String> keys = new ArrayList<>(redisStore.keySet()).iterator();
+            Cursor<String> cursor = mock(Cursor.class);
+            when(cursor.hasNext()).thenAnswer(ignored -> keys.hasNext());
+            when(cursor.next()).thenAnswer(ignored -> keys.next());
+            return cursor;
+        });
+
+        jwtProvider = new JwtProvider(SECRET, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private TokenBlacklist newBlacklist(long expectedInsertions) {
+        TokenBlacklist blacklist = new TokenBlacklist(
+                redisTemplate, mock(RedisMessageListenerContainer.class), expectedInsertions);
+        blacklist.init();
+        return blacklist;
+    }
+
+    private UserServiceImpl userService(TokenBlacklist blacklist) {
+        return new UserServiceImpl(
+                mock(UserMapper.class),
+                mock(PasswordEncoder.class),
+                mock(EmailVerificationService.class),
+                jwtProvider,
+                blacklist,
+                redisTemplate,
+                mock(S3Uploader.class),
+                mock(PasswordResetTokenService.class),
+                mock(EncryptionUtil.class),
+                mock(SubscriptionTierResolver.class));
+    }
+
+    /**
+     * 토큰을 담아 필터를 한 번 통과시키고 설정된 인증 정보 반환 (없으면 null)
+     */
+    private Authentication filter(TokenBlacklist blacklist, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+
+        new JwtAuthenticationFilter(jwtProvider, blacklist).doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 같은 토큰으로 다시 요청해도 인증되지 않는다")
+    void loggedOutTokenIsRejected() throws Exception {
+        TokenBlacklist blacklist = newBlacklist(1000);
+        String token = jwtProvider.createAccessToken(7L, "user@example.com");
+
+        assertThat(filter(blacklist, token)).isNotNull();
+
+        assertThat(userService(blacklist).logout("Bearer " + token)).isTrue();
+
+        assertThat(filter(blacklist, token)).isNull();
+        assertThat(redisStore).containsKey(KEY_PREFIX + jwtProvider.tokenId(token));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 로그아웃한 토큰도 동기화 후 거부된다")
+    void revocationOnOtherNodeIsRejectedAfterSync() throws Exception {
+        TokenBlacklist thisNode = newBlacklist(1000);
+        TokenBlacklist otherNode = newBlacklist(1000);
+        String token = jwtProvider.createAccessToken(7L, "user@example.com");
+
+        userService(otherNode).logout("Bearer " + token);
+        thisNode.sync();
+
+        assertThat(filter(thisNode, token)).isNull();
+    }
+
+    @Test
+    @DisplayName("블룸 필터가 양성이어도 Redis에 없으면 인증한다 (오탐)")
+    void bloomFalsePositiveFallsBackToRedis() throws Exception {
+        // 아주 작은 필터를 다른 토큰으로 채워 모든 조회가 양성이 되도록 함
+        TokenBlacklist blacklist = newBlacklist(1);
+        for (int i = 0; i < 200; i++) {
+            blacklist.revoke(UUID.randomUUID().toString(), 60_000);
+        }
+        String token = jwtProvider.createAccessToken(7L, "user@example.com");
+        String tokenId = jwtProvider.tokenId(token);
+
+        Authentication authentication = filter(blacklist, token);
+
+        assertThat(authentication).isNotNull();
+        verify(redisTemplate).hasKey(eq(KEY_PREFIX + tokenId));
+    }
+
+    @Test
+    @DisplayName("블룸 필터 양성인데 Redis를 확인할 수 없으면 차단한다")
+    void bloomPositiveWithRedisFailureIsRejected() throws Exception {
+        TokenBlacklist blacklist = newBlacklist(1);
+        for (int i = 0; i < 200; i++) {
+            blacklist.revoke(UUID.randomUUID().toString(), 60_000);
+        }
+        String token = jwtProvider.createAccessToken(7L, "user@example.com");
+        redisDown = true;
+
+        assertThat(filter(blacklist, token)).isNull();
+    }
+
+    @Test
+    @DisplayName("블룸 필터에 없는 토큰은 Redis를 조회하지 않는다")
+    void bloomNegativeSkipsRedis() throws Exception {
+        TokenBlacklist blacklist = newBlacklist(100_000);
+        String token = jwtProvider.createAccessToken(7L, "user@example.com");
+        redisDown = true;
+
+        assertThat(filter(blacklist, token)).isNotNull();
+    }
+}